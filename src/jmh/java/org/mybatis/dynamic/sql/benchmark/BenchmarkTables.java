@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * Tables, records, and other fixtures shared by the benchmarks.
+ */
+public final class BenchmarkTables {
+    public static final Person person = new Person();
+    public static final SqlColumn<Integer> id = person.id;
+    public static final SqlColumn<String> firstName = person.firstName;
+    public static final SqlColumn<String> lastName = person.lastName;
+    public static final SqlColumn<String> occupation = person.occupation;
+    public static final SqlColumn<Integer> addressId = person.addressId;
+
+    public static final Address address = new Address();
+
+    private BenchmarkTables() {}
+
+    public static RenderingStrategy renderingStrategy(String name) {
+        switch (name) {
+        case "MYBATIS3":
+            return RenderingStrategies.MYBATIS3;
+        case "SPRING_NAMED_PARAMETER":
+            return RenderingStrategies.SPRING_NAMED_PARAMETER;
+        default:
+            throw new IllegalArgumentException("Unknown rendering strategy: " + name);
+        }
+    }
+
+    public static List<Integer> values(int count) {
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    public static List<PersonRecord> records(int count) {
+        List<PersonRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new PersonRecord(i, "first" + i, "last" + i, "occupation" + i));
+        }
+        return records;
+    }
+
+    public static final class Person extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> firstName = column("first_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> lastName = column("last_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> occupation = column("occupation", JDBCType.VARCHAR);
+        public final SqlColumn<Integer> addressId = column("address_id", JDBCType.INTEGER);
+
+        public Person() {
+            super("person");
+        }
+    }
+
+    public static final class Address extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> city = column("city", JDBCType.VARCHAR);
+
+        public Address() {
+            super("address");
+        }
+    }
+
+    public static final class PersonRecord {
+        private final Integer id;
+        private final String firstName;
+        private final String lastName;
+        private final String occupation;
+
+        public PersonRecord(Integer id, String firstName, String lastName, String occupation) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.occupation = occupation;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public String getOccupation() {
+            return occupation;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkTables.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering a where clause with deeply nested criteria groups. Every level of nesting contains a
+ * condition that renders and a condition that is skipped, so the speculative rendering of group delimiters
+ * is exercised at every level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CriterionRendererBenchmark {
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String renderingStrategyName;
+
+    @Param({"5", "50"})
+    private int depth;
+
+    private RenderingStrategy renderingStrategy;
+    private WhereModel whereModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = renderingStrategy(renderingStrategyName);
+
+        AndOrCriteriaGroup nested = or(id, isEqualTo(depth));
+        for (int i = depth - 1; i > 0; i--) {
+            nested = or(id, isEqualTo(i),
+                    and(firstName, isLikeWhenPresent((String) null)),
+                    and(lastName, isNotEqualTo("Rubble")),
+                    nested);
+        }
+
+        whereModel = where(id, isGreaterThan(0), nested).build();
+    }
+
+    @Benchmark
+    public WhereClauseProvider renderNestedGroups() {
+        return whereModel.render(renderingStrategy);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkTables.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.benchmark.BenchmarkTables.PersonRecord;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering multi-row inserts and batch inserts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBenchmark {
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String renderingStrategyName;
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private RenderingStrategy renderingStrategy;
+    private MultiRowInsertModel<PersonRecord> multiRowInsertModel;
+    private BatchInsertModel<PersonRecord> batchInsertModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = renderingStrategy(renderingStrategyName);
+        List<PersonRecord> records = records(rowCount);
+
+        multiRowInsertModel = insertMultiple(records)
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toNull()
+                .build();
+
+        batchInsertModel = insertBatch(records)
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toNull()
+                .build();
+    }
+
+    @Benchmark
+    public MultiRowInsertStatementProvider<PersonRecord> renderMultiRowInsert() {
+        return multiRowInsertModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public BatchInsert<PersonRecord> renderBatchInsert() {
+        return batchInsertModel.render(renderingStrategy);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkTables.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering an IN condition with a large number of values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IsInBenchmark {
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String renderingStrategyName;
+
+    @Param({"1000", "10000"})
+    private int valueCount;
+
+    private RenderingStrategy renderingStrategy;
+    private List<Integer> values;
+    private SelectModel selectModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = renderingStrategy(renderingStrategyName);
+        values = values(valueCount);
+        selectModel = select(id, firstName)
+                .from(person)
+                .where(id, isIn(values))
+                .build();
+    }
+
+    @Benchmark
+    public SelectStatementProvider renderIsIn() {
+        return selectModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderIsIn() {
+        return select(id, firstName)
+                .from(person)
+                .where(id, isIn(values))
+                .build()
+                .render(renderingStrategy);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A condition with a list of values that are bound to a single placeholder as an array - for example
+ * "id = any(?)". The rendered statement is the same regardless of the number of values.
+ *
+ * @param <T> the type of the column
+ */
+public abstract class AbstractArrayValueCondition<T> implements VisitableCondition<T> {
+    protected final Collection<T> values;
+    protected final Callback emptyCallback;
+
+    protected AbstractArrayValueCondition(Collection<T> values) {
+        this(values, () -> { });
+    }
+
+    protected AbstractArrayValueCondition(Collection<T> values, Callback emptyCallback) {
+        this.values = Objects.requireNonNull(values);
+        this.emptyCallback = Objects.requireNonNull(emptyCallback);
+    }
+
+    public final <R> Stream<R> mapValues(Function<T, R> mapper) {
+        return values.stream().map(mapper);
+    }
+
+    @Override
+    public boolean shouldRender() {
+        return !values.isEmpty();
+    }
+
+    @Override
+    public void renderingSkipped() {
+        emptyCallback.call();
+    }
+
+    @Override
+    public <R> R accept(ConditionVisitor<T, R> visitor) {
+        return visitor.visit(this);
+    }
+
+    /**
+     * Creates the array that is bound to the placeholder of this condition. The values have already been converted
+     * with the parameter type converter of the column (if any).
+     *
+     * <p>By default, the component type of the array is the class of the values if all values have the same class
+     * (for example, Integer[] for a list of integers), otherwise Object. JDBC drivers and the MyBatis
+     * ArrayTypeHandler use the component type to determine the SQL type of the array elements. Override this
+     * method to create a different array - for example a primitive array.
+     *
+     * @param convertedValues the converted values of this condition
+     * @return the array to bind
+     */
+    public Object createArray(List<Object> convertedValues) {
+        Object[] array = (Object[]) Array.newInstance(componentType(convertedValues), convertedValues.size());
+        return convertedValues.toArray(array);
+    }
+
+    private static Class<?> componentType(List<Object> convertedValues) {
+        Class<?> componentType = null;
+        for (Object value : convertedValues) {
+            if (value == null) {
+                continue;
+            }
+
+            if (componentType == null) {
+                componentType = value.getClass();
+            } else if (!componentType.equals(value.getClass())) {
+                return Object.class;
+            }
+        }
+        return componentType == null ? Object.class : componentType;
+    }
+
+    public abstract AbstractArrayValueCondition<T> withListEmptyCallback(Callback callback);
+
+    public abstract String renderCondition(String columnName, String placeholder);
+}
@@ -41,6 +41,60 @@ public abstract class AbstractListValueCondition<T> implements VisitableConditio
         return values.stream().map(mapper);
     }
 
+    public final int valueCount() {
+        return values.size();
+    }
+
+    /**
+     * Returns the maximum number of values rendered in a single list. If the condition has more values, the values
+     * are rendered as several lists joined with the {@link #chunkConnector()} - for example
+     * "(id in (?,?) or id in (?))". By default, all values are rendered in a single list.
+     *
+     * @return the maximum number of values in a single list
+     */
+    public int maximumChunkSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if each list of values should be padded to a power of two by repeating the last value in the
+     * list. Padding limits the number of distinct statements a database sees for lists of different sizes. By
+     * default, lists are not padded.
+     *
+     * @return true if lists should be padded
+     */
+    public boolean padChunks() {
+        return false;
+    }
+
+    /**
+     * Returns the connector rendered between lists if the values are rendered in several lists.
+     *
+     * @return the connector (without spaces), "or" by default
+     */
+    public String chunkConnector() {
+        return "or"; //$NON-NLS-1$
+    }
+
+    /**
+     * Calculates the number of placeholders rendered for a list of values, taking padding into account. A padded
+     * list never exceeds the maximum chunk size.
+     *
+     * @param chunkValueCount the number of values in the list
+     * @return the number of placeholders to render for the list
+     */
+    public final int placeholderCount(int chunkValueCount) {
+        if (!padChunks() || chunkValueCount < 1) {
+            return chunkValueCount;
+        }
+
+        int padded = Integer.highestOneBit(chunkValueCount);
+        if (padded < chunkValueCount) {
+            padded <<= 1;
+        }
+        return padded < 0 ? maximumChunkSize() : Math.min(padded, maximumChunkSize());
+    }
+
     @Override
     public boolean shouldRender() {
         return !values.isEmpty();
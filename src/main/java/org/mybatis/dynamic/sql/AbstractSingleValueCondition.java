@@ -15,21 +15,54 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public abstract class AbstractSingleValueCondition<T> implements VisitableCondition<T> {
     protected final T value;
+    private final LateBoundParameter parameter;
 
     protected AbstractSingleValueCondition(T value) {
-        this.value = value;
+        this(value, null);
     }
 
+    /**
+     * Creates a condition that may have its value supplied when a prepared statement template is bound.
+     *
+     * @param value the value of the condition, ignored if a late bound parameter is supplied
+     * @param parameter the late bound parameter, or null if the condition has a value
+     */
+    protected AbstractSingleValueCondition(T value, LateBoundParameter parameter) {
+        this.value = parameter == null ? value : null;
+        this.parameter = parameter;
+    }
+
+    /**
+     * Returns the value of this condition.
+     *
+     * @return the value
+     * @throws IllegalStateException if the value is a late bound parameter
+     */
     public T value() {
+        if (parameter != null) {
+            throw new IllegalStateException("The value of parameter " + parameter.name() //$NON-NLS-1$
+                    + " is not known until a prepared template is bound"); //$NON-NLS-1$
+        }
         return value;
     }
 
+    /**
+     * Returns the late bound parameter of this condition, if the value is supplied when a prepared statement
+     * template is bound.
+     *
+     * @return the late bound parameter, or empty if this condition has a value
+     */
+    public Optional<LateBoundParameter> parameter() {
+        return Optional.ofNullable(parameter);
+    }
+
     @Override
     public <R> R accept(ConditionVisitor<T, R> visitor) {
         return visitor.visit(this);
@@ -38,7 +71,7 @@ public abstract class AbstractSingleValueCondition<T> implements VisitableCondit
     protected <S extends AbstractSingleValueCondition<T>> S filterSupport(Predicate<? super T> predicate,
             Supplier<S> emptySupplier, S self) {
         if (shouldRender()) {
-            return predicate.test(value) ? self : emptySupplier.get();
+            return predicate.test(value()) ? self : emptySupplier.get();
         } else {
             return self;
         }
@@ -47,7 +80,7 @@ public abstract class AbstractSingleValueCondition<T> implements VisitableCondit
     protected <R, S extends AbstractSingleValueCondition<R>> S mapSupport(Function<? super T, ? extends R> mapper,
             Function<R, S> constructor, Supplier<S> emptySupplier) {
         if (shouldRender()) {
-            return constructor.apply(mapper.apply(value));
+            return constructor.apply(mapper.apply(value()));
         } else {
             return emptySupplier.get();
         }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -25,20 +26,77 @@ public abstract class AbstractTwoValueCondition<T>
         implements VisitableCondition<T> {
     protected final T value1;
     protected final T value2;
+    private final LateBoundParameter parameter1;
+    private final LateBoundParameter parameter2;
 
     protected AbstractTwoValueCondition(T value1, T value2) {
-        this.value1 = value1;
-        this.value2 = value2;
+        this(value1, value2, null, null);
     }
 
+    /**
+     * Creates a condition that may have its values supplied when a prepared statement template is bound. The
+     * parameters must both be supplied or both be null.
+     *
+     * @param value1 the first value, ignored if late bound parameters are supplied
+     * @param value2 the second value, ignored if late bound parameters are supplied
+     * @param parameter1 the late bound parameter for the first value, or null if the condition has values
+     * @param parameter2 the late bound parameter for the second value, or null if the condition has values
+     */
+    protected AbstractTwoValueCondition(T value1, T value2, LateBoundParameter parameter1,
+            LateBoundParameter parameter2) {
+        if ((parameter1 == null) != (parameter2 == null)) {
+            throw new IllegalArgumentException("Both values must be late bound parameters, or neither"); //$NON-NLS-1$
+        }
+        this.value1 = parameter1 == null ? value1 : null;
+        this.value2 = parameter1 == null ? value2 : null;
+        this.parameter1 = parameter1;
+        this.parameter2 = parameter2;
+    }
+
+    /**
+     * Returns the first value of this condition.
+     *
+     * @return the first value
+     * @throws IllegalStateException if the values are late bound parameters
+     */
     public T value1() {
+        checkValuesAreKnown();
         return value1;
     }
 
+    /**
+     * Returns the second value of this condition.
+     *
+     * @return the second value
+     * @throws IllegalStateException if the values are late bound parameters
+     */
     public T value2() {
+        checkValuesAreKnown();
         return value2;
     }
 
+    private void checkValuesAreKnown() {
+        if (parameter1 != null) {
+            throw new IllegalStateException("The values of parameters " + parameter1.name() //$NON-NLS-1$
+                    + " and " + parameter2.name() //$NON-NLS-1$
+                    + " are not known until a prepared template is bound"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the late bound parameter for the first value, if the values are supplied when a prepared statement
+     * template is bound.
+     *
+     * @return the late bound parameter, or empty if this condition has values
+     */
+    public Optional<LateBoundParameter> parameter1() {
+        return Optional.ofNullable(parameter1);
+    }
+
+    public Optional<LateBoundParameter> parameter2() {
+        return Optional.ofNullable(parameter2);
+    }
+
     @Override
     public <R> R accept(ConditionVisitor<T, R> visitor) {
         return visitor.visit(this);
@@ -47,7 +105,7 @@ public abstract class AbstractTwoValueCondition<T>
     protected <S extends AbstractTwoValueCondition<T>> S filterSupport(BiPredicate<? super T, ? super T> predicate,
             Supplier<S> emptySupplier, S self) {
         if (shouldRender()) {
-            return predicate.test(value1, value2) ? self : emptySupplier.get();
+            return predicate.test(value1(), value2()) ? self : emptySupplier.get();
         } else {
             return self;
         }
@@ -61,7 +119,7 @@ public abstract class AbstractTwoValueCondition<T>
     protected <R, S extends AbstractTwoValueCondition<R>> S mapSupport(Function<? super T, ? extends R> mapper1,
             Function<? super T, ? extends R> mapper2, BiFunction<R, R, S> constructor, Supplier<S> emptySupplier) {
         if (shouldRender()) {
-            return constructor.apply(mapper1.apply(value1), mapper2.apply(value2));
+            return constructor.apply(mapper1.apply(value1()), mapper2.apply(value2()));
         } else {
             return emptySupplier.get();
         }
@@ -27,4 +27,18 @@ public interface ConditionVisitor<T, R> {
     R visit(AbstractSubselectCondition<T> condition);
 
     R visit(AbstractColumnComparisonCondition<T> condition);
+
+    /**
+     * Visits an array value condition. This method has a default implementation so that visitors written before
+     * array conditions were added continue to compile. Such visitors cannot handle array conditions, so the default
+     * implementation throws an exception.
+     *
+     * @param condition the condition
+     * @return the result of visiting the condition
+     */
+    default R visit(AbstractArrayValueCondition<T> condition) {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " does not support array conditions - override" //$NON-NLS-1$
+                + " visit(AbstractArrayValueCondition) to render isInArray and isNotInArray"); //$NON-NLS-1$
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.Objects;
+
+/**
+ * A named parameter whose value is supplied after a statement has been rendered. Late bound parameters are
+ * rendered like any other parameter, but the rendered parameter map contains an instance of this class instead
+ * of a value. Prepared statement templates (for example
+ * {@link org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate}) replace these instances with actual values
+ * when the template is bound.
+ *
+ * <p>Late bound parameters are created with methods like {@link SqlBuilder#isEqualToParameter(String)}. Conditions
+ * hold the parameter separately from a value (see {@link AbstractSingleValueCondition#parameter()}), so code that
+ * inspects conditions can tell that the value is not known yet. When the parameter is rendered for a column, the
+ * column is remembered so that any parameter type converter configured on the column is applied to the value when it
+ * is bound.
+ */
+public final class LateBoundParameter {
+    private final String name;
+    private final BindableColumn<?> column;
+
+    private LateBoundParameter(String name, BindableColumn<?> column) {
+        this.name = Objects.requireNonNull(name);
+        this.column = column;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Converts a value supplied for this parameter to the value that should be sent to the database.
+     *
+     * @param value the value supplied for this parameter
+     * @return the value converted with the parameter type converter of the column (if any)
+     */
+    @SuppressWarnings("unchecked")
+    public Object resolve(Object value) {
+        return column == null ? value : ((BindableColumn<Object>) column).convertParameterType(value);
+    }
+
+    /**
+     * Returns a copy of this parameter that converts bound values with the parameter type converter of a column.
+     *
+     * @param column the column the parameter is rendered for
+     * @return a new parameter
+     */
+    public LateBoundParameter forColumn(BindableColumn<?> column) {
+        return new LateBoundParameter(name, column);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof LateBoundParameter)) {
+            return false;
+        }
+
+        LateBoundParameter other = (LateBoundParameter) obj;
+        return name.equals(other.name) && column == other.column;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name; //$NON-NLS-1$
+    }
+
+    public static LateBoundParameter of(String name) {
+        return new LateBoundParameter(name, null);
+    }
+}
@@ -17,9 +17,12 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
@@ -68,6 +71,7 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsLessThan;
@@ -83,6 +87,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotLike;
@@ -159,6 +164,42 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records read from a Stream. The records are not copied into the model - they are read as the
+     * batch is executed, so very large batches can be executed with constant memory. Execute the batch in chunks with
+     * {@link org.mybatis.dynamic.sql.insert.render.BatchInsert#insertStatements(int)}. The batch can only be
+     * executed once.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> BatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return BatchInsertDSL.insert(records);
+    }
+
+    /**
+     * Insert a Batch of records read from an Iterator. See {@link SqlBuilder#insertBatch(Stream)} for details.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> BatchInsertDSL.IntoGatherer<T> insertBatch(Iterator<T> records) {
+        return BatchInsertDSL.insert(records);
+    }
+
+    /**
+     * Insert a Batch of records read from a Spliterator. See {@link SqlBuilder#insertBatch(Stream)} for details.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> BatchInsertDSL.IntoGatherer<T> insertBatch(Spliterator<T> records) {
+        return BatchInsertDSL.insert(records);
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -700,6 +741,24 @@ public interface SqlBuilder {
         return values == null ? IsNotIn.empty() : IsNotIn.of(values).filter(Objects::nonNull);
     }
 
+    @SafeVarargs
+    static <T> IsInArray<T> isInArray(T...values) {
+        return IsInArray.of(values);
+    }
+
+    static <T> IsInArray<T> isInArray(Collection<T> values) {
+        return IsInArray.of(values);
+    }
+
+    @SafeVarargs
+    static <T> IsNotInArray<T> isNotInArray(T...values) {
+        return IsNotInArray.of(values);
+    }
+
+    static <T> IsNotInArray<T> isNotInArray(Collection<T> values) {
+        return IsNotInArray.of(values);
+    }
+
     static <T> IsBetween.Builder<T> isBetween(T value1) {
         return IsBetween.isBetween(value1);
     }
@@ -765,6 +824,43 @@ public interface SqlBuilder {
         return isNotLikeWhenPresent(valueSupplier.get());
     }
 
+    // conditions with late bound parameters - values are supplied when a prepared template is bound
+    static <T> IsEqualTo<T> isEqualToParameter(String parameterName) {
+        return IsEqualTo.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsNotEqualTo<T> isNotEqualToParameter(String parameterName) {
+        return IsNotEqualTo.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsGreaterThan<T> isGreaterThanParameter(String parameterName) {
+        return IsGreaterThan.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsGreaterThanOrEqualTo<T> isGreaterThanOrEqualToParameter(String parameterName) {
+        return IsGreaterThanOrEqualTo.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsLessThan<T> isLessThanParameter(String parameterName) {
+        return IsLessThan.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsLessThanOrEqualTo<T> isLessThanOrEqualToParameter(String parameterName) {
+        return IsLessThanOrEqualTo.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsBetween<T> isBetweenParameters(String parameterName1, String parameterName2) {
+        return IsBetween.ofParameters(LateBoundParameter.of(parameterName1), LateBoundParameter.of(parameterName2));
+    }
+
+    static <T> IsLike<T> isLikeParameter(String parameterName) {
+        return IsLike.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
+    static <T> IsNotLike<T> isNotLikeParameter(String parameterName) {
+        return IsNotLike.ofParameter(LateBoundParameter.of(parameterName));
+    }
+
     // shortcuts for booleans
     static IsEqualTo<Boolean> isTrue() {
         return isEqualTo(Boolean.TRUE);
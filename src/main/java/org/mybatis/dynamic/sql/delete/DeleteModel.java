@@ -22,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.PreparedDeleteTemplate;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
@@ -56,6 +57,17 @@ public class DeleteModel {
                 .render();
     }
 
+    /**
+     * Renders the statement once into a template that can be bound to different values for late bound parameters.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a prepared template
+     */
+    @NotNull
+    public PreparedDeleteTemplate prepare(RenderingStrategy renderingStrategy) {
+        return PreparedDeleteTemplate.of(render(renderingStrategy));
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
@@ -15,24 +15,21 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class DeleteRenderer {
     private final DeleteModel deleteModel;
     private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext = new RenderingContext();
     private final TableAliasCalculator tableAliasCalculator;
 
     private DeleteRenderer(Builder builder) {
@@ -44,44 +41,29 @@ public class DeleteRenderer {
     }
 
     public DeleteStatementProvider render() {
-        return deleteModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(this::renderWithWhereClause)
-                .orElseGet(this::renderWithoutWhereClause);
-    }
+        renderDeleteStatementStart();
+        deleteModel.whereModel().ifPresent(this::renderWhereClause);
 
-    private DeleteStatementProvider renderWithWhereClause(WhereClauseProvider whereClauseProvider) {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement(whereClauseProvider))
-                .withParameters(whereClauseProvider.getParameters())
+        return DefaultDeleteStatementProvider.withDeleteStatement(renderingContext.fragment())
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
-    private String calculateDeleteStatement(WhereClauseProvider whereClause) {
-        return calculateDeleteStatement()
-                + spaceBefore(whereClause.getWhereClause());
-    }
-
-    private String calculateDeleteStatement() {
+    private void renderDeleteStatementStart() {
         SqlTable table = deleteModel.table();
-        String tableName = table.tableNameAtRuntime();
-        String aliasedTableName = tableAliasCalculator.aliasForTable(table)
-                .map(a -> tableName + " " + a).orElse(tableName); //$NON-NLS-1$
-
-        return "delete from" + spaceBefore(aliasedTableName); //$NON-NLS-1$
-    }
-
-    private DeleteStatementProvider renderWithoutWhereClause() {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement())
-                .build();
+        renderingContext.append("delete from ") //$NON-NLS-1$
+                .append(table.tableNameAtRuntime());
+        tableAliasCalculator.aliasForTable(table)
+                .ifPresent(a -> renderingContext.append(' ').append(a));
     }
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
+    private void renderWhereClause(WhereModel whereModel) {
+        WhereRenderer.withWhereModel(whereModel)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+                .withRenderingContext(renderingContext)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .build()
-                .render();
+                .renderWithSpaceBefore();
     }
 
     public static Builder withDeleteModel(DeleteModel deleteModel) {
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.render.LateBoundParameterBinder;
+
+/**
+ * A delete statement that is rendered once and can be executed many times with different parameter values.
+ * The statement is built with late bound parameters (for example
+ * {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToParameter(String)}) and values are supplied for the
+ * parameters each time the template is bound. The template is immutable and thread safe.
+ *
+ * <pre>
+ * PreparedDeleteTemplate template = deleteFrom(person)
+ *         .where(id, isEqualToParameter("id"))
+ *         .build()
+ *         .prepare(RenderingStrategies.MYBATIS3);
+ * ...
+ * DeleteStatementProvider deleteStatement = template.bind(Collections.singletonMap("id", 3));
+ * </pre>
+ */
+public class PreparedDeleteTemplate {
+    private final String deleteStatement;
+    private final LateBoundParameterBinder parameterBinder;
+
+    private PreparedDeleteTemplate(DeleteStatementProvider deleteStatementProvider) {
+        deleteStatement = deleteStatementProvider.getDeleteStatement();
+        parameterBinder = LateBoundParameterBinder.of(deleteStatementProvider.getParameters());
+    }
+
+    public String getDeleteStatement() {
+        return deleteStatement;
+    }
+
+    public Set<String> parameterNames() {
+        return parameterBinder.parameterNames();
+    }
+
+    public DeleteStatementProvider bind(Map<String, ?> parameterValues) {
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement)
+                .withParameters(parameterBinder.bind(parameterValues))
+                .build();
+    }
+
+    public DeleteStatementProvider bind(Function<String, ?> parameterResolver) {
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement)
+                .withParameters(parameterBinder.bind(parameterResolver))
+                .build();
+    }
+
+    public static PreparedDeleteTemplate of(DeleteStatementProvider deleteStatementProvider) {
+        return new PreparedDeleteTemplate(Objects.requireNonNull(deleteStatementProvider));
+    }
+}
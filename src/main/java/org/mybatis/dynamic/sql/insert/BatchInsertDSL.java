@@ -18,8 +18,14 @@ package org.mybatis.dynamic.sql.insert;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlColumn;
@@ -28,17 +34,20 @@ import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
 public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
 
     private final Collection<T> records;
+    private final Spliterator<T> rows;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
 
     private BatchInsertDSL(AbstractBuilder<T, ?> builder) {
         this.records = builder.records;
+        this.rows = builder.rows;
         this.table = Objects.requireNonNull(builder.table);
         this.columnMappings = builder.columnMappings;
     }
@@ -51,6 +60,7 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
     @Override
     public BatchInsertModel<T> build() {
         return BatchInsertModel.withRecords(records)
+                .withRows(rows)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
                 .build();
@@ -62,18 +72,32 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
     }
 
     public static <T> IntoGatherer<T> insert(Collection<T> records) {
-        return new IntoGatherer<>(records);
+        return new IntoGatherer<>(records, null);
+    }
+
+    public static <T> IntoGatherer<T> insert(Stream<T> rows) {
+        return insert(rows.spliterator());
+    }
+
+    public static <T> IntoGatherer<T> insert(Iterator<T> rows) {
+        return insert(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED));
+    }
+
+    public static <T> IntoGatherer<T> insert(Spliterator<T> rows) {
+        return new IntoGatherer<>(Collections.emptyList(), rows);
     }
 
     public static class IntoGatherer<T> {
         private final Collection<T> records;
+        private final Spliterator<T> rows;
 
-        private IntoGatherer(Collection<T> records) {
+        private IntoGatherer(Collection<T> records, Spliterator<T> rows) {
             this.records = records;
+            this.rows = rows;
         }
 
         public BatchInsertDSL<T> into(SqlTable table) {
-            return new Builder<T>().withRecords(records).withTable(table).build();
+            return new Builder<T>().withRecords(records).withRows(rows).withTable(table).build();
         }
     }
 
@@ -89,6 +113,11 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
             return BatchInsertDSL.this;
         }
 
+        public BatchInsertDSL<T> toProperty(Function<? super T, ? extends F> accessor) {
+            columnMappings.add(PropertyAccessorMapping.of(column, accessor));
+            return BatchInsertDSL.this;
+        }
+
         public BatchInsertDSL<T> toNull() {
             columnMappings.add(NullMapping.of(column));
             return BatchInsertDSL.this;
@@ -107,6 +136,7 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
 
     public abstract static class AbstractBuilder<T, B extends AbstractBuilder<T, B>> {
         final Collection<T> records = new ArrayList<>();
+        Spliterator<T> rows;
         SqlTable table;
         final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
 
@@ -115,6 +145,11 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
             return getThis();
         }
 
+        public B withRows(Spliterator<T> rows) {
+            this.rows = rows;
+            return getThis();
+        }
+
         public B withTable(SqlTable table) {
             this.table = table;
             return getThis();
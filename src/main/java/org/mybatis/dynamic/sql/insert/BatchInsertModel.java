@@ -16,6 +16,8 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Spliterator;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
@@ -24,8 +26,21 @@ import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class BatchInsertModel<T> extends AbstractMultiRowInsertModel<T> {
 
+    private final Spliterator<T> rows;
+
     private BatchInsertModel(Builder<T> builder) {
         super(builder);
+        rows = builder.rows;
+    }
+
+    /**
+     * Returns the source of rows for a streaming batch insert. If present, the rows are read as the batch is executed
+     * and {@link #records()} is empty.
+     *
+     * @return the source of rows, if this is a streaming batch insert
+     */
+    public Optional<Spliterator<T>> rows() {
+        return Optional.ofNullable(rows);
     }
 
     @NotNull
@@ -41,6 +56,13 @@ public class BatchInsertModel<T> extends AbstractMultiRowInsertModel<T> {
     }
 
     public static class Builder<T> extends AbstractBuilder<T, Builder<T>> {
+        private Spliterator<T> rows;
+
+        public Builder<T> withRows(Spliterator<T> rows) {
+            this.rows = rows;
+            return this;
+        }
+
         @Override
         protected Builder<T> getThis() {
             return this;
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
@@ -28,6 +29,7 @@ import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
@@ -85,6 +87,11 @@ public class InsertDSL<T> implements Buildable<InsertModel<T>> {
             return InsertDSL.this;
         }
 
+        public InsertDSL<T> toProperty(Function<? super T, ? extends F> accessor) {
+            columnMappings.add(PropertyAccessorMapping.of(column, accessor));
+            return InsertDSL.this;
+        }
+
         public InsertDSL<T> toPropertyWhenPresent(String property, Supplier<?> valueSupplier) {
             columnMappings.add(PropertyWhenPresentMapping.of(column, property, valueSupplier));
             return InsertDSL.this;
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlColumn;
@@ -27,6 +28,7 @@ import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
@@ -88,6 +90,11 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
             return MultiRowInsertDSL.this;
         }
 
+        public MultiRowInsertDSL<T> toProperty(Function<? super T, ? extends F> accessor) {
+            columnMappings.add(PropertyAccessorMapping.of(column, accessor));
+            return MultiRowInsertDSL.this;
+        }
+
         public MultiRowInsertDSL<T> toNull() {
             columnMappings.add(NullMapping.of(column));
             return MultiRowInsertDSL.this;
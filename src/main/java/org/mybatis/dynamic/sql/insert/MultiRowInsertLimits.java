@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+/**
+ * Limits for splitting a multi-row insert into several statements. Databases limit the number of bind parameters in
+ * a statement (2100 for SQL Server, 65535 for PostgreSQL), and some also limit the number of rows in a values clause
+ * (1000 for SQL Server). Very large statements also crowd out other statements in the database statement cache.
+ *
+ * <p>A statement will contain at most {@link #maximumRows()} rows, and at most as many rows as fit into
+ * {@link #maximumParameters()} bind parameters.
+ */
+public class MultiRowInsertLimits {
+    public static final MultiRowInsertLimits SQL_SERVER = of(1000, 2100);
+    public static final MultiRowInsertLimits POSTGRESQL = of(Integer.MAX_VALUE, 65535);
+
+    private final int maximumRows;
+    private final int maximumParameters;
+
+    private MultiRowInsertLimits(int maximumRows, int maximumParameters) {
+        if (maximumRows < 1) {
+            throw new IllegalArgumentException("Maximum rows must be greater than zero"); //$NON-NLS-1$
+        }
+        if (maximumParameters < 1) {
+            throw new IllegalArgumentException("Maximum parameters must be greater than zero"); //$NON-NLS-1$
+        }
+        this.maximumRows = maximumRows;
+        this.maximumParameters = maximumParameters;
+    }
+
+    public int maximumRows() {
+        return maximumRows;
+    }
+
+    public int maximumParameters() {
+        return maximumParameters;
+    }
+
+    /**
+     * Calculates the number of rows in a statement.
+     *
+     * @param parametersPerRow the number of bind parameters rendered for each row
+     * @return the maximum number of rows in a statement
+     */
+    public int rowsPerStatement(int parametersPerRow) {
+        if (parametersPerRow > maximumParameters) {
+            throw new IllegalArgumentException("A single row requires " + parametersPerRow //$NON-NLS-1$
+                    + " parameters, but the maximum is " + maximumParameters); //$NON-NLS-1$
+        }
+        if (parametersPerRow == 0) {
+            return maximumRows;
+        }
+        return Math.min(maximumRows, maximumParameters / parametersPerRow);
+    }
+
+    public static MultiRowInsertLimits of(int maximumRows, int maximumParameters) {
+        return new MultiRowInsertLimits(maximumRows, maximumParameters);
+    }
+
+    public static MultiRowInsertLimits ofMaximumRows(int maximumRows) {
+        return of(maximumRows, Integer.MAX_VALUE);
+    }
+
+    public static MultiRowInsertLimits ofMaximumParameters(int maximumParameters) {
+        return of(Integer.MAX_VALUE, maximumParameters);
+    }
+}
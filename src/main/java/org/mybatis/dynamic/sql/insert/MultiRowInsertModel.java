@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
@@ -36,6 +37,22 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .render();
     }
 
+    /**
+     * Renders the insert as several statements, each with no more rows than allowed by the limits.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param limits the limits for a single statement
+     * @return a statement for each chunk of rows
+     */
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> renderInChunks(RenderingStrategy renderingStrategy,
+                                                                  MultiRowInsertLimits limits) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderInChunks(limits);
+    }
+
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -20,6 +20,7 @@ import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.MultiRowInsertMappingVisitor;
 import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
@@ -27,6 +28,8 @@ public abstract class AbstractMultiRowValuePhraseVisitor extends MultiRowInsertM
 
     protected final RenderingStrategy renderingStrategy;
     protected final String prefix;
+    private final RowParameterExtractor parameterExtractor = new RowParameterExtractor();
+    private int parametersPerRow;
 
     protected AbstractMultiRowValuePhraseVisitor(RenderingStrategy renderingStrategy, String prefix) {
         this.renderingStrategy = renderingStrategy;
@@ -56,10 +59,30 @@ public abstract class AbstractMultiRowValuePhraseVisitor extends MultiRowInsertM
 
     @Override
     public FieldAndValue visit(PropertyMapping mapping) {
+        parametersPerRow++;
         return FieldAndValue.withFieldName(mapping.columnName())
                 .withValuePhrase(mapping.mapColumn(c -> calculateJdbcPlaceholder(c, mapping.property())))
                 .build();
     }
 
+    @Override
+    public <T> FieldAndValue visit(PropertyAccessorMapping<T> mapping) {
+        parametersPerRow++;
+        String parameterKey = parameterExtractor.add(mapping);
+        return FieldAndValue.withFieldName(mapping.columnName())
+                .withValuePhrase(mapping.mapColumn(c -> calculateParameterPlaceholder(c, parameterKey)))
+                .build();
+    }
+
+    RowParameterExtractor parameterExtractor() {
+        return parameterExtractor;
+    }
+
+    int parametersPerRow() {
+        return parametersPerRow;
+    }
+
     abstract String calculateJdbcPlaceholder(SqlColumn<?> column, String parameterName);
+
+    abstract String calculateParameterPlaceholder(SqlColumn<?> column, String parameterKey);
 }
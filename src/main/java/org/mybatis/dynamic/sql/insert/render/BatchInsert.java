@@ -19,31 +19,62 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BatchInsert<T> {
     private final String insertStatement;
     private final List<T> records;
+    private final Spliterator<T> rows;
+    private final RowParameterExtractor parameterExtractor;
 
     private BatchInsert(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        rows = builder.rows;
+        parameterExtractor = builder.parameterExtractor;
     }
 
     /**
      * Returns a list of InsertStatement objects.  This is useful for MyBatis batch support.
      *
+     * <p>This method is not supported for streaming batch inserts - use {@link #insertStatements(int)} instead.
+     *
      * @return a List of InsertStatements
      */
     public List<InsertStatementProvider<T>> insertStatements() {
-        return records.stream()
+        return getRecords().stream()
                 .map(this::toInsertStatement)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the InsertStatement objects in chunks of at most chunkSize statements. The chunks are created lazily
+     * as the stream is consumed, so only one chunk of rows is in memory at a time. This is useful for executing
+     * very large batches - the batch can be flushed after each chunk.
+     *
+     * <p>For streaming batch inserts the rows are read from the source of rows, so the returned stream can only be
+     * consumed once.
+     *
+     * @param chunkSize the maximum number of statements in a chunk
+     * @return a Stream of chunks of InsertStatements
+     */
+    public Stream<List<InsertStatementProvider<T>>> insertStatements(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero"); //$NON-NLS-1$
+        }
+        Spliterator<T> source = rows == null ? records.spliterator() : rows;
+        return StreamSupport.stream(new ChunkSpliterator(source, chunkSize), false);
+    }
+
     private InsertStatementProvider<T> toInsertStatement(T row) {
         return DefaultInsertStatementProvider.withRow(row)
                 .withInsertStatement(insertStatement)
+                .withParameters(parameterExtractor.extract(row))
                 .build();
     }
 
@@ -56,10 +87,47 @@ public class BatchInsert<T> {
         return insertStatement;
     }
 
+    /**
+     * Returns the records of this batch.
+     *
+     * <p>This method is not supported for streaming batch inserts - the rows are not held by the batch.
+     *
+     * @return the records of this batch
+     */
     public List<T> getRecords() {
+        if (rows != null) {
+            throw new IllegalStateException("The records of a streaming batch insert are not available" //$NON-NLS-1$
+                    + " - use insertStatements(int) to read the rows in chunks"); //$NON-NLS-1$
+        }
         return Collections.unmodifiableList(records);
     }
 
+    private class ChunkSpliterator extends Spliterators.AbstractSpliterator<List<InsertStatementProvider<T>>> {
+        private final Spliterator<T> source;
+        private final int chunkSize;
+
+        private ChunkSpliterator(Spliterator<T> source, int chunkSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.source = source;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<InsertStatementProvider<T>>> action) {
+            List<InsertStatementProvider<T>> chunk = new ArrayList<>(Math.min(chunkSize, 1024));
+            while (chunk.size() < chunkSize && source.tryAdvance(row -> chunk.add(toInsertStatement(row)))) {
+                // rows are added to the chunk by the consumer
+            }
+
+            if (chunk.isEmpty()) {
+                return false;
+            }
+
+            action.accept(chunk);
+            return true;
+        }
+    }
+
     public static <T> Builder<T> withRecords(List<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -67,6 +135,8 @@ public class BatchInsert<T> {
     public static class Builder<T> {
         private String insertStatement;
         private final List<T> records = new ArrayList<>();
+        private Spliterator<T> rows;
+        private RowParameterExtractor parameterExtractor = new RowParameterExtractor();
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -78,6 +148,16 @@ public class BatchInsert<T> {
             return this;
         }
 
+        public Builder<T> withRows(Spliterator<T> rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        Builder<T> withParameterExtractor(RowParameterExtractor parameterExtractor) {
+            this.parameterExtractor = parameterExtractor;
+            return this;
+        }
+
         public BatchInsert<T> build() {
             return new BatchInsert<>(this);
         }
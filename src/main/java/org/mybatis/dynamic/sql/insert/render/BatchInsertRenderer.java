@@ -41,7 +41,9 @@ public class BatchInsertRenderer<T> {
                 .collect(Collectors.toList());
 
         return BatchInsert.withRecords(model.records())
+                .withRows(model.rows().orElse(null))
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withParameterExtractor(visitor.parameterExtractor())
                 .build();
     }
 
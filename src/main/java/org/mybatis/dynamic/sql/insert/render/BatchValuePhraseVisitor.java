@@ -29,4 +29,10 @@ public class BatchValuePhraseVisitor extends AbstractMultiRowValuePhraseVisitor
         return column.renderingStrategy().orElse(renderingStrategy)
                 .getFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
+
+    @Override
+    String calculateParameterPlaceholder(SqlColumn<?> column, String parameterKey) {
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX, parameterKey);
+    }
 }
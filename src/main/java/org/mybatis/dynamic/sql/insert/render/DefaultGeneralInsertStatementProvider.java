@@ -19,6 +19,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+
 public class DefaultGeneralInsertStatementProvider
         implements GeneralInsertStatementProvider, InsertSelectStatementProvider {
     private final String insertStatement;
@@ -39,6 +41,11 @@ public class DefaultGeneralInsertStatementProvider
         return insertStatement;
     }
 
+    @Override
+    public Object[] getOrderedParameters() {
+        return PositionalParameters.toArray(parameters);
+    }
+
     public static Builder withInsertStatement(String insertStatement) {
         return new Builder().withInsertStatement(insertStatement);
     }
@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
@@ -26,11 +28,13 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     // the case where the attribute name is different from the getter.
     private final T record;
     private final T row;
+    private final Map<String, Object> parameters;
 
     private DefaultInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         row = Objects.requireNonNull(builder.row);
         record = row;
+        parameters = builder.parameters;
     }
 
     @Override
@@ -49,6 +53,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
         return insertStatement;
     }
 
+    @Override
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
     public static <T> Builder<T> withRow(T row) {
         return new Builder<T>().withRow(row);
     }
@@ -56,6 +65,7 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     public static class Builder<T> {
         private String insertStatement;
         private T row;
+        private Map<String, Object> parameters = Collections.emptyMap();
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -67,6 +77,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
             return this;
         }
 
+        public Builder<T> withParameters(Map<String, Object> parameters) {
+            this.parameters = Objects.requireNonNull(parameters);
+            return this;
+        }
+
         public DefaultInsertStatementProvider<T> build() {
             return new DefaultInsertStatementProvider<>(this);
         }
@@ -18,16 +18,19 @@ package org.mybatis.dynamic.sql.insert.render;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsertStatementProvider<T> {
 
     private final List<T> records;
     private final String insertStatement;
+    private final Map<String, Object> parameters;
 
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(builder.records);
+        parameters = builder.parameters;
     }
 
     @Override
@@ -40,9 +43,15 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
         return records;
     }
 
+    @Override
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
     public static class Builder<T> {
         private final List<T> records = new ArrayList<>();
         private String insertStatement;
+        private Map<String, Object> parameters = Collections.emptyMap();
 
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
@@ -54,6 +63,11 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
             return this;
         }
 
+        public Builder<T> withParameters(Map<String, Object> parameters) {
+            this.parameters = Objects.requireNonNull(parameters);
+            return this;
+        }
+
         public DefaultMultiRowInsertStatementProvider<T> build() {
             return new DefaultMultiRowInsertStatementProvider<>(this);
         }
@@ -43,6 +43,7 @@ public class InsertRenderer<T> {
 
         return DefaultInsertStatementProvider.withRow(model.row())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withParameters(visitor.parameterExtractor().extract(model.row()))
                 .build();
     }
 
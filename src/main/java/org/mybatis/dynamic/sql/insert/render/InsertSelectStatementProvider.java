@@ -17,8 +17,20 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+
 public interface InsertSelectStatementProvider {
     Map<String, Object> getParameters();
 
     String getInsertStatement();
+
+    /**
+     * Returns the parameter values in the order of the placeholders in the statement. This is intended for
+     * statements rendered with {@link org.mybatis.dynamic.sql.render.RenderingStrategies#POSITIONAL_PARAMETER}.
+     *
+     * @return the parameter values in placeholder order
+     */
+    default Object[] getOrderedParameters() {
+        return PositionalParameters.toArray(getParameters());
+    }
 }
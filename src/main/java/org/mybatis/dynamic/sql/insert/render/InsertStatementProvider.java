@@ -15,6 +15,9 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.jetbrains.annotations.NotNull;
 
 public interface InsertStatementProvider<T> {
@@ -41,4 +44,15 @@ public interface InsertStatementProvider<T> {
      * @return the formatted insert statement.
      */
     String getInsertStatement();
+
+    /**
+     * Return the parameters of the insert statement. Parameters are calculated for columns that are mapped to a
+     * property with an accessor function (<code>toProperty(Person::getFirstName)</code>). Columns mapped to a
+     * property by name take their values from the row.
+     *
+     * @return the parameters calculated with property accessors. The map is empty if there are no such mappings.
+     */
+    default Map<String, Object> getParameters() {
+        return Collections.emptyMap();
+    }
 }
@@ -17,42 +17,106 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class MultiRowInsertRenderer<T> {
 
     private final MultiRowInsertModel<T> model;
     private final RenderingStrategy renderingStrategy;
+    private final RenderedStatementCache statementCache;
 
     private MultiRowInsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        statementCache = builder.statementCache;
     }
 
     public MultiRowInsertStatementProvider<T> render() {
-        // the prefix is a generic format that will be resolved below with String.format(...)
-        MultiRowValuePhraseVisitor visitor =
-                new MultiRowValuePhraseVisitor(renderingStrategy, "records[%s]"); //$NON-NLS-1$
+        MultiRowValuePhraseVisitor visitor = createVisitor();
         List<FieldAndValue> fieldsAndValues = model
                 .mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
 
         return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
-                .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withInsertStatement(insertStatement(fieldsAndValues, model.recordCount()))
+                .withParameters(visitor.parameterExtractor().extract(model.records()))
                 .build();
     }
 
-    private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
+    /**
+     * Renders the insert as several statements, each with no more rows than allowed by the limits. The rows are
+     * split into chunks in order. All chunks except the last have the same number of rows, so they share
+     * the same SQL.
+     *
+     * @param limits the limits for a single statement
+     * @return a statement for each chunk of rows. The list is empty if there are no rows.
+     */
+    public List<MultiRowInsertStatementProvider<T>> renderInChunks(MultiRowInsertLimits limits) {
+        MultiRowValuePhraseVisitor visitor = createVisitor();
+        List<FieldAndValue> fieldsAndValues = model
+                .mapColumnMappings(m -> m.accept(visitor))
+                .collect(Collectors.toList());
+
+        int rowsPerStatement = limits.rowsPerStatement(visitor.parametersPerRow());
+        List<T> records = model.records();
+        List<MultiRowInsertStatementProvider<T>> insertStatements = new ArrayList<>();
+        String fullChunkStatement = null;
+        for (int from = 0; from < records.size(); from += rowsPerStatement) {
+            List<T> chunk = records.subList(from, Math.min(records.size(), from + rowsPerStatement));
+            String insertStatement;
+            if (chunk.size() == rowsPerStatement) {
+                if (fullChunkStatement == null) {
+                    fullChunkStatement = insertStatement(fieldsAndValues, rowsPerStatement);
+                }
+                insertStatement = fullChunkStatement;
+            } else {
+                insertStatement = insertStatement(fieldsAndValues, chunk.size());
+            }
+
+            insertStatements.add(new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(chunk)
+                    .withInsertStatement(insertStatement)
+                    .withParameters(visitor.parameterExtractor().extract(chunk))
+                    .build());
+        }
+        return insertStatements;
+    }
+
+    private MultiRowValuePhraseVisitor createVisitor() {
+        // the prefix is generic - the row index marker is replaced with the index of each row
+        return new MultiRowValuePhraseVisitor(renderingStrategy,
+                "records[" + MultiRowValuePhraseVisitor.ROW_INDEX + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private String insertStatement(List<FieldAndValue> fieldsAndValues, int rowCount) {
+        if (statementCache == null) {
+            return calculateInsertStatement(fieldsAndValues, rowCount);
+        }
+
+        // the rendered fragments and the row count determine the statement
+        List<Object> key = new ArrayList<>(fieldsAndValues.size() * 2 + 3);
+        key.add(MultiRowInsertModel.class);
+        key.add(model.table().tableNameAtRuntime());
+        for (FieldAndValue fieldAndValue : fieldsAndValues) {
+            key.add(fieldAndValue.fieldName());
+            key.add(fieldAndValue.valuePhrase());
+        }
+        key.add(rowCount);
+        return statementCache.computeIfAbsent(key, () -> calculateInsertStatement(fieldsAndValues, rowCount));
+    }
+
+    private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues, int rowCount) {
         return "insert into" //$NON-NLS-1$
                 + spaceBefore(model.table().tableNameAtRuntime())
                 + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateMultiRowInsertValuesPhrase(fieldsAndValues, model.recordCount()));
+                + spaceBefore(calculateMultiRowInsertValuesPhrase(fieldsAndValues, rowCount));
     }
 
     private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
@@ -62,16 +126,28 @@ public class MultiRowInsertRenderer<T> {
     }
 
     private String calculateMultiRowInsertValuesPhrase(List<FieldAndValue> fieldsAndValues, int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> toSingleRowOfValues(fieldsAndValues, i))
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    }
-
-    private String toSingleRowOfValues(List<FieldAndValue> fieldsAndValues, int row) {
-        return fieldsAndValues.stream()
+        // split a generic row at each row index marker once, then append the parts and the index for each row
+        String[] rowParts = fieldsAndValues.stream()
                 .map(FieldAndValue::valuePhrase)
-                .map(s -> String.format(s, row))
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                .collect(Collectors.joining(", ", "(", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                .split(MultiRowValuePhraseVisitor.ROW_INDEX, -1);
+        int rowLength = 2 + (rowParts.length - 1) * String.valueOf(rowCount).length();
+        for (String rowPart : rowParts) {
+            rowLength += rowPart.length();
+        }
+
+        StringBuilder sb = new StringBuilder(7 + rowCount * rowLength);
+        sb.append("values "); //$NON-NLS-1$
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(rowParts[0]);
+            for (int i = 1; i < rowParts.length; i++) {
+                sb.append(row).append(rowParts[i]);
+            }
+        }
+        return sb.toString();
     }
 
     public static <T> Builder<T> withMultiRowInsertModel(MultiRowInsertModel<T> model) {
@@ -81,6 +157,7 @@ public class MultiRowInsertRenderer<T> {
     public static class Builder<T> {
         private MultiRowInsertModel<T> model;
         private RenderingStrategy renderingStrategy;
+        private RenderedStatementCache statementCache;
 
         public Builder<T> withMultiRowInsertModel(MultiRowInsertModel<T> model) {
             this.model = model;
@@ -92,6 +169,11 @@ public class MultiRowInsertRenderer<T> {
             return this;
         }
 
+        public Builder<T> withStatementCache(RenderedStatementCache statementCache) {
+            this.statementCache = statementCache;
+            return this;
+        }
+
         public MultiRowInsertRenderer<T> build() {
             return new MultiRowInsertRenderer<>(this);
         }
@@ -15,11 +15,23 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public interface MultiRowInsertStatementProvider<T> {
 
     String getInsertStatement();
 
     List<T> getRecords();
+
+    /**
+     * Return the parameters calculated with property accessor mappings (<code>toProperty(Person::getFirstName)</code>).
+     * The keys are qualified with the index of the row (r0_p1, r0_p2, r1_p1, ...).
+     *
+     * @return the parameters calculated with property accessors. The map is empty if there are no such mappings.
+     */
+    default Map<String, Object> getParameters() {
+        return Collections.emptyMap();
+    }
 }
@@ -19,6 +19,11 @@ import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class MultiRowValuePhraseVisitor extends AbstractMultiRowValuePhraseVisitor {
+    /**
+     * Marks the position of the row index in the placeholders of a generic row. The renderer replaces it with the
+     * index of each row. The marker is a control character so it cannot be confused with the text of a constant.
+     */
+    static final String ROW_INDEX = "\u0000"; //$NON-NLS-1$
 
     public MultiRowValuePhraseVisitor(RenderingStrategy renderingStrategy, String prefix) {
         super(renderingStrategy, prefix);
@@ -29,4 +34,12 @@ public class MultiRowValuePhraseVisitor extends AbstractMultiRowValuePhraseVisit
         return column.renderingStrategy().orElse(renderingStrategy)
                 .getMultiRowFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
+
+    @Override
+    String calculateParameterPlaceholder(SqlColumn<?> column, String parameterKey) {
+        // the row index marker is replaced with the index of each row by the renderer
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
+                        RowParameterExtractor.multiRowKey(ROW_INDEX, parameterKey));
+    }
 }
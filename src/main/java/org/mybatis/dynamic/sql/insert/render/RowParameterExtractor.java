@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
+
+/**
+ * Collects the property accessor mappings of an insert statement as it is rendered, and calculates the statement
+ * parameters for rows by calling the accessors. Parameter keys are assigned in the order the mappings are rendered
+ * (p1, p2, ...). In multi-row inserts the keys are qualified with the row index (r0_p1, r0_p2, r1_p1, ...).
+ * The values are returned as {@link RowParameters} - the keys for each row are not created unless they are needed.
+ */
+class RowParameterExtractor {
+    private final List<String> keys = new ArrayList<>();
+    private final List<PropertyAccessorMapping<?>> mappings = new ArrayList<>();
+
+    String add(PropertyAccessorMapping<?> mapping) {
+        String key = RenderingStrategy.formatParameterMapKey(keys.size() + 1);
+        keys.add(key);
+        mappings.add(mapping);
+        return key;
+    }
+
+    <T> Map<String, Object> extract(T row) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Object[] values = new Object[keys.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value(mappings.get(i), row);
+        }
+        return new RowParameters(keys, values, false);
+    }
+
+    <T> Map<String, Object> extract(List<T> rows) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Object[] values = new Object[rows.size() * keys.size()];
+        int position = 0;
+        for (T row : rows) {
+            for (PropertyAccessorMapping<?> mapping : mappings) {
+                values[position++] = value(mapping, row);
+            }
+        }
+        return new RowParameters(keys, values, true);
+    }
+
+    static String multiRowKey(Object row, String key) {
+        return "r" + row + "_" + key; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object value(PropertyAccessorMapping<?> mapping, T row) {
+        // the mappings were created by a DSL for rows of this type
+        return ((PropertyAccessorMapping<T>) mapping).value(row);
+    }
+}
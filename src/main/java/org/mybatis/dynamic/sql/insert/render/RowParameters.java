@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The parameters calculated with property accessor mappings for one or more rows of an insert statement.
+ *
+ * <p>The values are held in a single array - row by row, and within a row in the order the mappings were rendered.
+ * Executors that bind parameters by position read the values with {@link #value(int, int)}. The map view is for
+ * MyBatis and Spring, which read parameters by name: {@link #get(Object)} parses the name to find the value, and the
+ * parameter names are only created if the entries of the map are iterated.
+ */
+public final class RowParameters extends AbstractMap<String, Object> {
+    private final List<String> keys;
+    private final Object[] values;
+    private final boolean multiRow;
+    private Map<String, Object> entries;
+
+    RowParameters(List<String> keys, Object[] values, boolean multiRow) {
+        this.keys = keys;
+        this.values = values;
+        this.multiRow = multiRow;
+    }
+
+    /**
+     * Returns the value of a parameter.
+     *
+     * @param rowIndex the index of the row - always zero for single row and batch inserts
+     * @param parameterIndex the index of the parameter within the row - zero for p1, one for p2, etc.
+     * @return the value of the parameter
+     */
+    public Object value(int rowIndex, int parameterIndex) {
+        return values[rowIndex * keys.size() + parameterIndex];
+    }
+
+    @Override
+    public Object get(Object key) {
+        int position = position(key);
+        return position < 0 ? null : values[position];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return position(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entries == null) {
+            entries = Collections.unmodifiableMap(createEntries());
+        }
+        return entries.entrySet();
+    }
+
+    private Map<String, Object> createEntries() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int position = 0; position < values.length; position++) {
+            String key = keys.get(position % keys.size());
+            if (multiRow) {
+                key = RowParameterExtractor.multiRowKey(position / keys.size(), key);
+            }
+            map.put(key, values[position]);
+        }
+        return map;
+    }
+
+    /**
+     * Calculates the position of a value from its key - "p1" for single row statements, or "r0_p1" for multi-row
+     * statements.
+     */
+    private int position(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        String name = (String) key;
+        int row = 0;
+        int start = 0;
+        if (multiRow) {
+            int separator = name.indexOf('_');
+            if (separator < 0 || name.charAt(0) != 'r') {
+                return -1;
+            }
+            row = parseIndex(name, 1, separator);
+            start = separator + 1;
+        }
+
+        if (row < 0 || name.length() <= start || name.charAt(start) != 'p') {
+            return -1;
+        }
+
+        int parameter = parseIndex(name, start + 1, name.length()) - 1;
+        int position = row * keys.size() + parameter;
+        return parameter < 0 || parameter >= keys.size() || position >= values.length ? -1 : position;
+    }
+
+    private static int parseIndex(String name, int start, int end) {
+        if (start == end || end - start > 9 || (name.charAt(start) == '0' && end - start > 1)) {
+            return -1;
+        }
+
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + c - '0';
+        }
+        return index;
+    }
+}
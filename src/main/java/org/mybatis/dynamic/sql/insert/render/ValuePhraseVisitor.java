@@ -22,6 +22,7 @@ import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.InsertMappingVisitor;
 import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
@@ -29,6 +30,7 @@ import org.mybatis.dynamic.sql.util.StringConstantMapping;
 public class ValuePhraseVisitor extends InsertMappingVisitor<Optional<FieldAndValue>> {
 
     protected final RenderingStrategy renderingStrategy;
+    private final RowParameterExtractor parameterExtractor = new RowParameterExtractor();
 
     public ValuePhraseVisitor(RenderingStrategy renderingStrategy) {
         this.renderingStrategy = renderingStrategy;
@@ -71,6 +73,23 @@ public class ValuePhraseVisitor extends InsertMappingVisitor<Optional<FieldAndVa
         }
     }
 
+    @Override
+    public <T> Optional<FieldAndValue> visit(PropertyAccessorMapping<T> mapping) {
+        String parameterKey = parameterExtractor.add(mapping);
+        return FieldAndValue.withFieldName(mapping.columnName())
+                .withValuePhrase(mapping.mapColumn(c -> calculateParameterPlaceholder(c, parameterKey)))
+                .buildOptional();
+    }
+
+    RowParameterExtractor parameterExtractor() {
+        return parameterExtractor;
+    }
+
+    private String calculateParameterPlaceholder(SqlColumn<?> column, String parameterKey) {
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX, parameterKey);
+    }
+
     private String calculateJdbcPlaceholder(SqlColumn<?> column, String parameterName) {
         return column.renderingStrategy().orElse(renderingStrategy)
                 .getFormattedJdbcPlaceholder(column, "record", parameterName); //$NON-NLS-1$
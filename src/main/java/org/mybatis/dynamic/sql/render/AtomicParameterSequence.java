@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A parameter sequence backed by an AtomicInteger that may be shared with other code.
+ */
+final class AtomicParameterSequence implements ParameterSequence {
+    private final AtomicInteger sequence;
+    private final int initialValue;
+
+    AtomicParameterSequence(AtomicInteger sequence) {
+        this.sequence = Objects.requireNonNull(sequence);
+        initialValue = sequence.get();
+    }
+
+    @Override
+    public int next() {
+        return sequence.getAndIncrement();
+    }
+
+    @Override
+    public void reset() {
+        sequence.set(initialValue);
+    }
+
+    @Override
+    public int snapshot() {
+        return sequence.get();
+    }
+
+    @Override
+    public void restore(int snapshot) {
+        sequence.set(snapshot);
+    }
+}
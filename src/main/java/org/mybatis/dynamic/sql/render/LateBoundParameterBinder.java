@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.LateBoundParameter;
+
+/**
+ * Binds values to the late bound parameters in the parameter map of a rendered statement. The rendered parameter
+ * map is split once into fixed values and late bound parameters, so binding only needs to copy the fixed values
+ * and resolve the late bound parameters.
+ */
+public class LateBoundParameterBinder {
+    private final Map<String, Object> fixedParameters = new HashMap<>();
+    private final Map<String, LateBoundParameter> lateBoundParameters = new HashMap<>();
+    private final Set<String> parameterNames = new TreeSet<>();
+
+    private LateBoundParameterBinder(Map<String, Object> renderedParameters) {
+        renderedParameters.forEach((k, v) -> {
+            if (v instanceof LateBoundParameter) {
+                LateBoundParameter lateBoundParameter = (LateBoundParameter) v;
+                lateBoundParameters.put(k, lateBoundParameter);
+                parameterNames.add(lateBoundParameter.name());
+            } else {
+                fixedParameters.put(k, v);
+            }
+        });
+    }
+
+    /**
+     * Returns the names of the late bound parameters in the statement.
+     *
+     * @return the parameter names, sorted
+     */
+    public Set<String> parameterNames() {
+        return Collections.unmodifiableSet(parameterNames);
+    }
+
+    /**
+     * Creates a parameter map for the statement with values from the map.
+     *
+     * @param parameterValues values for the late bound parameters, keyed by parameter name
+     * @return a parameter map for the statement
+     * @throws IllegalArgumentException if the map does not contain a value for every parameter
+     */
+    public Map<String, Object> bind(Map<String, ?> parameterValues) {
+        return bind(name -> {
+            if (!parameterValues.containsKey(name)) {
+                throw new IllegalArgumentException(
+                        "No value supplied for parameter \"" + name + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return parameterValues.get(name);
+        });
+    }
+
+    /**
+     * Creates a parameter map for the statement with values calculated by the function.
+     *
+     * @param parameterResolver a function that returns the value for a parameter name
+     * @return a parameter map for the statement
+     */
+    public Map<String, Object> bind(Function<String, ?> parameterResolver) {
+        Map<String, Object> parameters = new HashMap<>(fixedParameters);
+        lateBoundParameters.forEach((k, v) -> parameters.put(k, v.resolve(parameterResolver.apply(v.name()))));
+        return parameters;
+    }
+
+    public static LateBoundParameterBinder of(Map<String, Object> renderedParameters) {
+        return new LateBoundParameterBinder(renderedParameters);
+    }
+}
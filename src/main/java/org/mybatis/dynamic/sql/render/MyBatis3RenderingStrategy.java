@@ -15,9 +15,25 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.sql.JDBCType;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.mybatis.dynamic.sql.BindableColumn;
 
 public class MyBatis3RenderingStrategy extends RenderingStrategy {
+    // Placeholder suffixes depend only on the JDBC type, Java type, and type handler of a column. Caching them by
+    // those attributes lets aliased and qualified copies of a column share the suffix of the original.
+    private final Map<SuffixKey, String> placeholderSuffixes = new ConcurrentHashMap<>();
+
+    // Columns are immutable, so the suffix of a column instance never changes. Rendering looks up the suffix by
+    // identity first so a placeholder allocates nothing once its column has been seen. The map is copied on write and
+    // bounded so that columns created for a single statement cannot grow it without limit.
+    private static final int MAX_CACHED_COLUMNS = 1024;
+    private volatile Map<BindableColumn<?>, String> columnSuffixes = new IdentityHashMap<>();
+
     @Override
     public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
         return "#{" //$NON-NLS-1$
@@ -33,27 +49,83 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 + prefix
                 + "." //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
-                + renderJavaType(column)
-                + renderTypeHandler(column)
+                + placeholderSuffix(column)
                 + "}"; //$NON-NLS-1$
     }
 
-    private String renderTypeHandler(BindableColumn<?> column) {
-        return column.typeHandler()
-                .map(th -> ",typeHandler=" + th) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    @Override
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        // the ARRAY JDBC type selects the MyBatis ArrayTypeHandler for the parameter
+        return "#{" //$NON-NLS-1$
+                + prefix
+                + "." //$NON-NLS-1$
+                + parameterName
+                + ",jdbcType=ARRAY}"; //$NON-NLS-1$
+    }
+
+    private String placeholderSuffix(BindableColumn<?> column) {
+        String suffix = columnSuffixes.get(column);
+        if (suffix == null) {
+            SuffixKey key = new SuffixKey(column.jdbcType().orElse(null), column.javaType().orElse(null),
+                    column.typeHandler().orElse(null));
+            suffix = placeholderSuffixes.computeIfAbsent(key, SuffixKey::render);
+            cacheColumnSuffix(column, suffix);
+        }
+        return suffix;
     }
 
-    private String renderJdbcType(BindableColumn<?> column) {
-        return column.jdbcType()
-                .map(jt -> ",jdbcType=" + jt.getName()) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    private synchronized void cacheColumnSuffix(BindableColumn<?> column, String suffix) {
+        if (columnSuffixes.size() < MAX_CACHED_COLUMNS) {
+            Map<BindableColumn<?>, String> copy = new IdentityHashMap<>(columnSuffixes);
+            copy.put(column, suffix);
+            columnSuffixes = copy;
+        }
     }
 
-    private String renderJavaType(BindableColumn<?> column) {
-        return column.javaType()
-                .map(jt -> ",javaType=" + jt.getName()) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    private static final class SuffixKey {
+        private final JDBCType jdbcType;
+        private final Class<?> javaType;
+        private final String typeHandler;
+        private final int hashCode;
+
+        private SuffixKey(JDBCType jdbcType, Class<?> javaType, String typeHandler) {
+            this.jdbcType = jdbcType;
+            this.javaType = javaType;
+            this.typeHandler = typeHandler;
+            hashCode = Objects.hash(jdbcType, javaType, typeHandler);
+        }
+
+        private String render() {
+            StringBuilder sb = new StringBuilder();
+            if (jdbcType != null) {
+                sb.append(",jdbcType=").append(jdbcType.getName()); //$NON-NLS-1$
+            }
+            if (javaType != null) {
+                sb.append(",javaType=").append(javaType.getName()); //$NON-NLS-1$
+            }
+            if (typeHandler != null) {
+                sb.append(",typeHandler=").append(typeHandler); //$NON-NLS-1$
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SuffixKey)) {
+                return false;
+            }
+            SuffixKey other = (SuffixKey) obj;
+            return jdbcType == other.jdbcType
+                    && javaType == other.javaType
+                    && Objects.equals(typeHandler, other.typeHandler);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
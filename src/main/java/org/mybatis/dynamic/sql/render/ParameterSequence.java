@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the indexes used to build parameter map keys (p1, p2, ...) while a statement is rendered.
+ *
+ * <p>A statement is always rendered on a single thread, so the normal implementation (returned by
+ * {@link #create()}) is a plain counter. An implementation backed by an {@link AtomicInteger} is available for
+ * code that needs to share a sequence with an existing AtomicInteger.
+ */
+public interface ParameterSequence {
+
+    /**
+     * Returns the next index and advances the sequence.
+     *
+     * @return the next index
+     */
+    int next();
+
+    /**
+     * Returns the sequence to its initial value.
+     */
+    void reset();
+
+    /**
+     * Captures the current state of the sequence so it can be restored later - for example, if speculatively
+     * rendered parameters are discarded.
+     *
+     * @return a value that can be passed to {@link #restore(int)}
+     */
+    int snapshot();
+
+    /**
+     * Restores the sequence to a state previously captured with {@link #snapshot()}.
+     *
+     * @param snapshot a value returned from {@link #snapshot()}
+     */
+    void restore(int snapshot);
+
+    /**
+     * Creates a new, non thread safe, sequence starting at 1.
+     *
+     * @return a new sequence
+     */
+    static ParameterSequence create() {
+        return new SimpleParameterSequence(1);
+    }
+
+    /**
+     * Creates a sequence that reads and updates an AtomicInteger. The sequence resets to the value of the
+     * AtomicInteger when this method is called.
+     *
+     * @param sequence the AtomicInteger to use
+     * @return a new sequence
+     */
+    static ParameterSequence of(AtomicInteger sequence) {
+        return new AtomicParameterSequence(sequence);
+    }
+}
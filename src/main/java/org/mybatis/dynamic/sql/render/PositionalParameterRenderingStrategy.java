@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Renders plain JDBC "?" placeholders. Parameters are still collected in the parameter map of the rendered statement,
+ * and the statement providers return them in placeholder order from their <code>getOrderedParameters()</code>
+ * method. This allows statements to be executed with a {@link java.sql.PreparedStatement} (or Spring's
+ * JdbcTemplate) without parsing named parameters on every execution.
+ *
+ * <p>Only parameters in the parameter map can be bound in placeholder order, so this strategy does not support
+ * statements that take values from records (insert, batch insert, and multi-row insert statements).
+ */
+public class PositionalParameterRenderingStrategy extends RenderingStrategy {
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return "?"; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        return "?"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Map;
+
+/**
+ * Utility for binding the parameters of a rendered statement by position. Parameter map keys are assigned from a
+ * sequence as the statement is rendered (p1, p2, ...), so ordering the values by the number in the key gives the
+ * order of the placeholders in the statement.
+ */
+public class PositionalParameters {
+    private static final Object[] EMPTY = new Object[0];
+    private static final String[] EMPTY_KEYS = new String[0];
+
+    private PositionalParameters() {}
+
+    /**
+     * Returns the values of a parameter map in placeholder order.
+     *
+     * @param parameters the parameters of a rendered statement
+     * @return the parameter values ordered by the sequence number in their keys
+     * @throws IllegalStateException if a key was not created by a parameter sequence, or the sequence numbers
+     *     are not contiguous
+     */
+    public static Object[] toArray(Map<String, Object> parameters) {
+        if (parameters.isEmpty()) {
+            return EMPTY;
+        }
+
+        int size = parameters.size();
+        int[] indexes = new int[size];
+        Object[] values = new Object[size];
+        int first = Integer.MAX_VALUE;
+        int i = 0;
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            int index = parseIndex(entry.getKey());
+            indexes[i] = index;
+            values[i] = entry.getValue();
+            first = Math.min(first, index);
+            i++;
+        }
+
+        Object[] ordered = new Object[size];
+        for (i = 0; i < size; i++) {
+            ordered[position(indexes[i], first, size)] = values[i];
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns the keys of a parameter map in placeholder order.
+     *
+     * @param parameters the parameters of a rendered statement
+     * @return the parameter keys ordered by their sequence number
+     * @throws IllegalStateException if a key was not created by a parameter sequence, or the sequence numbers
+     *     are not contiguous
+     */
+    public static String[] orderedKeys(Map<String, ?> parameters) {
+        if (parameters.isEmpty()) {
+            return EMPTY_KEYS;
+        }
+
+        int size = parameters.size();
+        int[] indexes = new int[size];
+        String[] keys = new String[size];
+        int first = Integer.MAX_VALUE;
+        int i = 0;
+        for (String key : parameters.keySet()) {
+            int index = parseIndex(key);
+            indexes[i] = index;
+            keys[i] = key;
+            first = Math.min(first, index);
+            i++;
+        }
+
+        String[] ordered = new String[size];
+        for (i = 0; i < size; i++) {
+            ordered[position(indexes[i], first, size)] = keys[i];
+        }
+        return ordered;
+    }
+
+    private static int position(int index, int first, int size) {
+        int position = index - first;
+        if (position >= size) {
+            throw new IllegalStateException("Parameter keys are not a contiguous sequence," //$NON-NLS-1$
+                    + " positional binding is not possible"); //$NON-NLS-1$
+        }
+        return position;
+    }
+
+    private static int parseIndex(String key) {
+        int length = key.length();
+        if (length < 2 || length > 10 || key.charAt(0) != 'p' || (length > 2 && key.charAt(1) == '0')) {
+            throw invalidKey(key);
+        }
+
+        int index = 0;
+        for (int i = 1; i < length; i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalidKey(key);
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static IllegalStateException invalidKey(String key) {
+        return new IllegalStateException("Parameter key \"" + key //$NON-NLS-1$
+                + "\" was not created by a parameter sequence, positional binding is not possible"); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.DefaultUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * An optional cache of rendered statements. Statements with the same structure - the same tables, columns,
+ * conditions that render, number of values in list conditions, etc. - render to the same SQL and only differ in
+ * their parameter values. This cache remembers the rendered SQL for a statement structure, so repeated statements
+ * are rendered by walking the model once to collect the parameter values rather than rendering the full SQL.
+ *
+ * <p>Multi-row inserts can also be rendered through the cache. Their SQL is cached for each number of rows.
+ *
+ * <p>The cache is used by rendering a model through the cache instead of calling the model's
+ * <code>render</code> method:
+ *
+ * <pre>
+ * RenderedStatementCache cache = RenderedStatementCache.of(500);
+ * ...
+ * SelectStatementProvider selectStatement = cache.render(selectModel, RenderingStrategies.MYBATIS3);
+ * </pre>
+ *
+ * <p>The least recently used statement is evicted when the cache is full. A statement is only cached if the
+ * parameters collected from the model match the parameters of the rendered statement exactly. This will not be
+ * the case if a value supplier returns a different value each time it is called - such statements are always
+ * rendered. Note that value suppliers are called twice when a statement is not found in the cache.
+ *
+ * <p>Rendered SQL only depends on the model structure and the rendering strategy, so one cache can serve every
+ * thread and every mapper in an application. Lookups are synchronized, and statements are rendered outside the lock.
+ */
+public class RenderedStatementCache {
+    private final int maximumSize;
+    private final Map<StatementFingerprint, CachedStatement> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private RenderedStatementCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero"); //$NON-NLS-1$
+        }
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<StatementFingerprint, CachedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementFingerprint, CachedStatement> eldest) {
+                boolean remove = size() > RenderedStatementCache.this.maximumSize;
+                if (remove) {
+                    evictionCount.increment();
+                }
+                return remove;
+            }
+        };
+    }
+
+    public SelectStatementProvider render(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector =
+                StatementFingerprintCollector.collect(selectModel, renderingStrategy);
+        StatementFingerprint fingerprint = collector.fingerprint();
+        CachedStatement cachedStatement = get(fingerprint);
+        if (cachedStatement != null) {
+            collector.notifySkippedConditions();
+            return DefaultSelectStatementProvider.withSelectStatement(cachedStatement.statement)
+                    .withParameters(cachedStatement.bind(collector.values()))
+                    .build();
+        }
+
+        SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+        put(fingerprint, selectStatement.getSelectStatement(), selectStatement.getParameters(), collector.values());
+        return selectStatement;
+    }
+
+    public UpdateStatementProvider render(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector =
+                StatementFingerprintCollector.collect(updateModel, renderingStrategy);
+        StatementFingerprint fingerprint = collector.fingerprint();
+        CachedStatement cachedStatement = get(fingerprint);
+        if (cachedStatement != null) {
+            collector.notifySkippedConditions();
+            return DefaultUpdateStatementProvider.withUpdateStatement(cachedStatement.statement)
+                    .withParameters(cachedStatement.bind(collector.values()))
+                    .build();
+        }
+
+        UpdateStatementProvider updateStatement = updateModel.render(renderingStrategy);
+        put(fingerprint, updateStatement.getUpdateStatement(), updateStatement.getParameters(), collector.values());
+        return updateStatement;
+    }
+
+    public DeleteStatementProvider render(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector =
+                StatementFingerprintCollector.collect(deleteModel, renderingStrategy);
+        StatementFingerprint fingerprint = collector.fingerprint();
+        CachedStatement cachedStatement = get(fingerprint);
+        if (cachedStatement != null) {
+            collector.notifySkippedConditions();
+            return DefaultDeleteStatementProvider.withDeleteStatement(cachedStatement.statement)
+                    .withParameters(cachedStatement.bind(collector.values()))
+                    .build();
+        }
+
+        DeleteStatementProvider deleteStatement = deleteModel.render(renderingStrategy);
+        put(fingerprint, deleteStatement.getDeleteStatement(), deleteStatement.getParameters(), collector.values());
+        return deleteStatement;
+    }
+
+    /**
+     * Renders a multi-row insert. The SQL of a multi-row insert only depends on the table, the column mappings, and
+     * the number of rows, so repeated inserts with the same number of rows are rendered without building the
+     * values clause. The parameters calculated with property accessors are extracted from the records each time.
+     *
+     * @param multiRowInsertModel the model to render
+     * @param renderingStrategy the rendering strategy
+     * @param <T> the type of record to insert
+     * @return the rendered statement
+     */
+    public <T> MultiRowInsertStatementProvider<T> render(MultiRowInsertModel<T> multiRowInsertModel,
+                                                        RenderingStrategy renderingStrategy) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(multiRowInsertModel)
+                .withRenderingStrategy(renderingStrategy)
+                .withStatementCache(this)
+                .build()
+                .render();
+    }
+
+    public <T> List<MultiRowInsertStatementProvider<T>> renderInChunks(MultiRowInsertModel<T> multiRowInsertModel,
+                                                                      RenderingStrategy renderingStrategy,
+                                                                      MultiRowInsertLimits limits) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(multiRowInsertModel)
+                .withRenderingStrategy(renderingStrategy)
+                .withStatementCache(this)
+                .build()
+                .renderInChunks(limits);
+    }
+
+    /**
+     * Returns the cached statement for a key, or renders and caches the statement if there is none. This is used
+     * by renderers of statements without parameter values in the statement model. The key must contain everything
+     * that influences the rendered SQL.
+     *
+     * @param key the tokens that identify the statement
+     * @param renderer renders the statement if it is not cached
+     * @return the statement
+     */
+    public String computeIfAbsent(List<Object> key, Supplier<String> renderer) {
+        StatementFingerprint fingerprint = new StatementFingerprint(key);
+        CachedStatement cachedStatement = get(fingerprint);
+        if (cachedStatement != null) {
+            return cachedStatement.statement;
+        }
+
+        String statement = renderer.get();
+        synchronized (cache) {
+            cache.put(fingerprint, new CachedStatement(statement, new String[0]));
+        }
+        return statement;
+    }
+
+    private CachedStatement get(StatementFingerprint fingerprint) {
+        CachedStatement cachedStatement;
+        synchronized (cache) {
+            cachedStatement = cache.get(fingerprint);
+        }
+
+        if (cachedStatement == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return cachedStatement;
+    }
+
+    private void put(StatementFingerprint fingerprint, String statement, Map<String, Object> parameters,
+                     List<Object> values) {
+        if (parameters.size() != values.size()) {
+            return;
+        }
+
+        String[] parameterKeys = new String[values.size()];
+        for (int i = 0; i < parameterKeys.length; i++) {
+            String key = RenderingStrategy.formatParameterMapKey(i + 1);
+            if (!parameters.containsKey(key) || !Objects.deepEquals(parameters.get(key), values.get(i))) {
+                // the collected values do not reproduce the rendered parameters, so the statement is not cached
+                return;
+            }
+            parameterKeys[i] = key;
+        }
+
+        synchronized (cache) {
+            cache.put(fingerprint, new CachedStatement(statement, parameterKeys));
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public static RenderedStatementCache of(int maximumSize) {
+        return new RenderedStatementCache(maximumSize);
+    }
+
+    private static class CachedStatement {
+        private final String statement;
+        private final String[] parameterKeys;
+
+        private CachedStatement(String statement, String[] parameterKeys) {
+            this.statement = statement;
+            this.parameterKeys = parameterKeys;
+        }
+
+        private Map<String, Object> bind(List<Object> values) {
+            Map<String, Object> parameters = new HashMap<>();
+            for (int i = 0; i < parameterKeys.length; i++) {
+                parameters.put(parameterKeys[i], values.get(i));
+            }
+            return parameters;
+        }
+    }
+}
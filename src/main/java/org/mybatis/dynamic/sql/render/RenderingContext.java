@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Accumulates the SQL text and the parameters of a single statement as it is rendered. All renderers
+ * that take part in rendering a statement (including the renderers of sub queries) append to the same
+ * buffer and parameter map, so no intermediate fragments or maps are created while walking the model.
+ *
+ * <p>A rendering context is not thread safe and should be used for rendering a single statement only.
+ */
+public class RenderingContext {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private final Map<String, Object> parameters;
+    private final ParameterSequence sequence;
+
+    public RenderingContext() {
+        this(ParameterSequence.create());
+    }
+
+    public RenderingContext(ParameterSequence sequence) {
+        this(sequence, new HashMap<>());
+    }
+
+    private RenderingContext(ParameterSequence sequence, Map<String, Object> parameters) {
+        this.sequence = Objects.requireNonNull(sequence);
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    /**
+     * Returns a context that shares the sequence and the parameters of this context, but renders text into
+     * a separate buffer. This is useful when a rendered fragment must be passed as a String to code
+     * that controls where the fragment appears - for example a sub select in a condition.
+     *
+     * @return a new context sharing the sequence and parameters of this context
+     */
+    public RenderingContext subContext() {
+        return new RenderingContext(sequence, parameters);
+    }
+
+    public ParameterSequence sequence() {
+        return sequence;
+    }
+
+    public String nextMapKey() {
+        return RenderingStrategy.formatParameterMapKey(sequence);
+    }
+
+    public RenderingContext append(String fragment) {
+        buffer.append(fragment);
+        return this;
+    }
+
+    public RenderingContext append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    public RenderingContext addParameter(String key, Object value) {
+        parameters.put(key, value);
+        return this;
+    }
+
+    /**
+     * Returns the current length of the rendered text. The value can be used as a mark to
+     * later replace or discard speculatively rendered text.
+     *
+     * @return the current length of the rendered text
+     */
+    public int mark() {
+        return buffer.length();
+    }
+
+    /**
+     * Discards all text rendered after the mark.
+     *
+     * @param mark a value previously returned from {@link #mark()}
+     */
+    public void reset(int mark) {
+        buffer.setLength(mark);
+    }
+
+    /**
+     * Replaces previously rendered text.
+     *
+     * @param start start of the text to replace (inclusive)
+     * @param end end of the text to replace (exclusive)
+     * @param replacement the replacement text
+     */
+    public void replace(int start, int end, String replacement) {
+        buffer.replace(start, end, replacement);
+    }
+
+    public String fragment() {
+        return buffer.toString();
+    }
+
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    public FragmentAndParameters toFragmentAndParameters() {
+        return FragmentAndParameters.withFragment(fragment())
+                .withParameters(parameters)
+                .build();
+    }
+}
@@ -22,14 +22,48 @@ import org.mybatis.dynamic.sql.BindableColumn;
 public abstract class RenderingStrategy {
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
 
+    // parameter map keys for the first indexes are created once and shared by all statements
+    private static final String[] PARAMETER_MAP_KEYS = new String[1024];
+
+    static {
+        for (int i = 0; i < PARAMETER_MAP_KEYS.length; i++) {
+            PARAMETER_MAP_KEYS[i] = "p" + i; //$NON-NLS-1$
+        }
+    }
+
     public static String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        return formatParameterMapKey(sequence.getAndIncrement());
+    }
+
+    public static String formatParameterMapKey(ParameterSequence sequence) {
+        return formatParameterMapKey(sequence.next());
+    }
+
+    public static String formatParameterMapKey(int index) {
+        if (index >= 0 && index < PARAMETER_MAP_KEYS.length) {
+            return PARAMETER_MAP_KEYS[index];
+        }
+        return "p" + index; //$NON-NLS-1$
     }
 
     public abstract String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName);
 
     public abstract String getFormattedJdbcPlaceholder(String prefix, String parameterName);
 
+    /**
+     * Returns the placeholder for a parameter that is bound to an array of values for the column - for example
+     * the parameter of an "= any(?)" condition. The column's own type information describes the array elements,
+     * not the array, so by default the placeholder is rendered without column information.
+     *
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @param parameterName the parameter name
+     * @return the placeholder
+     */
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
     public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return getFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
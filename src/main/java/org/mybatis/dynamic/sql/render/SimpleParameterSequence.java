@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * A parameter sequence backed by a plain int. This is not thread safe - it is intended for rendering a single
+ * statement on a single thread.
+ */
+final class SimpleParameterSequence implements ParameterSequence {
+    private final int initialValue;
+    private int value;
+
+    SimpleParameterSequence(int initialValue) {
+        this.initialValue = initialValue;
+        value = initialValue;
+    }
+
+    @Override
+    public int next() {
+        return value++;
+    }
+
+    @Override
+    public void reset() {
+        value = initialValue;
+    }
+
+    @Override
+    public int snapshot() {
+        return value;
+    }
+
+    @Override
+    public void restore(int snapshot) {
+        value = snapshot;
+    }
+}
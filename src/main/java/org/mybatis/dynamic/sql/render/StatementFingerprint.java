@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The structural identity of a statement. Two statement models with equal fingerprints render to the same
+ * SQL text - they may only differ in the values of their parameters.
+ *
+ * <p>The fingerprint is a list of tokens that describe everything that influences the rendered SQL: the
+ * rendering strategy, tables and aliases, columns, the shape of the where clause, which conditions render,
+ * the number of values in list conditions, etc. Parameter values are not part of the fingerprint.
+ */
+final class StatementFingerprint {
+    private final List<Object> tokens;
+    private final int hashCode;
+
+    StatementFingerprint(List<Object> tokens) {
+        this.tokens = Objects.requireNonNull(tokens);
+        hashCode = this.tokens.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof StatementFingerprint)) {
+            return false;
+        }
+
+        StatementFingerprint other = (StatementFingerprint) obj;
+        return hashCode == other.hashCode && tokens.equals(other.tokens);
+    }
+}
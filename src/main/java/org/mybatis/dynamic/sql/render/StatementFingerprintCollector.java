@@ -0,0 +1,569 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.OrderByModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.select.render.QueryExpressionRenderer;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * Walks a statement model in the same order as the statement renderers and collects a
+ * {@link StatementFingerprint}, the parameter values in the order they would be rendered, and the conditions
+ * that will not render.
+ *
+ * <p>Conditions supplied by the library render the same text for a given column and number of values, so they
+ * contribute their class to the fingerprint. Any other condition contributes its rendered text (with dummy
+ * placeholders) because a custom condition may render anything.
+ */
+class StatementFingerprintCollector {
+    private static final Package LIBRARY_CONDITIONS = IsEqualTo.class.getPackage();
+    private static final String DUMMY_PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    private final RenderingStrategy renderingStrategy;
+    private final List<Object> tokens = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final List<VisitableCondition<?>> skippedConditions = new ArrayList<>();
+
+    private StatementFingerprintCollector(RenderingStrategy renderingStrategy) {
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        tokens.add(renderingStrategy);
+    }
+
+    StatementFingerprint fingerprint() {
+        return new StatementFingerprint(tokens);
+    }
+
+    List<Object> values() {
+        return values;
+    }
+
+    /**
+     * Calls {@link VisitableCondition#renderingSkipped()} on every condition that would not render. This
+     * should be called when the statement is not rendered, so the callbacks are invoked exactly as if
+     * it had been.
+     */
+    void notifySkippedConditions() {
+        skippedConditions.forEach(VisitableCondition::renderingSkipped);
+    }
+
+    static StatementFingerprintCollector collect(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector = new StatementFingerprintCollector(renderingStrategy);
+        collector.collectSelect(selectModel, null);
+        return collector;
+    }
+
+    static StatementFingerprintCollector collect(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector = new StatementFingerprintCollector(renderingStrategy);
+        collector.collectUpdate(updateModel);
+        return collector;
+    }
+
+    static StatementFingerprintCollector collect(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprintCollector collector = new StatementFingerprintCollector(renderingStrategy);
+        collector.collectDelete(deleteModel);
+        return collector;
+    }
+
+    private void collectSelect(SelectModel selectModel, TableAliasCalculator parentTableAliasCalculator) {
+        tokens.add(Marker.SELECT);
+        selectModel.mapQueryExpressions(Function.identity())
+                .forEachOrdered(qe -> collectQueryExpression(qe, parentTableAliasCalculator));
+        selectModel.orderByModel().ifPresent(this::collectOrderBy);
+        selectModel.pagingModel().ifPresent(this::collectPaging);
+        tokens.add(Marker.END);
+    }
+
+    private void collectQueryExpression(QueryExpressionModel queryExpression,
+                                        TableAliasCalculator parentTableAliasCalculator) {
+        TableAliasCalculator tableAliasCalculator = QueryExpressionRenderer.withQueryExpression(queryExpression)
+                .withRenderingStrategy(renderingStrategy)
+                .withParentTableAliasCalculator(parentTableAliasCalculator)
+                .build()
+                .tableAliasCalculator();
+
+        tokens.add(Marker.QUERY_EXPRESSION);
+        tokens.add(queryExpression.connector().orElse(null));
+        tokens.add(queryExpression.isDistinct());
+        queryExpression.mapColumns(c -> c.renderWithTableAndColumnAlias(tableAliasCalculator))
+                .forEachOrdered(tokens::add);
+        tokens.add(Marker.END);
+
+        TableExpressionCollector tableExpressionCollector = new TableExpressionCollector(tableAliasCalculator);
+        queryExpression.table().accept(tableExpressionCollector);
+        queryExpression.joinModel()
+                .ifPresent(jm -> collectJoin(jm, tableExpressionCollector, tableAliasCalculator));
+        queryExpression.whereModel().ifPresent(wm -> collectWhere(wm, tableAliasCalculator));
+        queryExpression.groupByModel().ifPresent(gbm -> collectGroupBy(gbm, tableAliasCalculator));
+    }
+
+    private void collectJoin(JoinModel joinModel, TableExpressionCollector tableExpressionCollector,
+                             TableAliasCalculator tableAliasCalculator) {
+        tokens.add(Marker.JOIN);
+        joinModel.mapJoinSpecifications(Function.identity())
+                .forEachOrdered(js -> collectJoinSpecification(js, tableExpressionCollector, tableAliasCalculator));
+        tokens.add(Marker.END);
+    }
+
+    private void collectJoinSpecification(JoinSpecification joinSpecification,
+                                          TableExpressionCollector tableExpressionCollector,
+                                          TableAliasCalculator tableAliasCalculator) {
+        tokens.add(joinSpecification.joinType());
+        joinSpecification.table().accept(tableExpressionCollector);
+        joinSpecification.mapJoinCriteria(Function.identity())
+                .forEachOrdered(jc -> collectJoinCriterion(jc, tableAliasCalculator));
+        tokens.add(Marker.END);
+    }
+
+    private void collectJoinCriterion(JoinCriterion joinCriterion, TableAliasCalculator tableAliasCalculator) {
+        tokens.add(joinCriterion.connector());
+        tokens.add(joinCriterion.leftColumn().renderWithTableAlias(tableAliasCalculator));
+        tokens.add(joinCriterion.operator());
+        tokens.add(joinCriterion.rightColumn().renderWithTableAlias(tableAliasCalculator));
+    }
+
+    private void collectGroupBy(GroupByModel groupByModel, TableAliasCalculator tableAliasCalculator) {
+        tokens.add(Marker.GROUP_BY);
+        groupByModel.mapColumns(c -> c.renderWithTableAlias(tableAliasCalculator))
+                .forEachOrdered(tokens::add);
+        tokens.add(Marker.END);
+    }
+
+    private void collectOrderBy(OrderByModel orderByModel) {
+        tokens.add(Marker.ORDER_BY);
+        orderByModel.mapColumns(Function.identity()).forEachOrdered(ss -> {
+            tokens.add(ss.orderByName());
+            tokens.add(ss.isDescending());
+        });
+        tokens.add(Marker.END);
+    }
+
+    private void collectPaging(PagingModel pagingModel) {
+        tokens.add(Marker.PAGING);
+        Optional<Long> limit = pagingModel.limit();
+        tokens.add(limit.isPresent());
+        tokens.add(pagingModel.offset().isPresent());
+        tokens.add(pagingModel.fetchFirstRows().isPresent());
+
+        // values are collected in the order the paging renderers use them
+        if (limit.isPresent()) {
+            values.add(limit.get());
+            pagingModel.offset().ifPresent(values::add);
+        } else {
+            pagingModel.offset().ifPresent(values::add);
+            pagingModel.fetchFirstRows().ifPresent(values::add);
+        }
+    }
+
+    private void collectUpdate(UpdateModel updateModel) {
+        tokens.add(Marker.UPDATE);
+        TableAliasCalculator tableAliasCalculator = collectTableAndAlias(updateModel.table(),
+                updateModel.tableAlias());
+
+        UpdateMappingCollector updateMappingCollector = new UpdateMappingCollector(tableAliasCalculator);
+        updateModel.mapColumnMappings(Function.identity()).forEachOrdered(m -> m.accept(updateMappingCollector));
+        tokens.add(Marker.END);
+
+        updateModel.whereModel().ifPresent(wm -> collectWhere(wm, tableAliasCalculator));
+    }
+
+    private void collectDelete(DeleteModel deleteModel) {
+        tokens.add(Marker.DELETE);
+        TableAliasCalculator tableAliasCalculator = collectTableAndAlias(deleteModel.table(),
+                deleteModel.tableAlias());
+        deleteModel.whereModel().ifPresent(wm -> collectWhere(wm, tableAliasCalculator));
+    }
+
+    private TableAliasCalculator collectTableAndAlias(SqlTable table, Optional<String> tableAlias) {
+        tokens.add(table.tableNameAtRuntime());
+        tokens.add(tableAlias.orElse(null));
+        return tableAlias.map(a -> ExplicitTableAliasCalculator.of(table, a))
+                .orElseGet(TableAliasCalculator::empty);
+    }
+
+    private void collectWhere(WhereModel whereModel, TableAliasCalculator tableAliasCalculator) {
+        tokens.add(Marker.WHERE);
+        CriterionCollector criterionCollector = new CriterionCollector(tableAliasCalculator);
+        criterionCollector.collectGroup(whereModel.initialCriterion(), whereModel.subCriteria());
+    }
+
+    private void collectBindableColumn(BindableColumn<?> column, TableAliasCalculator tableAliasCalculator) {
+        tokens.add(column.renderWithTableAlias(tableAliasCalculator));
+        if (column instanceof SqlColumn) {
+            // columns are immutable, so the instance determines the placeholder
+            tokens.add(column);
+        } else {
+            tokens.add(column.jdbcType().orElse(null));
+            tokens.add(column.javaType().orElse(null));
+            tokens.add(column.typeHandler().orElse(null));
+            tokens.add(column.renderingStrategy().orElse(null));
+        }
+    }
+
+    private static boolean isLibraryCondition(VisitableCondition<?> condition) {
+        return condition.getClass().getPackage() == LIBRARY_CONDITIONS;
+    }
+
+    private enum Marker {
+        SELECT,
+        QUERY_EXPRESSION,
+        TABLE,
+        SUB_QUERY,
+        JOIN,
+        WHERE,
+        GROUP,
+        NOT_GROUP,
+        COLUMN_AND_CONDITION,
+        EXISTS,
+        SKIPPED,
+        GROUP_BY,
+        ORDER_BY,
+        PAGING,
+        UPDATE,
+        DELETE,
+        PRESENT,
+        ABSENT,
+        END
+    }
+
+    private class TableExpressionCollector implements TableExpressionVisitor<Void> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private TableExpressionCollector(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public Void visit(SqlTable table) {
+            tokens.add(Marker.TABLE);
+            tokens.add(table.tableNameAtRuntime());
+            tokens.add(tableAliasCalculator.aliasForTable(table).orElse(null));
+            return null;
+        }
+
+        @Override
+        public Void visit(SubQuery subQuery) {
+            tokens.add(Marker.SUB_QUERY);
+            collectSelect(subQuery.selectModel(), null);
+            tokens.add(subQuery.alias().orElse(null));
+            return null;
+        }
+    }
+
+    private class CriterionCollector implements SqlCriterionVisitor<Void> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private CriterionCollector(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public <T> Void visit(ColumnAndConditionCriterion<T> criterion) {
+            tokens.add(Marker.COLUMN_AND_CONDITION);
+            VisitableCondition<T> condition = criterion.condition();
+            if (condition.shouldRender()) {
+                collectBindableColumn(criterion.column(), tableAliasCalculator);
+                condition.accept(new ConditionCollector<>(criterion.column(), tableAliasCalculator));
+            } else {
+                tokens.add(Marker.SKIPPED);
+                skippedConditions.add(condition);
+            }
+            collectSubCriteria(criterion.subCriteria());
+            return null;
+        }
+
+        @Override
+        public Void visit(ExistsCriterion criterion) {
+            tokens.add(Marker.EXISTS);
+            tokens.add(criterion.existsPredicate().operator());
+            collectSelect(criterion.existsPredicate().selectModelBuilder().build(), tableAliasCalculator);
+            collectSubCriteria(criterion.subCriteria());
+            return null;
+        }
+
+        @Override
+        public Void visit(CriteriaGroup criterion) {
+            tokens.add(Marker.GROUP);
+            collectGroup(criterion.initialCriterion(), criterion.subCriteria());
+            return null;
+        }
+
+        @Override
+        public Void visit(NotCriterion criterion) {
+            tokens.add(Marker.NOT_GROUP);
+            collectGroup(criterion.initialCriterion(), criterion.subCriteria());
+            return null;
+        }
+
+        private void collectGroup(Optional<SqlCriterion> initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+            if (initialCriterion.isPresent()) {
+                tokens.add(Marker.PRESENT);
+                initialCriterion.get().accept(this);
+            } else {
+                tokens.add(Marker.ABSENT);
+            }
+            collectSubCriteria(subCriteria);
+        }
+
+        private void collectSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
+            for (AndOrCriteriaGroup subCriterion : subCriteria) {
+                tokens.add(subCriterion.connector());
+                collectGroup(subCriterion.initialCriterion(), subCriterion.subCriteria());
+            }
+            tokens.add(Marker.END);
+        }
+    }
+
+    private class ConditionCollector<T> implements ConditionVisitor<T, Void> {
+        private final BindableColumn<T> column;
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private ConditionCollector(BindableColumn<T> column, TableAliasCalculator tableAliasCalculator) {
+            this.column = column;
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public Void visit(AbstractListValueCondition<T> condition) {
+            int mark = values.size();
+            collectListValues(condition);
+            if (isLibraryCondition(condition)) {
+                tokens.add(condition.getClass());
+                tokens.add(values.size() - mark);
+            } else {
+                tokens.add(condition.renderCondition("", //$NON-NLS-1$
+                        condition.mapValues(v -> DUMMY_PLACEHOLDER)));
+            }
+            tokens.add(condition.maximumChunkSize());
+            tokens.add(condition.padChunks());
+            tokens.add(condition.chunkConnector());
+            return null;
+        }
+
+        /**
+         * Collects list values in the same order as they are rendered - including padding values that repeat the
+         * last value of a chunk.
+         */
+        private void collectListValues(AbstractListValueCondition<T> condition) {
+            int maximumChunkSize = condition.maximumChunkSize();
+            Iterator<Object> iterator = condition.mapValues(column::convertParameterType).iterator();
+            int remaining = condition.valueCount();
+            while (remaining > 0) {
+                int chunkValueCount = Math.min(remaining, maximumChunkSize);
+                int placeholderCount = condition.placeholderCount(chunkValueCount);
+                Object value = null;
+                for (int i = 0; i < placeholderCount; i++) {
+                    if (i < chunkValueCount) {
+                        value = iterator.next();
+                    }
+                    values.add(value);
+                }
+                remaining -= chunkValueCount;
+            }
+        }
+
+        @Override
+        public Void visit(AbstractNoValueCondition<T> condition) {
+            if (isLibraryCondition(condition)) {
+                tokens.add(condition.getClass());
+            } else {
+                tokens.add(condition.renderCondition("")); //$NON-NLS-1$
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSingleValueCondition<T> condition) {
+            values.add(condition.parameter()
+                    .<Object>map(p -> p.forColumn(column))
+                    .orElseGet(() -> column.convertParameterType(condition.value())));
+            if (isLibraryCondition(condition)) {
+                tokens.add(condition.getClass());
+            } else {
+                tokens.add(condition.renderCondition("", DUMMY_PLACEHOLDER)); //$NON-NLS-1$
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractTwoValueCondition<T> condition) {
+            if (condition.parameter1().isPresent()) {
+                values.add(condition.parameter1().get().forColumn(column));
+                values.add(condition.parameter2().get().forColumn(column));
+            } else {
+                values.add(column.convertParameterType(condition.value1()));
+                values.add(column.convertParameterType(condition.value2()));
+            }
+            if (isLibraryCondition(condition)) {
+                tokens.add(condition.getClass());
+            } else {
+                tokens.add(condition.renderCondition("", DUMMY_PLACEHOLDER, DUMMY_PLACEHOLDER)); //$NON-NLS-1$
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSubselectCondition<T> condition) {
+            if (isLibraryCondition(condition)) {
+                tokens.add(condition.getClass());
+            } else {
+                tokens.add(condition.renderCondition("", DUMMY_PLACEHOLDER)); //$NON-NLS-1$
+            }
+            collectSelect(condition.selectModel(), tableAliasCalculator);
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractColumnComparisonCondition<T> condition) {
+            tokens.add(condition.renderCondition("", tableAliasCalculator)); //$NON-NLS-1$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractArrayValueCondition<T> condition) {
+            // all values are bound to a single placeholder, so the number of values is not part of the key
+            values.add(condition.createArray(
+                    condition.mapValues(column::convertParameterType).collect(Collectors.toList())));
+            tokens.add(condition.renderCondition("", DUMMY_PLACEHOLDER)); //$NON-NLS-1$
+            return null;
+        }
+    }
+
+    private class UpdateMappingCollector extends UpdateMappingVisitor<Void> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private UpdateMappingCollector(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public Void visit(NullMapping mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            return null;
+        }
+
+        @Override
+        public Void visit(ConstantMapping mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            tokens.add(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public Void visit(StringConstantMapping mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            tokens.add(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueMapping<T> mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            values.add(mapping.value());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueOrNullMapping<T> mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            collectOptionalValue(mapping.value());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueWhenPresentMapping<T> mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            collectOptionalValue(mapping.value());
+            return null;
+        }
+
+        @Override
+        public Void visit(SelectMapping mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            collectSelect(mapping.selectModel(), null);
+            return null;
+        }
+
+        @Override
+        public Void visit(ColumnToColumnMapping mapping) {
+            collectMappingStart(mapping.getClass(), mapping.mapColumn(Function.identity()));
+            tokens.add(mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty()));
+            return null;
+        }
+
+        private void collectMappingStart(Class<?> mappingType, SqlColumn<?> column) {
+            tokens.add(mappingType);
+            collectBindableColumn(column, tableAliasCalculator);
+        }
+
+        private void collectOptionalValue(Optional<Object> value) {
+            if (value.isPresent()) {
+                tokens.add(Marker.PRESENT);
+                values.add(value.get());
+            } else {
+                tokens.add(Marker.ABSENT);
+            }
+        }
+    }
+}
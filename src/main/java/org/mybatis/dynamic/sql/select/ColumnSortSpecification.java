@@ -49,4 +49,8 @@ public class ColumnSortSpecification implements SortSpecification {
     public boolean isDescending() {
         return isDescending;
     }
+
+    SqlColumn<?> qualifiedColumn() {
+        return column.qualifiedWith(tableAlias);
+    }
 }
@@ -160,6 +160,14 @@ public class QueryExpressionDSL<R>
                 .build();
     }
 
+    public SelectDSL<R> seekAfter(Object...lastRowKeyValues) {
+        return selectDSL.seekAfter(lastRowKeyValues);
+    }
+
+    public SelectDSL<R> seekAfter(List<?> lastRowKeyValues) {
+        return selectDSL.seekAfter(lastRowKeyValues);
+    }
+
     public SelectDSL<R>.LimitFinisher limit(long limit) {
         return selectDSL.limit(limit);
     }
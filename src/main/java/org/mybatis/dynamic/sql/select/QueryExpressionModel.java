@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.select;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
@@ -63,6 +65,10 @@ public class QueryExpressionModel {
         return selectList.stream().map(mapper);
     }
 
+    public List<BasicColumn> selectList() {
+        return Collections.unmodifiableList(selectList);
+    }
+
     public TableExpression table() {
         return table;
     }
@@ -83,6 +89,20 @@ public class QueryExpressionModel {
         return Optional.ofNullable(groupByModel);
     }
 
+    QueryExpressionModel applySeekCriterion(SqlCriterion seekCriterion) {
+        WhereModel newWhereModel = whereModel == null ? new WhereModel(null, Collections.emptyList()) : whereModel;
+        return new Builder()
+                .withConnector(connector)
+                .isDistinct(isDistinct)
+                .withSelectList(selectList)
+                .withTable(table)
+                .withTableAliases(tableAliases)
+                .withWhereModel(SeekCriterion.applyTo(newWhereModel, seekCriterion))
+                .withJoinModel(joinModel)
+                .withGroupByModel(groupByModel)
+                .build();
+    }
+
     public static Builder withSelectList(List<BasicColumn> columnList) {
         return new Builder().withSelectList(columnList);
     }
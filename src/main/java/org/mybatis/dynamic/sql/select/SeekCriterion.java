@@ -0,0 +1,197 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThan;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsLessThan;
+import org.mybatis.dynamic.sql.where.condition.IsLessThanOrEqualTo;
+
+/**
+ * Builds the criterion for keyset (seek) pagination - selecting the rows that sort after a known row. For an order
+ * by clause "a, b desc, c" and key values (x, y, z), the criterion is:
+ *
+ * <pre>
+ * (a &gt;= x and (a &gt; x or (a = x and b &lt; y) or (a = x and b = y and c &gt; z)))
+ * </pre>
+ *
+ * <p>The expanded form works with mixed sort directions and with every database (row value comparisons like
+ * "(a, c) &gt; (x, z)" are not universally supported). The redundant leading comparison allows the database to
+ * use an index on the first sort column to find the starting row.
+ */
+class SeekCriterion {
+    private final List<SortColumn<Object>> sortColumns;
+
+    private SeekCriterion(List<SortColumn<Object>> sortColumns) {
+        this.sortColumns = sortColumns;
+    }
+
+    private SqlCriterion build() {
+        SortColumn<Object> first = sortColumns.get(0);
+        SqlCriterion afterFirst = criterion(first, first.after(), Collections.emptyList());
+        if (sortColumns.size() == 1) {
+            return afterFirst;
+        }
+
+        List<AndOrCriteriaGroup> laterColumns = new ArrayList<>();
+        for (int i = 1; i < sortColumns.size(); i++) {
+            laterColumns.add(connect("or", afterColumn(i))); //$NON-NLS-1$
+        }
+
+        SqlCriterion seek = new CriteriaGroup.Builder()
+                .withInitialCriterion(afterFirst)
+                .withSubCriteria(laterColumns)
+                .build();
+
+        return criterion(first, first.atOrAfter(),
+                Collections.singletonList(connect("and", seek))); //$NON-NLS-1$
+    }
+
+    /**
+     * Builds the criterion for rows that have the same values as the key for the columns before the index,
+     * and sort after the key for the column at the index.
+     */
+    private SqlCriterion afterColumn(int index) {
+        List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
+        for (int i = 1; i < index; i++) {
+            SortColumn<Object> sortColumn = sortColumns.get(i);
+            subCriteria.add(connect("and", criterion(sortColumn, sortColumn.equal(), //$NON-NLS-1$
+                    Collections.emptyList())));
+        }
+        SortColumn<Object> sortColumn = sortColumns.get(index);
+        subCriteria.add(connect("and", criterion(sortColumn, sortColumn.after(), //$NON-NLS-1$
+                Collections.emptyList())));
+
+        SortColumn<Object> first = sortColumns.get(0);
+        return criterion(first, first.equal(), subCriteria);
+    }
+
+    private static SqlCriterion criterion(SortColumn<Object> sortColumn, VisitableCondition<Object> condition,
+            List<AndOrCriteriaGroup> subCriteria) {
+        return ColumnAndConditionCriterion.withColumn(sortColumn.column)
+                .withCondition(condition)
+                .withSubCriteria(subCriteria)
+                .build();
+    }
+
+    private static AndOrCriteriaGroup connect(String connector, SqlCriterion criterion) {
+        return new AndOrCriteriaGroup.Builder()
+                .withConnector(connector)
+                .withInitialCriterion(criterion)
+                .build();
+    }
+
+    /**
+     * Adds the seek criterion to a where clause. Existing criteria are grouped if necessary so that the seek
+     * criterion applies to the whole where clause.
+     *
+     * @param whereModel the where clause of the query
+     * @param seekCriterion the seek criterion
+     * @return a new where clause
+     */
+    static WhereModel applyTo(WhereModel whereModel, SqlCriterion seekCriterion) {
+        SqlCriterion initialCriterion = whereModel.initialCriterion().orElse(null);
+        List<AndOrCriteriaGroup> subCriteria = whereModel.subCriteria();
+        List<AndOrCriteriaGroup> seek = Collections.singletonList(connect("and", seekCriterion)); //$NON-NLS-1$
+
+        if (initialCriterion == null && subCriteria.isEmpty()) {
+            return new WhereModel(seekCriterion, Collections.emptyList());
+        } else if (subCriteria.isEmpty()) {
+            return new WhereModel(initialCriterion, seek);
+        } else {
+            SqlCriterion existingCriteria = new CriteriaGroup.Builder()
+                    .withInitialCriterion(initialCriterion)
+                    .withSubCriteria(subCriteria)
+                    .build();
+            return new WhereModel(existingCriteria, seek);
+        }
+    }
+
+    /**
+     * Builds the seek criterion for the sort specifications of an order by clause and the sort key values of the
+     * last row of the previous page.
+     *
+     * @param orderByModel the order by clause of the query
+     * @param keyValues the values of the sort columns of the last row of the previous page, in order by order
+     * @return the seek criterion
+     * @throws IllegalArgumentException if the number of key values does not match the number of sort columns, or
+     *     if a sort specification is not a column
+     */
+    static SqlCriterion of(OrderByModel orderByModel, List<Object> keyValues) {
+        List<SortSpecification> sortSpecifications = orderByModel.mapColumns(s -> s).collect(Collectors.toList());
+        if (sortSpecifications.size() != keyValues.size()) {
+            throw new IllegalArgumentException("The number of seek values (" + keyValues.size() //$NON-NLS-1$
+                    + ") does not match the number of order by columns (" //$NON-NLS-1$
+                    + sortSpecifications.size() + ")"); //$NON-NLS-1$
+        }
+
+        List<SortColumn<Object>> sortColumns = new ArrayList<>();
+        for (int i = 0; i < sortSpecifications.size(); i++) {
+            sortColumns.add(new SortColumn<>(toColumn(sortSpecifications.get(i)),
+                    sortSpecifications.get(i).isDescending(), keyValues.get(i)));
+        }
+        return new SeekCriterion(sortColumns).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SqlColumn<Object> toColumn(SortSpecification sortSpecification) {
+        if (sortSpecification instanceof SqlColumn) {
+            return (SqlColumn<Object>) sortSpecification;
+        } else if (sortSpecification instanceof ColumnSortSpecification) {
+            return (SqlColumn<Object>) ((ColumnSortSpecification) sortSpecification).qualifiedColumn();
+        }
+        throw new IllegalArgumentException("Seek pagination requires order by columns, but \"" //$NON-NLS-1$
+                + sortSpecification.orderByName() + "\" is not a column"); //$NON-NLS-1$
+    }
+
+    private static class SortColumn<T> {
+        private final SqlColumn<T> column;
+        private final boolean isDescending;
+        private final T value;
+
+        private SortColumn(SqlColumn<T> column, boolean isDescending, T value) {
+            this.column = column;
+            this.isDescending = isDescending;
+            this.value = value;
+        }
+
+        private VisitableCondition<T> after() {
+            return isDescending ? IsLessThan.of(value) : IsGreaterThan.of(value);
+        }
+
+        private VisitableCondition<T> atOrAfter() {
+            return isDescending ? IsLessThanOrEqualTo.of(value) : IsGreaterThanOrEqualTo.of(value);
+        }
+
+        private VisitableCondition<T> equal() {
+            return IsEqualTo.of(value);
+        }
+    }
+}
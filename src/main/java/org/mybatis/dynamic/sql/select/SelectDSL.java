@@ -46,6 +46,7 @@ public class SelectDSL<R> implements Buildable<R> {
     private Long limit;
     private Long offset;
     private Long fetchFirstRows;
+    private List<Object> seekValues;
 
     private SelectDSL(Function<SelectModel, R> adapterFunction) {
         this.adapterFunction = Objects.requireNonNull(adapterFunction);
@@ -110,6 +111,29 @@ public class SelectDSL<R> implements Buildable<R> {
         orderByModel = OrderByModel.of(columns);
     }
 
+    /**
+     * Selects the rows that sort after a row with the specified values for the order by columns. This implements
+     * keyset (seek) pagination - each page is selected with the sort key of the last row of the previous page and
+     * a limit (or fetch first), so the cost of a page does not grow with the depth of the page as it does with an
+     * offset.
+     *
+     * <p>The values must be supplied in the same order as the order by columns, and mixed ascending and descending
+     * sorts are supported. The order by columns must be columns (not calculated values), their values should not be
+     * null, and together they should uniquely identify a row - typically the last order by column is the primary
+     * key. Seek pagination is not supported for unions.
+     *
+     * @param lastRowKeyValues the order by column values of the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL<R> seekAfter(Object...lastRowKeyValues) {
+        return seekAfter(Arrays.asList(lastRowKeyValues));
+    }
+
+    public SelectDSL<R> seekAfter(List<?> lastRowKeyValues) {
+        seekValues = new ArrayList<>(lastRowKeyValues);
+        return this;
+    }
+
     public LimitFinisher limit(long limit) {
         this.limit = limit;
         return new LimitFinisher();
@@ -132,6 +156,9 @@ public class SelectDSL<R> implements Buildable<R> {
                 .withOrderByModel(orderByModel)
                 .withPagingModel(buildPagingModel())
                 .build();
+        if (seekValues != null) {
+            selectModel = selectModel.seekAfter(seekValues);
+        }
         return adapterFunction.apply(selectModel);
     }
 
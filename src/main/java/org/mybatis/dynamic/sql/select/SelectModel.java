@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.select;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,7 +24,10 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -42,6 +46,17 @@ public class SelectModel {
         return queryExpressions.stream().map(mapper);
     }
 
+    /**
+     * Returns the columns of the select list in the order they appear in the result set. The columns include
+     * any aliases, and the Java and JDBC types of bindable columns. For a union, the select list of the first query
+     * determines the columns of the result set.
+     *
+     * @return the select list
+     */
+    public List<BasicColumn> selectList() {
+        return queryExpressions.get(0).selectList();
+    }
+
     public Optional<OrderByModel> orderByModel() {
         return Optional.ofNullable(orderByModel);
     }
@@ -50,6 +65,32 @@ public class SelectModel {
         return Optional.ofNullable(pagingModel);
     }
 
+    /**
+     * Returns a copy of this model that selects the rows that sort after a row with the specified values for the
+     * order by columns (keyset or seek pagination). See {@link SelectDSL#seekAfter(Object...)} for details.
+     *
+     * @param lastRowKeyValues the order by column values of the last row of the previous page
+     * @return a new model
+     * @throws IllegalStateException if the model has no order by clause or is a union
+     */
+    @NotNull
+    public SelectModel seekAfter(List<?> lastRowKeyValues) {
+        if (orderByModel == null) {
+            throw new IllegalStateException("Seek pagination requires an order by clause"); //$NON-NLS-1$
+        }
+
+        if (queryExpressions.size() != 1) {
+            throw new IllegalStateException("Seek pagination is not supported for unions"); //$NON-NLS-1$
+        }
+
+        SqlCriterion seekCriterion = SeekCriterion.of(orderByModel, new ArrayList<>(lastRowKeyValues));
+        return SelectModel.withQueryExpressions(
+                Collections.singletonList(queryExpressions.get(0).applySeekCriterion(seekCriterion)))
+                .withOrderByModel(orderByModel)
+                .withPagingModel(pagingModel)
+                .build();
+    }
+
     @NotNull
     public SelectStatementProvider render(RenderingStrategy renderingStrategy) {
         return SelectRenderer.withSelectModel(this)
@@ -58,6 +99,17 @@ public class SelectModel {
                 .render();
     }
 
+    /**
+     * Renders the statement once into a template that can be bound to different values for late bound parameters.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a prepared template
+     */
+    @NotNull
+    public PreparedSelectTemplate prepare(RenderingStrategy renderingStrategy) {
+        return PreparedSelectTemplate.of(render(renderingStrategy));
+    }
+
     public static Builder withQueryExpressions(List<QueryExpressionModel> queryExpressions) {
         return new Builder().withQueryExpressions(queryExpressions);
     }
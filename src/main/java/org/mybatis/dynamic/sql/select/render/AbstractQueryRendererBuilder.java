@@ -17,12 +17,13 @@ package org.mybatis.dynamic.sql.select.render;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 
 public abstract class AbstractQueryRendererBuilder<T extends AbstractQueryRendererBuilder<T>> {
     RenderingStrategy renderingStrategy;
-    AtomicInteger sequence;
+    ParameterSequence sequence;
     TableAliasCalculator parentTableAliasCalculator;
 
     public T withRenderingStrategy(RenderingStrategy renderingStrategy) {
@@ -30,11 +31,15 @@ public abstract class AbstractQueryRendererBuilder<T extends AbstractQueryRender
         return getThis();
     }
 
-    public T withSequence(AtomicInteger sequence) {
+    public T withSequence(ParameterSequence sequence) {
         this.sequence = sequence;
         return getThis();
     }
 
+    public T withSequence(AtomicInteger sequence) {
+        return withSequence(ParameterSequence.of(sequence));
+    }
+
     public T withParentTableAliasCalculator(TableAliasCalculator parentTableAliasCalculator) {
         this.parentTableAliasCalculator = parentTableAliasCalculator;
         return getThis();
@@ -15,67 +15,43 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class FetchFirstPagingModelRenderer {
     private final RenderingStrategy renderingStrategy;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     public FetchFirstPagingModelRenderer(RenderingStrategy renderingStrategy,
-            PagingModel pagingModel, AtomicInteger sequence) {
+            PagingModel pagingModel, RenderingContext renderingContext) {
         this.renderingStrategy = renderingStrategy;
         this.pagingModel = pagingModel;
-        this.sequence = sequence;
-    }
-
-    public Optional<FragmentAndParameters> render() {
-        return pagingModel.offset()
-                .map(this::renderWithOffset)
-                .orElseGet(this::renderFetchFirstRowsOnly);
-    }
-
-    private Optional<FragmentAndParameters> renderWithOffset(Long offset) {
-        return pagingModel.fetchFirstRows()
-                .map(ffr -> renderOffsetAndFetchFirstRows(offset, ffr))
-                .orElseGet(() -> renderOffsetOnly(offset));
+        this.renderingContext = renderingContext;
     }
 
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly() {
-        return pagingModel.fetchFirstRows().flatMap(this::renderFetchFirstRowsOnly);
+    public void render() {
+        pagingModel.offset().ifPresent(this::renderOffset);
+        pagingModel.fetchFirstRows().ifPresent(this::renderFetchFirstRows);
     }
 
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly(Long fetchFirstRows) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters
-                .withFragment("fetch first " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                    + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey, fetchFirstRows)
-                .buildOptional();
+    private void renderOffset(Long offset) {
+        renderingContext.append(" offset ") //$NON-NLS-1$
+                .append(renderParameter(offset))
+                .append(" rows"); //$NON-NLS-1$
     }
 
-    private Optional<FragmentAndParameters> renderOffsetOnly(Long offset) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                + " rows") //$NON-NLS-1$
-                .withParameter(mapKey, offset)
-                .buildOptional();
+    private void renderFetchFirstRows(Long fetchFirstRows) {
+        renderingContext.append(" fetch first ") //$NON-NLS-1$
+                .append(renderParameter(fetchFirstRows))
+                .append(" rows only"); //$NON-NLS-1$
     }
 
-    private Optional<FragmentAndParameters> renderOffsetAndFetchFirstRows(Long offset, Long fetchFirstRows) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                + " rows fetch first " + renderPlaceholder(mapKey2) //$NON-NLS-1$
-                + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey1, offset)
-                .withParameter(mapKey2, fetchFirstRows)
-                .buildOptional();
+    private String renderParameter(Long value) {
+        String mapKey = renderingContext.nextMapKey();
+        renderingContext.addParameter(mapKey, value);
+        return renderPlaceholder(mapKey);
     }
 
     private String renderPlaceholder(String parameterName) {
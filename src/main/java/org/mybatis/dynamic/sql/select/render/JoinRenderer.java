@@ -19,47 +19,48 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.join.JoinCriterion;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.select.join.JoinSpecification;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class JoinRenderer {
     private final JoinModel joinModel;
     private final TableExpressionRenderer tableExpressionRenderer;
     private final TableAliasCalculator tableAliasCalculator;
+    private final RenderingContext renderingContext;
 
     private JoinRenderer(Builder builder) {
         joinModel = Objects.requireNonNull(builder.joinModel);
         tableExpressionRenderer = Objects.requireNonNull(builder.tableExpressionRenderer);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
     }
 
-    public FragmentAndParameters render() {
-        FragmentCollector fc = joinModel.mapJoinSpecifications(this::renderJoinSpecification)
-                .collect(FragmentCollector.collect());
-
-        return FragmentAndParameters.withFragment(fc.fragments().collect(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fc.parameters())
-                .build();
+    /**
+     * Appends the join specifications to the rendering context. The table expression renderer must
+     * render into the same rendering context.
+     */
+    public void render() {
+        int start = renderingContext.mark();
+        joinModel.mapJoinSpecifications(Function.identity())
+                .forEachOrdered(js -> renderJoinSpecification(js, start));
     }
 
-    private FragmentAndParameters renderJoinSpecification(JoinSpecification joinSpecification) {
-        FragmentAndParameters renderedTable = joinSpecification.table().accept(tableExpressionRenderer);
-
-        String fragment = spaceAfter(joinSpecification.joinType().shortType())
-                + "join" //$NON-NLS-1$
-                + spaceBefore(renderedTable.fragment())
-                + spaceBefore(renderConditions(joinSpecification));
+    private void renderJoinSpecification(JoinSpecification joinSpecification, int start) {
+        if (renderingContext.mark() > start) {
+            renderingContext.append(' ');
+        }
 
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(renderedTable.parameters())
-                .build();
+        renderingContext.append(spaceAfter(joinSpecification.joinType().shortType()))
+                .append("join "); //$NON-NLS-1$
+        joinSpecification.table().accept(tableExpressionRenderer);
+        renderingContext.append(spaceBefore(renderConditions(joinSpecification)));
     }
 
     private String renderConditions(JoinSpecification joinSpecification) {
@@ -86,6 +87,7 @@ public class JoinRenderer {
         private JoinModel joinModel;
         private TableExpressionRenderer tableExpressionRenderer;
         private TableAliasCalculator tableAliasCalculator;
+        private RenderingContext renderingContext;
 
         public Builder withJoinModel(JoinModel joinModel) {
             this.joinModel = joinModel;
@@ -102,6 +104,11 @@ public class JoinRenderer {
             return this;
         }
 
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public JoinRenderer build() {
             return new JoinRenderer(this);
         }
@@ -15,47 +15,34 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class LimitAndOffsetPagingModelRenderer {
     private final RenderingStrategy renderingStrategy;
     private final Long limit;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     public LimitAndOffsetPagingModelRenderer(RenderingStrategy renderingStrategy,
-            Long limit, PagingModel pagingModel, AtomicInteger sequence) {
+            Long limit, PagingModel pagingModel, RenderingContext renderingContext) {
         this.renderingStrategy = renderingStrategy;
         this.limit = limit;
         this.pagingModel = pagingModel;
-        this.sequence = sequence;
-    }
-
-    public Optional<FragmentAndParameters> render() {
-        return pagingModel.offset().map(this::renderLimitAndOffset)
-                .orElseGet(this::renderLimitOnly);
+        this.renderingContext = renderingContext;
     }
 
-    private Optional<FragmentAndParameters> renderLimitOnly() {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey)) //$NON-NLS-1$
-                .withParameter(mapKey, limit)
-                .buildOptional();
+    public void render() {
+        renderingContext.append(" limit ").append(renderParameter(limit)); //$NON-NLS-1$
+        pagingModel.offset()
+                .ifPresent(o -> renderingContext.append(" offset ").append(renderParameter(o))); //$NON-NLS-1$
     }
 
-    private Optional<FragmentAndParameters> renderLimitAndOffset(Long offset) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                    + " offset " + renderPlaceholder(mapKey2)) //$NON-NLS-1$
-                .withParameter(mapKey1, limit)
-                .withParameter(mapKey2, offset)
-                .buildOptional();
+    private String renderParameter(Long value) {
+        String mapKey = renderingContext.nextMapKey();
+        renderingContext.addParameter(mapKey, value);
+        return renderPlaceholder(mapKey);
     }
 
     private String renderPlaceholder(String parameterName) {
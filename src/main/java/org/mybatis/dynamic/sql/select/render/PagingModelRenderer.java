@@ -17,41 +17,48 @@ package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class PagingModelRenderer {
     private final RenderingStrategy renderingStrategy;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     private PagingModelRenderer(Builder builder) {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         pagingModel = Objects.requireNonNull(builder.pagingModel);
-        sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
     }
 
-    public Optional<FragmentAndParameters> render() {
-        return pagingModel.limit().map(this::limitAndOffsetRender)
-                .orElseGet(this::fetchFirstRender);
+    /**
+     * Appends the paging clause (if any) to the rendering context. The paging clause will be
+     * preceded by a space.
+     */
+    public void render() {
+        Optional<Long> limit = pagingModel.limit();
+        if (limit.isPresent()) {
+            limitAndOffsetRender(limit.get());
+        } else {
+            fetchFirstRender();
+        }
     }
 
-    private Optional<FragmentAndParameters> limitAndOffsetRender(Long limit) {
-        return new LimitAndOffsetPagingModelRenderer(renderingStrategy, limit,
-                pagingModel, sequence).render();
+    private void limitAndOffsetRender(Long limit) {
+        new LimitAndOffsetPagingModelRenderer(renderingStrategy, limit,
+                pagingModel, renderingContext).render();
     }
 
-    private Optional<FragmentAndParameters> fetchFirstRender() {
-        return new FetchFirstPagingModelRenderer(renderingStrategy, pagingModel, sequence).render();
+    private void fetchFirstRender() {
+        new FetchFirstPagingModelRenderer(renderingStrategy, pagingModel, renderingContext).render();
     }
 
     public static class Builder {
         private RenderingStrategy renderingStrategy;
         private PagingModel pagingModel;
-        private AtomicInteger sequence;
+        private RenderingContext renderingContext;
 
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
@@ -63,8 +70,8 @@ public class PagingModelRenderer {
             return this;
         }
 
-        public Builder withSequence(AtomicInteger sequence) {
-            this.sequence = sequence;
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
             return this;
         }
 
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.render.LateBoundParameterBinder;
+
+/**
+ * A select statement that is rendered once and can be executed many times with different parameter values.
+ * The statement is built with late bound parameters (for example
+ * {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToParameter(String)}) and values are supplied for the
+ * parameters each time the template is bound. The template is immutable and thread safe.
+ *
+ * <pre>
+ * PreparedSelectTemplate template = select(id, firstName, lastName)
+ *         .from(person)
+ *         .where(id, isEqualToParameter("id"))
+ *         .build()
+ *         .prepare(RenderingStrategies.MYBATIS3);
+ * ...
+ * SelectStatementProvider selectStatement = template.bind(Collections.singletonMap("id", 3));
+ * </pre>
+ */
+public class PreparedSelectTemplate {
+    private final String selectStatement;
+    private final LateBoundParameterBinder parameterBinder;
+
+    private PreparedSelectTemplate(SelectStatementProvider selectStatementProvider) {
+        selectStatement = selectStatementProvider.getSelectStatement();
+        parameterBinder = LateBoundParameterBinder.of(selectStatementProvider.getParameters());
+    }
+
+    public String getSelectStatement() {
+        return selectStatement;
+    }
+
+    public Set<String> parameterNames() {
+        return parameterBinder.parameterNames();
+    }
+
+    public SelectStatementProvider bind(Map<String, ?> parameterValues) {
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
+                .withParameters(parameterBinder.bind(parameterValues))
+                .build();
+    }
+
+    public SelectStatementProvider bind(Function<String, ?> parameterResolver) {
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
+                .withParameters(parameterBinder.bind(parameterResolver))
+                .build();
+    }
+
+    public static PreparedSelectTemplate of(SelectStatementProvider selectStatementProvider) {
+        return new PreparedSelectTemplate(Objects.requireNonNull(selectStatementProvider));
+    }
+}
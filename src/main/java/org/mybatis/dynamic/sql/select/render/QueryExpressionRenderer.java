@@ -19,14 +19,13 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
 import org.mybatis.dynamic.sql.render.GuaranteedTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.render.TableAliasCalculatorWithParent;
@@ -34,28 +33,18 @@ import org.mybatis.dynamic.sql.select.GroupByModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class QueryExpressionRenderer {
     private final QueryExpressionModel queryExpression;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
-    private final TableExpressionRenderer tableExpressionRenderer;
     private final TableAliasCalculator tableAliasCalculator;
 
     private QueryExpressionRenderer(Builder builder) {
         queryExpression = Objects.requireNonNull(builder.queryExpression);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
         tableAliasCalculator = calculateTableAliasCalculator(queryExpression, builder.parentTableAliasCalculator);
-        tableExpressionRenderer = new TableExpressionRenderer.Builder()
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build();
     }
 
     /**
@@ -118,27 +107,42 @@ public class QueryExpressionRenderer {
         return GuaranteedTableAliasCalculator.of(queryExpression.tableAliases());
     }
 
-    public FragmentAndParameters render() {
-        FragmentAndParameters answer = calculateQueryExpressionStart();
-        answer = addJoinClause(answer);
-        answer = addWhereClause(answer);
-        answer = addGroupByClause(answer);
-        return answer;
+    /**
+     * Returns the table alias calculator that is used to render columns in this query expression.
+     *
+     * @return the table alias calculator for this query expression
+     */
+    public TableAliasCalculator tableAliasCalculator() {
+        return tableAliasCalculator;
     }
 
-    private FragmentAndParameters calculateQueryExpressionStart() {
-        String start = spaceAfter(queryExpression.connector())
-                + "select " //$NON-NLS-1$
-                + (queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
-                + calculateColumnList()
-                + " from "; //$NON-NLS-1$
+    /**
+     * Appends the query expression to a rendering context.
+     *
+     * @param renderingContext the rendering context to append to
+     */
+    public void render(RenderingContext renderingContext) {
+        TableExpressionRenderer tableExpressionRenderer = new TableExpressionRenderer.Builder()
+                .withTableAliasCalculator(tableAliasCalculator)
+                .withRenderingStrategy(renderingStrategy)
+                .withRenderingContext(renderingContext)
+                .build();
+
+        renderQueryExpressionStart(renderingContext, tableExpressionRenderer);
+        queryExpression.joinModel().ifPresent(jm -> renderJoin(jm, renderingContext, tableExpressionRenderer));
+        queryExpression.whereModel().ifPresent(wm -> renderWhereClause(wm, renderingContext));
+        queryExpression.groupByModel().ifPresent(gbm -> renderingContext.append(spaceBefore(renderGroupBy(gbm))));
+    }
 
-        FragmentAndParameters renderedTable = renderTableExpression(queryExpression.table());
-        start += renderedTable.fragment();
+    private void renderQueryExpressionStart(RenderingContext renderingContext,
+                                            TableExpressionRenderer tableExpressionRenderer) {
+        renderingContext.append(spaceAfter(queryExpression.connector()))
+                .append("select ") //$NON-NLS-1$
+                .append(queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
+                .append(calculateColumnList())
+                .append(" from "); //$NON-NLS-1$
 
-        return FragmentAndParameters.withFragment(start)
-                .withParameters(renderedTable.parameters())
-                .build();
+        queryExpression.table().accept(tableExpressionRenderer);
     }
 
     private String calculateColumnList() {
@@ -150,46 +154,24 @@ public class QueryExpressionRenderer {
         return selectListItem.renderWithTableAndColumnAlias(tableAliasCalculator);
     }
 
-    private FragmentAndParameters renderTableExpression(TableExpression table) {
-        return table.accept(tableExpressionRenderer);
-    }
-
-    private FragmentAndParameters addJoinClause(FragmentAndParameters partial) {
-        return queryExpression.joinModel()
-                .map(this::renderJoin)
-                .map(fp -> partial.add(spaceBefore(fp.fragment()), fp.parameters()))
-                .orElse(partial);
-    }
-
-    private FragmentAndParameters renderJoin(JoinModel joinModel) {
-        return JoinRenderer.withJoinModel(joinModel)
+    private void renderJoin(JoinModel joinModel, RenderingContext renderingContext,
+                            TableExpressionRenderer tableExpressionRenderer) {
+        renderingContext.append(' ');
+        JoinRenderer.withJoinModel(joinModel)
                 .withTableExpressionRenderer(tableExpressionRenderer)
                 .withTableAliasCalculator(tableAliasCalculator)
+                .withRenderingContext(renderingContext)
                 .build()
                 .render();
     }
 
-    private FragmentAndParameters addWhereClause(FragmentAndParameters partial) {
-        return queryExpression.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> partial.add(spaceBefore(wc.getWhereClause()), wc.getParameters()))
-                .orElse(partial);
-    }
-
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
+    private void renderWhereClause(WhereModel whereModel, RenderingContext renderingContext) {
+        WhereRenderer.withWhereModel(whereModel)
                 .withRenderingStrategy(renderingStrategy)
                 .withTableAliasCalculator(tableAliasCalculator)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
-    }
-
-    private FragmentAndParameters addGroupByClause(FragmentAndParameters partial) {
-        return queryExpression.groupByModel()
-                .map(this::renderGroupBy)
-                .map(s -> partial.add(spaceBefore(s)))
-                .orElse(partial);
+                .renderWithSpaceBefore();
     }
 
     private String renderGroupBy(GroupByModel groupByModel) {
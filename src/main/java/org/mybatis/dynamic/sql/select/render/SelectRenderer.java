@@ -16,11 +16,11 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.OrderByModel;
@@ -28,20 +28,18 @@ import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class SelectRenderer {
     private final SelectModel selectModel;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final ParameterSequence sequence;
     private final TableAliasCalculator parentTableAliasCalculator; // may be null
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         if (builder.sequence == null) {
-            sequence = new AtomicInteger(1);
+            sequence = ParameterSequence.create();
         } else {
             sequence = builder.sequence;
         }
@@ -49,36 +47,46 @@ public class SelectRenderer {
     }
 
     public SelectStatementProvider render() {
-        FragmentCollector fragmentCollector = selectModel
-                .mapQueryExpressions(this::renderQueryExpression)
-                .collect(FragmentCollector.collect());
-        renderOrderBy(fragmentCollector);
-        renderPagingModel(fragmentCollector);
+        RenderingContext renderingContext = new RenderingContext(sequence);
+        render(renderingContext);
 
-        String selectStatement = fragmentCollector.fragments().collect(Collectors.joining(" ")); //$NON-NLS-1$
-
-        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
-                .withParameters(fragmentCollector.parameters())
+        return DefaultSelectStatementProvider.withSelectStatement(renderingContext.fragment())
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
-        return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
+    /**
+     * Appends the select statement to a rendering context. This is used when the select statement is
+     * part of another statement - for example, a sub query. The sequence of the rendering context is used
+     * rather than the sequence configured in the builder.
+     *
+     * @param renderingContext the rendering context to append to
+     */
+    public void render(RenderingContext renderingContext) {
+        int start = renderingContext.mark();
+        selectModel.mapQueryExpressions(Function.identity())
+                .forEachOrdered(qe -> renderQueryExpression(qe, renderingContext, start));
+        selectModel.orderByModel().ifPresent(om -> renderOrderBy(om, renderingContext));
+        selectModel.pagingModel().ifPresent(pm -> renderPagingModel(pm, renderingContext));
+    }
+
+    private void renderQueryExpression(QueryExpressionModel queryExpressionModel,
+                                       RenderingContext renderingContext, int start) {
+        if (renderingContext.mark() > start) {
+            renderingContext.append(' ');
+        }
+
+        QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
                 .withParentTableAliasCalculator(parentTableAliasCalculator)
                 .build()
-                .render();
-    }
-
-    private void renderOrderBy(FragmentCollector fragmentCollector) {
-        selectModel.orderByModel().ifPresent(om -> renderOrderBy(fragmentCollector, om));
+                .render(renderingContext);
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector, OrderByModel orderByModel) {
+    private void renderOrderBy(OrderByModel orderByModel, RenderingContext renderingContext) {
         String phrase = orderByModel.mapColumns(this::calculateOrderByPhrase)
                 .collect(CustomCollectors.joining(", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        fragmentCollector.add(FragmentAndParameters.withFragment(phrase).build());
+        renderingContext.append(' ').append(phrase);
     }
 
     private String calculateOrderByPhrase(SortSpecification column) {
@@ -89,16 +97,11 @@ public class SelectRenderer {
         return phrase;
     }
 
-    private void renderPagingModel(FragmentCollector fragmentCollector) {
-        selectModel.pagingModel().flatMap(this::renderPagingModel)
-            .ifPresent(fragmentCollector::add);
-    }
-
-    private Optional<FragmentAndParameters> renderPagingModel(PagingModel pagingModel) {
-        return new PagingModelRenderer.Builder()
+    private void renderPagingModel(PagingModel pagingModel, RenderingContext renderingContext) {
+        new PagingModelRenderer.Builder()
                 .withPagingModel(pagingModel)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build()
                 .render();
     }
@@ -18,63 +18,55 @@ package org.mybatis.dynamic.sql.select.render;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.SubQuery;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
-public class TableExpressionRenderer implements TableExpressionVisitor<FragmentAndParameters> {
+/**
+ * Renders a table expression directly into a {@link RenderingContext}. Each visit method appends the rendered
+ * table expression to the context and returns the same context.
+ */
+public class TableExpressionRenderer implements TableExpressionVisitor<RenderingContext> {
     private final TableAliasCalculator tableAliasCalculator;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     private TableExpressionRenderer(Builder builder) {
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
     }
 
     @Override
-    public FragmentAndParameters visit(SqlTable table) {
-        return FragmentAndParameters.withFragment(
-                tableAliasCalculator.aliasForTable(table)
-                        .map(a -> table.tableNameAtRuntime() + spaceBefore(a))
-                        .orElseGet(table::tableNameAtRuntime))
-                .build();
+    public RenderingContext visit(SqlTable table) {
+        renderingContext.append(table.tableNameAtRuntime());
+        tableAliasCalculator.aliasForTable(table)
+                .ifPresent(a -> renderingContext.append(spaceBefore(a)));
+        return renderingContext;
     }
 
     @Override
-    public FragmentAndParameters visit(SubQuery subQuery) {
-        SelectStatementProvider selectStatement = new SelectRenderer.Builder()
+    public RenderingContext visit(SubQuery subQuery) {
+        renderingContext.append('(');
+        new SelectRenderer.Builder()
                 .withSelectModel(subQuery.selectModel())
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
                 .build()
-                .render();
-
-        String fragment = "(" + selectStatement.getSelectStatement() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
-
-        fragment = applyAlias(fragment, subQuery);
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
-    }
+                .render(renderingContext);
+        renderingContext.append(')');
 
-    private String applyAlias(String fragment, SubQuery subQuery) {
-        return subQuery.alias()
-                .map(a -> fragment + spaceBefore(a))
-                .orElse(fragment);
+        subQuery.alias().ifPresent(a -> renderingContext.append(spaceBefore(a)));
+        return renderingContext;
     }
 
     public static class Builder {
         private TableAliasCalculator tableAliasCalculator;
         private RenderingStrategy renderingStrategy;
-        private AtomicInteger sequence;
+        private RenderingContext renderingContext;
 
         public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
             this.tableAliasCalculator = tableAliasCalculator;
@@ -86,8 +78,8 @@ public class TableExpressionRenderer implements TableExpressionVisitor<FragmentA
             return this;
         }
 
-        public Builder withSequence(AtomicInteger sequence) {
-            this.sequence = sequence;
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
             return this;
         }
 
@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.LateBoundParameter;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.select.SelectModel;
@@ -134,6 +135,18 @@ public class UpdateDSL<R> extends AbstractWhereSupport<UpdateDSL<R>.UpdateWhereB
             return UpdateDSL.this;
         }
 
+        /**
+         * Sets the column to a late bound parameter. The value is supplied when a prepared update template
+         * is bound.
+         *
+         * @param parameterName the name of the parameter
+         * @return this DSL
+         */
+        public UpdateDSL<R> equalToParameter(String parameterName) {
+            columnMappings.add(ValueMapping.ofParameter(column, LateBoundParameter.of(parameterName)));
+            return UpdateDSL.this;
+        }
+
         public UpdateDSL<R> equalToOrNull(T value) {
             return equalToOrNull(() -> value);
         }
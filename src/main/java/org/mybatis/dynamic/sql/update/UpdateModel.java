@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdateTemplate;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
@@ -67,6 +68,17 @@ public class UpdateModel {
                 .render();
     }
 
+    /**
+     * Renders the statement once into a template that can be bound to different values for late bound parameters.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a prepared template
+     */
+    @NotNull
+    public PreparedUpdateTemplate prepare(RenderingStrategy renderingStrategy) {
+        return PreparedUpdateTemplate.of(render(renderingStrategy));
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
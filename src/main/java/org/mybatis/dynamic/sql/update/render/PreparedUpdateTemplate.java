@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.render.LateBoundParameterBinder;
+
+/**
+ * An update statement that is rendered once and can be executed many times with different parameter values.
+ * The statement is built with late bound parameters (for example
+ * {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToParameter(String)}) and values are supplied for the
+ * parameters each time the template is bound. The template is immutable and thread safe.
+ *
+ * <pre>
+ * PreparedUpdateTemplate template = update(person)
+ *         .set(firstName).equalToParameter("firstName")
+ *         .where(id, isEqualToParameter("id"))
+ *         .build()
+ *         .prepare(RenderingStrategies.MYBATIS3);
+ * ...
+ * UpdateStatementProvider updateStatement = template.bind(parameterMap);
+ * </pre>
+ */
+public class PreparedUpdateTemplate {
+    private final String updateStatement;
+    private final LateBoundParameterBinder parameterBinder;
+
+    private PreparedUpdateTemplate(UpdateStatementProvider updateStatementProvider) {
+        updateStatement = updateStatementProvider.getUpdateStatement();
+        parameterBinder = LateBoundParameterBinder.of(updateStatementProvider.getParameters());
+    }
+
+    public String getUpdateStatement() {
+        return updateStatement;
+    }
+
+    public Set<String> parameterNames() {
+        return parameterBinder.parameterNames();
+    }
+
+    public UpdateStatementProvider bind(Map<String, ?> parameterValues) {
+        return DefaultUpdateStatementProvider.withUpdateStatement(updateStatement)
+                .withParameters(parameterBinder.bind(parameterValues))
+                .build();
+    }
+
+    public UpdateStatementProvider bind(Function<String, ?> parameterResolver) {
+        return DefaultUpdateStatementProvider.withUpdateStatement(updateStatement)
+                .withParameters(parameterBinder.bind(parameterResolver))
+                .build();
+    }
+
+    public static PreparedUpdateTemplate of(UpdateStatementProvider updateStatementProvider) {
+        return new PreparedUpdateTemplate(Objects.requireNonNull(updateStatementProvider));
+    }
+}
@@ -16,19 +16,16 @@
 package org.mybatis.dynamic.sql.update.render;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.NullMapping;
 import org.mybatis.dynamic.sql.util.SelectMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
@@ -37,15 +34,19 @@ import org.mybatis.dynamic.sql.util.ValueMapping;
 import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
 import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
 
-public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndParameters>> {
+/**
+ * Appends set phrases to a {@link RenderingContext}. Each visit method returns true if a set phrase
+ * was appended, or false if the mapping should not render.
+ */
+public class SetPhraseVisitor extends UpdateMappingVisitor<Boolean> {
 
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final Function<SqlColumn<?>, String> aliasedColumnNameFunction;
 
-    public SetPhraseVisitor(AtomicInteger sequence, RenderingStrategy renderingStrategy,
+    public SetPhraseVisitor(RenderingContext renderingContext, RenderingStrategy renderingStrategy,
                             TableAliasCalculator tableAliasCalculator) {
-        this.sequence = Objects.requireNonNull(sequence);
+        this.renderingContext = Objects.requireNonNull(renderingContext);
         this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
         Objects.requireNonNull(tableAliasCalculator);
         aliasedColumnNameFunction = c -> tableAliasCalculator.aliasForColumn(c.table())
@@ -54,89 +55,81 @@ public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndP
     }
 
     @Override
-    public Optional<FragmentAndParameters> visit(NullMapping mapping) {
-        return FragmentAndParameters
-                .withFragment(mapping.mapColumn(aliasedColumnNameFunction) + " = null") //$NON-NLS-1$
-                .buildOptional();
+    public Boolean visit(NullMapping mapping) {
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = null"); //$NON-NLS-1$
+        return true;
     }
 
     @Override
-    public Optional<FragmentAndParameters> visit(ConstantMapping mapping) {
-        String fragment = mapping.mapColumn(aliasedColumnNameFunction) + " = " + mapping.constant(); //$NON-NLS-1$
-        return FragmentAndParameters.withFragment(fragment)
-                .buildOptional();
+    public Boolean visit(ConstantMapping mapping) {
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = ") //$NON-NLS-1$
+                .append(mapping.constant());
+        return true;
     }
 
     @Override
-    public Optional<FragmentAndParameters> visit(StringConstantMapping mapping) {
-        String fragment = mapping.mapColumn(aliasedColumnNameFunction)
-                + " = '" //$NON-NLS-1$
-                + mapping.constant()
-                + "'"; //$NON-NLS-1$
-
-        return FragmentAndParameters.withFragment(fragment)
-                .buildOptional();
+    public Boolean visit(StringConstantMapping mapping) {
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = '") //$NON-NLS-1$
+                .append(mapping.constant())
+                .append('\'');
+        return true;
     }
 
     @Override
-    public <T> Optional<FragmentAndParameters> visit(ValueMapping<T> mapping) {
+    public <T> Boolean visit(ValueMapping<T> mapping) {
         return buildFragment(mapping, mapping.value());
     }
 
     @Override
-    public <T> Optional<FragmentAndParameters> visit(ValueOrNullMapping<T> mapping) {
+    public <T> Boolean visit(ValueOrNullMapping<T> mapping) {
         return mapping.value()
                 .map(v -> buildFragment(mapping, v))
-                .orElseGet(() -> FragmentAndParameters
-                        .withFragment(mapping.mapColumn(aliasedColumnNameFunction) + " = null") //$NON-NLS-1$
-                        .buildOptional()
-                );
+                .orElseGet(() -> {
+                    renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                            .append(" = null"); //$NON-NLS-1$
+                    return true;
+                });
     }
 
     @Override
-    public <T> Optional<FragmentAndParameters> visit(ValueWhenPresentMapping<T> mapping) {
-        return mapping.value().flatMap(v -> buildFragment(mapping, v));
+    public <T> Boolean visit(ValueWhenPresentMapping<T> mapping) {
+        return mapping.value()
+                .map(v -> buildFragment(mapping, v))
+                .orElse(false);
     }
 
     @Override
-    public Optional<FragmentAndParameters> visit(SelectMapping mapping) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(mapping.selectModel())
+    public Boolean visit(SelectMapping mapping) {
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = ("); //$NON-NLS-1$
+        SelectRenderer.withSelectModel(mapping.selectModel())
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
                 .build()
-                .render();
-
-        String fragment = mapping.mapColumn(aliasedColumnNameFunction)
-                + " = (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement()
-                + ")"; //$NON-NLS-1$
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .buildOptional();
+                .render(renderingContext);
+        renderingContext.append(')');
+        return true;
     }
 
     @Override
-    public Optional<FragmentAndParameters> visit(ColumnToColumnMapping mapping) {
-        String setPhrase = mapping.mapColumn(aliasedColumnNameFunction)
-                + " = "  //$NON-NLS-1$
-                + mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty());
-
-        return FragmentAndParameters.withFragment(setPhrase)
-                .buildOptional();
+    public Boolean visit(ColumnToColumnMapping mapping) {
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = ") //$NON-NLS-1$
+                .append(mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty()));
+        return true;
     }
 
-    private <T> Optional<FragmentAndParameters> buildFragment(AbstractColumnMapping mapping, T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+    private <T> boolean buildFragment(AbstractColumnMapping mapping, T value) {
+        String mapKey = renderingContext.nextMapKey();
 
         String jdbcPlaceholder = mapping.mapColumn(c -> calculateJdbcPlaceholder(c, mapKey));
-        String setPhrase = mapping.mapColumn(aliasedColumnNameFunction)
-                + " = "  //$NON-NLS-1$
-                + jdbcPlaceholder;
-
-        return FragmentAndParameters.withFragment(setPhrase)
-                .withParameter(mapKey, value)
-                .buildOptional();
+        renderingContext.append(mapping.mapColumn(aliasedColumnNameFunction))
+                .append(" = ") //$NON-NLS-1$
+                .append(jdbcPlaceholder)
+                .addParameter(mapKey, value);
+        return true;
     }
 
     private String calculateJdbcPlaceholder(SqlColumn<?> column, String parameterName) {
@@ -15,30 +15,23 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.update.UpdateModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class UpdateRenderer {
     private final UpdateModel updateModel;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence = new AtomicInteger(1);
+    private final RenderingContext renderingContext = new RenderingContext();
     private final TableAliasCalculator tableAliasCalculator;
 
     private UpdateRenderer(Builder builder) {
@@ -50,74 +43,50 @@ public class UpdateRenderer {
     }
 
     public UpdateStatementProvider render() {
-        SetPhraseVisitor visitor = new SetPhraseVisitor(sequence, renderingStrategy, tableAliasCalculator);
-
-        List<Optional<FragmentAndParameters>> fragmentsAndParameters =
-                updateModel.mapColumnMappings(m -> m.accept(visitor))
-                .collect(Collectors.toList());
-
-        return updateModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> renderWithWhereClause(fragmentsAndParameters, wc))
-                .orElseGet(() -> renderWithoutWhereClause(fragmentsAndParameters));
-    }
+        renderUpdateStatementStart();
+        renderSetPhrase();
+        updateModel.whereModel().ifPresent(this::renderWhereClause);
 
-    private UpdateStatementProvider renderWithWhereClause(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters, whereClause))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .withParameters(whereClause.getParameters())
+        return DefaultUpdateStatementProvider.withUpdateStatement(renderingContext.fragment())
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return calculateUpdateStatement(fragmentsAndParameters)
-                + spaceBefore(whereClause.getWhereClause());
-    }
-
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
+    private void renderUpdateStatementStart() {
         SqlTable table = updateModel.table();
-        String tableName = table.tableNameAtRuntime();
-        String aliasedTableName = tableAliasCalculator.aliasForTable(table)
-                .map(a -> tableName + " " + a).orElse(tableName); //$NON-NLS-1$
-
-        return "update" //$NON-NLS-1$
-                + spaceBefore(aliasedTableName)
-                + spaceBefore(calculateSetPhrase(fragmentsAndParameters));
+        renderingContext.append("update ") //$NON-NLS-1$
+                .append(table.tableNameAtRuntime());
+        tableAliasCalculator.aliasForTable(table)
+                .ifPresent(a -> renderingContext.append(' ').append(a));
     }
 
-    private UpdateStatementProvider renderWithoutWhereClause(
-            List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return DefaultUpdateStatementProvider.withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .build();
-    }
+    private void renderSetPhrase() {
+        SetPhraseVisitor visitor = new SetPhraseVisitor(renderingContext, renderingStrategy, tableAliasCalculator);
 
-    private String calculateSetPhrase(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::fragment)
-                .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        renderingContext.append(" set "); //$NON-NLS-1$
+        int start = renderingContext.mark();
+        updateModel.mapColumnMappings(Function.identity())
+                .forEachOrdered(m -> renderColumnMapping(m, visitor, start));
     }
 
-    private Map<String, Object> calculateParameters(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
+    private void renderColumnMapping(AbstractColumnMapping columnMapping, SetPhraseVisitor visitor, int start) {
+        int mark = renderingContext.mark();
+        if (mark > start) {
+            renderingContext.append(", "); //$NON-NLS-1$
+        }
+
+        if (!columnMapping.accept(visitor)) {
+            renderingContext.reset(mark);
+        }
     }
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
+    private void renderWhereClause(WhereModel whereModel) {
+        WhereRenderer.withWhereModel(whereModel)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .build()
-                .render();
+                .renderWithSpaceBefore();
     }
 
     public static Builder withUpdateModel(UpdateModel updateModel) {
@@ -0,0 +1,324 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * Coalesces selects of single keys into batched "in" queries. Callers request rows by key and receive a
+ * {@link CompletableFuture}. Keys are collected into a batch, the batch is executed as one select statement with an
+ * "in" condition, and the rows are split by key to complete the callers' futures:
+ *
+ * <pre>
+ * BatchLoader&lt;Integer, PersonRecord&gt; loader = BatchLoader.withSelectStatement(
+ *             (List&lt;Integer&gt; ids) -&gt; select(id, firstName, lastName).from(person).where(id, isIn(ids)))
+ *         .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+ *         .withQuery(mapper::selectMany)
+ *         .withKeyFunction(PersonRecord::getId)
+ *         .withBatchWindow(Duration.ofMillis(2), scheduler)
+ *         .build();
+ *
+ * CompletableFuture&lt;Optional&lt;PersonRecord&gt;&gt; fred = loader.load(1);
+ * CompletableFuture&lt;Optional&lt;PersonRecord&gt;&gt; barney = loader.load(4);
+ * </pre>
+ *
+ * <p>A batch is executed when:
+ *
+ * <ul>
+ *     <li>it holds the maximum batch size of distinct keys (100 by default)</li>
+ *     <li>the batch window has passed since the first key was added, if a batch window is configured</li>
+ *     <li>{@link #dispatch()} is called - for example at the end of an event loop tick</li>
+ * </ul>
+ *
+ * <p>Without a batch window, keys wait until the batch is full or is dispatched. Batches are executed with the
+ * configured executor. By default, a batch is executed on the thread that fills or dispatches it, or on the
+ * scheduler thread when the batch window passes.
+ *
+ * <p>The key function must return keys that are equal to the requested keys - watch for values that the database
+ * returns with a different type, such as a {@code Long} for an {@code Integer} key. Rows are shared by the callers
+ * that requested the same key and must not be modified. If the select statement fails, every future of the batch
+ * completes with the exception. Results are not cached - combine with {@link QueryResultCache} when that is needed.
+ *
+ * <p>Keys are only coalesced with keys requested through the same loader. Any thread may load keys or dispatch the
+ * pending batch - the pending batch is swapped under a lock, and batches are executed outside of it.
+ *
+ * @param <K> the type of key
+ * @param <T> the type of row
+ */
+public class BatchLoader<K, T> {
+    private final Function<List<K>, Buildable<SelectModel>> selectStatement;
+    private final RenderingStrategy renderingStrategy;
+    private final Function<SelectStatementProvider, List<T>> query;
+    private final Function<? super T, ? extends K> keyFunction;
+    private final int maxBatchSize;
+    private final Duration batchWindow;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private Batch<K, T> pendingBatch; // guarded by lock
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    private BatchLoader(Builder<K, T> builder) {
+        selectStatement = Objects.requireNonNull(builder.selectStatement);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        query = Objects.requireNonNull(builder.query);
+        keyFunction = Objects.requireNonNull(builder.keyFunction);
+        if (builder.maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be greater than zero"); //$NON-NLS-1$
+        }
+        maxBatchSize = builder.maxBatchSize;
+        batchWindow = builder.batchWindow;
+        scheduler = builder.scheduler;
+        executor = Objects.requireNonNull(builder.executor);
+    }
+
+    /**
+     * Loads the row with a key.
+     *
+     * @param key the key
+     * @return a future that completes with the row, or empty if there is no row with the key. The future completes
+     *     exceptionally with an {@link IllegalStateException} if there is more than one row with the key.
+     */
+    public CompletableFuture<Optional<T>> load(K key) {
+        return loadMany(key).thenApply(rows -> {
+            if (rows.size() > 1) {
+                throw new IllegalStateException("Expected one row for key " + key //$NON-NLS-1$
+                        + ", but found " + rows.size()); //$NON-NLS-1$
+            }
+            return rows.stream().findFirst();
+        });
+    }
+
+    /**
+     * Loads the rows with a key. Use this method when the key is not unique - for example a foreign key.
+     *
+     * @param key the key
+     * @return a future that completes with the rows with the key, in the order returned by the select statement
+     */
+    public CompletableFuture<List<T>> loadMany(K key) {
+        Objects.requireNonNull(key);
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        Batch<K, T> newBatch = null;
+        Batch<K, T> fullBatch = null;
+
+        synchronized (lock) {
+            if (pendingBatch == null) {
+                pendingBatch = new Batch<>();
+                newBatch = pendingBatch;
+            }
+            pendingBatch.add(key, future);
+            if (pendingBatch.size() >= maxBatchSize) {
+                fullBatch = pendingBatch;
+                pendingBatch = null;
+            }
+        }
+        loadCount.increment();
+
+        if (fullBatch != null) {
+            execute(fullBatch);
+        } else if (newBatch != null && scheduler != null) {
+            Batch<K, T> scheduledBatch = newBatch;
+            scheduler.schedule(() -> dispatch(scheduledBatch), batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * Executes the pending batch, if there is one.
+     */
+    public void dispatch() {
+        Batch<K, T> batch;
+        synchronized (lock) {
+            batch = pendingBatch;
+            pendingBatch = null;
+        }
+
+        if (batch != null) {
+            execute(batch);
+        }
+    }
+
+    private void dispatch(Batch<K, T> batch) {
+        synchronized (lock) {
+            if (pendingBatch != batch) {
+                // already executed
+                return;
+            }
+            pendingBatch = null;
+        }
+        execute(batch);
+    }
+
+    private void execute(Batch<K, T> batch) {
+        batchCount.increment();
+        try {
+            executor.execute(() -> run(batch));
+        } catch (RuntimeException e) {
+            batch.fail(e);
+        }
+    }
+
+    private void run(Batch<K, T> batch) {
+        Map<K, List<T>> rowsByKey;
+        try {
+            SelectStatementProvider selectStatementProvider = selectStatement.apply(batch.keys())
+                    .build()
+                    .render(renderingStrategy);
+            rowsByKey = query.apply(selectStatementProvider).stream()
+                    .collect(Collectors.groupingBy(keyFunction, LinkedHashMap::new, Collectors.toList()));
+        } catch (RuntimeException e) {
+            batch.fail(e);
+            return;
+        }
+        batch.complete(rowsByKey);
+    }
+
+    /**
+     * Returns the number of keys requested.
+     *
+     * @return the number of keys requested
+     */
+    public long loadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * Returns the number of batches executed. Each batch is one select statement.
+     *
+     * @return the number of batches executed
+     */
+    public long batchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Starts a builder with a function that builds the select statement for a batch of distinct keys. The select
+     * statement usually has a condition like {@code isIn(keys)} on the key column.
+     *
+     * @param selectStatement builds the select statement for a batch of keys
+     * @param <K> the type of key
+     * @param <T> the type of row
+     * @return a new builder
+     */
+    public static <K, T> Builder<K, T> withSelectStatement(
+            Function<List<K>, Buildable<SelectModel>> selectStatement) {
+        return new Builder<K, T>().withSelectStatement(selectStatement);
+    }
+
+    private static class Batch<K, T> {
+        private final Map<K, List<CompletableFuture<List<T>>>> futures = new LinkedHashMap<>();
+
+        private void add(K key, CompletableFuture<List<T>> future) {
+            futures.computeIfAbsent(key, k -> new ArrayList<>()).add(future);
+        }
+
+        private int size() {
+            return futures.size();
+        }
+
+        private List<K> keys() {
+            return new ArrayList<>(futures.keySet());
+        }
+
+        private void complete(Map<K, List<T>> rowsByKey) {
+            futures.forEach((key, keyFutures) -> {
+                List<T> rows = Collections.unmodifiableList(rowsByKey.getOrDefault(key, Collections.emptyList()));
+                keyFutures.forEach(f -> f.complete(rows));
+            });
+        }
+
+        private void fail(Throwable throwable) {
+            futures.values().forEach(keyFutures -> keyFutures.forEach(f -> f.completeExceptionally(throwable)));
+        }
+    }
+
+    public static class Builder<K, T> {
+        private Function<List<K>, Buildable<SelectModel>> selectStatement;
+        private RenderingStrategy renderingStrategy;
+        private Function<SelectStatementProvider, List<T>> query;
+        private Function<? super T, ? extends K> keyFunction;
+        private int maxBatchSize = 100;
+        private Duration batchWindow;
+        private ScheduledExecutorService scheduler;
+        private Executor executor = Runnable::run;
+
+        public Builder<K, T> withSelectStatement(Function<List<K>, Buildable<SelectModel>> selectStatement) {
+            this.selectStatement = selectStatement;
+            return this;
+        }
+
+        public Builder<K, T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public Builder<K, T> withQuery(Function<SelectStatementProvider, List<T>> query) {
+            this.query = query;
+            return this;
+        }
+
+        public Builder<K, T> withKeyFunction(Function<? super T, ? extends K> keyFunction) {
+            this.keyFunction = keyFunction;
+            return this;
+        }
+
+        public Builder<K, T> withMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Executes batches a fixed time after their first key is added.
+         *
+         * @param batchWindow the time to wait for more keys
+         * @param scheduler the scheduler that executes batches when the window passes
+         * @return this builder
+         */
+        public Builder<K, T> withBatchWindow(Duration batchWindow, ScheduledExecutorService scheduler) {
+            this.batchWindow = Objects.requireNonNull(batchWindow);
+            this.scheduler = Objects.requireNonNull(scheduler);
+            return this;
+        }
+
+        public Builder<K, T> withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public BatchLoader<K, T> build() {
+            return new BatchLoader<>(this);
+        }
+    }
+}
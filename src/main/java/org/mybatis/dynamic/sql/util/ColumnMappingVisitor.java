@@ -48,5 +48,7 @@ public interface ColumnMappingVisitor<R> {
 
     R visit(PropertyWhenPresentMapping mapping);
 
+    <T> R visit(PropertyAccessorMapping<T> mapping);
+
     R visit(ColumnToColumnMapping columnMapping);
 }
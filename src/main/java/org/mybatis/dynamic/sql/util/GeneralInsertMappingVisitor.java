@@ -31,6 +31,11 @@ public abstract class GeneralInsertMappingVisitor<R> implements ColumnMappingVis
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public final <T> R visit(PropertyAccessorMapping<T> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public final R visit(ColumnToColumnMapping columnMapping) {
         throw new UnsupportedOperationException();
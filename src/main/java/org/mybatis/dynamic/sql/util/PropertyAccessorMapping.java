@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Maps a column to a property of a row with an accessor function - typically a method reference like
+ * <code>Person::getFirstName</code>. Values are retrieved by calling the accessor rather than by reflection, and
+ * are added to the parameters of the rendered statement. The accessor returns the Java type of the column, so the
+ * parameter type converter of the column (if any) is applied to the value - as it is for general insert values.
+ *
+ * @param <T> the type of row the accessor applies to
+ */
+public class PropertyAccessorMapping<T> extends AbstractColumnMapping {
+    private final Function<? super T, ?> accessor;
+
+    private PropertyAccessorMapping(SqlColumn<?> column, Function<? super T, ?> accessor) {
+        super(column);
+        this.accessor = Objects.requireNonNull(accessor);
+    }
+
+    public Object value(T row) {
+        return accessor.apply(row);
+    }
+
+    @Override
+    public <R> R accept(ColumnMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static <T, F> PropertyAccessorMapping<T> of(SqlColumn<F> column,
+                                                      Function<? super T, ? extends F> accessor) {
+        Objects.requireNonNull(accessor);
+        return new PropertyAccessorMapping<>(column, row -> column.convertParameterType(accessor.apply(row)));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * An optional cache of select statement results. Results are cached by the rendered SQL, the parameters, and a
+ * result mapping key that identifies how rows are mapped to objects. Each result is tagged with the names of the
+ * tables read by the select statement (see {@link TableDependencies}), and is discarded when an insert, update, or
+ * delete statement executed through the cache writes one of those tables.
+ *
+ * <p>The cache is used by executing statements through the cache:
+ *
+ * <pre>
+ * QueryResultCache cache = QueryResultCache.of(500);
+ * ...
+ * List&lt;Color&gt; colors = cache.select(selectModel, RenderingStrategies.MYBATIS3, "colors",
+ *         mapper::selectMany);
+ * ...
+ * int rows = cache.write(TableDependencies.of(updateModel),
+ *         () -&gt; mapper.update(updateModel.render(RenderingStrategies.MYBATIS3)));
+ * </pre>
+ *
+ * <p><code>NamedParameterJdbcTemplateExtensions</code> created with a cache, and the <code>MyBatis3Utils</code>
+ * methods that accept a cache, execute select and write statements this way.
+ *
+ * <p>The cache only knows about writes executed through it. Statements executed any other way - by other
+ * applications, by stored procedures, by triggers, or with statement providers that have no model - must be
+ * followed by a call to {@link #invalidate(SqlTable)} or {@link #invalidateAll()}. The cache is not transaction
+ * aware: results read inside a transaction are visible to other threads before the transaction commits, and other
+ * threads can cache the old rows of a table written in a transaction until it commits. Callers that write inside a
+ * transaction should invalidate the written tables again when it completes. For Spring managed transactions,
+ * <code>NamedParameterJdbcTemplateExtensions</code> does this. The cache is best suited to tables that rarely change,
+ * such as reference data.
+ *
+ * <p>Cached results are shared between callers and must not be modified. The least recently used result is
+ * evicted when the cache is full. A result is not cached if one of its tables was invalidated while the select
+ * statement was executing.
+ *
+ * <p>Writes through one cache do not discard results held by another, so every thread that reads or writes the
+ * cached tables should use the same cache. Lookups and invalidations are synchronized, but the lock is not held
+ * while a statement executes - two threads that miss the same statement at the same time both execute it.
+ */
+public class QueryResultCache {
+    private final int maximumSize;
+    private final Map<StatementKey, CachedResult> cache;
+    private final Map<String, Set<StatementKey>> keysByTable = new HashMap<>();
+    private final Map<String, Long> tableInvalidations = new HashMap<>();
+    private long invalidationSequence;
+    private long allInvalidated;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    private QueryResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero"); //$NON-NLS-1$
+        }
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<StatementKey, CachedResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedResult> eldest) {
+                boolean remove = size() > QueryResultCache.this.maximumSize;
+                if (remove) {
+                    evictionCount.increment();
+                    unindex(eldest.getKey(), eldest.getValue());
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of a select statement, or renders and executes the statement and caches the
+     * result if there is none.
+     *
+     * <p>The result mapping key must distinguish executors that map the same SQL to different results - for
+     * example a list of records and a count. Keys are compared with {@link Object#equals(Object)}. The key can be
+     * a name for the mapping, such as a mapped statement id, or a row mapper instance that is reused. Do not use the
+     * class of a mapper: different instances of the same class, such as row mappers configured for different
+     * types or lambdas that capture different values, map rows differently.
+     *
+     * @param selectModel the select statement
+     * @param renderingStrategy the rendering strategy
+     * @param resultMapping a key that identifies how the executor maps rows
+     * @param executor executes the rendered statement
+     * @param <R> the type of result
+     * @return the result
+     */
+    public <R> R select(SelectModel selectModel, RenderingStrategy renderingStrategy, Object resultMapping,
+                        Function<SelectStatementProvider, R> executor) {
+        SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+        StatementKey key = new StatementKey(selectStatement, resultMapping);
+
+        long sequence;
+        synchronized (cache) {
+            CachedResult cachedResult = cache.get(key);
+            if (cachedResult != null) {
+                hitCount.increment();
+                @SuppressWarnings("unchecked")
+                R result = (R) cachedResult.result;
+                return result;
+            }
+            sequence = invalidationSequence;
+        }
+
+        missCount.increment();
+        R result = executor.apply(selectStatement);
+        put(key, new CachedResult(result, TableDependencies.of(selectModel).tableNames()), sequence);
+        return result;
+    }
+
+    /**
+     * Executes a statement that writes to a table, then discards the cached results that read any of the tables
+     * of the statement. The results are discarded even if the statement fails, because it may have partially
+     * succeeded.
+     *
+     * @param tableDependencies the tables of the statement
+     * @param statement executes the statement
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R write(TableDependencies tableDependencies, Supplier<R> statement) {
+        try {
+            return statement.get();
+        } finally {
+            invalidate(tableDependencies.tableNames());
+        }
+    }
+
+    /**
+     * Executes a statement that writes to unknown tables, then discards all cached results.
+     *
+     * @param statement executes the statement
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R write(Supplier<R> statement) {
+        try {
+            return statement.get();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    public void invalidate(SqlTable table) {
+        invalidate(Collections.singleton(table.tableNameAtRuntime()));
+    }
+
+    public void invalidate(TableDependencies tableDependencies) {
+        invalidate(tableDependencies.tableNames());
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            invalidationSequence++;
+            allInvalidated = invalidationSequence;
+            invalidationCount.add(cache.size());
+            cache.clear();
+            keysByTable.clear();
+        }
+    }
+
+    private void invalidate(Set<String> tableNames) {
+        synchronized (cache) {
+            invalidationSequence++;
+            for (String tableName : tableNames) {
+                tableInvalidations.put(tableName, invalidationSequence);
+                Set<StatementKey> keys = keysByTable.remove(tableName);
+                if (keys != null) {
+                    keys.forEach(this::remove);
+                }
+            }
+        }
+    }
+
+    private void put(StatementKey key, CachedResult cachedResult, long sequence) {
+        synchronized (cache) {
+            if (isInvalidatedSince(cachedResult.tableNames, sequence)) {
+                return;
+            }
+
+            CachedResult previous = cache.put(key, cachedResult);
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            cachedResult.tableNames.forEach(t -> keysByTable.computeIfAbsent(t, k -> new HashSet<>()).add(key));
+        }
+    }
+
+    private boolean isInvalidatedSince(Set<String> tableNames, long sequence) {
+        return allInvalidated > sequence || tableNames.stream()
+                .map(t -> tableInvalidations.getOrDefault(t, 0L))
+                .anyMatch(s -> s > sequence);
+    }
+
+    private void remove(StatementKey key) {
+        CachedResult cachedResult = cache.remove(key);
+        if (cachedResult != null) {
+            invalidationCount.increment();
+            unindex(key, cachedResult);
+        }
+    }
+
+    private void unindex(StatementKey key, CachedResult cachedResult) {
+        for (String tableName : cachedResult.tableNames) {
+            Set<StatementKey> keys = keysByTable.get(tableName);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTable.remove(tableName);
+                }
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * The number of cached results discarded because a table they read was written.
+     *
+     * @return the number of invalidated results
+     */
+    public long invalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            keysByTable.clear();
+        }
+    }
+
+    public static QueryResultCache of(int maximumSize) {
+        return new QueryResultCache(maximumSize);
+    }
+
+    private static class CachedResult {
+        private final Object result;
+        private final Set<String> tableNames;
+
+        private CachedResult(Object result, Set<String> tableNames) {
+            this.result = result;
+            this.tableNames = tableNames;
+        }
+    }
+}
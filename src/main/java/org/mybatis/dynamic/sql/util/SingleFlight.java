@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * Collapses identical select statements that execute at the same time. The first caller executes the statement,
+ * and callers that arrive with the same SQL, parameters, and result mapping key while it is executing wait for it
+ * and receive the same result (or the same exception). Nothing is kept after the statement completes - this is not
+ * a cache, it only protects the database from bursts of identical queries such as cache stampedes.
+ *
+ * <pre>
+ * SingleFlight singleFlight = new SingleFlight();
+ * ...
+ * List&lt;Color&gt; colors = singleFlight.select(selectStatement, "colors", mapper::selectMany);
+ * </pre>
+ *
+ * <p><code>NamedParameterJdbcTemplateExtensions.withSingleFlight</code> and the <code>MyBatis3Utils</code> methods
+ * that accept a single flight execute select and count statements through it.
+ *
+ * <p>Waiting callers share the result of a statement executed on another connection. Do not collapse statements
+ * that must see uncommitted writes of the caller's own transaction. Results are shared between callers and must not
+ * be modified. An executor must not execute the same statement through the same single flight again, because it
+ * would wait for itself.
+ *
+ * <p>Only statements executed through the same instance are collapsed, so threads that execute the same queries
+ * should share one single flight. Callers that arrive while a statement executes find it in a concurrent map - no
+ * lock is held while the statement executes.
+ */
+public class SingleFlight {
+    private final ConcurrentMap<StatementKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder collapsedCount = new LongAdder();
+
+    /**
+     * Executes a select statement, or waits for an identical statement that is executing and returns its result.
+     *
+     * <p>The result mapping key must distinguish executors that map the same SQL to different results - for
+     * example a list of records and a count. Keys are compared with {@link Object#equals(Object)}, so a row mapper
+     * instance or a name for the mapping works. The class of a mapper does not - callers with different mappers of
+     * the same class would receive each other's results.
+     *
+     * @param selectStatement the rendered select statement
+     * @param resultMapping a key that identifies how the executor maps rows
+     * @param executor executes the statement
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R select(SelectStatementProvider selectStatement, Object resultMapping,
+                        Function<SelectStatementProvider, R> executor) {
+        StatementKey key = new StatementKey(selectStatement, resultMapping);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existingFlight = inFlight.putIfAbsent(key, flight);
+        if (existingFlight != null) {
+            collapsedCount.increment();
+            return await(existingFlight);
+        }
+
+        executionCount.increment();
+        try {
+            R result = executor.apply(selectStatement);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R await(CompletableFuture<Object> flight) {
+        try {
+            return (R) flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of statements executed.
+     *
+     * @return the number of statements executed
+     */
+    public long executionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * Returns the number of calls that received the result of a statement executed for another caller.
+     *
+     * @return the number of collapsed calls
+     */
+    public long collapsedCount() {
+        return collapsedCount.sum();
+    }
+
+    /**
+     * Returns the number of statements executing now.
+     *
+     * @return the number of statements executing now
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * Identifies the result of a rendered select statement: the SQL, a copy of the parameters, and a result mapping key
+ * that identifies how rows are mapped to objects. Parameter values are compared deeply so that array parameters (for
+ * example from isInArray) match when their contents are equal.
+ */
+final class StatementKey {
+    private final String statement;
+    private final Map<String, Object> parameters;
+    private final Object resultMapping;
+    private final int hashCode;
+
+    StatementKey(SelectStatementProvider selectStatement, Object resultMapping) {
+        statement = selectStatement.getSelectStatement();
+        parameters = new HashMap<>(selectStatement.getParameters());
+        this.resultMapping = resultMapping;
+        hashCode = Objects.hash(statement, parametersHashCode(parameters), resultMapping);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StatementKey)) {
+            return false;
+        }
+        StatementKey other = (StatementKey) obj;
+        return statement.equals(other.statement)
+                && parametersEqual(parameters, other.parameters)
+                && Objects.equals(resultMapping, other.resultMapping);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private static boolean parametersEqual(Map<String, Object> parameters, Map<String, Object> otherParameters) {
+        if (parameters.size() != otherParameters.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (!otherParameters.containsKey(entry.getKey())
+                    || !Objects.deepEquals(entry.getValue(), otherParameters.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parametersHashCode(Map<String, Object> parameters) {
+        int answer = 0;
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            answer += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[] {entry.getValue()});
+        }
+        return answer;
+    }
+}
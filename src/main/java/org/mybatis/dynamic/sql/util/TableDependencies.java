@@ -0,0 +1,306 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.AbstractMultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * The tables a statement reads and writes. Tables are collected by walking the statement model, including the
+ * tables of joins, sub queries in the from clause or in join specifications, sub selects in conditions, exists
+ * predicates, unions, and select mappings in update statements.
+ *
+ * <p>Tables are collected from the model, whether or not a condition will render. Tables are compared by
+ * instance, so a table and an aliased copy of the table are different tables - use {@link #tableNames()} to
+ * compare tables by name.
+ */
+public class TableDependencies {
+    private final SqlTable writtenTable;
+    private final Set<SqlTable> readTables;
+
+    private TableDependencies(SqlTable writtenTable, Set<SqlTable> readTables) {
+        this.writtenTable = writtenTable;
+        this.readTables = Collections.unmodifiableSet(readTables);
+    }
+
+    /**
+     * The table written by an insert, update, or delete statement. Empty for a select statement.
+     *
+     * @return the written table
+     */
+    public Optional<SqlTable> writtenTable() {
+        return Optional.ofNullable(writtenTable);
+    }
+
+    /**
+     * The tables read by the statement in the order they appear in the model. The table written by an update or
+     * delete statement is not included unless it is also read by a sub query.
+     *
+     * @return the read tables
+     */
+    public Set<SqlTable> readTables() {
+        return readTables;
+    }
+
+    /**
+     * All tables read or written by the statement.
+     *
+     * @return the tables
+     */
+    public Set<SqlTable> tables() {
+        Set<SqlTable> tables = new LinkedHashSet<>();
+        writtenTable().ifPresent(tables::add);
+        tables.addAll(readTables);
+        return Collections.unmodifiableSet(tables);
+    }
+
+    /**
+     * The runtime names of all tables read or written by the statement.
+     *
+     * @return the table names
+     */
+    public Set<String> tableNames() {
+        return tables().stream()
+                .map(SqlTable::tableNameAtRuntime)
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new),
+                        Collections::unmodifiableSet));
+    }
+
+    public static TableDependencies of(SelectModel selectModel) {
+        Collector collector = new Collector();
+        collector.collectSelect(selectModel);
+        return new TableDependencies(null, collector.tables);
+    }
+
+    public static TableDependencies of(UpdateModel updateModel) {
+        Collector collector = new Collector();
+        updateModel.mapColumnMappings(Function.identity()).forEach(m -> m.accept(collector.updateMappingCollector));
+        updateModel.whereModel().ifPresent(collector::collectWhere);
+        return new TableDependencies(updateModel.table(), collector.tables);
+    }
+
+    public static TableDependencies of(DeleteModel deleteModel) {
+        Collector collector = new Collector();
+        deleteModel.whereModel().ifPresent(collector::collectWhere);
+        return new TableDependencies(deleteModel.table(), collector.tables);
+    }
+
+    public static TableDependencies of(InsertModel<?> insertModel) {
+        return new TableDependencies(insertModel.table(), new LinkedHashSet<>());
+    }
+
+    public static TableDependencies of(AbstractMultiRowInsertModel<?> insertModel) {
+        return new TableDependencies(insertModel.table(), new LinkedHashSet<>());
+    }
+
+    public static TableDependencies of(GeneralInsertModel insertModel) {
+        return new TableDependencies(insertModel.table(), new LinkedHashSet<>());
+    }
+
+    public static TableDependencies of(InsertSelectModel insertSelectModel) {
+        Collector collector = new Collector();
+        collector.collectSelect(insertSelectModel.selectModel());
+        return new TableDependencies(insertSelectModel.table(), collector.tables);
+    }
+
+    private static class Collector {
+        private final Set<SqlTable> tables = new LinkedHashSet<>();
+        private final TableExpressionCollector tableExpressionCollector = new TableExpressionCollector();
+        private final CriterionCollector criterionCollector = new CriterionCollector();
+        private final UpdateMappingCollector updateMappingCollector = new UpdateMappingCollector();
+
+        private void collectSelect(SelectModel selectModel) {
+            selectModel.mapQueryExpressions(Function.identity()).forEach(this::collectQueryExpression);
+        }
+
+        private void collectQueryExpression(QueryExpressionModel queryExpression) {
+            queryExpression.table().accept(tableExpressionCollector);
+            queryExpression.joinModel().ifPresent(jm -> jm.mapJoinSpecifications(JoinSpecification::table)
+                    .forEach(te -> te.accept(tableExpressionCollector)));
+            queryExpression.whereModel().ifPresent(this::collectWhere);
+        }
+
+        private void collectWhere(WhereModel whereModel) {
+            collectGroup(whereModel.initialCriterion(), whereModel.subCriteria());
+        }
+
+        private void collectGroup(Optional<SqlCriterion> initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+            initialCriterion.ifPresent(c -> c.accept(criterionCollector));
+            collectSubCriteria(subCriteria);
+        }
+
+        private void collectSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
+            subCriteria.forEach(sc -> collectGroup(sc.initialCriterion(), sc.subCriteria()));
+        }
+
+        private class TableExpressionCollector implements TableExpressionVisitor<Void> {
+            @Override
+            public Void visit(SqlTable table) {
+                tables.add(table);
+                return null;
+            }
+
+            @Override
+            public Void visit(SubQuery subQuery) {
+                collectSelect(subQuery.selectModel());
+                return null;
+            }
+        }
+
+        private class CriterionCollector implements SqlCriterionVisitor<Void> {
+            @Override
+            public <T> Void visit(ColumnAndConditionCriterion<T> criterion) {
+                criterion.condition().accept(new ConditionCollector<>());
+                collectSubCriteria(criterion.subCriteria());
+                return null;
+            }
+
+            @Override
+            public Void visit(ExistsCriterion criterion) {
+                collectSelect(criterion.existsPredicate().selectModelBuilder().build());
+                collectSubCriteria(criterion.subCriteria());
+                return null;
+            }
+
+            @Override
+            public Void visit(CriteriaGroup criterion) {
+                collectGroup(criterion.initialCriterion(), criterion.subCriteria());
+                return null;
+            }
+
+            @Override
+            public Void visit(NotCriterion criterion) {
+                collectGroup(criterion.initialCriterion(), criterion.subCriteria());
+                return null;
+            }
+        }
+
+        private class ConditionCollector<T> implements ConditionVisitor<T, Void> {
+            @Override
+            public Void visit(AbstractListValueCondition<T> condition) {
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractNoValueCondition<T> condition) {
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractSingleValueCondition<T> condition) {
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractTwoValueCondition<T> condition) {
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractSubselectCondition<T> condition) {
+                collectSelect(condition.selectModel());
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractColumnComparisonCondition<T> condition) {
+                return null;
+            }
+
+            @Override
+            public Void visit(AbstractArrayValueCondition<T> condition) {
+                return null;
+            }
+        }
+
+        private class UpdateMappingCollector extends UpdateMappingVisitor<Void> {
+            @Override
+            public Void visit(NullMapping mapping) {
+                return null;
+            }
+
+            @Override
+            public Void visit(ConstantMapping mapping) {
+                return null;
+            }
+
+            @Override
+            public Void visit(StringConstantMapping mapping) {
+                return null;
+            }
+
+            @Override
+            public <R> Void visit(ValueMapping<R> mapping) {
+                return null;
+            }
+
+            @Override
+            public <R> Void visit(ValueOrNullMapping<R> mapping) {
+                return null;
+            }
+
+            @Override
+            public <R> Void visit(ValueWhenPresentMapping<R> mapping) {
+                return null;
+            }
+
+            @Override
+            public Void visit(SelectMapping mapping) {
+                collectSelect(mapping.selectModel());
+                return null;
+            }
+
+            @Override
+            public Void visit(ColumnToColumnMapping columnMapping) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.sql.Statement;
+
+public interface UpdateCounts {
+
+    /**
+     * Calculates the number of rows inserted by a JDBC batch of single row insert statements. Drivers may report
+     * {@link Statement#SUCCESS_NO_INFO} for statements that succeeded - those statements are counted as one row.
+     *
+     * @param updateCounts the update counts returned by the batch
+     * @return the number of rows inserted
+     */
+    static long insertedRows(int[] updateCounts) {
+        long rows = 0;
+        for (int updateCount : updateCounts) {
+            rows += updateCount == Statement.SUCCESS_NO_INFO ? 1 : updateCount;
+        }
+        return rows;
+    }
+}
@@ -25,4 +25,9 @@ public abstract class UpdateMappingVisitor<R> implements ColumnMappingVisitor<R>
     public final R visit(PropertyWhenPresentMapping mapping) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public final <T> R visit(PropertyAccessorMapping<T> mapping) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -18,22 +18,21 @@ package org.mybatis.dynamic.sql.util;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import org.mybatis.dynamic.sql.LateBoundParameter;
 import org.mybatis.dynamic.sql.SqlColumn;
 
 public class ValueMapping<T> extends AbstractColumnMapping {
 
-    private final Supplier<T> valueSupplier;
-    // keep a reference to the column so we don't lose the type
-    private final SqlColumn<T> localColumn;
+    // supplies the value converted with the parameter type converter of the column
+    private final Supplier<Object> valueSupplier;
 
-    private ValueMapping(SqlColumn<T> column, Supplier<T> valueSupplier) {
+    private ValueMapping(SqlColumn<T> column, Supplier<Object> valueSupplier) {
         super(column);
         this.valueSupplier = Objects.requireNonNull(valueSupplier);
-        localColumn = Objects.requireNonNull(column);
     }
 
     public Object value() {
-        return localColumn.convertParameterType(valueSupplier.get());
+        return valueSupplier.get();
     }
 
     @Override
@@ -42,6 +41,20 @@ public class ValueMapping<T> extends AbstractColumnMapping {
     }
 
     public static <T> ValueMapping<T> of(SqlColumn<T> column, Supplier<T> valueSupplier) {
-        return new ValueMapping<>(column, valueSupplier);
+        Objects.requireNonNull(valueSupplier);
+        return new ValueMapping<>(column, () -> column.convertParameterType(valueSupplier.get()));
+    }
+
+    /**
+     * Creates a mapping whose value is supplied when a prepared statement template is bound.
+     *
+     * @param column the column
+     * @param parameter the late bound parameter
+     * @param <T> the type of the column
+     * @return a new mapping
+     */
+    public static <T> ValueMapping<T> ofParameter(SqlColumn<T> column, LateBoundParameter parameter) {
+        LateBoundParameter columnParameter = parameter.forColumn(column);
+        return new ValueMapping<>(column, () -> columnParameter);
     }
 }
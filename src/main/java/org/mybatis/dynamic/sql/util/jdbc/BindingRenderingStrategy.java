@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.insert.render.RowParameters;
+import org.mybatis.dynamic.sql.render.PositionalParameterRenderingStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * Renders positional placeholders and remembers the column of each placeholder, so parameters can be bound with
+ * a binder chosen from the column type. A new instance must be used for each statement that is rendered.
+ *
+ * <p>Parameters in the parameter map of a statement are remembered by their map key. Placeholders in insert
+ * statements are also remembered in the order they are rendered - they are either record properties, or parameters
+ * calculated with property accessors. Accessor parameters are numbered in the order they are rendered, so the
+ * position of a parameter placeholder is also the position of its value in the {@link RowParameters} of a row.
+ */
+class BindingRenderingStrategy extends PositionalParameterRenderingStrategy {
+    private final Map<String, ParameterBinder> parameterBinders = new HashMap<>();
+    private final List<RowPlaceholder> rowPlaceholders = new ArrayList<>();
+    private int rowParameterCount;
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        ParameterBinder binder = ParameterBinders.forColumn(column);
+        boolean parameter = RenderingStrategy.DEFAULT_PARAMETER_PREFIX.equals(prefix);
+        if (parameter) {
+            parameterBinders.put(parameterName, binder);
+        }
+        rowPlaceholders.add(new RowPlaceholder(parameterName, parameter ? rowParameterCount++ : -1, binder));
+        return super.getFormattedJdbcPlaceholder(column, prefix, parameterName);
+    }
+
+    @Override
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        parameterBinders.put(parameterName, ParameterBinders.forArrayOf(column));
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
+    @Override
+    public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        rowPlaceholders.add(new RowPlaceholder(parameterName, -1, ParameterBinders.forColumn(column)));
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
+    ParameterBinder binderFor(String parameterName) {
+        return parameterBinders.getOrDefault(parameterName, ParameterBinders.forValue());
+    }
+
+    List<RowPlaceholder> rowPlaceholders() {
+        return rowPlaceholders;
+    }
+
+    static class RowPlaceholder {
+        private final String name;
+        private final int parameterIndex;
+        private final ParameterBinder binder;
+
+        private RowPlaceholder(String name, int parameterIndex, ParameterBinder binder) {
+            this.name = name;
+            this.parameterIndex = parameterIndex;
+            this.binder = binder;
+        }
+
+        /**
+         * Returns the value of the placeholder for a row. The value is a property of the row, or a statement
+         * parameter calculated with a property accessor.
+         */
+        Object value(Object row, int rowIndex, Map<String, Object> parameters) {
+            if (parameterIndex < 0) {
+                return PropertyReader.read(row, name);
+            }
+            // the parameters of statements rendered by this strategy are always calculated by the insert renderers
+            return ((RowParameters) parameters).value(rowIndex, parameterIndex);
+        }
+
+        ParameterBinder binder() {
+            return binder;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Chooses the typed ResultSet getter for a column. This is the reading counterpart of {@link ParameterBinders}.
+ *
+ * <p>The reader for a column is chosen from the Java type of the column if it is one of the common value types
+ * (String, Integer, Long, Boolean, Double, BigDecimal, or one of the java.time types), then from the JDBC type of the
+ * column. Other columns - including columns that are not bindable, like functions and constants - are read with
+ * ResultSet.getObject(). Readers for wrapper types return null for SQL NULL values.
+ */
+public class ColumnReaders {
+    private static final Map<JDBCType, ColumnReader> READERS = new EnumMap<>(JDBCType.class);
+    private static final ColumnReader OBJECT_READER = ResultSet::getObject;
+
+    static {
+        for (JDBCType jdbcType : JDBCType.values()) {
+            READERS.put(jdbcType, createReader(jdbcType));
+        }
+    }
+
+    private ColumnReaders() {}
+
+    public static ColumnReader forColumn(BasicColumn column) {
+        if (!(column instanceof BindableColumn)) {
+            return OBJECT_READER;
+        }
+
+        BindableColumn<?> bindableColumn = (BindableColumn<?>) column;
+        ColumnReader jdbcTypeReader = bindableColumn.jdbcType()
+                .map(ColumnReaders::forJdbcType)
+                .orElse(OBJECT_READER);
+        return bindableColumn.javaType()
+                .map(javaType -> forJavaType(javaType, jdbcTypeReader))
+                .orElse(jdbcTypeReader);
+    }
+
+    public static ColumnReader forJdbcType(JDBCType jdbcType) {
+        return READERS.get(jdbcType);
+    }
+
+    /**
+     * Returns a reader for a Java type. Readers for primitive types return the default value of the type
+     * for SQL NULL values. Types that are not known return the reader that calls ResultSet.getObject().
+     *
+     * @param javaType the Java type
+     * @return a reader for the type
+     */
+    public static ColumnReader forJavaType(Class<?> javaType) {
+        return forJavaType(javaType, OBJECT_READER);
+    }
+
+    static ColumnReader forJavaType(Class<?> javaType, ColumnReader defaultReader) {
+        if (javaType == String.class) {
+            return ResultSet::getString;
+        } else if (javaType == Integer.class) {
+            return forJdbcType(JDBCType.INTEGER);
+        } else if (javaType == int.class) {
+            return ResultSet::getInt;
+        } else if (javaType == Long.class) {
+            return forJdbcType(JDBCType.BIGINT);
+        } else if (javaType == long.class) {
+            return ResultSet::getLong;
+        } else if (javaType == Boolean.class) {
+            return forJdbcType(JDBCType.BOOLEAN);
+        } else if (javaType == boolean.class) {
+            return ResultSet::getBoolean;
+        } else if (javaType == Double.class) {
+            return forJdbcType(JDBCType.DOUBLE);
+        } else if (javaType == double.class) {
+            return ResultSet::getDouble;
+        } else if (javaType == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        } else if (javaType == LocalDate.class || javaType == LocalDateTime.class || javaType == LocalTime.class
+                || javaType == OffsetDateTime.class) {
+            return (rs, index) -> rs.getObject(index, javaType);
+        } else {
+            return defaultReader;
+        }
+    }
+
+    private static ColumnReader createReader(JDBCType jdbcType) {
+        switch (jdbcType) {
+        case INTEGER:
+            return (rs, index) -> {
+                int value = rs.getInt(index);
+                return rs.wasNull() ? null : value;
+            };
+        case BIGINT:
+            return (rs, index) -> {
+                long value = rs.getLong(index);
+                return rs.wasNull() ? null : value;
+            };
+        case CHAR:
+        case VARCHAR:
+        case LONGVARCHAR:
+        case NCHAR:
+        case NVARCHAR:
+        case LONGNVARCHAR:
+        case CLOB:
+        case NCLOB:
+            return ResultSet::getString;
+        case BIT:
+        case BOOLEAN:
+            return (rs, index) -> {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? null : value;
+            };
+        case DECIMAL:
+        case NUMERIC:
+            return ResultSet::getBigDecimal;
+        case FLOAT:
+        case DOUBLE:
+            return (rs, index) -> {
+                double value = rs.getDouble(index);
+                return rs.wasNull() ? null : value;
+            };
+        case DATE:
+            return ResultSet::getDate;
+        case TIME:
+            return ResultSet::getTime;
+        case TIMESTAMP:
+            return ResultSet::getTimestamp;
+        case BINARY:
+        case VARBINARY:
+        case LONGVARBINARY:
+            return ResultSet::getBytes;
+        default:
+            return OBJECT_READER;
+        }
+    }
+}
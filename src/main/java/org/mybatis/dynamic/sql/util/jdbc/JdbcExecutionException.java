@@ -0,0 +1,32 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+/**
+ * Thrown when a statement cannot be executed by {@link JdbcExecutor}. If the statement failed in the database,
+ * the cause is the {@link java.sql.SQLException} thrown by the driver.
+ */
+public class JdbcExecutionException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public JdbcExecutionException(String message) {
+        super(message);
+    }
+
+    public JdbcExecutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.UpdateCounts;
+import org.mybatis.dynamic.sql.util.jdbc.BindingRenderingStrategy.RowPlaceholder;
+
+/**
+ * Executes statements with plain JDBC - without MyBatis or Spring.
+ *
+ * <p>When a statement is executed from its model (a {@link Buildable}), the statement is rendered with positional
+ * placeholders and each parameter is bound with a typed setter chosen from the JDBC type (or Java type) of its
+ * column. See {@link ParameterBinders} for details. Statements that were already rendered must have been
+ * rendered with {@link org.mybatis.dynamic.sql.render.RenderingStrategies#POSITIONAL_PARAMETER} - their
+ * parameters are bound with a setter chosen from the class of each value.
+ *
+ * <p>Insert statements that take values from records (single record, multi-row, and batch inserts) can only be
+ * executed from their models because the record properties for the placeholders are only known while the statement
+ * is rendered.
+ *
+ * <p>An executor created with a DataSource obtains a connection for each statement and closes it after the
+ * statement has executed. An executor created with a Connection uses that connection for all statements and never
+ * closes or commits it - the caller is responsible for transactions.
+ */
+public class JdbcExecutor {
+    private final DataSource dataSource;
+    private final Connection connection;
+
+    public JdbcExecutor(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.connection = null;
+    }
+
+    public JdbcExecutor(Connection connection) {
+        this.dataSource = null;
+        this.connection = Objects.requireNonNull(connection);
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        Long count = selectOne(countStatement, RowMappers.longValue()).orElse(null);
+        return count == null ? 0 : count;
+    }
+
+    public long count(SelectStatementProvider countStatement) {
+        Long count = selectOne(countStatement, RowMappers.longValue()).orElse(null);
+        return count == null ? 0 : count;
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        SelectStatementProvider provider = selectStatement.build().render(renderingStrategy);
+        return query(provider.getSelectStatement(), bindParameters(provider.getParameters(), renderingStrategy),
+                rowMapper, Integer.MAX_VALUE);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return query(selectStatement.getSelectStatement(), bindValues(selectStatement.getOrderedParameters()),
+                rowMapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executes a select statement and maps each row with a function. The columns of each row are read by position
+     * with the typed getters of the columns in the select list - see
+     * {@link RowMappers#forSelectList(SelectModel, Function)}.
+     *
+     * @param selectStatement the select statement
+     * @param rowFunction a function that creates an object from the values of a row
+     * @param <T> the type of object created for each row
+     * @return the mapped rows
+     */
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, Function<Row, T> rowFunction) {
+        SelectModel selectModel = selectStatement.build();
+        return selectList(() -> selectModel, RowMappers.forSelectList(selectModel, rowFunction));
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        SelectStatementProvider provider = selectStatement.build().render(renderingStrategy);
+        return selectOne(provider.getSelectStatement(),
+                bindParameters(provider.getParameters(), renderingStrategy), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, Function<Row, T> rowFunction) {
+        SelectModel selectModel = selectStatement.build();
+        return selectOne(() -> selectModel, RowMappers.forSelectList(selectModel, rowFunction));
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return selectOne(selectStatement.getSelectStatement(), bindValues(selectStatement.getOrderedParameters()),
+                rowMapper);
+    }
+
+    private <T> Optional<T> selectOne(String sql, StatementBinder binder, RowMapper<T> rowMapper) {
+        List<T> rows = query(sql, binder, rowMapper, 2);
+        if (rows.size() > 1) {
+            throw new JdbcExecutionException(
+                    "Expected one row or none, but the statement returned more than one: " + sql); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        UpdateStatementProvider provider = updateStatement.build().render(renderingStrategy);
+        return executeUpdate(provider.getUpdateStatement(),
+                bindParameters(provider.getParameters(), renderingStrategy));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return executeUpdate(updateStatement.getUpdateStatement(),
+                bindValues(updateStatement.getOrderedParameters()));
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        DeleteStatementProvider provider = deleteStatement.build().render(renderingStrategy);
+        return executeUpdate(provider.getDeleteStatement(),
+                bindParameters(provider.getParameters(), renderingStrategy));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) {
+        return executeUpdate(deleteStatement.getDeleteStatement(),
+                bindValues(deleteStatement.getOrderedParameters()));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        GeneralInsertStatementProvider provider = insertStatement.build().render(renderingStrategy);
+        return executeUpdate(provider.getInsertStatement(),
+                bindParameters(provider.getParameters(), renderingStrategy));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) {
+        return executeUpdate(insertStatement.getInsertStatement(),
+                bindValues(insertStatement.getOrderedParameters()));
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        InsertStatementProvider<T> provider = insertStatement.build().render(renderingStrategy);
+        List<RowPlaceholder> placeholders = renderingStrategy.rowPlaceholders();
+        return executeUpdate(provider.getInsertStatement(),
+                ps -> bindRecord(ps, 1, provider.getRow(), 0, provider.getParameters(), placeholders));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        MultiRowInsertStatementProvider<T> provider = insertStatement.build().render(renderingStrategy);
+        return executeUpdate(provider.getInsertStatement(),
+                bindRecords(provider, renderingStrategy.rowPlaceholders()));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, MultiRowInsertLimits limits) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        List<MultiRowInsertStatementProvider<T>> providers =
+                insertStatement.build().renderInChunks(renderingStrategy, limits);
+        List<RowPlaceholder> placeholders = renderingStrategy.rowPlaceholders();
+        int rows = 0;
+        for (MultiRowInsertStatementProvider<T> provider : providers) {
+            rows += executeUpdate(provider.getInsertStatement(), bindRecords(provider, placeholders));
+        }
+        return rows;
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        BatchInsert<T> batchInsert = insertStatement.build().render(renderingStrategy);
+        List<RowPlaceholder> placeholders = renderingStrategy.rowPlaceholders();
+        return execute(batchInsert.getInsertStatementSQL(), ps -> {
+            for (InsertStatementProvider<T> row : batchInsert.insertStatements()) {
+                bindRecord(ps, 1, row.getRow(), 0, row.getParameters(), placeholders);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        });
+    }
+
+    public <T> long insertBatch(Buildable<BatchInsertModel<T>> insertStatement, int chunkSize) {
+        BindingRenderingStrategy renderingStrategy = new BindingRenderingStrategy();
+        BatchInsert<T> batchInsert = insertStatement.build().render(renderingStrategy);
+        List<RowPlaceholder> placeholders = renderingStrategy.rowPlaceholders();
+        return execute(batchInsert.getInsertStatementSQL(), ps -> {
+            long rows = 0;
+            Iterator<List<InsertStatementProvider<T>>> chunks = batchInsert.insertStatements(chunkSize).iterator();
+            while (chunks.hasNext()) {
+                for (InsertStatementProvider<T> row : chunks.next()) {
+                    bindRecord(ps, 1, row.getRow(), 0, row.getParameters(), placeholders);
+                    ps.addBatch();
+                }
+                rows += UpdateCounts.insertedRows(ps.executeBatch());
+            }
+            return rows;
+        });
+    }
+
+    private static StatementBinder bindParameters(Map<String, Object> parameters,
+                                                  BindingRenderingStrategy renderingStrategy) {
+        String[] keys = PositionalParameters.orderedKeys(parameters);
+        return ps -> {
+            for (int i = 0; i < keys.length; i++) {
+                renderingStrategy.binderFor(keys[i]).bind(ps, i + 1, parameters.get(keys[i]));
+            }
+        };
+    }
+
+    private static <T> StatementBinder bindRecords(MultiRowInsertStatementProvider<T> provider,
+                                                   List<RowPlaceholder> placeholders) {
+        return ps -> {
+            int parameterIndex = 1;
+            List<T> rows = provider.getRecords();
+            for (int i = 0; i < rows.size(); i++) {
+                parameterIndex = bindRecord(ps, parameterIndex, rows.get(i), i, provider.getParameters(),
+                        placeholders);
+            }
+        };
+    }
+
+    private static StatementBinder bindValues(Object[] values) {
+        ParameterBinder binder = ParameterBinders.forValue();
+        return ps -> {
+            for (int i = 0; i < values.length; i++) {
+                binder.bind(ps, i + 1, values[i]);
+            }
+        };
+    }
+
+    private static int bindRecord(PreparedStatement ps, int firstIndex, Object row, int rowIndex,
+                                  Map<String, Object> parameters, List<RowPlaceholder> placeholders)
+            throws SQLException {
+        int parameterIndex = firstIndex;
+        for (RowPlaceholder placeholder : placeholders) {
+            placeholder.binder().bind(ps, parameterIndex++, placeholder.value(row, rowIndex, parameters));
+        }
+        return parameterIndex;
+    }
+
+    private <T> List<T> query(String sql, StatementBinder binder, RowMapper<T> rowMapper, int maxRows) {
+        return execute(sql, ps -> {
+            binder.bind(ps);
+            List<T> rows = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                int rowNumber = 0;
+                while (rowNumber < maxRows && rs.next()) {
+                    rows.add(rowMapper.mapRow(rs, rowNumber++));
+                }
+            }
+            return rows;
+        });
+    }
+
+    private int executeUpdate(String sql, StatementBinder binder) {
+        return execute(sql, ps -> {
+            binder.bind(ps);
+            return ps.executeUpdate();
+        });
+    }
+
+    private <R> R execute(String sql, StatementCallback<R> callback) {
+        try {
+            Connection conn = dataSource == null ? connection : dataSource.getConnection();
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                return callback.doInStatement(ps);
+            } finally {
+                if (dataSource != null) {
+                    conn.close();
+                }
+            }
+        } catch (SQLException e) {
+            throw new JdbcExecutionException("Error executing statement: " + sql, e); //$NON-NLS-1$
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<R> {
+        R doInStatement(PreparedStatement ps) throws SQLException;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Parameter binders that call the typed setters of {@link PreparedStatement}.
+ *
+ * <p>Binders for a JDBC type call the setter that matches the type (setInt for INTEGER, setString for VARCHAR, etc.)
+ * when the value has the expected Java type. Other values - for example values that were changed by a parameter type
+ * converter - are bound with setObject and the target SQL type, so the driver never has to guess the type.
+ *
+ * <p>When there is no type information for a parameter, the value binder chooses a setter from the class of the value.
+ */
+public class ParameterBinders {
+    private static final Map<JDBCType, ParameterBinder> BINDERS = new EnumMap<>(JDBCType.class);
+    private static final ParameterBinder VALUE_BINDER = ParameterBinders::bindValue;
+
+    static {
+        for (JDBCType jdbcType : JDBCType.values()) {
+            BINDERS.put(jdbcType, createBinder(jdbcType));
+        }
+    }
+
+    private ParameterBinders() {}
+
+    /**
+     * Returns a binder for a column. The binder is chosen from the JDBC type of the column, or from the Java type
+     * of the column if there is no JDBC type.
+     *
+     * @param column the column
+     * @return a binder for the column
+     */
+    public static ParameterBinder forColumn(BindableColumn<?> column) {
+        return column.jdbcType()
+                .map(ParameterBinders::forJdbcType)
+                .orElseGet(() -> column.javaType().map(ParameterBinders::forJavaType).orElse(VALUE_BINDER));
+    }
+
+    /**
+     * Returns a binder for a parameter that binds an array of values for the column - for example the
+     * parameter of an "= any(?)" condition. Arrays of objects are bound as JDBC arrays of the column's JDBC type.
+     *
+     * @param column the column
+     * @return a binder for an array of column values
+     */
+    public static ParameterBinder forArrayOf(BindableColumn<?> column) {
+        return column.jdbcType()
+                .<ParameterBinder>map(jdbcType -> (ps, index, value) -> {
+                    if (value instanceof Object[]) {
+                        Array array = ps.getConnection().createArrayOf(jdbcType.getName(), (Object[]) value);
+                        ps.setArray(index, array);
+                    } else {
+                        bindValue(ps, index, value);
+                    }
+                })
+                .orElse(VALUE_BINDER);
+    }
+
+    public static ParameterBinder forJdbcType(JDBCType jdbcType) {
+        return BINDERS.get(jdbcType);
+    }
+
+    /**
+     * Returns the binder that chooses a setter from the class of each value.
+     *
+     * @return the value binder
+     */
+    public static ParameterBinder forValue() {
+        return VALUE_BINDER;
+    }
+
+    private static ParameterBinder forJavaType(Class<?> javaType) {
+        if (javaType == String.class) {
+            return forJdbcType(JDBCType.VARCHAR);
+        } else if (javaType == Integer.class) {
+            return forJdbcType(JDBCType.INTEGER);
+        } else if (javaType == Long.class) {
+            return forJdbcType(JDBCType.BIGINT);
+        } else if (javaType == Boolean.class) {
+            return forJdbcType(JDBCType.BOOLEAN);
+        } else if (javaType == BigDecimal.class) {
+            return forJdbcType(JDBCType.DECIMAL);
+        } else if (javaType == Double.class) {
+            return forJdbcType(JDBCType.DOUBLE);
+        } else {
+            return VALUE_BINDER;
+        }
+    }
+
+    private static ParameterBinder createBinder(JDBCType jdbcType) {
+        int sqlType = jdbcType.getVendorTypeNumber();
+        switch (jdbcType) {
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+            return (ps, index, value) -> {
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    ps.setInt(index, ((Number) value).intValue());
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case BIGINT:
+            return (ps, index, value) -> {
+                if (value instanceof Long || value instanceof Integer || value instanceof Short
+                        || value instanceof Byte) {
+                    ps.setLong(index, ((Number) value).longValue());
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case CHAR:
+        case VARCHAR:
+        case LONGVARCHAR:
+        case NCHAR:
+        case NVARCHAR:
+        case LONGNVARCHAR:
+        case CLOB:
+        case NCLOB:
+            return (ps, index, value) -> {
+                if (value instanceof String) {
+                    ps.setString(index, (String) value);
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case BIT:
+        case BOOLEAN:
+            return (ps, index, value) -> {
+                if (value instanceof Boolean) {
+                    ps.setBoolean(index, (Boolean) value);
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case DECIMAL:
+        case NUMERIC:
+            return (ps, index, value) -> {
+                if (value instanceof BigDecimal) {
+                    ps.setBigDecimal(index, (BigDecimal) value);
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case FLOAT:
+        case DOUBLE:
+            return (ps, index, value) -> {
+                if (value instanceof Double || value instanceof Float) {
+                    ps.setDouble(index, ((Number) value).doubleValue());
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case REAL:
+            return (ps, index, value) -> {
+                if (value instanceof Float) {
+                    ps.setFloat(index, (Float) value);
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case DATE:
+            return (ps, index, value) -> {
+                if (value instanceof Date) {
+                    ps.setDate(index, (Date) value);
+                } else if (value instanceof LocalDate) {
+                    ps.setDate(index, Date.valueOf((LocalDate) value));
+                } else if (value instanceof java.util.Date) {
+                    ps.setDate(index, new Date(((java.util.Date) value).getTime()));
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case TIME:
+            return (ps, index, value) -> {
+                if (value instanceof Time) {
+                    ps.setTime(index, (Time) value);
+                } else if (value instanceof LocalTime) {
+                    ps.setTime(index, Time.valueOf((LocalTime) value));
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case TIMESTAMP:
+            return (ps, index, value) -> {
+                if (value instanceof Timestamp) {
+                    ps.setTimestamp(index, (Timestamp) value);
+                } else if (value instanceof LocalDateTime) {
+                    ps.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+                } else if (value instanceof java.util.Date) {
+                    ps.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        case BINARY:
+        case VARBINARY:
+        case LONGVARBINARY:
+        case BLOB:
+            return (ps, index, value) -> {
+                if (value instanceof byte[]) {
+                    ps.setBytes(index, (byte[]) value);
+                } else {
+                    bindObject(ps, index, value, sqlType);
+                }
+            };
+        default:
+            return (ps, index, value) -> bindObject(ps, index, value, sqlType);
+        }
+    }
+
+    private static void bindObject(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    private static void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value instanceof String) {
+            ps.setString(index, (String) value);
+        } else if (value instanceof Integer) {
+            ps.setInt(index, (Integer) value);
+        } else if (value instanceof Long) {
+            ps.setLong(index, (Long) value);
+        } else if (value instanceof Boolean) {
+            ps.setBoolean(index, (Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            ps.setBigDecimal(index, (BigDecimal) value);
+        } else if (value instanceof Double) {
+            ps.setDouble(index, (Double) value);
+        } else if (value instanceof Timestamp) {
+            ps.setTimestamp(index, (Timestamp) value);
+        } else if (value instanceof Date) {
+            ps.setDate(index, (Date) value);
+        } else if (value instanceof Time) {
+            ps.setTime(index, (Time) value);
+        } else if (value instanceof java.util.Date) {
+            ps.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        } else if (value instanceof byte[]) {
+            ps.setBytes(index, (byte[]) value);
+        } else {
+            // nulls, arrays, java.time types, and other values are left to the driver
+            ps.setObject(index, value);
+        }
+    }
+}
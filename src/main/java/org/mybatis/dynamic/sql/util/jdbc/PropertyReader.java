@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads property values from records for insert statements. Getter methods are looked up once for each class
+ * and property and then reused. Records may also be Maps, in which case the property name is used as a key.
+ * Nested properties are separated by periods.
+ */
+class PropertyReader {
+    private static final Map<Class<?>, Map<String, Method>> GETTERS = new ConcurrentHashMap<>();
+
+    private PropertyReader() {}
+
+    static Object read(Object record, String property) {
+        Object value = record;
+        int start = 0;
+        while (value != null) {
+            int end = property.indexOf('.', start);
+            String name = end < 0 ? property.substring(start) : property.substring(start, end);
+            value = readSimpleProperty(value, name);
+            if (end < 0) {
+                return value;
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static Object readSimpleProperty(Object object, String name) {
+        if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(name);
+        }
+
+        Method getter = GETTERS.computeIfAbsent(object.getClass(), PropertyReader::findGetters).get(name);
+        if (getter == null) {
+            throw new JdbcExecutionException("There is no getter for property \"" + name //$NON-NLS-1$
+                    + "\" in class " + object.getClass().getName()); //$NON-NLS-1$
+        }
+
+        try {
+            return getter.invoke(object);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new JdbcExecutionException("Error reading property \"" + name //$NON-NLS-1$
+                    + "\" of class " + object.getClass().getName(), e); //$NON-NLS-1$
+        }
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        try {
+            Map<String, Method> getters = new ConcurrentHashMap<>();
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                Method readMethod = descriptor.getReadMethod();
+                if (readMethod != null) {
+                    readMethod.setAccessible(true);
+                    getters.put(descriptor.getName(), readMethod);
+                }
+            }
+            return getters;
+        } catch (IntrospectionException e) {
+            throw new JdbcExecutionException("Error introspecting class " + type.getName(), e); //$NON-NLS-1$
+        }
+    }
+}
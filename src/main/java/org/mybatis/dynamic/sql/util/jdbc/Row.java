@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * The values of a single row of a result set, read by position with the typed getters of the columns in the
+ * select list. See {@link RowMappers#forSelectList(org.mybatis.dynamic.sql.select.SelectModel,
+ * java.util.function.Function)}.
+ *
+ * <p>Values can be retrieved by their position in the select list (starting at 1, like JDBC column indexes), or by
+ * the column in the select list. A column can be specified without its alias - a column that is not in the select
+ * list is matched to a column of the select list with the same table and name.
+ *
+ * <p>Values are read with the getter for the type of the column, so the value of a column with a parameter type
+ * converter is the database value rather than the Java type of the column. Such values should be retrieved by
+ * position and converted by the caller.
+ */
+public final class Row {
+    private final Object[] values;
+    private final List<BasicColumn> selectList;
+    private final Map<BasicColumn, Integer> positions;
+
+    Row(Object[] values, List<BasicColumn> selectList, Map<BasicColumn, Integer> positions) {
+        this.values = Objects.requireNonNull(values);
+        this.selectList = Objects.requireNonNull(selectList);
+        this.positions = Objects.requireNonNull(positions);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(int columnIndex) {
+        return (T) values[columnIndex - 1];
+    }
+
+    public <T> T get(BindableColumn<T> column) {
+        return get(indexOf(column));
+    }
+
+    private int indexOf(BindableColumn<?> column) {
+        Integer position = positions.get(column);
+        if (position != null) {
+            return position;
+        }
+
+        if (column instanceof SqlColumn) {
+            SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+            for (int i = 0; i < selectList.size(); i++) {
+                BasicColumn selectColumn = selectList.get(i);
+                if (selectColumn instanceof SqlColumn && isSameColumn(sqlColumn, (SqlColumn<?>) selectColumn)) {
+                    return i + 1;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("The column is not in the select list"); //$NON-NLS-1$
+    }
+
+    private boolean isSameColumn(SqlColumn<?> column1, SqlColumn<?> column2) {
+        return column1.table() == column2.table() && column1.name().equals(column2.name());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * Common row mappers for use with {@link JdbcExecutor}.
+ */
+public class RowMappers {
+    private RowMappers() {}
+
+    /**
+     * Returns a row mapper that maps a row to a Map of column labels and values. Values are retrieved with
+     * ResultSet.getObject(), so the Java types of the values are determined by the JDBC driver.
+     *
+     * @return a row mapper
+     */
+    public static RowMapper<Map<String, Object>> toMap() {
+        return (rs, rowNumber) -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 1; i <= columnCount; i++) {
+                row.put(metaData.getColumnLabel(i), rs.getObject(i));
+            }
+            return row;
+        };
+    }
+
+    public static RowMapper<Integer> integerValue() {
+        return (rs, rowNumber) -> {
+            int value = rs.getInt(1);
+            return rs.wasNull() ? null : value;
+        };
+    }
+
+    public static RowMapper<Long> longValue() {
+        return (rs, rowNumber) -> {
+            long value = rs.getLong(1);
+            return rs.wasNull() ? null : value;
+        };
+    }
+
+    public static RowMapper<String> stringValue() {
+        return (rs, rowNumber) -> rs.getString(1);
+    }
+
+    public static RowMapper<BigDecimal> bigDecimalValue() {
+        return (rs, rowNumber) -> rs.getBigDecimal(1);
+    }
+
+    /**
+     * Returns a row mapper that retrieves the first column of a row with ResultSet.getObject(int, Class).
+     *
+     * @param type the type of the value
+     * @param <T> the type of the value
+     * @return a row mapper
+     */
+    public static <T> RowMapper<T> singleValue(Class<T> type) {
+        return (rs, rowNumber) -> rs.getObject(1, type);
+    }
+
+    /**
+     * Returns a row mapper that reads the columns of a row by position with the typed getter of each column in
+     * the select list (see {@link ColumnReaders}), and then passes the values to a function. The getters are chosen
+     * once when the row mapper is created, and rows are read without looking up columns by name.
+     *
+     * @param selectModel the select statement that will be executed with the row mapper
+     * @param rowFunction a function that creates an object from the values of a row
+     * @param <T> the type of object created for each row
+     * @return a row mapper
+     */
+    public static <T> RowMapper<T> forSelectList(SelectModel selectModel, Function<Row, T> rowFunction) {
+        List<BasicColumn> selectList = selectModel.selectList();
+        ColumnReader[] readers = selectList.stream()
+                .map(ColumnReaders::forColumn)
+                .toArray(ColumnReader[]::new);
+
+        Map<BasicColumn, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < selectList.size(); i++) {
+            positions.putIfAbsent(selectList.get(i), i + 1);
+        }
+
+        return (rs, rowNumber) -> rowFunction.apply(new Row(readValues(rs, readers), selectList, positions));
+    }
+
+    /**
+     * Returns a row mapper that calls a constructor with the values of a row. The class must have exactly one
+     * public constructor with one parameter for each column in the select list, in the same order. Each column
+     * is read with the getter for the type of the matching constructor parameter, or with the getter for the column
+     * if the parameter type is not one of the common value types.
+     *
+     * @param selectModel the select statement that will be executed with the row mapper
+     * @param type the class to create for each row
+     * @param <T> the type of object created for each row
+     * @return a row mapper
+     */
+    public static <T> RowMapper<T> toConstructor(SelectModel selectModel, Class<T> type) {
+        List<BasicColumn> selectList = selectModel.selectList();
+        Constructor<T> constructor = findConstructor(type, selectList.size());
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+
+        ColumnReader[] readers = new ColumnReader[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            readers[i] = ColumnReaders.forJavaType(parameterTypes[i], ColumnReaders.forColumn(selectList.get(i)));
+        }
+
+        return (rs, rowNumber) -> {
+            Object[] values = readValues(rs, readers);
+            try {
+                return constructor.newInstance(values);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new JdbcExecutionException("Unable to create an instance of " + type.getName(), e); //$NON-NLS-1$
+            }
+        };
+    }
+
+    private static Object[] readValues(ResultSet rs, ColumnReader[] readers) throws SQLException {
+        Object[] values = new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            values[i] = readers[i].read(rs, i + 1);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> findConstructor(Class<T> type, int parameterCount) {
+        Constructor<?>[] constructors = Arrays.stream(type.getConstructors())
+                .filter(c -> c.getParameterCount() == parameterCount)
+                .toArray(Constructor<?>[]::new);
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getName()
+                    + " must have exactly one public constructor with " + parameterCount //$NON-NLS-1$
+                    + " parameters"); //$NON-NLS-1$
+        }
+        return (Constructor<T>) constructors[0];
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * A MyBatis language driver that remembers the SqlSource parsed from SQL text. When a mapper method uses a SQL
+ * provider (for example {@link org.mybatis.dynamic.sql.util.SqlProviderAdapter}), MyBatis parses the SQL returned
+ * by the provider on every execution - it resolves the parameter tokens like
+ * <code>#{parameters.p1,jdbcType=INTEGER}</code> and builds new parameter mappings each time. Statements rendered
+ * by this library are the same text whenever the statement structure is the same, so this driver parses each
+ * distinct statement once and reuses the result.
+ *
+ * <p>The driver can be specified for individual mapper methods with the <code>&#064;Lang</code> annotation:
+ *
+ * <pre>
+ * &#064;SelectProvider(type=SqlProviderAdapter.class, method="select")
+ * &#064;Lang(CachingLanguageDriver.class)
+ * List&lt;Person&gt; selectMany(SelectStatementProvider selectStatement);
+ * </pre>
+ *
+ * <p>Or it can be made the default language driver for all mappers (including the common mappers supplied with this
+ * library):
+ *
+ * <pre>
+ * configuration.setDefaultScriptingLanguage(CachingLanguageDriver.class);
+ * </pre>
+ *
+ * <p>The cache holds at most {@value #DEFAULT_MAXIMUM_SIZE} statements by default. The least recently used statement
+ * is evicted when the cache is full. Statements that are rendered with different SQL for every execution (for
+ * example, statements with list conditions of varying size) will cycle through the cache - consider padding
+ * list conditions in that case.
+ *
+ * <p>This class is thread safe. MyBatis creates a single instance of the driver for each configuration.
+ */
+public class CachingLanguageDriver extends XMLLanguageDriver {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final int maximumSize;
+    private final Map<Key, SqlSource> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public CachingLanguageDriver() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingLanguageDriver(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero"); //$NON-NLS-1$
+        }
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<Key, SqlSource>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SqlSource> eldest) {
+                return size() > CachingLanguageDriver.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+        // parameter types are part of the key because they are used to resolve the Java types of parameters
+        Key key = new Key(configuration, script, parameterType);
+        SqlSource sqlSource;
+        synchronized (cache) {
+            sqlSource = cache.get(key);
+        }
+
+        if (sqlSource != null) {
+            hitCount.increment();
+            return sqlSource;
+        }
+
+        missCount.increment();
+        sqlSource = super.createSqlSource(configuration, script, parameterType);
+        synchronized (cache) {
+            cache.put(key, sqlSource);
+        }
+        return sqlSource;
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static final class Key {
+        private final Configuration configuration;
+        private final String script;
+        private final Class<?> parameterType;
+
+        private Key(Configuration configuration, String script, Class<?> parameterType) {
+            this.configuration = configuration;
+            this.script = script;
+            this.parameterType = parameterType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) obj;
+            return configuration == other.configuration
+                    && script.equals(other.script)
+                    && Objects.equals(parameterType, other.parameterType);
+        }
+
+        @Override
+        public int hashCode() {
+            return script.hashCode() * 31 + Objects.hashCode(parameterType);
+        }
+    }
+}
@@ -19,10 +19,14 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
@@ -42,6 +46,12 @@ import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
  *   or a List of values.</li>
  * </ul>
  *
+ * <p>The selectManyMappedRowsCursor, selectManyMappedRowsStreaming, and selectManyStreaming methods process rows
+ * one at a time rather than building a List of all rows, so memory use does not grow with the size of the result set.
+ * MyBatis will use the configured default fetch size (<code>Configuration.setDefaultFetchSize</code>) for these
+ * methods. A mapper that extends this mapper can redeclare the methods with an
+ * {@link org.apache.ibatis.annotations.Options} annotation to specify a different fetch size.
+ *
  * <p>This mapper can be injected as-is into a MyBatis configuration, or it can be extended with existing mappers.
  *
  * @author Jeff Butler
@@ -113,6 +123,51 @@ public interface CommonSelectMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Select any number of rows and return a Cursor of Maps containing row values (one Map for each row returned).
+     * Rows are read from the result set as the cursor is iterated. The cursor must be iterated and closed
+     * before the SqlSession is closed.
+     *
+     * <p>See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about
+     * how MyBatis will construct the Map of values.
+     *
+     * @param selectStatement the select statement
+     * @return A Cursor of Maps containing the row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Map<String, Object>> selectManyMappedRowsCursor(SelectStatementProvider selectStatement);
+
+    /**
+     * Select any number of rows and pass a Map containing the row values to the result handler for each row returned.
+     * Rows are passed to the handler as they are read from the result set and are not retained by MyBatis.
+     *
+     * <p>See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about
+     * how MyBatis will construct the Map of values.
+     *
+     * @param selectStatement the select statement
+     * @param resultHandler a handler that will be called for each row
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    @ResultType(Map.class)
+    void selectManyMappedRowsStreaming(SelectStatementProvider selectStatement,
+                                       ResultHandler<Map<String, Object>> resultHandler);
+
+    /**
+     * Select any number of rows, convert the values of each row to a custom type, and pass the converted object
+     * to a consumer. This is similar to {@link CommonSelectMapper#selectMany(SelectStatementProvider, Function)},
+     * except that rows are converted and consumed one at a time as they are read from the result set.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param consumer a consumer that will be called with each converted object
+     * @param <R> the datatype of the converted object
+     */
+    default <R> void selectManyStreaming(SelectStatementProvider selectStatement,
+                                         Function<Map<String, Object>, R> rowMapper, Consumer<R> consumer) {
+        selectManyMappedRowsStreaming(selectStatement,
+                context -> consumer.accept(rowMapper.apply(context.getResultObject())));
+    }
+
     /**
      * Retrieve a single {@link java.math.BigDecimal} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
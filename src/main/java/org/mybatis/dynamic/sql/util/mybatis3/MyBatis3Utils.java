@@ -16,21 +16,34 @@
 package org.mybatis.dynamic.sql.util.mybatis3;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ResultHandler;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
@@ -42,7 +55,12 @@ import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateDSLCompleter;
+import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.SingleFlight;
+import org.mybatis.dynamic.sql.util.TableDependencies;
+import org.mybatis.dynamic.sql.util.UpdateCounts;
 
 /**
  * Utility functions for building MyBatis3 mappers.
@@ -92,6 +110,17 @@ public class MyBatis3Utils {
         return mapper.applyAsLong(countFrom(start, completer));
     }
 
+    public static long countFrom(QueryResultCache resultCache, Object resultMapping,
+            ToLongFunction<SelectStatementProvider> mapper, SqlTable table, CountDSLCompleter completer) {
+        return resultCache.select(completer.apply(SqlBuilder.countFrom(table)).build(), RenderingStrategies.MYBATIS3,
+                resultMapping, mapper::applyAsLong);
+    }
+
+    public static long countFrom(SingleFlight singleFlight, Object resultMapping,
+            ToLongFunction<SelectStatementProvider> mapper, SqlTable table, CountDSLCompleter completer) {
+        return singleFlight.select(countFrom(table, completer), resultMapping, mapper::applyAsLong);
+    }
+
     public static DeleteStatementProvider deleteFrom(SqlTable table, DeleteDSLCompleter completer) {
         return completer.apply(SqlBuilder.deleteFrom(table))
                 .build()
@@ -103,6 +132,13 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(deleteFrom(table, completer));
     }
 
+    public static int deleteFrom(QueryResultCache resultCache, ToIntFunction<DeleteStatementProvider> mapper,
+            SqlTable table, DeleteDSLCompleter completer) {
+        DeleteModel deleteModel = completer.apply(SqlBuilder.deleteFrom(table)).build();
+        return resultCache.write(TableDependencies.of(deleteModel),
+                () -> mapper.applyAsInt(deleteModel.render(RenderingStrategies.MYBATIS3)));
+    }
+
     public static <R> InsertStatementProvider<R> insert(R row, SqlTable table,
             UnaryOperator<InsertDSL<R>> completer) {
         return completer.apply(SqlBuilder.insert(row).into(table))
@@ -115,6 +151,26 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insert(row, table, completer));
     }
 
+    public static <R> int insert(QueryResultCache resultCache, ToIntFunction<InsertStatementProvider<R>> mapper,
+            R row, SqlTable table, UnaryOperator<InsertDSL<R>> completer) {
+        InsertModel<R> insertModel = completer.apply(SqlBuilder.insert(row).into(table)).build();
+        return resultCache.write(TableDependencies.of(insertModel),
+                () -> mapper.applyAsInt(insertModel.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public static <R> long insertBatch(ToIntFunction<InsertStatementProvider<R>> mapper,
+            Supplier<List<BatchResult>> flusher, BatchInsert<R> batchInsert, int chunkSize) {
+        return batchInsert.insertStatements(chunkSize)
+                .mapToLong(chunk -> {
+                    chunk.forEach(mapper::applyAsInt);
+                    return flusher.get().stream()
+                            .map(BatchResult::getUpdateCounts)
+                            .mapToLong(UpdateCounts::insertedRows)
+                            .sum();
+                })
+                .sum();
+    }
+
     public static GeneralInsertStatementProvider generalInsert(SqlTable table,
             UnaryOperator<GeneralInsertDSL> completer) {
         return completer.apply(GeneralInsertDSL.insertInto(table))
@@ -127,6 +183,13 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(generalInsert(table, completer));
     }
 
+    public static int generalInsert(QueryResultCache resultCache, ToIntFunction<GeneralInsertStatementProvider> mapper,
+            SqlTable table, UnaryOperator<GeneralInsertDSL> completer) {
+        GeneralInsertModel insertModel = completer.apply(GeneralInsertDSL.insertInto(table)).build();
+        return resultCache.write(TableDependencies.of(insertModel),
+                () -> mapper.applyAsInt(insertModel.render(RenderingStrategies.MYBATIS3)));
+    }
+
     public static <R> MultiRowInsertStatementProvider<R> insertMultiple(Collection<R> records, SqlTable table,
             UnaryOperator<MultiRowInsertDSL<R>> completer) {
         return completer.apply(SqlBuilder.insertMultiple(records).into(table))
@@ -139,6 +202,29 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insertMultiple(records, table, completer));
     }
 
+    public static <R> int insertMultiple(QueryResultCache resultCache,
+            ToIntFunction<MultiRowInsertStatementProvider<R>> mapper, Collection<R> records, SqlTable table,
+            UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        MultiRowInsertModel<R> insertModel = completer.apply(SqlBuilder.insertMultiple(records).into(table)).build();
+        return resultCache.write(TableDependencies.of(insertModel),
+                () -> mapper.applyAsInt(insertModel.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public static <R> List<MultiRowInsertStatementProvider<R>> insertMultiple(Collection<R> records,
+            SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer, MultiRowInsertLimits limits) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .build()
+                .renderInChunks(RenderingStrategies.MYBATIS3, limits);
+    }
+
+    public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+            Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer,
+            MultiRowInsertLimits limits) {
+        return insertMultiple(records, table, completer, limits).stream()
+                .mapToInt(mapper)
+                .sum();
+    }
+
     public static <R> int insertMultipleWithGeneratedKeys(ToIntBiFunction<String, List<R>> mapper,
             Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer) {
         MultiRowInsertStatementProvider<R> provider = insertMultiple(records, table, completer);
@@ -177,6 +263,79 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    /**
+     * Executes a select statement through a result cache. The list returned by the mapper is cached, so the
+     * returned list is unmodifiable.
+     *
+     * <p>The result mapping key is part of the cache key. A method reference such as <code>this::selectMany</code>
+     * is a new object on every call, so it cannot identify the mapper method - pass a key that names the mapper
+     * method instead, such as the id of its mapped statement.
+     *
+     * @param resultCache the result cache
+     * @param resultMapping a key that identifies the mapper method
+     * @param mapper the mapper method that executes the statement
+     * @param selectList the columns to select
+     * @param table the table to select from
+     * @param completer completes the select statement
+     * @param <R> the type of row
+     * @return the rows
+     */
+    public static <R> List<R> selectList(QueryResultCache resultCache, Object resultMapping,
+            Function<SelectStatementProvider, List<R>> mapper, BasicColumn[] selectList, SqlTable table,
+            SelectDSLCompleter completer) {
+        return resultCache.select(completer.apply(SqlBuilder.select(selectList).from(table)).build(),
+                RenderingStrategies.MYBATIS3, resultMapping,
+                ss -> Collections.unmodifiableList(mapper.apply(ss)));
+    }
+
+    /**
+     * Executes a select statement through a single flight, so identical statements executing at the same time are
+     * executed once. The list returned by the mapper may be shared, so the returned list is unmodifiable.
+     *
+     * <p>Statements are only collapsed if they have the same result mapping key. As with the result cache
+     * overloads, the key must name the mapper method - a method reference is a new object on every call.
+     *
+     * @param singleFlight the single flight
+     * @param resultMapping a key that identifies the mapper method
+     * @param mapper the mapper method that executes the statement
+     * @param selectList the columns to select
+     * @param table the table to select from
+     * @param completer completes the select statement
+     * @param <R> the type of row
+     * @return the rows
+     */
+    public static <R> List<R> selectList(SingleFlight singleFlight, Object resultMapping,
+            Function<SelectStatementProvider, List<R>> mapper, BasicColumn[] selectList, SqlTable table,
+            SelectDSLCompleter completer) {
+        return singleFlight.select(select(selectList, table, completer), resultMapping,
+                ss -> Collections.unmodifiableList(mapper.apply(ss)));
+    }
+
+    public static <R> Cursor<R> selectCursor(Function<SelectStatementProvider, Cursor<R>> mapper,
+            BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
+        return mapper.apply(select(selectList, table, completer));
+    }
+
+    public static <R> Cursor<R> selectCursor(Function<SelectStatementProvider, Cursor<R>> mapper,
+            QueryExpressionDSL<SelectModel> start, SelectDSLCompleter completer) {
+        return mapper.apply(select(start, completer));
+    }
+
+    public static <R> void selectStreaming(BiConsumer<SelectStatementProvider, ResultHandler<R>> mapper,
+            BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer, Consumer<R> consumer) {
+        selectStreaming(mapper, select(selectList, table, completer), consumer);
+    }
+
+    public static <R> void selectStreaming(BiConsumer<SelectStatementProvider, ResultHandler<R>> mapper,
+            QueryExpressionDSL<SelectModel> start, SelectDSLCompleter completer, Consumer<R> consumer) {
+        selectStreaming(mapper, select(start, completer), consumer);
+    }
+
+    private static <R> void selectStreaming(BiConsumer<SelectStatementProvider, ResultHandler<R>> mapper,
+            SelectStatementProvider selectStatement, Consumer<R> consumer) {
+        mapper.accept(selectStatement, context -> consumer.accept(context.getResultObject()));
+    }
+
     public static <R> R selectOne(Function<SelectStatementProvider, R> mapper,
             BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
         return mapper.apply(select(selectList, table, completer));
@@ -187,6 +346,19 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    public static <R> R selectOne(QueryResultCache resultCache, Object resultMapping,
+            Function<SelectStatementProvider, R> mapper, BasicColumn[] selectList, SqlTable table,
+            SelectDSLCompleter completer) {
+        return resultCache.select(completer.apply(SqlBuilder.select(selectList).from(table)).build(),
+                RenderingStrategies.MYBATIS3, resultMapping, mapper);
+    }
+
+    public static <R> R selectOne(SingleFlight singleFlight, Object resultMapping,
+            Function<SelectStatementProvider, R> mapper, BasicColumn[] selectList, SqlTable table,
+            SelectDSLCompleter completer) {
+        return singleFlight.select(select(selectList, table, completer), resultMapping, mapper);
+    }
+
     public static UpdateStatementProvider update(SqlTable table, UpdateDSLCompleter completer) {
         return completer.apply(SqlBuilder.update(table))
                 .build()
@@ -197,4 +369,11 @@ public class MyBatis3Utils {
             SqlTable table, UpdateDSLCompleter completer) {
         return mapper.applyAsInt(update(table, completer));
     }
+
+    public static int update(QueryResultCache resultCache, ToIntFunction<UpdateStatementProvider> mapper,
+            SqlTable table, UpdateDSLCompleter completer) {
+        UpdateModel updateModel = completer.apply(SqlBuilder.update(table)).build();
+        return resultCache.write(TableDependencies.of(updateModel),
+                () -> mapper.applyAsInt(updateModel.render(RenderingStrategies.MYBATIS3)));
+    }
 }
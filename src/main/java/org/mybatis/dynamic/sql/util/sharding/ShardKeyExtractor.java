@@ -0,0 +1,254 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
+
+/**
+ * Finds the shard key values that a where clause restricts a statement to. A where clause is restricted to specific
+ * keys if every row it selects must match an equality ({@code isEqualTo}) or "in" ({@code isIn}, {@code isInArray})
+ * condition on the shard key column. The analysis follows the SQL precedence of "and" over "or", and ignores
+ * conditions that will not render.
+ *
+ * <p>For example, with a shard key of {@code customerId}:
+ *
+ * <ul>
+ *     <li>{@code where customerId = 3 and status = 'A'} is restricted to key 3</li>
+ *     <li>{@code where customerId in (3, 4) and customerId = 4} is restricted to key 4</li>
+ *     <li>{@code where (customerId = 3 and status = 'A') or customerId = 5} is restricted to keys 3 and 5</li>
+ *     <li>{@code where customerId = 3 or status = 'A'} is not restricted</li>
+ *     <li>{@code where not (customerId = 3)} is not restricted</li>
+ * </ul>
+ *
+ * <p>Only the where clause of the statement itself is analyzed - conditions in sub queries, joins, and exists
+ * predicates do not restrict the statement. Conditions with late bound parameters (like {@code isEqualToParameter})
+ * do not restrict the statement either, because their values are not known. Columns match the shard key if they are
+ * the same instance, or if they have the same table and name.
+ */
+public class ShardKeyExtractor {
+    private final BindableColumn<?> shardKey;
+
+    private ShardKeyExtractor(BindableColumn<?> shardKey) {
+        this.shardKey = Objects.requireNonNull(shardKey);
+    }
+
+    /**
+     * Returns the shard keys a select statement is restricted to. Every query of a union must be restricted for the
+     * statement to be restricted.
+     *
+     * @param selectModel the select statement
+     * @return the shard keys, or empty if the statement may select rows with any key
+     */
+    public Optional<Set<Object>> shardKeys(SelectModel selectModel) {
+        List<Constraint> constraints = selectModel.mapQueryExpressions(QueryExpressionModel::whereModel)
+                .map(this::constraint)
+                .collect(Collectors.toList());
+        return union(constraints).keys();
+    }
+
+    public Optional<Set<Object>> shardKeys(UpdateModel updateModel) {
+        return constraint(updateModel.whereModel()).keys();
+    }
+
+    public Optional<Set<Object>> shardKeys(DeleteModel deleteModel) {
+        return constraint(deleteModel.whereModel()).keys();
+    }
+
+    public Optional<Set<Object>> shardKeys(WhereModel whereModel) {
+        return constraint(Optional.of(whereModel)).keys();
+    }
+
+    private Constraint constraint(Optional<WhereModel> whereModel) {
+        return whereModel.map(wm -> group(wm.initialCriterion(), wm.subCriteria()))
+                .orElse(Constraint.ANY)
+                .orAnyIfSkipped();
+    }
+
+    private Constraint group(Optional<SqlCriterion> initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return group(initialCriterion.map(c -> c.accept(new CriterionVisitor())).orElse(Constraint.SKIPPED),
+                subCriteria);
+    }
+
+    private Constraint group(Constraint initial, List<AndOrCriteriaGroup> subCriteria) {
+        List<Constraint> orTerms = new ArrayList<>();
+        Constraint andTerm = initial;
+
+        for (AndOrCriteriaGroup subCriterion : subCriteria) {
+            Constraint constraint = group(subCriterion.initialCriterion(), subCriterion.subCriteria());
+            if (constraint == Constraint.SKIPPED) {
+                // the criterion and its connector are not rendered
+                continue;
+            }
+
+            if ("or".equals(subCriterion.connector()) && andTerm != Constraint.SKIPPED) { //$NON-NLS-1$
+                orTerms.add(andTerm);
+                andTerm = constraint;
+            } else {
+                andTerm = andTerm.and(constraint);
+            }
+        }
+
+        if (andTerm != Constraint.SKIPPED) {
+            orTerms.add(andTerm);
+        }
+        return orTerms.isEmpty() ? Constraint.SKIPPED : union(orTerms);
+    }
+
+    private static Constraint union(List<Constraint> constraints) {
+        Set<Object> keys = new LinkedHashSet<>();
+        for (Constraint constraint : constraints) {
+            if (constraint.keys == null) {
+                return Constraint.ANY;
+            }
+            keys.addAll(constraint.keys);
+        }
+        return Constraint.of(keys);
+    }
+
+    private boolean isShardKey(BindableColumn<?> column) {
+        if (column == shardKey) {
+            return true;
+        }
+
+        if (column instanceof SqlColumn && shardKey instanceof SqlColumn) {
+            SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+            SqlColumn<?> shardColumn = (SqlColumn<?>) shardKey;
+            return sqlColumn.table() == shardColumn.table() && sqlColumn.name().equals(shardColumn.name());
+        }
+
+        return false;
+    }
+
+    private Constraint condition(BindableColumn<?> column, VisitableCondition<?> condition) {
+        if (!condition.shouldRender()) {
+            return Constraint.SKIPPED;
+        }
+
+        if (!isShardKey(column)) {
+            return Constraint.ANY;
+        }
+
+        if (condition instanceof IsEqualTo) {
+            IsEqualTo<?> isEqualTo = (IsEqualTo<?>) condition;
+            // the value of a late bound parameter is not known, so it could be any key
+            return isEqualTo.parameter().isPresent() ? Constraint.ANY
+                    : Constraint.of(Collections.singleton(isEqualTo.value()));
+        } else if (condition instanceof IsIn) {
+            return Constraint.of(((IsIn<?>) condition).mapValues(Function.identity())
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        } else if (condition instanceof IsInArray) {
+            return Constraint.of(((IsInArray<?>) condition).mapValues(Function.identity())
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        } else {
+            return Constraint.ANY;
+        }
+    }
+
+    public static ShardKeyExtractor of(BindableColumn<?> shardKey) {
+        return new ShardKeyExtractor(shardKey);
+    }
+
+    /**
+     * The shard keys a part of a where clause restricts rows to. ANY does not restrict rows, and SKIPPED will
+     * not render.
+     */
+    private static final class Constraint {
+        private static final Constraint ANY = new Constraint(null);
+        private static final Constraint SKIPPED = new Constraint(null);
+
+        private final Set<Object> keys;
+
+        private Constraint(Set<Object> keys) {
+            this.keys = keys;
+        }
+
+        private Constraint and(Constraint other) {
+            if (this == SKIPPED || this == ANY) {
+                return other == SKIPPED ? this : other;
+            }
+
+            if (other.keys == null) {
+                return this;
+            }
+
+            Set<Object> intersection = new LinkedHashSet<>(keys);
+            intersection.retainAll(other.keys);
+            return of(intersection);
+        }
+
+        private Constraint orAnyIfSkipped() {
+            return this == SKIPPED ? ANY : this;
+        }
+
+        private Optional<Set<Object>> keys() {
+            return Optional.ofNullable(keys).map(Collections::unmodifiableSet);
+        }
+
+        private static Constraint of(Set<Object> keys) {
+            return new Constraint(keys);
+        }
+    }
+
+    private class CriterionVisitor implements SqlCriterionVisitor<Constraint> {
+        @Override
+        public <T> Constraint visit(ColumnAndConditionCriterion<T> criterion) {
+            return group(condition(criterion.column(), criterion.condition()), criterion.subCriteria());
+        }
+
+        @Override
+        public Constraint visit(ExistsCriterion criterion) {
+            return group(Constraint.ANY, criterion.subCriteria());
+        }
+
+        @Override
+        public Constraint visit(CriteriaGroup criterion) {
+            return group(criterion.initialCriterion(), criterion.subCriteria());
+        }
+
+        @Override
+        public Constraint visit(NotCriterion criterion) {
+            Constraint constraint = group(criterion.initialCriterion(), criterion.subCriteria());
+            return constraint == Constraint.SKIPPED ? Constraint.SKIPPED : Constraint.ANY;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * Executes statements against data that is sharded across several databases by the value of a shard key column.
+ *
+ * <p>A statement whose where clause restricts the shard key to specific values (see {@link ShardKeyExtractor}) is
+ * executed on the shards that hold those values. Any other statement is executed on every shard, and the results are
+ * combined:
+ *
+ * <ul>
+ *     <li>select lists are merged in the order of the order by clause, then the limit and offset of the statement
+ *     are applied to the merged rows. Each shard is asked for enough rows to fill the offset and the limit.</li>
+ *     <li>counts and update counts are added</li>
+ * </ul>
+ *
+ * <p>Rows are not de-duplicated across shards, so "select distinct" and unions may return duplicates when a statement
+ * is executed on several shards. Counts are only correct when each row is counted on one shard - "count distinct" and
+ * "group by" queries cannot be combined by adding.
+ *
+ * <p>The shards are objects that execute statements on one database - for example a Spring template, or a MyBatis
+ * mapper. Statements are executed on several shards with the configured executor, which should be bounded (for
+ * example a fixed thread pool). By default, statements are executed one shard at a time on the calling thread.
+ *
+ * @param <S> the type of object that executes statements on a shard
+ */
+public class ShardedExecutor<S> {
+    private final List<S> shards;
+    private final ShardKeyExtractor shardKeyExtractor;
+    private final ToIntFunction<Object> shardFunction;
+    private final RenderingStrategy renderingStrategy;
+    private final Executor executor;
+
+    private ShardedExecutor(Builder<S> builder) {
+        shards = Collections.unmodifiableList(new ArrayList<>(builder.shards));
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required"); //$NON-NLS-1$
+        }
+        shardKeyExtractor = ShardKeyExtractor.of(Objects.requireNonNull(builder.shardKey));
+        shardFunction = Objects.requireNonNull(builder.shardFunction);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        executor = Objects.requireNonNull(builder.executor);
+    }
+
+    /**
+     * Returns the index of the shard that holds a shard key value.
+     *
+     * @param shardKey the shard key value
+     * @return the index of the shard
+     */
+    public int shardFor(Object shardKey) {
+        int shard = shardFunction.applyAsInt(shardKey);
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalStateException("The shard function returned " + shard //$NON-NLS-1$
+                    + " for shard key " + shardKey + ", but there are " + shards.size() //$NON-NLS-1$ //$NON-NLS-2$
+                    + " shards"); //$NON-NLS-1$
+        }
+        return shard;
+    }
+
+    public SortedSet<Integer> shardsFor(SelectModel selectModel) {
+        return shardsFor(shardKeyExtractor.shardKeys(selectModel));
+    }
+
+    public SortedSet<Integer> shardsFor(UpdateModel updateModel) {
+        return shardsFor(shardKeyExtractor.shardKeys(updateModel));
+    }
+
+    public SortedSet<Integer> shardsFor(DeleteModel deleteModel) {
+        return shardsFor(shardKeyExtractor.shardKeys(deleteModel));
+    }
+
+    private SortedSet<Integer> shardsFor(Optional<Set<Object>> shardKeys) {
+        return shardKeys.map(keys -> keys.stream().map(this::shardFor)
+                        .collect(Collectors.toCollection(TreeSet::new)))
+                .orElseGet(() -> IntStream.range(0, shards.size()).boxed()
+                        .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    public long count(Buildable<SelectModel> countStatement, BiFunction<S, SelectStatementProvider, Long> query) {
+        SelectModel selectModel = countStatement.build();
+        SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+        return execute(shardsFor(selectModel), shard -> query.apply(shard, selectStatement)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement, ToIntBiFunction<S, DeleteStatementProvider> statement) {
+        DeleteModel deleteModel = deleteStatement.build();
+        DeleteStatementProvider deleteStatementProvider = deleteModel.render(renderingStrategy);
+        return execute(shardsFor(deleteModel), shard -> statement.applyAsInt(shard, deleteStatementProvider))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    /**
+     * Executes a select statement. If the statement has an order by clause and is executed on more than one shard,
+     * use {@link #selectList(Buildable, BiFunction, SortKeys)} so the rows can be merged in order.
+     *
+     * @param selectStatement the select statement
+     * @param query executes the statement on a shard
+     * @param <T> the type of row
+     * @return the rows from all shards
+     * @throws IllegalArgumentException if the rows of several shards must be merged in order
+     */
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement,
+                                  BiFunction<S, SelectStatementProvider, List<T>> query) {
+        return selectList(selectStatement.build(), query, null);
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement,
+                                  BiFunction<S, SelectStatementProvider, List<T>> query, SortKeys<T> sortKeys) {
+        return selectList(selectStatement.build(), query, Objects.requireNonNull(sortKeys));
+    }
+
+    private <T> List<T> selectList(SelectModel selectModel, BiFunction<S, SelectStatementProvider, List<T>> query,
+                                   SortKeys<T> sortKeys) {
+        SortedSet<Integer> shardIndexes = shardsFor(selectModel);
+        if (shardIndexes.size() <= 1) {
+            SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+            return execute(shardIndexes, shard -> query.apply(shard, selectStatement)).stream()
+                    .findFirst()
+                    .orElseGet(Collections::emptyList);
+        }
+
+        Comparator<T> comparator = selectModel.orderByModel()
+                .map(obm -> {
+                    if (sortKeys == null) {
+                        throw new IllegalArgumentException(
+                                "Sort keys are required to merge ordered rows from several shards"); //$NON-NLS-1$
+                    }
+                    return sortKeys.comparator(obm);
+                })
+                .orElse(null);
+
+        Optional<PagingModel> pagingModel = selectModel.pagingModel();
+        long offset = pagingModel.flatMap(PagingModel::offset).orElse(0L);
+        Optional<Long> limit = pagingModel.flatMap(pm -> pm.limit().isPresent() ? pm.limit() : pm.fetchFirstRows());
+
+        SelectStatementProvider selectStatement = shardSelectModel(selectModel, offset, limit)
+                .render(renderingStrategy);
+        List<List<T>> results = execute(shardIndexes, shard -> query.apply(shard, selectStatement));
+        List<T> merged = comparator == null ? concatenate(results) : merge(results, comparator);
+
+        return merged.stream()
+                .skip(offset)
+                .limit(limit.orElse(Long.MAX_VALUE))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Every shard must return the rows up to the end of the requested page, because any shard may hold all of them.
+     */
+    private SelectModel shardSelectModel(SelectModel selectModel, long offset, Optional<Long> limit) {
+        if (!selectModel.pagingModel().isPresent()) {
+            return selectModel;
+        }
+
+        PagingModel pagingModel = selectModel.pagingModel().get();
+        PagingModel shardPagingModel = limit.map(l -> {
+            PagingModel.Builder builder = new PagingModel.Builder();
+            return pagingModel.limit().isPresent() ? builder.withLimit(l + offset).build()
+                    : builder.withFetchFirstRows(l + offset).build();
+        }).orElse(null);
+
+        return SelectModel.withQueryExpressions(selectModel.mapQueryExpressions(Function.identity())
+                        .collect(Collectors.toList()))
+                .withOrderByModel(selectModel.orderByModel().orElse(null))
+                .withPagingModel(shardPagingModel)
+                .build();
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement, ToIntBiFunction<S, UpdateStatementProvider> statement) {
+        UpdateModel updateModel = updateStatement.build();
+        UpdateStatementProvider updateStatementProvider = updateModel.render(renderingStrategy);
+        return execute(shardsFor(updateModel), shard -> statement.applyAsInt(shard, updateStatementProvider))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    private <R> List<R> execute(SortedSet<Integer> shardIndexes, Function<S, R> task) {
+        if (shardIndexes.size() <= 1) {
+            return shardIndexes.stream()
+                    .map(i -> task.apply(shards.get(i)))
+                    .collect(Collectors.toList());
+        }
+
+        List<CompletableFuture<R>> futures = shardIndexes.stream()
+                .map(i -> CompletableFuture.supplyAsync(() -> task.apply(shards.get(i)), executor))
+                .collect(Collectors.toList());
+
+        List<R> results = new ArrayList<>();
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private static <T> List<T> concatenate(List<List<T>> results) {
+        return results.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * An N-way merge of lists that are sorted by the comparator. Rows that compare equal are taken from the shard
+     * with the lower index first.
+     */
+    private static <T> List<T> merge(List<List<T>> results, Comparator<T> comparator) {
+        PriorityQueue<MergeCursor<T>> queue = new PriorityQueue<>(results.size(),
+                Comparator.<MergeCursor<T>, T>comparing(MergeCursor::current, comparator)
+                        .thenComparingInt(c -> c.shard));
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).isEmpty()) {
+                queue.add(new MergeCursor<>(results.get(i), i));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(results.stream().mapToInt(List::size).sum());
+        while (!queue.isEmpty()) {
+            MergeCursor<T> cursor = queue.poll();
+            merged.add(cursor.current());
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    public static <S> Builder<S> withShards(List<S> shards) {
+        return new Builder<S>().withShards(shards);
+    }
+
+    private static class MergeCursor<T> {
+        private final List<T> rows;
+        private final int shard;
+        private int position;
+
+        private MergeCursor(List<T> rows, int shard) {
+            this.rows = rows;
+            this.shard = shard;
+        }
+
+        private T current() {
+            return rows.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < rows.size();
+        }
+    }
+
+    public static class Builder<S> {
+        private final List<S> shards = new ArrayList<>();
+        private SqlColumn<?> shardKey;
+        private ToIntFunction<Object> shardFunction;
+        private RenderingStrategy renderingStrategy;
+        private Executor executor = Runnable::run;
+
+        public Builder<S> withShards(List<S> shards) {
+            this.shards.addAll(shards);
+            return this;
+        }
+
+        /**
+         * Sets the shard key column and the function that calculates the index of the shard that holds a value of
+         * the shard key.
+         *
+         * @param shardKey the shard key column
+         * @param shardFunction calculates the index of the shard for a shard key value
+         * @param <K> the type of shard key
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <K> Builder<S> withShardKey(SqlColumn<K> shardKey, ToIntFunction<? super K> shardFunction) {
+            this.shardKey = shardKey;
+            this.shardFunction = key -> ((ToIntFunction<Object>) shardFunction).applyAsInt(key);
+            return this;
+        }
+
+        public Builder<S> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public Builder<S> withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ShardedExecutor<S> build() {
+            return new ShardedExecutor<>(this);
+        }
+    }
+}
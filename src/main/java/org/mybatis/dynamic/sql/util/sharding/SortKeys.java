@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.sharding;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.select.OrderByModel;
+
+/**
+ * Extracts the values of order by columns from result objects, so results from several shards can be merged in the
+ * order of the order by clause. Keys are matched to the columns of the order by clause by their order by name, so
+ * the direction of the sort specification used here does not matter.
+ *
+ * <p>Null values sort before other values in ascending order, and after other values in descending order. This
+ * matches the default of many databases, but not all - PostgreSQL and Oracle sort nulls last in ascending order. Use
+ * a key function that replaces nulls if the database sorts them differently.
+ *
+ * @param <T> the type of result object
+ */
+public class SortKeys<T> {
+    private final Map<String, Function<? super T, ? extends Comparable<?>>> keys;
+
+    private SortKeys(Map<String, Function<? super T, ? extends Comparable<?>>> keys) {
+        this.keys = keys;
+    }
+
+    public SortKeys<T> and(SortSpecification column, Function<? super T, ? extends Comparable<?>> key) {
+        Map<String, Function<? super T, ? extends Comparable<?>>> newKeys = new LinkedHashMap<>(keys);
+        newKeys.put(column.orderByName(), Objects.requireNonNull(key));
+        return new SortKeys<>(newKeys);
+    }
+
+    Comparator<T> comparator(OrderByModel orderByModel) {
+        return orderByModel.mapColumns(this::comparator)
+                .reduce(Comparator::thenComparing)
+                .orElse((a, b) -> 0);
+    }
+
+    private Comparator<T> comparator(SortSpecification column) {
+        Function<? super T, ? extends Comparable<?>> key = keys.get(column.orderByName());
+        if (key == null) {
+            throw new IllegalArgumentException("No sort key for order by column " //$NON-NLS-1$
+                    + column.orderByName());
+        }
+
+        Comparator<T> comparator = Comparator.comparing(key, Comparator.nullsFirst(SortKeys::compare));
+        return column.isDescending() ? comparator.reversed() : comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Comparable<?> a, Comparable<?> b) {
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    public static <T> SortKeys<T> of(SortSpecification column, Function<? super T, ? extends Comparable<?>> key) {
+        return new SortKeys<T>(new LinkedHashMap<>()).and(column, key);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Parameter source for rendered insert statements. Parameters calculated with property accessor mappings
+ * (<code>toProperty(Person::getFirstName)</code>) are read from the parameter map of the statement. Other parameters
+ * are read from the bean properties of the row, and the bean property source is only created if it is needed - so
+ * statements where every column is mapped with an accessor are bound without reflection.
+ */
+public class InsertParameterSource extends AbstractSqlParameterSource {
+    private final Map<String, Object> parameters;
+    private final Object bean;
+    private SqlParameterSource beanParameterSource;
+
+    private InsertParameterSource(Map<String, Object> parameters, Object bean) {
+        this.parameters = Objects.requireNonNull(parameters);
+        this.bean = Objects.requireNonNull(bean);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return parameters.containsKey(paramName) || beanParameterSource().hasValue(paramName);
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        if (parameters.containsKey(paramName)) {
+            return parameters.get(paramName);
+        }
+        return beanParameterSource().getValue(paramName);
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+        if (parameters.containsKey(paramName)) {
+            return super.getSqlType(paramName);
+        }
+        return beanParameterSource().getSqlType(paramName);
+    }
+
+    @Override
+    public String getTypeName(String paramName) {
+        if (parameters.containsKey(paramName)) {
+            return super.getTypeName(paramName);
+        }
+        return beanParameterSource().getTypeName(paramName);
+    }
+
+    private SqlParameterSource beanParameterSource() {
+        if (beanParameterSource == null) {
+            beanParameterSource = beanParameterSource(bean);
+        }
+        return beanParameterSource;
+    }
+
+    public static SqlParameterSource of(InsertStatementProvider<?> insertStatement) {
+        return of(insertStatement.getParameters(), insertStatement.getRow());
+    }
+
+    public static SqlParameterSource of(MultiRowInsertStatementProvider<?> insertStatement) {
+        return of(insertStatement.getParameters(), insertStatement);
+    }
+
+    public static SqlParameterSource[] of(BatchInsert<?> batchInsert) {
+        return of(batchInsert.insertStatements());
+    }
+
+    public static SqlParameterSource[] of(List<? extends InsertStatementProvider<?>> insertStatements) {
+        SqlParameterSource[] batch = new SqlParameterSource[insertStatements.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = of(insertStatements.get(i));
+        }
+        return batch;
+    }
+
+    private static SqlParameterSource of(Map<String, Object> parameters, Object bean) {
+        if (parameters.isEmpty()) {
+            return beanParameterSource(bean);
+        }
+        return new InsertParameterSource(parameters, bean);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SqlParameterSource beanParameterSource(Object bean) {
+        // matches SqlParameterSourceUtils.createBatch(...) - rows that are maps are used directly
+        if (bean instanceof Map) {
+            return new MapSqlParameterSource((Map<String, ?>) bean);
+        }
+        return new BeanPropertySqlParameterSource(bean);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Executes statements with Spring's JdbcTemplate. Statements are rendered with
+ * {@link RenderingStrategies#POSITIONAL_PARAMETER} and parameters are bound by position, so the SQL does not need
+ * to be parsed for named parameters as it does with the NamedParameterJdbcTemplate.
+ *
+ * <p>Insert statements that take values from records (insert, batch insert, and multi-row insert) are not supported
+ * by this class - use {@link NamedParameterJdbcTemplateExtensions} for those statements.
+ */
+public class JdbcTemplateExtensions {
+    private final JdbcTemplate template;
+
+    public JdbcTemplateExtensions(JdbcTemplate template) {
+        this.template = Objects.requireNonNull(template);
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        return count(countStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+    }
+
+    public long count(SelectStatementProvider countStatement) {
+        return template.queryForObject(countStatement.getSelectStatement(), Long.class,
+                countStatement.getOrderedParameters());
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        return delete(deleteStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) {
+        return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getOrderedParameters());
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) {
+        return template.update(insertStatement.getInsertStatement(), insertStatement.getOrderedParameters());
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement, KeyHolder keyHolder) {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER), keyHolder);
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement, KeyHolder keyHolder) {
+        ArgumentPreparedStatementSetter setter =
+                new ArgumentPreparedStatementSetter(insertStatement.getOrderedParameters());
+        return template.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(insertStatement.getInsertStatement(),
+                    Statement.RETURN_GENERATED_KEYS);
+            setter.setValues(ps);
+            return ps;
+        }, keyHolder);
+    }
+
+    public int insertSelect(Buildable<InsertSelectModel> insertStatement) {
+        return insertSelect(insertStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+    }
+
+    public int insertSelect(InsertSelectStatementProvider insertStatement) {
+        return template.update(insertStatement.getInsertStatement(), insertStatement.getOrderedParameters());
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectList(selectStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER), rowMapper);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return template.query(selectStatement.getSelectStatement(), rowMapper,
+                selectStatement.getOrderedParameters());
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectOne(selectStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        T result;
+        try {
+            result = template.queryForObject(selectStatement.getSelectStatement(), rowMapper,
+                    selectStatement.getOrderedParameters());
+        } catch (EmptyResultDataAccessException e) {
+            result = null;
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        return update(updateStatement.build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return template.update(updateStatement.getUpdateStatement(), updateStatement.getOrderedParameters());
+    }
+}
@@ -15,15 +15,21 @@
  */
 package org.mybatis.dynamic.sql.util.spring;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
@@ -35,113 +41,411 @@ import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.SingleFlight;
+import org.mybatis.dynamic.sql.util.TableDependencies;
+import org.mybatis.dynamic.sql.util.UpdateCounts;
+import org.mybatis.dynamic.sql.util.jdbc.Row;
+import org.mybatis.dynamic.sql.util.jdbc.RowMappers;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class NamedParameterJdbcTemplateExtensions {
     private final NamedParameterJdbcTemplate template;
+    private final QueryResultCache resultCache;
+    private final ReadReplicaRouter router;
+    private final SingleFlight singleFlight;
 
     public NamedParameterJdbcTemplateExtensions(NamedParameterJdbcTemplate template) {
         this.template = Objects.requireNonNull(template);
+        resultCache = null;
+        router = null;
+        singleFlight = null;
+    }
+
+    /**
+     * Creates extensions that cache the results of select statements. Results of select statements built
+     * with the DSL are cached, and are discarded when an insert, update, or delete statement executed by these
+     * extensions writes to one of the tables they read. Select statements that are passed as statement providers
+     * are not cached. Write statements that are passed as statement providers discard all cached results because
+     * their tables are not known.
+     *
+     * <p>Cached results are shared - lists returned from the cache are unmodifiable. The row mapper (or row
+     * function) is part of the cache key and is compared with equals, so results are only shared by calls that
+     * pass the same row mapper instance. Keep row mappers in fields rather than creating one for each call.
+     *
+     * @param template the template
+     * @param resultCache the result cache
+     * @see QueryResultCache
+     */
+    public NamedParameterJdbcTemplateExtensions(NamedParameterJdbcTemplate template, QueryResultCache resultCache) {
+        this.template = Objects.requireNonNull(template);
+        this.resultCache = Objects.requireNonNull(resultCache);
+        router = null;
+        singleFlight = null;
+    }
+
+    /**
+     * Creates extensions that execute select and count statements on read replicas. Insert, update, and delete
+     * statements are executed on the primary. The tables of statements built with the DSL are known, so reads are
+     * only pinned to the primary after writes to the same tables. Statements passed as statement providers have
+     * unknown tables.
+     *
+     * @param router the router that chooses the template for each read
+     * @see ReadReplicaRouter
+     */
+    public NamedParameterJdbcTemplateExtensions(ReadReplicaRouter router) {
+        this.router = Objects.requireNonNull(router);
+        template = router.primary();
+        resultCache = null;
+        singleFlight = null;
+    }
+
+    public NamedParameterJdbcTemplateExtensions(ReadReplicaRouter router, QueryResultCache resultCache) {
+        this.router = Objects.requireNonNull(router);
+        template = router.primary();
+        this.resultCache = Objects.requireNonNull(resultCache);
+        singleFlight = null;
+    }
+
+    private NamedParameterJdbcTemplateExtensions(NamedParameterJdbcTemplate template, QueryResultCache resultCache,
+                                                 ReadReplicaRouter router, SingleFlight singleFlight) {
+        this.template = template;
+        this.resultCache = resultCache;
+        this.router = router;
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Returns extensions that execute identical select and count statements that run at the same time only once,
+     * and share the result. Statements are identical if they have the same SQL, parameters, and row mapper - row
+     * mappers are compared with equals, so only calls with the same row mapper instance are collapsed.
+     * Statements executed inside a Spring transaction are not collapsed, because they must see the writes of the
+     * transaction. Lists that may be shared are unmodifiable.
+     *
+     * @param singleFlight the single flight
+     * @return new extensions with the same template, router, and result cache as these extensions
+     * @see SingleFlight
+     */
+    public NamedParameterJdbcTemplateExtensions withSingleFlight(SingleFlight singleFlight) {
+        return new NamedParameterJdbcTemplateExtensions(template, resultCache, router,
+                Objects.requireNonNull(singleFlight));
     }
 
     public long count(Buildable<SelectModel> countStatement) {
-        return count(countStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        SelectModel selectModel = countStatement.build();
+        return select(selectModel, Long.class, ss -> read(selectModel, ss, Long.class, t -> queryCount(t, ss)));
     }
 
     public long count(SelectStatementProvider countStatement) {
-        return template.queryForObject(countStatement.getSelectStatement(), countStatement.getParameters(), Long.class);
+        return read(null, countStatement, Long.class, t -> queryCount(t, countStatement));
     }
 
     public int delete(Buildable<DeleteModel> deleteStatement) {
-        return delete(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        DeleteModel deleteModel = deleteStatement.build();
+        return write(TableDependencies.of(deleteModel),
+                () -> executeDelete(deleteModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
     }
 
     public int delete(DeleteStatementProvider deleteStatement) {
-        return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
+        return write(() -> executeDelete(deleteStatement));
     }
 
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
-        return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        GeneralInsertModel insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeGeneralInsert(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
     }
 
     public int generalInsert(GeneralInsertStatementProvider insertStatement) {
-        return template.update(insertStatement.getInsertStatement(), insertStatement.getParameters());
+        return write(() -> executeGeneralInsert(insertStatement));
     }
 
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement, KeyHolder keyHolder) {
-        return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), keyHolder);
+        GeneralInsertModel insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeGeneralInsert(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                        keyHolder));
     }
 
     public int generalInsert(GeneralInsertStatementProvider insertStatement, KeyHolder keyHolder) {
-        return template.update(insertStatement.getInsertStatement(),
-                new MapSqlParameterSource(insertStatement.getParameters()), keyHolder);
+        return write(() -> executeGeneralInsert(insertStatement, keyHolder));
     }
 
     public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
-        return insert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        InsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsert(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
     }
 
     public <T> int insert(InsertStatementProvider<T> insertStatement) {
-        return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement.getRow()));
+        return write(() -> executeInsert(insertStatement));
     }
 
     public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
-        return insert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), keyHolder);
+        InsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsert(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER), keyHolder));
     }
 
     public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
-        return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement.getRow()), keyHolder);
+        return write(() -> executeInsert(insertStatement, keyHolder));
     }
 
     public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
-        return insertBatch(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        BatchInsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsertBatch(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
     }
 
     public <T> int[] insertBatch(BatchInsert<T> insertStatement) {
-        SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(insertStatement.getRecords());
-        return template.batchUpdate(insertStatement.getInsertStatementSQL(), batch);
+        return write(() -> executeInsertBatch(insertStatement));
+    }
+
+    public <T> long insertBatch(Buildable<BatchInsertModel<T>> insertStatement, int chunkSize) {
+        BatchInsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsertBatch(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                        chunkSize));
+    }
+
+    public <T> long insertBatch(BatchInsert<T> insertStatement, int chunkSize) {
+        return write(() -> executeInsertBatch(insertStatement, chunkSize));
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
-        return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        MultiRowInsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsertMultiple(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
     }
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
-        return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+        return write(() -> executeInsertMultiple(insertStatement));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, MultiRowInsertLimits limits) {
+        MultiRowInsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsertMultiple(insertModel.renderInChunks(RenderingStrategies.SPRING_NAMED_PARAMETER,
+                        limits)));
+    }
+
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return write(() -> executeInsertMultiple(insertStatements));
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
-        return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), keyHolder);
+        MultiRowInsertModel<T> insertModel = insertStatement.build();
+        return write(TableDependencies.of(insertModel),
+                () -> executeInsertMultiple(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                        keyHolder));
     }
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
-        return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+        return write(() -> executeInsertMultiple(insertStatement, keyHolder));
     }
 
     public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
-        return selectList(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+        SelectModel selectModel = selectStatement.build();
+        Object resultMapping = Arrays.asList(List.class, rowMapper);
+        return select(selectModel, resultMapping,
+                ss -> read(selectModel, ss, resultMapping, t -> queryList(t, ss, rowMapper)));
     }
 
     public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
-        return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+        return read(null, selectStatement, Arrays.asList(List.class, rowMapper),
+                t -> queryList(t, selectStatement, rowMapper));
+    }
+
+    /**
+     * Execute a select statement and map each row with a function. The columns of each row are read by position
+     * with the typed getters of the columns in the select list - see
+     * {@link RowMappers#forSelectList(SelectModel, Function)}.
+     *
+     * @param selectStatement the select statement
+     * @param rowFunction a function that creates an object from the values of a row
+     * @param <T> the type of object created for each row
+     * @return the mapped rows
+     */
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, Function<Row, T> rowFunction) {
+        SelectModel selectModel = selectStatement.build();
+        Object resultMapping = Arrays.asList(List.class, rowFunction);
+        return select(selectModel, resultMapping,
+                ss -> read(selectModel, ss, resultMapping, t -> queryList(t, ss, rowMapper(selectModel, rowFunction))));
+    }
+
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        SelectModel selectModel = selectStatement.build();
+        return read(selectModel, t -> queryStream(t, selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowMapper));
+    }
+
+    /**
+     * Execute a select statement and return a Stream of mapped rows. Rows are read from the result set as the
+     * stream is consumed. The stream holds an open connection and must be closed after use, for example with
+     * a try-with-resources block.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a row mapper
+     * @param <T> the type of object returned for each row
+     * @return a Stream of mapped rows that must be closed after use
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return read(null, t -> queryStream(t, selectStatement, rowMapper));
+    }
+
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper,
+                                      int fetchSize) {
+        SelectModel selectModel = selectStatement.build();
+        return read(selectModel, t -> queryStream(t, selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowMapper, fetchSize));
+    }
+
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, RowMapper<T> rowMapper,
+                                      int fetchSize) {
+        return read(null, t -> queryStream(t, selectStatement, rowMapper, fetchSize));
+    }
+
+    public void selectEach(Buildable<SelectModel> selectStatement, RowCallbackHandler rowHandler) {
+        SelectModel selectModel = selectStatement.build();
+        read(selectModel, t -> queryEach(t, selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowHandler));
+    }
+
+    public void selectEach(SelectStatementProvider selectStatement, RowCallbackHandler rowHandler) {
+        read(null, t -> queryEach(t, selectStatement, rowHandler));
+    }
+
+    public void selectEach(Buildable<SelectModel> selectStatement, RowCallbackHandler rowHandler, int fetchSize) {
+        SelectModel selectModel = selectStatement.build();
+        read(selectModel, t -> queryEach(t, selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowHandler, fetchSize));
+    }
+
+    public void selectEach(SelectStatementProvider selectStatement, RowCallbackHandler rowHandler, int fetchSize) {
+        read(null, t -> queryEach(t, selectStatement, rowHandler, fetchSize));
     }
 
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
-        return selectOne(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+        SelectModel selectModel = selectStatement.build();
+        Object resultMapping = Arrays.asList(Optional.class, rowMapper);
+        return select(selectModel, resultMapping,
+                ss -> read(selectModel, ss, resultMapping, t -> queryOne(t, ss, rowMapper)));
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, Function<Row, T> rowFunction) {
+        SelectModel selectModel = selectStatement.build();
+        Object resultMapping = Arrays.asList(Optional.class, rowFunction);
+        return select(selectModel, resultMapping,
+                ss -> read(selectModel, ss, resultMapping, t -> queryOne(t, ss, rowMapper(selectModel, rowFunction))));
     }
 
     public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return read(null, selectStatement, Arrays.asList(Optional.class, rowMapper),
+                t -> queryOne(t, selectStatement, rowMapper));
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        UpdateModel updateModel = updateStatement.build();
+        return write(TableDependencies.of(updateModel),
+                () -> executeUpdate(updateModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER)));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return write(() -> executeUpdate(updateStatement));
+    }
+
+    private <T> RowMapper<T> rowMapper(SelectModel selectModel, Function<Row, T> rowFunction) {
+        return RowMappers.forSelectList(selectModel, rowFunction)::mapRow;
+    }
+
+    private <R> R select(SelectModel selectModel, Object resultMapping, Function<SelectStatementProvider, R> executor) {
+        if (resultCache == null) {
+            return executor.apply(selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        }
+        return resultCache.select(selectModel, RenderingStrategies.SPRING_NAMED_PARAMETER, resultMapping,
+                ss -> unmodifiable(executor.apply(ss)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R unmodifiable(R result) {
+        return result instanceof List ? (R) Collections.unmodifiableList((List<?>) result) : result;
+    }
+
+    /**
+     * A read that can be collapsed with identical reads by the single flight. Streams and row callbacks are not
+     * collapsed because they cannot be shared.
+     */
+    private <R> R read(SelectModel selectModel, SelectStatementProvider selectStatement, Object resultMapping,
+                       Function<NamedParameterJdbcTemplate, R> query) {
+        if (singleFlight == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return read(selectModel, query);
+        }
+        return singleFlight.select(selectStatement, resultMapping, ss -> unmodifiable(read(selectModel, query)));
+    }
+
+    private <R> R read(SelectModel selectModel, Function<NamedParameterJdbcTemplate, R> query) {
+        if (router == null) {
+            return query.apply(template);
+        }
+        return router.read(selectModel == null ? null : TableDependencies.of(selectModel).tableNames(), query);
+    }
+
+    private <R> R write(TableDependencies tableDependencies, Supplier<R> statement) {
+        Supplier<R> routedStatement = router == null ? statement
+                : () -> router.write(tableDependencies.tableNames(), statement);
+        if (resultCache == null) {
+            return routedStatement.get();
+        }
+        whenCompleted(() -> resultCache.invalidate(tableDependencies));
+        return resultCache.write(tableDependencies, routedStatement);
+    }
+
+    private <R> R write(Supplier<R> statement) {
+        Supplier<R> routedStatement = router == null ? statement : () -> router.write(statement);
+        if (resultCache == null) {
+            return routedStatement.get();
+        }
+        whenCompleted(resultCache::invalidateAll);
+        return resultCache.write(routedStatement);
+    }
+
+    /**
+     * The cache discards results when a write statement executes, but inside a transaction other threads still read
+     * the old rows until the transaction commits and may cache them again. Results read inside the transaction are
+     * cached before it commits or rolls back. Discarding the results again when the transaction completes removes
+     * both.
+     */
+    private static void whenCompleted(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private static long queryCount(NamedParameterJdbcTemplate template, SelectStatementProvider countStatement) {
+        return template.queryForObject(countStatement.getSelectStatement(), countStatement.getParameters(), Long.class);
+    }
+
+    private static <T> List<T> queryList(NamedParameterJdbcTemplate template, SelectStatementProvider selectStatement,
+                                         RowMapper<T> rowMapper) {
+        return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+    }
+
+    private static <T> Optional<T> queryOne(NamedParameterJdbcTemplate template,
+                                            SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
         T result;
         try {
             result = template.queryForObject(selectStatement.getSelectStatement(), selectStatement.getParameters(),
@@ -153,11 +457,84 @@ public class NamedParameterJdbcTemplateExtensions {
         return Optional.ofNullable(result);
     }
 
-    public int update(Buildable<UpdateModel> updateStatement) {
-        return update(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    private static <T> Stream<T> queryStream(NamedParameterJdbcTemplate template,
+                                             SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return template.queryForStream(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                rowMapper);
     }
 
-    public int update(UpdateStatementProvider updateStatement) {
+    private static <T> Stream<T> queryStream(NamedParameterJdbcTemplate template,
+                                             SelectStatementProvider selectStatement, RowMapper<T> rowMapper,
+                                             int fetchSize) {
+        return template.getJdbcOperations().queryForStream(SelectStatementCreator.of(selectStatement, fetchSize),
+                rowMapper);
+    }
+
+    private static Void queryEach(NamedParameterJdbcTemplate template, SelectStatementProvider selectStatement,
+                                  RowCallbackHandler rowHandler) {
+        template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowHandler);
+        return null;
+    }
+
+    private static Void queryEach(NamedParameterJdbcTemplate template, SelectStatementProvider selectStatement,
+                                  RowCallbackHandler rowHandler, int fetchSize) {
+        template.getJdbcOperations().query(SelectStatementCreator.of(selectStatement, fetchSize), rowHandler);
+        return null;
+    }
+
+    private int executeDelete(DeleteStatementProvider deleteStatement) {
+        return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
+    }
+
+    private int executeGeneralInsert(GeneralInsertStatementProvider insertStatement) {
+        return template.update(insertStatement.getInsertStatement(), insertStatement.getParameters());
+    }
+
+    private int executeGeneralInsert(GeneralInsertStatementProvider insertStatement, KeyHolder keyHolder) {
+        return template.update(insertStatement.getInsertStatement(),
+                new MapSqlParameterSource(insertStatement.getParameters()), keyHolder);
+    }
+
+    private <T> int executeInsert(InsertStatementProvider<T> insertStatement) {
+        return template.update(insertStatement.getInsertStatement(),
+                InsertParameterSource.of(insertStatement));
+    }
+
+    private <T> int executeInsert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
+        return template.update(insertStatement.getInsertStatement(),
+                InsertParameterSource.of(insertStatement), keyHolder);
+    }
+
+    private <T> int[] executeInsertBatch(BatchInsert<T> insertStatement) {
+        SqlParameterSource[] batch = InsertParameterSource.of(insertStatement);
+        return template.batchUpdate(insertStatement.getInsertStatementSQL(), batch);
+    }
+
+    private <T> long executeInsertBatch(BatchInsert<T> insertStatement, int chunkSize) {
+        String sql = insertStatement.getInsertStatementSQL();
+        return insertStatement.insertStatements(chunkSize)
+                .map(InsertParameterSource::of)
+                .mapToLong(batch -> UpdateCounts.insertedRows(template.batchUpdate(sql, batch)))
+                .sum();
+    }
+
+    private <T> int executeInsertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
+        return template.update(insertStatement.getInsertStatement(),
+                InsertParameterSource.of(insertStatement));
+    }
+
+    private <T> int executeInsertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.stream()
+                .mapToInt(this::executeInsertMultiple)
+                .sum();
+    }
+
+    private <T> int executeInsertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
+        return template.update(insertStatement.getInsertStatement(),
+                InsertParameterSource.of(insertStatement), keyHolder);
+    }
+
+    private int executeUpdate(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
 }
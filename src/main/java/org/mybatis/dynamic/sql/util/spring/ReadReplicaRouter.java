@@ -0,0 +1,279 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read statements to replica databases and everything else to the primary database. This is used with
+ * {@link NamedParameterJdbcTemplateExtensions}, which sends select and count statements through the router and
+ * executes insert, update, and delete statements on the primary.
+ *
+ * <p>Reads are pinned to the primary database when:
+ *
+ * <ul>
+ *     <li>there are no replicas</li>
+ *     <li>a Spring transaction that is not read only is active on the current thread</li>
+ *     <li>a write to one of the tables of the read statement was committed within the pin duration. Replication
+ *     lag means that a replica may not have the write yet. Writes are tracked for all threads that use the router,
+ *     not just the current thread. Writes with unknown tables pin every read, and reads with unknown tables are
+ *     pinned by every write.</li>
+ * </ul>
+ *
+ * <p>Otherwise a replica is chosen by round-robin or by the least number of statements in flight. Statements in
+ * flight are counted until the method that executes them returns, so a stream that is returned to the caller is
+ * not counted while it is read.
+ *
+ * <p>Write times and statements in flight are tracked by the router instance. Create one router for each primary
+ * database and use it for all extensions that read from it - writes through another router do not pin reads.
+ */
+public class ReadReplicaRouter {
+    private final NamedParameterJdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final Balancing balancing;
+    private final long pinNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private volatile Long lastUnknownWrite;
+    private volatile Long lastWrite;
+
+    private ReadReplicaRouter(Builder builder) {
+        primary = Objects.requireNonNull(builder.primary);
+        List<Replica> r = new ArrayList<>();
+        builder.replicas.forEach(t -> r.add(new Replica(t)));
+        replicas = Collections.unmodifiableList(r);
+        balancing = Objects.requireNonNull(builder.balancing);
+        if (builder.pinDuration.isNegative()) {
+            throw new IllegalArgumentException("Pin duration must not be negative"); //$NON-NLS-1$
+        }
+        pinNanos = builder.pinDuration.toNanos();
+    }
+
+    public NamedParameterJdbcTemplate primary() {
+        return primary;
+    }
+
+    /**
+     * Executes a read statement on a replica, or on the primary if the read is pinned.
+     *
+     * @param tableNames the names of the tables read by the statement, or null if they are not known
+     * @param query executes the statement with the chosen template
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R read(Set<String> tableNames, Function<NamedParameterJdbcTemplate, R> query) {
+        if (isPinnedToPrimary(tableNames)) {
+            return query.apply(primary);
+        }
+
+        Replica replica = chooseReplica();
+        replica.inFlight.incrementAndGet();
+        try {
+            return query.apply(replica.template);
+        } finally {
+            replica.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Executes a write statement on the primary, then pins reads of the tables to the primary for the pin
+     * duration. Reads are pinned even if the statement fails, because it may have partially succeeded.
+     *
+     * <p>If the statement is executed in a Spring transaction, the pin duration starts when the transaction
+     * commits - replicas cannot receive the write before then, and the transaction may run for longer than the pin
+     * duration. Nothing is pinned if the transaction rolls back.
+     *
+     * @param tableNames the names of the tables written by the statement
+     * @param statement executes the statement
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R write(Set<String> tableNames, Supplier<R> statement) {
+        try {
+            return statement.get();
+        } finally {
+            whenCommitted(() -> pin(tableNames));
+        }
+    }
+
+    /**
+     * Executes a write statement with unknown tables on the primary, then pins all reads to the primary for the pin
+     * duration. As with writes to known tables, the pin duration starts when the Spring transaction (if any)
+     * commits.
+     *
+     * @param statement executes the statement
+     * @param <R> the type of result
+     * @return the result of the statement
+     */
+    public <R> R write(Supplier<R> statement) {
+        try {
+            return statement.get();
+        } finally {
+            whenCommitted(this::pinAll);
+        }
+    }
+
+    private void pin(Set<String> tableNames) {
+        long now = System.nanoTime();
+        tableNames.forEach(t -> lastWrites.put(t, now));
+        lastWrite = now;
+    }
+
+    private void pinAll() {
+        long now = System.nanoTime();
+        lastUnknownWrite = now;
+        lastWrite = now;
+    }
+
+    private static void whenCommitted(Runnable pin) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            pin.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin.run();
+            }
+        });
+    }
+
+    /**
+     * Whether a read of the tables would be executed on the primary.
+     *
+     * @param tableNames the names of the tables read by the statement, or null if they are not known
+     * @return true if the read is pinned to the primary
+     */
+    public boolean isPinnedToPrimary(Set<String> tableNames) {
+        if (replicas.isEmpty() || isInWriteTransaction()) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (isWithinPinDuration(lastUnknownWrite, now)) {
+            return true;
+        }
+
+        if (tableNames == null) {
+            return isWithinPinDuration(lastWrite, now);
+        }
+
+        return tableNames.stream().anyMatch(t -> isWithinPinDuration(lastWrites.get(t), now));
+    }
+
+    private boolean isWithinPinDuration(Long writeTime, long now) {
+        return writeTime != null && now - writeTime < pinNanos;
+    }
+
+    private static boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private Replica chooseReplica() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        if (balancing == Balancing.ROUND_ROBIN) {
+            return replicas.get(start);
+        }
+
+        // ties go to the next replica in round-robin order
+        Replica chosen = replicas.get(start);
+        for (int i = 1; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.inFlight.get() < chosen.inFlight.get()) {
+                chosen = replica;
+            }
+        }
+        return chosen;
+    }
+
+    public static Builder withPrimary(NamedParameterJdbcTemplate primary) {
+        return new Builder().withPrimary(primary);
+    }
+
+    public enum Balancing {
+        ROUND_ROBIN,
+        LEAST_IN_FLIGHT
+    }
+
+    private static class Replica {
+        private final NamedParameterJdbcTemplate template;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Replica(NamedParameterJdbcTemplate template) {
+            this.template = Objects.requireNonNull(template);
+        }
+    }
+
+    public static class Builder {
+        private NamedParameterJdbcTemplate primary;
+        private final List<NamedParameterJdbcTemplate> replicas = new ArrayList<>();
+        private Balancing balancing = Balancing.ROUND_ROBIN;
+        private Duration pinDuration = Duration.ZERO;
+
+        public Builder withPrimary(NamedParameterJdbcTemplate primary) {
+            this.primary = primary;
+            return this;
+        }
+
+        public Builder withReplica(NamedParameterJdbcTemplate replica) {
+            replicas.add(replica);
+            return this;
+        }
+
+        public Builder withReplicas(List<NamedParameterJdbcTemplate> replicas) {
+            this.replicas.addAll(replicas);
+            return this;
+        }
+
+        public Builder withBalancing(Balancing balancing) {
+            this.balancing = balancing;
+            return this;
+        }
+
+        /**
+         * How long reads of a table are pinned to the primary after a write to the table. This should be longer
+         * than the replication lag. The default is zero - reads are not pinned after writes.
+         *
+         * @param pinDuration the pin duration
+         * @return this builder
+         */
+        public Builder withPinAfterWrite(Duration pinDuration) {
+            this.pinDuration = Objects.requireNonNull(pinDuration);
+            return this;
+        }
+
+        public ReadReplicaRouter build() {
+            return new ReadReplicaRouter(this);
+        }
+    }
+}
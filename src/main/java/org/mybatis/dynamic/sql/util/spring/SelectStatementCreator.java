@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Creates a prepared statement for a select statement rendered with the SPRING_NAMED_PARAMETER rendering strategy,
+ * and sets a fetch size on the statement. The named parameters are resolved in the same way as
+ * NamedParameterJdbcTemplate resolves them. This allows a fetch size to be specified for a single query rather than
+ * for every query executed by a template.
+ */
+public class SelectStatementCreator implements PreparedStatementCreator, ParameterDisposer, SqlProvider {
+    private final PreparedStatementCreator delegate;
+    private final String sql;
+    private final int fetchSize;
+
+    private SelectStatementCreator(PreparedStatementCreator delegate, String sql, int fetchSize) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.sql = Objects.requireNonNull(sql);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+        PreparedStatement preparedStatement = delegate.createPreparedStatement(connection);
+        preparedStatement.setFetchSize(fetchSize);
+        return preparedStatement;
+    }
+
+    @Override
+    public void cleanupParameters() {
+        if (delegate instanceof ParameterDisposer) {
+            ((ParameterDisposer) delegate).cleanupParameters();
+        }
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    public static SelectStatementCreator of(SelectStatementProvider selectStatement, int fetchSize) {
+        SqlParameterSource parameterSource = new MapSqlParameterSource(selectStatement.getParameters());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(selectStatement.getSelectStatement());
+        String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+
+        PreparedStatementCreator delegate = new PreparedStatementCreatorFactory(sql, declaredParameters)
+                .newPreparedStatementCreator(values);
+        return new SelectStatementCreator(delegate, sql, fetchSize);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * A Spring Batch item reader that reads pages with keyset (seek) paging. Each page is selected with a statement
+ * rendered by a {@link SpringBatchKeysetReaderSelectModel} from the order by column values of the last item read,
+ * so pages do not get slower as the reader progresses through the result set.
+ *
+ * <p>The key of the last item read is saved in the execution context. When a step is restarted, the reader
+ * continues after that key rather than reading and discarding the items that were already processed.
+ *
+ * <p>The query ID should reference a mapper method that uses {@link SpringBatchProviderAdapter} - the same
+ * kind of mapper method used with the MyBatisPagingItemReader. For example:
+ *
+ * <pre>
+ * SpringBatchKeysetPagingItemReader&lt;PersonRecord&gt; reader = new SpringBatchKeysetPagingItemReader&lt;&gt;();
+ * reader.setSqlSessionFactory(sqlSessionFactory);
+ * reader.setQueryId(PersonMapper.class.getName() + ".selectMany");
+ * reader.setSelectModel(SpringBatchUtility.selectForKeysetPaging(person.allColumns())
+ *         .from(person)
+ *         .orderBy(id)
+ *         .build());
+ * reader.setKeyExtractor(r -&gt; Collections.singletonList(r.getId()));
+ * reader.setPageSize(100);
+ * </pre>
+ *
+ * @param <T> the type of item read
+ */
+public class SpringBatchKeysetPagingItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+    private static final String LAST_KEY = "last.key"; //$NON-NLS-1$
+
+    private SqlSessionFactory sqlSessionFactory;
+    private String queryId;
+    private SpringBatchKeysetReaderSelectModel selectModel;
+    private Function<? super T, ? extends List<?>> keyExtractor;
+    private int pageSize = 10;
+
+    private List<T> page = Collections.emptyList();
+    private int pageIndex;
+    private boolean lastPageRead;
+    private ArrayList<Object> lastKey;
+    private boolean restarted;
+
+    public SpringBatchKeysetPagingItemReader() {
+        setName("springBatchKeysetPagingItemReader"); //$NON-NLS-1$
+    }
+
+    public void setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        this.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    public void setQueryId(String queryId) {
+        this.queryId = queryId;
+    }
+
+    public void setSelectModel(SpringBatchKeysetReaderSelectModel selectModel) {
+        this.selectModel = selectModel;
+    }
+
+    /**
+     * Sets the function that returns the order by column values of an item. The values must be returned in the same
+     * order as the columns in the order by clause of the select model.
+     *
+     * @param keyExtractor the key extractor
+     */
+    public void setKeyExtractor(Function<? super T, ? extends List<?>> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero"); //$NON-NLS-1$
+        }
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(LAST_KEY))) {
+            lastKey = new ArrayList<>((List<?>) executionContext.get(getExecutionContextKey(LAST_KEY)));
+            restarted = true;
+        }
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        if (isSaveState() && lastKey != null) {
+            executionContext.put(getExecutionContextKey(LAST_KEY), new ArrayList<>(lastKey));
+        }
+    }
+
+    @Override
+    protected void doOpen() {
+        Objects.requireNonNull(sqlSessionFactory, "A SqlSessionFactory is required"); //$NON-NLS-1$
+        Objects.requireNonNull(queryId, "A query ID is required"); //$NON-NLS-1$
+        Objects.requireNonNull(selectModel, "A select model is required"); //$NON-NLS-1$
+        Objects.requireNonNull(keyExtractor, "A key extractor is required"); //$NON-NLS-1$
+    }
+
+    @Override
+    protected T doRead() {
+        if (pageIndex >= page.size()) {
+            if (lastPageRead) {
+                return null;
+            }
+            readPage();
+            if (page.isEmpty()) {
+                return null;
+            }
+        }
+
+        T item = page.get(pageIndex++);
+        lastKey = new ArrayList<>(keyExtractor.apply(item));
+        return item;
+    }
+
+    private void readPage() {
+        Map<String, Object> parameterValues = SpringBatchUtility.toParameterValues(selectModel.render(lastKey));
+        parameterValues.put("_pagesize", pageSize); //$NON-NLS-1$
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            page = sqlSession.selectList(queryId, parameterValues);
+        }
+        pageIndex = 0;
+        lastPageRead = page.size() < pageSize;
+    }
+
+    /**
+     * Items do not need to be skipped when a key was restored from the execution context - the next page is
+     * selected after the restored key.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (!restarted) {
+            super.jumpToItem(itemIndex);
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        page = Collections.emptyList();
+        pageIndex = 0;
+        lastPageRead = false;
+        lastKey = null;
+        restarted = false;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * A select model for keyset (seek) paging in Spring Batch readers. Rather than skipping rows with an OFFSET clause,
+ * each page selects the rows that sort after the last row of the previous page. The cost of a page therefore stays
+ * constant no matter how far into the result set the reader has progressed, and the reader can restart from the key
+ * of the last row read.
+ *
+ * <p>The select statement must have an order by clause that defines a unique order for the rows (usually ending with
+ * the primary key). Statements are rendered with a LIMIT clause, so the database must support LIMIT.
+ *
+ * @see SpringBatchKeysetPagingItemReader
+ */
+public class SpringBatchKeysetReaderSelectModel {
+
+    private final SelectModel selectModel;
+
+    public SpringBatchKeysetReaderSelectModel(SelectModel selectModel) {
+        this.selectModel = Objects.requireNonNull(selectModel);
+    }
+
+    /**
+     * Renders the statement for the first page.
+     *
+     * @return the rendered statement
+     */
+    public SelectStatementProvider render() {
+        return render(null);
+    }
+
+    /**
+     * Renders the statement for the page that follows the row with the specified order by column values.
+     *
+     * @param lastRowKeyValues the order by column values of the last row read, or null for the first page
+     * @return the rendered statement
+     */
+    public SelectStatementProvider render(List<?> lastRowKeyValues) {
+        SelectModel model = lastRowKeyValues == null ? selectModel : selectModel.seekAfter(lastRowKeyValues);
+        SelectStatementProvider selectStatement =
+                model.render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
+        return new LimitDecorator(selectStatement);
+    }
+
+    public static class LimitDecorator implements SelectStatementProvider {
+        private final Map<String, Object> parameters = new HashMap<>();
+        private final String selectStatement;
+
+        public LimitDecorator(SelectStatementProvider delegate) {
+            parameters.putAll(delegate.getParameters());
+
+            selectStatement = delegate.getSelectStatement()
+                    + " LIMIT #{_pagesize}"; //$NON-NLS-1$
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String getSelectStatement() {
+            return selectStatement;
+        }
+    }
+}
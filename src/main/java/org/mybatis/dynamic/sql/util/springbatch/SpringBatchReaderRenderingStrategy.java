@@ -31,4 +31,10 @@ public class SpringBatchReaderRenderingStrategy extends MyBatis3RenderingStrateg
         String newPrefix = SpringBatchUtility.PARAMETER_KEY + "." + prefix; //$NON-NLS-1$
         return super.getFormattedJdbcPlaceholder(column, newPrefix, parameterName);
     }
+
+    @Override
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        String newPrefix = SpringBatchUtility.PARAMETER_KEY + "." + prefix; //$NON-NLS-1$
+        return super.getFormattedJdbcArrayPlaceholder(column, newPrefix, parameterName);
+    }
 }
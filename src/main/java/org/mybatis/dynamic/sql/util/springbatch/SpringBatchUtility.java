@@ -52,6 +52,21 @@ public class SpringBatchUtility {
         return SelectDSL.select(SpringBatchPagingReaderSelectModel::new, selectList);
     }
 
+    /**
+     * Select builder that renders in a manner appropriate for the SpringBatchKeysetPagingItemReader.
+     *
+     * <b>Important</b> the SELECT statement must have an ORDER BY clause that defines a unique order for the rows.
+     * Rendered SQL will contain a LIMIT clause. If your database (Oracle) does not support LIMIT, the queries will
+     * fail.
+     *
+     * @param selectList a column list for the SELECT statement
+     * @return FromGatherer used to continue a SELECT statement
+     */
+    public static QueryExpressionDSL.FromGatherer<SpringBatchKeysetReaderSelectModel> selectForKeysetPaging(
+            BasicColumn...selectList) {
+        return SelectDSL.select(SpringBatchKeysetReaderSelectModel::new, selectList);
+    }
+
     /**
      * Select builder that renders in a manner appropriate for the MyBatisCursorItemReader.
      *
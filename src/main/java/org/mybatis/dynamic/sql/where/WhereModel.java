@@ -19,10 +19,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
 import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
@@ -57,7 +57,7 @@ public class WhereModel {
     public WhereClauseProvider render(RenderingStrategy renderingStrategy) {
         return WhereRenderer.withWhereModel(this)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+                .withSequence(ParameterSequence.create())
                 .withTableAliasCalculator(TableAliasCalculator.empty())
                 .build()
                 .render()
@@ -68,7 +68,7 @@ public class WhereModel {
             TableAliasCalculator tableAliasCalculator) {
         return WhereRenderer.withWhereModel(this)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+                .withSequence(ParameterSequence.create())
                 .withTableAliasCalculator(tableAliasCalculator)
                 .build()
                 .render()
@@ -79,7 +79,7 @@ public class WhereModel {
             String parameterName) {
         return WhereRenderer.withWhereModel(this)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+                .withSequence(ParameterSequence.create())
                 .withTableAliasCalculator(TableAliasCalculator.empty())
                 .withParameterName(parameterName)
                 .build()
@@ -91,7 +91,7 @@ public class WhereModel {
             TableAliasCalculator tableAliasCalculator, String parameterName) {
         return WhereRenderer.withWhereModel(this)
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+                .withSequence(ParameterSequence.create())
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withParameterName(parameterName)
                 .build()
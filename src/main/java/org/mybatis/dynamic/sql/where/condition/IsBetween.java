@@ -21,6 +21,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.LateBoundParameter;
 
 public class IsBetween<T> extends AbstractTwoValueCondition<T> {
     private static final IsBetween<?> EMPTY = new IsBetween<Object>(null, null) {
@@ -40,6 +41,10 @@ public class IsBetween<T> extends AbstractTwoValueCondition<T> {
         super(value1, value2);
     }
 
+    private IsBetween(T value1, T value2, LateBoundParameter parameter1, LateBoundParameter parameter2) {
+        super(value1, value2, parameter1, parameter2);
+    }
+
     @Override
     public String renderCondition(String columnName, String placeholder1, String placeholder2) {
         return columnName + " between " + placeholder1 + " and " + placeholder2; //$NON-NLS-1$ //$NON-NLS-2$
@@ -90,6 +95,18 @@ public class IsBetween<T> extends AbstractTwoValueCondition<T> {
         return new WhenPresentBuilder<>(value1);
     }
 
+    /**
+     * Creates a condition whose values are supplied when a prepared statement template is bound.
+     *
+     * @param parameter1 the late bound parameter for the first value
+     * @param parameter2 the late bound parameter for the second value
+     * @param <T> the type of the values that will be bound to the parameters
+     * @return a new condition
+     */
+    public static <T> IsBetween<T> ofParameters(LateBoundParameter parameter1, LateBoundParameter parameter2) {
+        return new IsBetween<T>(null, null, parameter1, parameter2);
+    }
+
     public static class Builder<T> extends AndGatherer<T, IsBetween<T>> {
         private Builder(T value1) {
             super(value1);
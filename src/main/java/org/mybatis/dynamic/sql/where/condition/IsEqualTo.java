@@ -19,6 +19,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.LateBoundParameter;
 
 public class IsEqualTo<T> extends AbstractSingleValueCondition<T> {
 
@@ -39,6 +40,10 @@ public class IsEqualTo<T> extends AbstractSingleValueCondition<T> {
         super(value);
     }
 
+    private IsEqualTo(T value, LateBoundParameter parameter) {
+        super(value, parameter);
+    }
+
     @Override
     public String renderCondition(String columnName, String placeholder) {
         return columnName + " = " + placeholder; //$NON-NLS-1$
@@ -48,6 +53,17 @@ public class IsEqualTo<T> extends AbstractSingleValueCondition<T> {
         return new IsEqualTo<>(value);
     }
 
+    /**
+     * Creates a condition whose value is supplied when a prepared statement template is bound.
+     *
+     * @param parameter the late bound parameter
+     * @param <T> the type of the value that will be bound to the parameter
+     * @return a new condition
+     */
+    public static <T> IsEqualTo<T> ofParameter(LateBoundParameter parameter) {
+        return new IsEqualTo<T>(null, parameter);
+    }
+
     @Override
     public IsEqualTo<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsEqualTo::empty, this);
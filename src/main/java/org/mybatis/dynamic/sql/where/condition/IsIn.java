@@ -32,6 +32,9 @@ import org.mybatis.dynamic.sql.Callback;
 public class IsIn<T> extends AbstractListValueCondition<T> {
     private static final IsIn<?> EMPTY = new IsIn<>(Collections.emptyList());
 
+    private final int maximumChunkSize;
+    private final boolean padChunks;
+
     public static <T> IsIn<T> empty() {
         @SuppressWarnings("unchecked")
         IsIn<T> t = (IsIn<T>) EMPTY;
@@ -39,15 +42,21 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
     }
 
     private <S> IsIn<S> emptyWithCallBack() {
-        return new IsIn<>(Collections.emptyList(), emptyCallback);
+        return new IsIn<>(Collections.emptyList(), emptyCallback, maximumChunkSize, padChunks);
     }
 
     protected IsIn(Collection<T> values) {
-        super(values);
+        this(values, () -> { });
     }
 
     protected IsIn(Collection<T> values, Callback emptyCallback) {
+        this(values, emptyCallback, Integer.MAX_VALUE, false);
+    }
+
+    private IsIn(Collection<T> values, Callback emptyCallback, int maximumChunkSize, boolean padChunks) {
         super(values, emptyCallback);
+        this.maximumChunkSize = maximumChunkSize;
+        this.padChunks = padChunks;
     }
 
     @Override
@@ -58,12 +67,49 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
 
     @Override
     public IsIn<T> withListEmptyCallback(Callback callback) {
-        return new IsIn<>(values, callback);
+        return new IsIn<>(values, callback, maximumChunkSize, padChunks);
+    }
+
+    @Override
+    public int maximumChunkSize() {
+        return maximumChunkSize;
+    }
+
+    @Override
+    public boolean padChunks() {
+        return padChunks;
+    }
+
+    /**
+     * Returns a condition that renders at most the specified number of values in a single list. Larger lists are
+     * rendered as several lists - for example "(id in (?,?) or id in (?))". This is useful for databases that
+     * limit the number of values in a list (Oracle allows 1000).
+     *
+     * @param maximumChunkSize the maximum number of values in a single list
+     * @return a new condition with the same values that renders lists of at most the specified size
+     */
+    public IsIn<T> chunked(int maximumChunkSize) {
+        if (maximumChunkSize < 1) {
+            throw new IllegalArgumentException("Maximum chunk size must be greater than zero"); //$NON-NLS-1$
+        }
+        return new IsIn<>(values, emptyCallback, maximumChunkSize, padChunks);
+    }
+
+    /**
+     * Returns a condition that pads each rendered list of values to a power of two (but not beyond the maximum chunk
+     * size) by repeating the last value in the list. This limits the number of distinct statements the database sees
+     * for lists of different sizes, so cached execution plans are reused more often.
+     *
+     * @return a new condition with the same values that renders padded lists
+     */
+    public IsIn<T> paddedToPowerOfTwo() {
+        return new IsIn<>(values, emptyCallback, maximumChunkSize, true);
     }
 
     @Override
     public IsIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsIn::new, this, this::emptyWithCallBack);
+        return filterSupport(predicate, (v, c) -> new IsIn<>(v, c, maximumChunkSize, padChunks), this,
+                this::emptyWithCallBack);
     }
 
     /**
@@ -76,7 +122,8 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
      *     that will not render.
      */
     public <R> IsIn<R> map(Function<? super T, ? extends R> mapper) {
-        BiFunction<Collection<R>, Callback, IsIn<R>> constructor = IsIn::new;
+        BiFunction<Collection<R>, Callback, IsIn<R>> constructor =
+                (v, c) -> new IsIn<>(v, c, maximumChunkSize, padChunks);
         return mapSupport(mapper, constructor, this::emptyWithCallBack);
     }
 
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+
+/**
+ * Renders "column = any(?)" with all values bound to a single placeholder as an array. This is an alternative to
+ * the "in" condition for large lists on databases that support array parameters (PostgreSQL, H2). See
+ * {@link #withUnnest()} for HSQLDB.
+ *
+ * @param <T> the type of the column
+ */
+public class IsInArray<T> extends AbstractArrayValueCondition<T> {
+    private final boolean unnest;
+
+    protected IsInArray(Collection<T> values) {
+        this(values, () -> { });
+    }
+
+    protected IsInArray(Collection<T> values, Callback emptyCallback) {
+        this(values, emptyCallback, false);
+    }
+
+    private IsInArray(Collection<T> values, Callback emptyCallback, boolean unnest) {
+        super(values, emptyCallback);
+        this.unnest = unnest;
+    }
+
+    @Override
+    public String renderCondition(String columnName, String placeholder) {
+        if (unnest) {
+            return spaceAfter(columnName) + "in (unnest(" + placeholder + "))"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return spaceAfter(columnName) + "= any(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public IsInArray<T> withListEmptyCallback(Callback callback) {
+        return new IsInArray<>(values, callback, unnest);
+    }
+
+    /**
+     * Returns a condition that renders "column in (unnest(?))" instead. Use this form for databases that do not
+     * support array parameters in quantified comparisons (for example HSQLDB).
+     *
+     * @return a new condition with the same values that renders the unnest form
+     */
+    public IsInArray<T> withUnnest() {
+        return new IsInArray<>(values, emptyCallback, true);
+    }
+
+    @SafeVarargs
+    public static <T> IsInArray<T> of(T... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static <T> IsInArray<T> of(Collection<T> values) {
+        return new IsInArray<>(values);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.LateBoundParameter;
 
 public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
     private static final IsNotEqualTo<?> EMPTY = new IsNotEqualTo<Object>(null) {
@@ -38,6 +39,10 @@ public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
         super(value);
     }
 
+    private IsNotEqualTo(T value, LateBoundParameter parameter) {
+        super(value, parameter);
+    }
+
     @Override
     public String renderCondition(String columnName, String placeholder) {
         return columnName + " <> " + placeholder; //$NON-NLS-1$
@@ -47,6 +52,17 @@ public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
         return new IsNotEqualTo<>(value);
     }
 
+    /**
+     * Creates a condition whose value is supplied when a prepared statement template is bound.
+     *
+     * @param parameter the late bound parameter
+     * @param <T> the type of the value that will be bound to the parameter
+     * @return a new condition
+     */
+    public static <T> IsNotEqualTo<T> ofParameter(LateBoundParameter parameter) {
+        return new IsNotEqualTo<T>(null, parameter);
+    }
+
     @Override
     public IsNotEqualTo<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotEqualTo::empty, this);
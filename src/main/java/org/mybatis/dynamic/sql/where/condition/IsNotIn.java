@@ -32,6 +32,9 @@ import org.mybatis.dynamic.sql.Callback;
 public class IsNotIn<T> extends AbstractListValueCondition<T> {
     private static final IsNotIn<?> EMPTY = new IsNotIn<>(Collections.emptyList());
 
+    private final int maximumChunkSize;
+    private final boolean padChunks;
+
     public static <T> IsNotIn<T> empty() {
         @SuppressWarnings("unchecked")
         IsNotIn<T> t = (IsNotIn<T>) EMPTY;
@@ -39,15 +42,21 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
     }
 
     private <S> IsNotIn<S> emptyWithCallback() {
-        return new IsNotIn<>(Collections.emptyList(), emptyCallback);
+        return new IsNotIn<>(Collections.emptyList(), emptyCallback, maximumChunkSize, padChunks);
     }
 
     protected IsNotIn(Collection<T> values) {
-        super(values);
+        this(values, () -> { });
     }
 
     protected IsNotIn(Collection<T> values, Callback emptyCallback) {
+        this(values, emptyCallback, Integer.MAX_VALUE, false);
+    }
+
+    private IsNotIn(Collection<T> values, Callback emptyCallback, int maximumChunkSize, boolean padChunks) {
         super(values, emptyCallback);
+        this.maximumChunkSize = maximumChunkSize;
+        this.padChunks = padChunks;
     }
 
     @Override
@@ -59,12 +68,54 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
 
     @Override
     public IsNotIn<T> withListEmptyCallback(Callback callback) {
-        return new IsNotIn<>(values, callback);
+        return new IsNotIn<>(values, callback, maximumChunkSize, padChunks);
+    }
+
+    @Override
+    public int maximumChunkSize() {
+        return maximumChunkSize;
+    }
+
+    @Override
+    public boolean padChunks() {
+        return padChunks;
+    }
+
+    @Override
+    public String chunkConnector() {
+        return "and"; //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a condition that renders at most the specified number of values in a single list. Larger lists are
+     * rendered as several lists - for example "(id not in (?,?) and id not in (?))". This is useful for databases
+     * that limit the number of values in a list (Oracle allows 1000).
+     *
+     * @param maximumChunkSize the maximum number of values in a single list
+     * @return a new condition with the same values that renders lists of at most the specified size
+     */
+    public IsNotIn<T> chunked(int maximumChunkSize) {
+        if (maximumChunkSize < 1) {
+            throw new IllegalArgumentException("Maximum chunk size must be greater than zero"); //$NON-NLS-1$
+        }
+        return new IsNotIn<>(values, emptyCallback, maximumChunkSize, padChunks);
+    }
+
+    /**
+     * Returns a condition that pads each rendered list of values to a power of two (but not beyond the maximum chunk
+     * size) by repeating the last value in the list. This limits the number of distinct statements the database sees
+     * for lists of different sizes, so cached execution plans are reused more often.
+     *
+     * @return a new condition with the same values that renders padded lists
+     */
+    public IsNotIn<T> paddedToPowerOfTwo() {
+        return new IsNotIn<>(values, emptyCallback, maximumChunkSize, true);
     }
 
     @Override
     public IsNotIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsNotIn::new, this, this::emptyWithCallback);
+        return filterSupport(predicate, (v, c) -> new IsNotIn<>(v, c, maximumChunkSize, padChunks), this,
+                this::emptyWithCallback);
     }
 
     /**
@@ -77,7 +128,8 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
      *     that will not render.
      */
     public <R> IsNotIn<R> map(Function<? super T, ? extends R> mapper) {
-        BiFunction<Collection<R>, Callback, IsNotIn<R>> constructor = IsNotIn::new;
+        BiFunction<Collection<R>, Callback, IsNotIn<R>> constructor =
+                (v, c) -> new IsNotIn<>(v, c, maximumChunkSize, padChunks);
         return mapSupport(mapper, constructor, this::emptyWithCallback);
     }
 
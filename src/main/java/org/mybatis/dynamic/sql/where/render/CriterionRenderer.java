@@ -19,8 +19,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.BooleanSupplier;
 
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
 import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
@@ -30,15 +29,14 @@ import org.mybatis.dynamic.sql.ExistsPredicate;
 import org.mybatis.dynamic.sql.NotCriterion;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 /**
- * Renders a {@link SqlCriterion} to a {@link RenderedCriterion}. The process is complex because all conditions
+ * Renders a {@link SqlCriterion} into a {@link RenderingContext}. The process is complex because all conditions
  * may or may not be a candidate for rendering. For example, "isEqualWhenPresent" will not render when the value
  * is null. It is also complex because SqlCriterion may or may not include sub-criteria.
  *
@@ -53,16 +51,25 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
  * <p>It is also possible that the end result will be empty if all criteria and sub-criteria are not valid for
  * rendering.
  *
+ * <p>All criteria are appended directly to the rendering context. Because we cannot know in advance whether a
+ * group will render more than one criterion, the opening delimiter of a group is rendered speculatively
+ * and is replaced (or removed) when the group renders a single criterion, or nothing at all.
+ *
+ * <p>When used as a {@link SqlCriterionVisitor}, this class renders a criterion in isolation and returns a
+ * {@link RenderedCriterion}. The isolated rendering shares the sequence of the rendering context.
+ *
  * @author Jeff Butler
  */
 public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedCriterion>> {
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final TableAliasCalculator tableAliasCalculator;
     private final String parameterName;
 
     private CriterionRenderer(Builder builder) {
-        sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = builder.renderingContext == null
+                ? new RenderingContext(Objects.requireNonNull(builder.sequence))
+                : builder.renderingContext;
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
         parameterName = builder.parameterName;
@@ -70,206 +77,223 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
 
     @Override
     public <T> Optional<RenderedCriterion> visit(ColumnAndConditionCriterion<T> criterion) {
-        Optional<FragmentAndParameters> initialCriterion = renderColumnAndCondition(criterion);
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(criterion.subCriteria());
-
-        return initialCriterion.map(fp -> calculateRenderedCriterion(fp, renderedSubCriteria, this::calculateFragment))
-                .orElseGet(() -> calculateRenderedCriterion(renderedSubCriteria, this::calculateFragment));
+        return renderInIsolation(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(ExistsCriterion criterion) {
-        FragmentAndParameters initialCriterion = renderExists(criterion);
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(criterion.subCriteria());
-
-        return calculateRenderedCriterion(initialCriterion, renderedSubCriteria, this::calculateFragment);
+        return renderInIsolation(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(CriteriaGroup criterion) {
-        return renderCriteriaGroup(criterion, this::calculateFragment);
+        return renderInIsolation(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(NotCriterion criterion) {
-        return renderCriteriaGroup(criterion, this::calculateNotFragment);
+        return renderInIsolation(criterion);
     }
 
-    private Optional<RenderedCriterion> renderCriteriaGroup(CriteriaGroup criterion,
-                                                            Function<FragmentCollector, String> fragmentCalculator) {
-        return criterion.initialCriterion().map(ic -> render(ic, criterion.subCriteria(), fragmentCalculator))
-                .orElseGet(() -> render(criterion.subCriteria(), fragmentCalculator));
-    }
-
-    public Optional<RenderedCriterion> render(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria,
-                                              Function<FragmentCollector, String> fragmentCalculator) {
-        Optional<FragmentAndParameters> fragmentAndParameters = initialCriterion.accept(this)
-                .map(RenderedCriterion::fragmentAndParameters);
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(subCriteria);
-
-        return fragmentAndParameters.map(fp -> calculateRenderedCriterion(fp, renderedSubCriteria, fragmentCalculator))
-                .orElseGet(() -> calculateRenderedCriterion(renderedSubCriteria, fragmentCalculator));
+    /**
+     * Renders an initial criterion and a list of sub criteria into the rendering context. The prefix is
+     * rendered before the criteria if anything renders. Multiple criteria are not enclosed in parentheses.
+     *
+     * @param initialCriterion the initial criterion
+     * @param subCriteria a list of sub criteria. The sub criteria will all have connectors (either an AND or an OR)
+     * @param prefix text to render before the criteria, for example "where "
+     * @return true if anything was rendered
+     */
+    public boolean render(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria, String prefix) {
+        CriterionAppender appender = new CriterionAppender(renderingContext);
+        return appender.renderGroup(() -> initialCriterion.accept(appender), subCriteria,
+                prefix, prefix, ""); //$NON-NLS-1$
     }
 
-    public Optional<RenderedCriterion> render(List<AndOrCriteriaGroup> subCriteria,
-                                              Function<FragmentCollector, String> fragmentCalculator) {
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(subCriteria);
-        return calculateRenderedCriterion(renderedSubCriteria, fragmentCalculator);
+    /**
+     * Renders a list of sub criteria into the rendering context. The connector of the first rendered sub criterion
+     * is not rendered. This to avoid generating an invalid where clause like "where and a &lt; 3". The prefix is
+     * rendered before the criteria if anything renders. Multiple criteria are not enclosed in parentheses.
+     *
+     * @param subCriteria a list of sub criteria. The sub criteria will all have connectors (either an AND or an OR)
+     * @param prefix text to render before the criteria, for example "where "
+     * @return true if anything was rendered
+     */
+    public boolean render(List<AndOrCriteriaGroup> subCriteria, String prefix) {
+        return new CriterionAppender(renderingContext).renderGroup(() -> false, subCriteria,
+                prefix, prefix, ""); //$NON-NLS-1$
     }
 
-    private <T> Optional<FragmentAndParameters> renderColumnAndCondition(ColumnAndConditionCriterion<T> criterion) {
-        if (criterion.condition().shouldRender()) {
-            return Optional.of(renderCondition(criterion));
+    private Optional<RenderedCriterion> renderInIsolation(SqlCriterion criterion) {
+        RenderingContext isolatedContext = new RenderingContext(renderingContext.sequence());
+        if (criterion.accept(new CriterionAppender(isolatedContext))) {
+            return Optional.of(new RenderedCriterion.Builder()
+                    .withFragmentAndParameters(isolatedContext.toFragmentAndParameters())
+                    .build());
         } else {
-            criterion.condition().renderingSkipped();
             return Optional.empty();
         }
     }
 
-    private FragmentAndParameters renderExists(ExistsCriterion criterion) {
-        ExistsPredicate existsPredicate = criterion.existsPredicate();
-
-        SelectStatementProvider selectStatement = SelectRenderer
-                .withSelectModel(existsPredicate.selectModelBuilder().build())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withParentTableAliasCalculator(tableAliasCalculator)
-                .build()
-                .render();
-
-        String fragment = existsPredicate.operator()
-                + " (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement()
-                + ")"; //$NON-NLS-1$
-
-        return FragmentAndParameters
-                .withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
-    }
+    /**
+     * Visitor that appends a criterion (and its sub criteria) to a rendering context and returns true
+     * if anything was rendered.
+     */
+    private class CriterionAppender implements SqlCriterionVisitor<Boolean> {
+        private final RenderingContext context;
 
-    private List<RenderedCriterion> renderSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
-        return subCriteria.stream().map(this::renderAndOrCriteriaGroup)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-    }
+        private CriterionAppender(RenderingContext context) {
+            this.context = context;
+        }
 
-    private Optional<RenderedCriterion> renderAndOrCriteriaGroup(AndOrCriteriaGroup criterion) {
-        return criterion.initialCriterion().map(ic -> render(ic, criterion.subCriteria(), this::calculateFragment))
-                .orElseGet(() -> render(criterion.subCriteria(), this::calculateFragment))
-                .map(rc -> rc.withConnector(criterion.connector()));
-    }
+        @Override
+        public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+            return renderGroup(() -> renderColumnAndCondition(criterion), criterion.subCriteria(),
+                    "(", "", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
 
-    private Optional<RenderedCriterion> calculateRenderedCriterion(FragmentAndParameters initialCriterion,
-            List<RenderedCriterion> renderedSubCriteria, Function<FragmentCollector, String> fragmentCalculator) {
-        return Optional.of(calculateRenderedCriterion(
-                collectSqlFragments(initialCriterion, renderedSubCriteria), fragmentCalculator));
-    }
+        @Override
+        public Boolean visit(ExistsCriterion criterion) {
+            return renderGroup(() -> renderExists(criterion), criterion.subCriteria(),
+                    "(", "", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
 
-    private RenderedCriterion calculateRenderedCriterion(FragmentCollector fragmentCollector,
-                                                         Function<FragmentCollector, String> fragmentCalculator) {
-        FragmentAndParameters fragmentAndParameters = FragmentAndParameters
-                .withFragment(fragmentCalculator.apply(fragmentCollector))
-                .withParameters(fragmentCollector.parameters())
-                .build();
+        @Override
+        public Boolean visit(CriteriaGroup criterion) {
+            return renderGroup(() -> renderInitialCriterion(criterion), criterion.subCriteria(),
+                    "(", "", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
 
-        return new RenderedCriterion.Builder()
-                .withFragmentAndParameters(fragmentAndParameters)
-                .build();
-    }
+        @Override
+        public Boolean visit(NotCriterion criterion) {
+            return renderGroup(() -> renderInitialCriterion(criterion), criterion.subCriteria(),
+                    "not (", "not ", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
 
-    private Optional<RenderedCriterion> calculateRenderedCriterion(List<RenderedCriterion> renderedSubCriteria,
-            Function<FragmentCollector, String> fragmentCalculator) {
-        return collectSqlFragments(renderedSubCriteria).map(fc -> calculateRenderedCriterion(fc, fragmentCalculator));
-    }
+        /**
+         * This method encapsulates the logic of rendering a group of criteria - an initial criterion (which may or
+         * may not render) followed by a list of sub criteria (which may or may not render). The opening delimiter is
+         * rendered speculatively. If nothing renders, then everything rendered by this method is discarded. If only a
+         * single criterion renders, then the opening delimiter is replaced with the single criterion prefix. If
+         * multiple criteria render, then the closing delimiter is appended.
+         *
+         * @param initialRenderer renders the initial criterion (if any), and returns true if something rendered
+         * @param subCriteria a list of sub criteria. The sub criteria will all have connectors (either an AND
+         *                    or an OR)
+         * @param open delimiter to render before multiple criteria
+         * @param singleOpen delimiter to render before a single criterion
+         * @param close delimiter to render after multiple criteria
+         * @return true if anything was rendered
+         */
+        private boolean renderGroup(BooleanSupplier initialRenderer, List<AndOrCriteriaGroup> subCriteria,
+                                    String open, String singleOpen, String close) {
+            int mark = context.mark();
+            context.append(open);
+            int contentStart = context.mark();
+
+            int renderedCount = initialRenderer.getAsBoolean() ? 1 : 0;
+            for (AndOrCriteriaGroup subCriterion : subCriteria) {
+                if (renderAndOrCriteriaGroup(subCriterion, renderedCount > 0)) {
+                    renderedCount++;
+                }
+            }
+
+            if (renderedCount == 0) {
+                context.reset(mark);
+                return false;
+            }
+
+            if (renderedCount == 1) {
+                if (!open.equals(singleOpen)) {
+                    context.replace(mark, contentStart, singleOpen);
+                }
+            } else {
+                context.append(close);
+            }
+            return true;
+        }
 
-    private <T> FragmentAndParameters renderCondition(ColumnAndConditionCriterion<T> criterion) {
-        WhereConditionVisitor<T> visitor = WhereConditionVisitor.withColumn(criterion.column())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build();
-        return criterion.condition().accept(visitor);
-    }
+        private boolean renderAndOrCriteriaGroup(AndOrCriteriaGroup criterion, boolean withConnector) {
+            int mark = context.mark();
+            if (withConnector) {
+                context.append(' ').append(criterion.connector()).append(' ');
+            }
 
-    /**
-     * This method encapsulates the logic of building a collection of fragments from an initial condition
-     * and a list of rendered sub criteria. In this overload we know there is an initial condition
-     * and there may be subcriteria. The collector will contain the initial condition and any rendered subcriteria
-     * in order.
-     *
-     * @param initialCondition - may not be null. If there is no initial condition, then use the other overload
-     * @param renderedSubCriteria - a list of previously rendered sub criteria. The sub criteria will all
-     *                            have connectors (either an AND or an OR)
-     * @return a fragment collector whose fragments represent the final calculated list of fragments and parameters.
-     *     The fragment collector can be used to calculate the single composed fragment - either as a where clause, or
-     *     a valid rendered sub criteria in the case of a recursive call.
-     */
-    private FragmentCollector collectSqlFragments(FragmentAndParameters initialCondition,
-                                                  List<RenderedCriterion> renderedSubCriteria) {
-        return renderedSubCriteria.stream()
-                .map(RenderedCriterion::fragmentAndParametersWithConnector)
-                .collect(FragmentCollector.collect(initialCondition));
-    }
+            boolean rendered = renderGroup(() -> renderInitialCriterion(criterion.initialCriterion()),
+                    criterion.subCriteria(), "(", "", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-    /**
-     * This method encapsulates the logic of building a collection of fragments from a list of rendered sub criteria.
-     * In this overload we take the initial condition to be the first element in the subcriteria list.
-     * The collector will contain the rendered subcriteria in order. However, the connector from the first rendered
-     * sub criterion will be removed. This to avoid generating an invalid where clause like "where and a < 3"
-     *
-     * @param renderedSubCriteria - a list of previously rendered sub criteria. The sub criteria will all
-     *                            have connectors (either an AND or an OR)
-     * @return a fragment collector whose fragments represent the final calculated list of fragments and parameters.
-     *     The fragment collector can be used to calculate the single composed fragment - either as a where clause, or
-     *     a valid rendered sub criteria in the case of a recursive call.
-     */
-    private Optional<FragmentCollector> collectSqlFragments(List<RenderedCriterion> renderedSubCriteria) {
-        if (renderedSubCriteria.isEmpty()) {
-            return Optional.empty();
+            if (!rendered) {
+                context.reset(mark);
+            }
+            return rendered;
         }
 
-        FragmentAndParameters firstCondition = renderedSubCriteria.get(0).fragmentAndParameters();
-
-        FragmentCollector fc = renderedSubCriteria.stream()
-                .skip(1)
-                .map(RenderedCriterion::fragmentAndParametersWithConnector)
-                .collect(FragmentCollector.collect(firstCondition));
+        private boolean renderInitialCriterion(CriteriaGroup criterion) {
+            return renderInitialCriterion(criterion.initialCriterion());
+        }
 
-        return Optional.of(fc);
-    }
+        private boolean renderInitialCriterion(Optional<SqlCriterion> initialCriterion) {
+            return initialCriterion.map(ic -> ic.accept(this)).orElse(false);
+        }
 
-    private String calculateFragment(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.fragments()
-                    .collect(Collectors.joining(" ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        } else {
-            return collector.fragments().findFirst().orElse(""); //$NON-NLS-1$
+        private <T> boolean renderColumnAndCondition(ColumnAndConditionCriterion<T> criterion) {
+            if (criterion.condition().shouldRender()) {
+                WhereConditionVisitor<T> visitor = WhereConditionVisitor.withColumn(criterion.column())
+                        .withRenderingStrategy(renderingStrategy)
+                        .withRenderingContext(context)
+                        .withTableAliasCalculator(tableAliasCalculator)
+                        .withParameterName(parameterName)
+                        .build();
+                criterion.condition().accept(visitor);
+                return true;
+            } else {
+                criterion.condition().renderingSkipped();
+                return false;
+            }
         }
-    }
 
-    private String calculateNotFragment(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.fragments()
-                    .collect(Collectors.joining(" ", "not (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        } else {
-            return collector.fragments().findFirst().map(s -> "not " + s).orElse(""); //$NON-NLS-1$ //$NON-NLS-2$
+        private boolean renderExists(ExistsCriterion criterion) {
+            ExistsPredicate existsPredicate = criterion.existsPredicate();
+
+            context.append(existsPredicate.operator()).append(" ("); //$NON-NLS-1$
+            SelectRenderer.withSelectModel(existsPredicate.selectModelBuilder().build())
+                    .withRenderingStrategy(renderingStrategy)
+                    .withParentTableAliasCalculator(tableAliasCalculator)
+                    .build()
+                    .render(context);
+            context.append(')');
+            return true;
         }
     }
 
     public static class Builder {
-        private AtomicInteger sequence;
+        private ParameterSequence sequence;
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
         private TableAliasCalculator tableAliasCalculator;
         private String parameterName;
 
-        public Builder withSequence(AtomicInteger sequence) {
+        /**
+         * Sets the sequence used for parameter map keys. This is only used if a rendering context is not
+         * specified.
+         *
+         * @param sequence the sequence
+         * @return this builder
+         */
+        public Builder withSequence(ParameterSequence sequence) {
             this.sequence = sequence;
             return this;
         }
 
+        public Builder withSequence(AtomicInteger sequence) {
+            return withSequence(ParameterSequence.of(sequence));
+        }
+
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
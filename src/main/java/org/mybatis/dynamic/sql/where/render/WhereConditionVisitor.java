@@ -15,9 +15,14 @@
  */
 package org.mybatis.dynamic.sql.where.render;
 
+import java.util.Iterator;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
 import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.AbstractNoValueCondition;
@@ -26,103 +31,140 @@ import org.mybatis.dynamic.sql.AbstractSubselectCondition;
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
 import org.mybatis.dynamic.sql.BindableColumn;
 import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.LateBoundParameter;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
-public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAndParameters> {
+/**
+ * Renders a condition directly into a {@link RenderingContext}. Each visit method appends the rendered
+ * condition to the context and returns the same context.
+ *
+ * @param <T> the type of the column
+ */
+public class WhereConditionVisitor<T> implements ConditionVisitor<T, RenderingContext> {
 
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
     private final BindableColumn<T> column;
     private final TableAliasCalculator tableAliasCalculator;
     private final String parameterPrefix;
 
     private WhereConditionVisitor(Builder<T> builder) {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
         column = Objects.requireNonNull(builder.column);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
         parameterPrefix = Objects.requireNonNull(builder.parameterPrefix);
     }
 
     @Override
-    public FragmentAndParameters visit(AbstractListValueCondition<T> condition) {
-        FragmentCollector fc = condition.mapValues(this::toFragmentAndParameters)
-                .collect(FragmentCollector.collect());
+    public RenderingContext visit(AbstractListValueCondition<T> condition) {
+        int valueCount = condition.valueCount();
+        int maximumChunkSize = condition.maximumChunkSize();
+        if (valueCount <= maximumChunkSize && !condition.padChunks()) {
+            // placeholders are calculated lazily as the condition consumes the stream, so the
+            // parameters are added to the context in the same order as the placeholders are rendered
+            return renderingContext.append(condition.renderCondition(columnName(),
+                    condition.mapValues(this::renderParameter)));
+        }
+
+        // chunks are rendered one at a time from a single iterator over the values
+        String columnName = columnName();
+        Iterator<T> values = condition.mapValues(Function.<T>identity()).iterator();
+        boolean multipleChunks = valueCount > maximumChunkSize;
+        if (multipleChunks) {
+            renderingContext.append('(');
+        }
+
+        int remaining = valueCount;
+        while (remaining > 0) {
+            if (remaining < valueCount) {
+                renderingContext.append(' ').append(condition.chunkConnector()).append(' ');
+            }
+            int chunkValueCount = Math.min(remaining, maximumChunkSize);
+            ChunkPlaceholders chunkPlaceholders = new ChunkPlaceholders(values, chunkValueCount);
+            renderingContext.append(condition.renderCondition(columnName,
+                    IntStream.range(0, condition.placeholderCount(chunkValueCount)).mapToObj(chunkPlaceholders)));
+            remaining -= chunkValueCount;
+        }
 
-        return FragmentAndParameters.withFragment(condition.renderCondition(columnName(), fc.fragments()))
-                .withParameters(fc.parameters())
-                .build();
+        if (multipleChunks) {
+            renderingContext.append(')');
+        }
+        return renderingContext;
     }
 
     @Override
-    public FragmentAndParameters visit(AbstractNoValueCondition<T> condition) {
-        return FragmentAndParameters.withFragment(condition.renderCondition(columnName()))
-                .build();
+    public RenderingContext visit(AbstractNoValueCondition<T> condition) {
+        return renderingContext.append(condition.renderCondition(columnName()));
     }
 
     @Override
-    public FragmentAndParameters visit(AbstractSingleValueCondition<T> condition) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey));
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey, convertValue(condition.value()))
-                .build();
+    public RenderingContext visit(AbstractSingleValueCondition<T> condition) {
+        String placeholder = condition.parameter()
+                .map(this::renderLateBoundParameter)
+                .orElseGet(() -> renderParameter(condition.value()));
+        return renderingContext.append(condition.renderCondition(columnName(), placeholder));
     }
 
     @Override
-    public FragmentAndParameters visit(AbstractTwoValueCondition<T> condition) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey1),
-                getFormattedJdbcPlaceholder(mapKey2));
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey1, convertValue(condition.value1()))
-                .withParameter(mapKey2, convertValue(condition.value2()))
-                .build();
+    public RenderingContext visit(AbstractTwoValueCondition<T> condition) {
+        String placeholder1 = condition.parameter1()
+                .map(this::renderLateBoundParameter)
+                .orElseGet(() -> renderParameter(condition.value1()));
+        String placeholder2 = condition.parameter2()
+                .map(this::renderLateBoundParameter)
+                .orElseGet(() -> renderParameter(condition.value2()));
+        return renderingContext.append(condition.renderCondition(columnName(), placeholder1, placeholder2));
     }
 
-
     @Override
-    public FragmentAndParameters visit(AbstractSubselectCondition<T> condition) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(condition.selectModel())
+    public RenderingContext visit(AbstractSubselectCondition<T> condition) {
+        // the condition controls where the sub select appears, so it is rendered to a separate buffer
+        RenderingContext subContext = renderingContext.subContext();
+        SelectRenderer.withSelectModel(condition.selectModel())
                 .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
                 .withParentTableAliasCalculator(tableAliasCalculator)
                 .build()
-                .render();
+                .render(subContext);
 
-        String fragment = condition.renderCondition(columnName(), selectStatement.getSelectStatement());
+        return renderingContext.append(condition.renderCondition(columnName(), subContext.fragment()));
+    }
 
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
+    @Override
+    public RenderingContext visit(AbstractColumnComparisonCondition<T> condition) {
+        return renderingContext.append(condition.renderCondition(columnName(), tableAliasCalculator));
     }
 
     @Override
-    public FragmentAndParameters visit(AbstractColumnComparisonCondition<T> condition) {
-        String fragment = condition.renderCondition(columnName(), tableAliasCalculator);
-        return FragmentAndParameters.withFragment(fragment).build();
+    public RenderingContext visit(AbstractArrayValueCondition<T> condition) {
+        Object array = condition.createArray(condition.mapValues(this::convertValue).collect(Collectors.toList()));
+        String mapKey = renderingContext.nextMapKey();
+        renderingContext.addParameter(mapKey, array);
+        String placeholder = column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcArrayPlaceholder(column, parameterPrefix, mapKey);
+        return renderingContext.append(condition.renderCondition(columnName(), placeholder));
     }
 
     private Object convertValue(T value) {
         return column.convertParameterType(value);
     }
 
-    private FragmentAndParameters toFragmentAndParameters(T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+    private String renderParameter(T value) {
+        return renderConvertedParameter(convertValue(value));
+    }
+
+    private String renderLateBoundParameter(LateBoundParameter parameter) {
+        // conversion is deferred until a value is bound to the parameter
+        return renderConvertedParameter(parameter.forColumn(column));
+    }
 
-        return FragmentAndParameters.withFragment(getFormattedJdbcPlaceholder(mapKey))
-                .withParameter(mapKey, convertValue(value))
-                .build();
+    private String renderConvertedParameter(Object convertedValue) {
+        String mapKey = renderingContext.nextMapKey();
+        renderingContext.addParameter(mapKey, convertedValue);
+        return getFormattedJdbcPlaceholder(mapKey);
     }
 
     private String getFormattedJdbcPlaceholder(String mapKey) {
@@ -134,19 +176,42 @@ public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAnd
         return column.renderWithTableAlias(tableAliasCalculator);
     }
 
+    /**
+     * Renders the placeholders of one chunk of a list condition. Placeholders beyond the number of values
+     * in the chunk are padding and repeat the last value of the chunk.
+     */
+    private class ChunkPlaceholders implements IntFunction<String> {
+        private final Iterator<T> values;
+        private final int chunkValueCount;
+        private Object convertedValue;
+
+        private ChunkPlaceholders(Iterator<T> values, int chunkValueCount) {
+            this.values = values;
+            this.chunkValueCount = chunkValueCount;
+        }
+
+        @Override
+        public String apply(int index) {
+            if (index < chunkValueCount) {
+                convertedValue = convertValue(values.next());
+            }
+            return renderConvertedParameter(convertedValue);
+        }
+    }
+
     public static <T> Builder<T> withColumn(BindableColumn<T> column) {
         return new Builder<T>().withColumn(column);
     }
 
     public static class Builder<T> {
         private RenderingStrategy renderingStrategy;
-        private AtomicInteger sequence;
+        private RenderingContext renderingContext;
         private BindableColumn<T> column;
         private TableAliasCalculator tableAliasCalculator;
         private String parameterPrefix = RenderingStrategy.DEFAULT_PARAMETER_PREFIX;
 
-        public Builder<T> withSequence(AtomicInteger sequence) {
-            this.sequence = sequence;
+        public Builder<T> withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
             return this;
         }
 
@@ -18,49 +18,61 @@ package org.mybatis.dynamic.sql.where.render;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
-import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class WhereRenderer {
     private final WhereModel whereModel;
+    private final RenderingContext renderingContext;
     private final CriterionRenderer criterionRenderer;
 
     private WhereRenderer(Builder builder) {
         whereModel = Objects.requireNonNull(builder.whereModel);
+        renderingContext = builder.renderingContext == null
+                ? new RenderingContext(Objects.requireNonNull(builder.sequence))
+                : builder.renderingContext;
 
         criterionRenderer = new CriterionRenderer.Builder()
-                .withSequence(builder.sequence)
+                .withRenderingContext(renderingContext)
                 .withRenderingStrategy(builder.renderingStrategy)
                 .withTableAliasCalculator(builder.tableAliasCalculator)
                 .withParameterName(builder.parameterName)
                 .build();
     }
 
+    /**
+     * Renders a standalone where clause. This should only be used when the renderer is built with
+     * a sequence rather than with a rendering context that is shared with other renderers.
+     *
+     * @return the rendered where clause, or empty if no criteria rendered
+     */
     public Optional<WhereClauseProvider> render() {
-        return whereModel.initialCriterion().map(this::renderWithInitialCriterion)
-                .orElseGet(this::renderWithoutInitialCriterion)
-                .map(rc -> WhereClauseProvider.withWhereClause(rc.fragmentAndParameters().fragment())
-                        .withParameters(rc.fragmentAndParameters().parameters())
-                        .build()
-                );
-    }
-
-    private Optional<RenderedCriterion> renderWithInitialCriterion(SqlCriterion initialCriterion) {
-        return criterionRenderer.render(initialCriterion, whereModel.subCriteria(), this::calculateWhereClause);
+        if (renderWhereClause("where ")) { //$NON-NLS-1$
+            return Optional.of(WhereClauseProvider.withWhereClause(renderingContext.fragment())
+                    .withParameters(renderingContext.parameters())
+                    .build());
+        } else {
+            return Optional.empty();
+        }
     }
 
-    private Optional<RenderedCriterion> renderWithoutInitialCriterion() {
-        return criterionRenderer.render(whereModel.subCriteria(), this::calculateWhereClause);
+    /**
+     * Appends the where clause to the rendering context. The where clause will be preceded by a space.
+     *
+     * @return true if a where clause was rendered
+     */
+    public boolean renderWithSpaceBefore() {
+        return renderWhereClause(" where "); //$NON-NLS-1$
     }
 
-    private String calculateWhereClause(FragmentCollector collector) {
-        return collector.fragments()
-                .collect(Collectors.joining(" ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private boolean renderWhereClause(String prefix) {
+        return whereModel.initialCriterion()
+                .map(ic -> criterionRenderer.render(ic, whereModel.subCriteria(), prefix))
+                .orElseGet(() -> criterionRenderer.render(whereModel.subCriteria(), prefix));
     }
 
     public static Builder withWhereModel(WhereModel whereModel) {
@@ -71,7 +83,8 @@ public class WhereRenderer {
         private WhereModel whereModel;
         private RenderingStrategy renderingStrategy;
         private TableAliasCalculator tableAliasCalculator;
-        private AtomicInteger sequence;
+        private ParameterSequence sequence;
+        private RenderingContext renderingContext;
         private String parameterName;
 
         public Builder withWhereModel(WhereModel whereModel) {
@@ -89,11 +102,20 @@ public class WhereRenderer {
             return this;
         }
 
-        public Builder withSequence(AtomicInteger sequence) {
+        public Builder withSequence(ParameterSequence sequence) {
             this.sequence = sequence;
             return this;
         }
 
+        public Builder withSequence(AtomicInteger sequence) {
+            return withSequence(ParameterSequence.of(sequence));
+        }
+
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public Builder withParameterName(String parameterName) {
             this.parameterName = parameterName;
             return this;
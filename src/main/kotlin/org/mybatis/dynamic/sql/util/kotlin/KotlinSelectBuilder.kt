@@ -51,6 +51,10 @@ class KotlinSelectBuilder(private val fromGatherer: QueryExpressionDSL.FromGathe
         getDsl().orderBy(columns.toList())
     }
 
+    fun seekAfter(vararg lastRowKeyValues: Any?) {
+        getDsl().seekAfter(lastRowKeyValues.toList())
+    }
+
     fun limit(limit: Long) {
         getDsl().limit(limit)
     }
@@ -56,6 +56,7 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsIn
+import org.mybatis.dynamic.sql.where.condition.IsInArray
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsLessThan
@@ -71,6 +72,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotIn
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotLike
@@ -261,6 +263,14 @@ fun <T> isNotInWhenPresent(vararg values: T?): IsNotIn<T> = isNotInWhenPresent(v
 
 fun <T> isNotInWhenPresent(values: Collection<T?>?): IsNotIn<T> = SqlBuilder.isNotInWhenPresent(values)
 
+fun <T> isInArray(vararg values: T & Any): IsInArray<T> = isInArray(values.asList())
+
+fun <T> isInArray(values: Collection<T & Any>): IsInArray<T> = SqlBuilder.isInArray(values)
+
+fun <T> isNotInArray(vararg values: T & Any): IsNotInArray<T> = isNotInArray(values.asList())
+
+fun <T> isNotInArray(values: Collection<T & Any>): IsNotInArray<T> = SqlBuilder.isNotInArray(values)
+
 fun <T> isBetween(value1: T & Any): BetweenBuilder<T & Any> = BetweenBuilder(value1)
 
 fun <T> isBetweenWhenPresent(value1: T?): BetweenWhenPresentBuilder<T> = BetweenWhenPresentBuilder(value1)
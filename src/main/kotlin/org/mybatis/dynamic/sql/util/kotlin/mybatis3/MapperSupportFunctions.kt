@@ -16,6 +16,8 @@
 @file:Suppress("TooManyFunctions")
 package org.mybatis.dynamic.sql.util.kotlin.mybatis3
 
+import org.apache.ibatis.cursor.Cursor
+import org.apache.ibatis.session.ResultHandler
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
@@ -130,6 +132,17 @@ fun insertSelect(
 ): Int =
     insertSelect(table, completer).run(mapper)
 
+fun <T> selectCursor(
+    mapper: (SelectStatementProvider) -> Cursor<T>,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+): Cursor<T> =
+    select(selectList) {
+        from(table)
+        run(completer)
+    }.run(mapper)
+
 fun <T> selectDistinct(
     mapper: (SelectStatementProvider) -> List<T>,
     selectList: List<BasicColumn>,
@@ -163,5 +176,19 @@ fun <T> selectOne(
         run(completer)
     }.run(mapper)
 
+fun <T> selectStreaming(
+    mapper: (SelectStatementProvider, ResultHandler<T>) -> Unit,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter,
+    consumer: (T) -> Unit
+) {
+    val selectStatement = select(selectList) {
+        from(table)
+        run(completer)
+    }
+    mapper(selectStatement) { consumer(it.resultObject) }
+}
+
 fun update(mapper: (UpdateStatementProvider) -> Int, table: SqlTable, completer: UpdateCompleter): Int =
     update(table, completer).run(mapper)
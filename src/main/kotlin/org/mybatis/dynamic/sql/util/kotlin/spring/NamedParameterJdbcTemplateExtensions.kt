@@ -26,6 +26,7 @@ import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider
+import org.mybatis.dynamic.sql.util.UpdateCounts
 import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
 import org.mybatis.dynamic.sql.util.kotlin.DeleteCompleter
 import org.mybatis.dynamic.sql.util.kotlin.GeneralInsertCompleter
@@ -36,12 +37,13 @@ import org.mybatis.dynamic.sql.util.kotlin.KotlinMultiRowInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import org.mybatis.dynamic.sql.util.spring.InsertParameterSource
+import org.mybatis.dynamic.sql.util.spring.SelectStatementCreator
 import org.springframework.dao.EmptyResultDataAccessException
+import org.springframework.jdbc.core.RowCallbackHandler
 import org.springframework.jdbc.core.RowMapper
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
-import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils
 import org.springframework.jdbc.support.KeyHolder
 import java.sql.ResultSet
 import kotlin.reflect.KClass
@@ -66,7 +68,14 @@ fun NamedParameterJdbcTemplate.deleteFrom(table: SqlTable, completer: DeleteComp
 
 // batch insert
 fun <T> NamedParameterJdbcTemplate.insertBatch(insertStatement: BatchInsert<T>): IntArray =
-    batchUpdate(insertStatement.insertStatementSQL, SqlParameterSourceUtils.createBatch(insertStatement.records))
+    batchUpdate(insertStatement.insertStatementSQL, InsertParameterSource.of(insertStatement))
+
+fun <T> NamedParameterJdbcTemplate.insertBatch(insertStatement: BatchInsert<T>, chunkSize: Int): Long =
+    insertStatement.insertStatements(chunkSize)
+        .mapToLong {
+            UpdateCounts.insertedRows(batchUpdate(insertStatement.insertStatementSQL, InsertParameterSource.of(it)))
+        }
+        .sum()
 
 fun <T : Any> NamedParameterJdbcTemplate.insertBatch(
     vararg records: T,
@@ -90,13 +99,13 @@ fun <T : Any> NamedParameterJdbcTemplate.insertBatch(records: List<T>): BatchIns
 
 // single row insert
 fun <T> NamedParameterJdbcTemplate.insert(insertStatement: InsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement.row))
+    update(insertStatement.insertStatement, InsertParameterSource.of(insertStatement))
 
 fun <T> NamedParameterJdbcTemplate.insert(
     insertStatement: InsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement.row), keyHolder)
+    update(insertStatement.insertStatement, InsertParameterSource.of(insertStatement), keyHolder)
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(row: T, completer: KotlinInsertCompleter<T>): Int =
     insert(org.mybatis.dynamic.sql.util.kotlin.spring.insert(row, completer))
@@ -140,13 +149,13 @@ fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(records: List<T>): Multi
     MultiRowInsertHelper(records, this)
 
 fun <T> NamedParameterJdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, InsertParameterSource.of(insertStatement))
 
 fun <T> NamedParameterJdbcTemplate.insertMultiple(
     insertStatement: MultiRowInsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(insertStatement.insertStatement, InsertParameterSource.of(insertStatement), keyHolder)
 
 fun NamedParameterJdbcTemplate.insertSelect(table: SqlTable, completer: InsertSelectCompleter): Int =
     insertSelect(org.mybatis.dynamic.sql.util.kotlin.spring.insertSelect(table, completer))
@@ -248,6 +257,44 @@ fun <T : Any> NamedParameterJdbcTemplate.selectOne(
     null
 }
 
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T,
+    fetchSize: Int? = null,
+    block: (Sequence<T>) -> R
+): R = selectSequence(selectStatement, RowMapper(rowMapper), fetchSize, block)
+
+/**
+ * Executes a select statement and passes a lazy sequence of mapped rows to the block. Rows are read from the
+ * result set as the sequence is iterated, and the result set is closed when the block returns - so the sequence
+ * must not be used outside the block.
+ */
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>,
+    fetchSize: Int? = null,
+    block: (Sequence<T>) -> R
+): R {
+    val stream = if (fetchSize == null) {
+        queryForStream(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    } else {
+        jdbcOperations.queryForStream(SelectStatementCreator.of(selectStatement, fetchSize), rowMapper)
+    }
+    return stream.use { block(it.iterator().asSequence()) }
+}
+
+fun NamedParameterJdbcTemplate.selectEach(
+    selectStatement: SelectStatementProvider,
+    fetchSize: Int? = null,
+    rowHandler: (rs: ResultSet) -> Unit
+) {
+    if (fetchSize == null) {
+        query(selectStatement.selectStatement, selectStatement.parameters, RowCallbackHandler(rowHandler))
+    } else {
+        jdbcOperations.query(SelectStatementCreator.of(selectStatement, fetchSize), RowCallbackHandler(rowHandler))
+    }
+}
+
 fun NamedParameterJdbcTemplate.update(updateStatement: UpdateStatementProvider): Int =
     update(updateStatement.updateStatement, updateStatement.parameters)
 
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -643,6 +644,110 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testChunkedInCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(5, 8, 10, 12, 14).chunked(2).paddedToPowerOfTwo())
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(5);
+        }
+    }
+
+    @Test
+    void testChunkedNotInCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isNotIn(5, 8, 10).chunked(2))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(62);
+        }
+    }
+
+    @Test
+    void testInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(5, 8, 10).withUnnest())
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData"
+                    + " where id in (unnest(#{parameters.p1,jdbcType=ARRAY}))");
+            assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {5, 8, 10});
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(3);
+        }
+    }
+
+    @Test
+    void testNotInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isNotInArray(5, 8, 10).withUnnest())
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(62);
+        }
+    }
+
+    @Test
+    void testSeekPagination() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<AnimalData> allAnimals = mapper.selectMany(select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .orderBy(bodyWeight.descending(), id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+
+            List<AnimalData> pagedAnimals = new ArrayList<>();
+            List<AnimalData> page = mapper.selectMany(select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .orderBy(bodyWeight.descending(), id)
+                    .limit(10)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+            while (!page.isEmpty()) {
+                pagedAnimals.addAll(page);
+                AnimalData last = page.get(page.size() - 1);
+                page = mapper.selectMany(select(id, animalName, bodyWeight, brainWeight)
+                        .from(animalData)
+                        .orderBy(bodyWeight.descending(), id)
+                        .seekAfter(last.getBodyWeight(), last.getId())
+                        .limit(10)
+                        .build()
+                        .render(RenderingStrategies.MYBATIS3));
+            }
+
+            assertThat(pagedAnimals).hasSize(65).extracting(AnimalData::getId)
+                    .containsExactlyElementsOf(allAnimals.stream().map(AnimalData::getId)
+                            .collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void testInConditionWithEventuallyEmptyList() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.animal.data;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.mybatis3.CachingLanguageDriver;
+
+class CachingLanguageDriverTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private SqlSessionFactory sqlSessionFactory;
+    private CachingLanguageDriver languageDriver;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        Environment environment = new Environment("test", new JdbcTransactionFactory(), ds);
+        Configuration config = new Configuration(environment);
+        config.setDefaultScriptingLanguage(CachingLanguageDriver.class);
+        config.addMapper(AnimalDataMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+        languageDriver = (CachingLanguageDriver) config.getDefaultScriptingLanguageInstance();
+        languageDriver.clear();
+    }
+
+    @Test
+    void testRepeatedStatementIsParsedOnce() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<AnimalData> first = mapper.selectMany(selectById(3));
+            long missesAfterFirst = languageDriver.missCount();
+            long hitsAfterFirst = languageDriver.hitCount();
+            List<AnimalData> second = mapper.selectMany(selectById(7));
+
+            assertAll(
+                    () -> assertThat(first).hasSize(1).first().extracting(AnimalData::getId).isEqualTo(3),
+                    () -> assertThat(second).hasSize(1).first().extracting(AnimalData::getId).isEqualTo(7),
+                    () -> assertThat(languageDriver.missCount()).isEqualTo(missesAfterFirst),
+                    () -> assertThat(languageDriver.hitCount()).isEqualTo(hitsAfterFirst + 1),
+                    () -> assertThat(languageDriver.size()).isEqualTo(1)
+            );
+        }
+    }
+
+    @Test
+    void testDifferentStatementsAreCachedSeparately() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(3, 7))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            long hitsBefore = languageDriver.hitCount();
+            mapper.selectMany(selectById(3));
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+
+            assertAll(
+                    () -> assertThat(animals).extracting(AnimalData::getId).containsExactly(3, 7),
+                    () -> assertThat(languageDriver.size()).isEqualTo(2),
+                    () -> assertThat(languageDriver.hitCount()).isEqualTo(hitsBefore)
+            );
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsEvicted() {
+        CachingLanguageDriver driver = new CachingLanguageDriver(2);
+        Configuration config = new Configuration();
+
+        SqlSource first = driver.createSqlSource(config, "select 1 from foo", Object.class);
+        driver.createSqlSource(config, "select 2 from foo", Object.class);
+        driver.createSqlSource(config, "select 1 from foo", Object.class);
+        driver.createSqlSource(config, "select 3 from foo", Object.class);
+        SqlSource firstAgain = driver.createSqlSource(config, "select 1 from foo", Object.class);
+        driver.createSqlSource(config, "select 2 from foo", Object.class);
+
+        assertAll(
+                () -> assertThat(firstAgain).isSameAs(first),
+                () -> assertThat(driver.hitCount()).isEqualTo(2),
+                () -> assertThat(driver.missCount()).isEqualTo(4),
+                () -> assertThat(driver.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new CachingLanguageDriver(0))
+                .withMessage("Maximum size must be greater than zero");
+    }
+
+    private SelectStatementProvider selectById(int animalId) {
+        return select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isEqualTo(animalId))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.jdbc;
+
+import static examples.jdbc.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutionException;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.util.jdbc.RowMapper;
+import org.mybatis.dynamic.sql.util.jdbc.RowMappers;
+
+class JdbcExecutorTest {
+
+    private JDBCDataSource dataSource;
+    private JdbcExecutor executor;
+
+    @BeforeEach
+    void setup() throws Exception {
+        dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:jdbcexecutor");
+        dataSource.setUser("sa");
+
+        InputStream is = getClass().getResourceAsStream("/examples/simple/CreateSimpleDB.sql");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        executor = new JdbcExecutor(dataSource);
+    }
+
+    @Test
+    void testSelect() {
+        List<PersonRecord> rows = executor.selectList(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(employed, isEqualTo(true))
+                        .and(birthDate, isGreaterThan(toDate(1936, 1, 1)))
+                        .orderBy(id),
+                personRowMapper);
+
+        assertAll(
+                () -> assertThat(rows).extracting(PersonRecord::getId).containsExactly(2, 4, 5),
+                () -> assertThat(rows.get(0).getEmployed()).isTrue(),
+                () -> assertThat(rows.get(0).getOccupation()).isEqualTo("Accountant")
+        );
+    }
+
+    @Test
+    void testSelectWithRowFunction() {
+        List<PersonRecord> rows = executor.selectList(
+                select(id.as("person_id"), firstName, lastName, birthDate, employed)
+                        .from(person)
+                        .where(id, isLessThan(3))
+                        .orderBy(id),
+                row -> {
+                    PersonRecord record = new PersonRecord();
+                    record.setId(row.get(id));
+                    record.setFirstName(row.get(2));
+                    record.setLastName(row.get(lastName));
+                    record.setBirthDate(row.get(birthDate));
+                    record.setEmployed("Yes".equals(row.get(5)));
+                    return record;
+                });
+
+        assertAll(
+                () -> assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 2),
+                () -> assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Fred", "Wilma"),
+                () -> assertThat(rows.get(0).getLastName()).isEqualTo("Flintstone"),
+                () -> assertThat(rows.get(0).getBirthDate()).isInstanceOf(java.sql.Date.class),
+                () -> assertThat(rows.get(0).getEmployed()).isTrue()
+        );
+    }
+
+    @Test
+    void testSelectOneWithRowFunctionAndMissingColumn() {
+        Optional<Integer> addressOfFred = executor.selectOne(
+                select(addressId).from(person).where(id, isEqualTo(1)),
+                row -> row.get(addressId));
+        assertThat(addressOfFred).hasValue(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> executor.selectOne(
+                        select(addressId).from(person).where(id, isEqualTo(1)),
+                        row -> row.get(id)))
+                .withMessage("The column is not in the select list");
+    }
+
+    @Test
+    void testSelectWithConstructor() {
+        SelectModel selectModel = select(id, firstName, addressId)
+                .from(person)
+                .where(lastName, isEqualTo("Rubble"))
+                .orderBy(id)
+                .build();
+
+        List<PersonSummary> rows = executor.selectList(() -> selectModel,
+                RowMappers.toConstructor(selectModel, PersonSummary.class));
+
+        assertThat(rows).extracting(r -> r.name).containsExactly("Barney", "Betty", "Bamm Bamm");
+        assertThat(rows).extracting(r -> r.addressId).containsOnly(2L);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RowMappers.toConstructor(select(id).from(person).build(), PersonSummary.class));
+    }
+
+    @Test
+    void testSelectWithListAndArrayConditions() {
+        List<Integer> ids = executor.selectList(
+                select(id)
+                        .from(person)
+                        .where(id, isIn(1, 2, 3, 4, 5).chunked(2))
+                        .and(addressId, isInArray(2).withUnnest())
+                        .and(occupation, isNotNull())
+                        .orderBy(id),
+                RowMappers.integerValue());
+
+        assertThat(ids).containsExactly(4, 5);
+    }
+
+    @Test
+    void testSelectRenderedStatement() {
+        SelectStatementProvider selectStatement = select(id, firstName)
+                .from(person)
+                .where(lastName, isEqualTo("Rubble"))
+                .orderBy(id)
+                .limit(2)
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        List<Map<String, Object>> rows = executor.selectList(selectStatement, RowMappers.toMap());
+
+        assertAll(
+                () -> assertThat(rows).hasSize(2),
+                () -> assertThat(rows.get(0)).containsEntry("ID", 4).containsEntry("FIRST_NAME", "Barney")
+        );
+    }
+
+    @Test
+    void testSelectOne() {
+        Optional<PersonRecord> row = executor.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(3)),
+                personRowMapper);
+
+        assertThat(row).hasValueSatisfying(r -> {
+            assertThat(r.getFirstName()).isEqualTo("Pebbles");
+            assertThat(r.getOccupation()).isNull();
+            assertThat(r.getEmployed()).isFalse();
+        });
+    }
+
+    @Test
+    void testSelectOneWithNoRows() {
+        Optional<String> row = executor.selectOne(
+                select(firstName).from(person).where(id, isEqualTo(300)),
+                RowMappers.stringValue());
+
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    void testSelectOneWithTooManyRows() {
+        assertThatExceptionOfType(JdbcExecutionException.class)
+                .isThrownBy(() -> executor.selectOne(select(firstName).from(person), RowMappers.stringValue()))
+                .withMessage("Expected one row or none, but the statement returned more than one:"
+                        + " select first_name from Person");
+    }
+
+    @Test
+    void testCount() {
+        long rows = executor.count(countFrom(person).where(lastName, isEqualTo("Flintstone")));
+
+        assertThat(rows).isEqualTo(3);
+    }
+
+    @Test
+    void testDatabaseError() {
+        assertThatExceptionOfType(JdbcExecutionException.class)
+                .isThrownBy(() -> executor.count(countFrom(SqlTable.of("NoSuchTable"))))
+                .withMessage("Error executing statement: select count(*) from NoSuchTable")
+                .withCauseInstanceOf(SQLException.class);
+    }
+
+    @Test
+    void testUpdate() {
+        int rows = executor.update(update(person)
+                .set(occupation).equalTo("Programmer")
+                .set(employed).equalTo(true)
+                .where(id, isEqualTo(3)));
+
+        Optional<PersonRecord> row = executor.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(3)),
+                personRowMapper);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(row).hasValueSatisfying(r -> {
+            assertThat(r.getOccupation()).isEqualTo("Programmer");
+            assertThat(r.getEmployed()).isTrue();
+        });
+    }
+
+    @Test
+    void testDelete() {
+        int rows = executor.delete(deleteFrom(person).where(occupation, isNull()));
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(executor.count(countFrom(person))).isEqualTo(4);
+    }
+
+    @Test
+    void testGeneralInsert() {
+        int rows = executor.generalInsert(insertInto(person)
+                .set(id).toValue(100)
+                .set(firstName).toValue("Joe")
+                .set(lastName).toValue("Jones")
+                .set(birthDate).toValue(toDate(1980, 3, 4))
+                .set(employed).toValue(false)
+                .set(occupation).toValue((String) null)
+                .set(addressId).toValue(1));
+
+        Optional<PersonRecord> row = executor.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(100)),
+                personRowMapper);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(row).hasValueSatisfying(r -> {
+            assertThat(r.getBirthDate()).isEqualTo(toDate(1980, 3, 4));
+            assertThat(r.getEmployed()).isFalse();
+            assertThat(r.getOccupation()).isNull();
+        });
+    }
+
+    @Test
+    void testInsert() {
+        PersonRecord record = newPerson(100, "Joe");
+
+        int rows = executor.insert(insert(record).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId"));
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(executor.count(countFrom(person).where(lastName, isEqualTo("Jones")))).isEqualTo(1);
+    }
+
+    @Test
+    void testInsertMultiple() {
+        List<PersonRecord> records = Arrays.asList(newPerson(100, "Joe"), newPerson(101, "Sarah"),
+                newPerson(102, "Sam"));
+
+        int rows = executor.insertMultiple(insertMultiple(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toNull()
+                .map(addressId).toConstant("2"));
+
+        List<String> names = executor.selectList(
+                select(firstName).from(person).where(addressId, isEqualTo(2)).and(id, isGreaterThan(99))
+                        .orderBy(id),
+                RowMappers.stringValue());
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(names).containsExactly("Joe", "Sarah", "Sam");
+    }
+
+    @Test
+    void testInsertBatch() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(newPerson(100 + i, "Name" + i));
+        }
+
+        int[] rows = executor.insertBatch(insertBatch(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toNull()
+                .map(addressId).toProperty("addressId"));
+
+        assertThat(rows).hasSize(10).containsOnly(1);
+        assertThat(executor.count(countFrom(person).where(lastName, isEqualTo("Jones")))).isEqualTo(10);
+    }
+
+    @Test
+    void testInsertMultipleWithPropertyAccessors() {
+        List<PersonRecord> records = Arrays.asList(newPerson(100, "Joe"), newPerson(101, "Sarah"));
+
+        int rows = executor.insertMultiple(insertMultiple(records).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toNull()
+                .map(addressId).toProperty(PersonRecord::getAddressId));
+
+        List<String> names = executor.selectList(
+                select(firstName).from(person).where(employed, isEqualTo(true)).and(id, isGreaterThan(99))
+                        .orderBy(id),
+                RowMappers.stringValue());
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(names).containsExactly("Joe", "Sarah");
+    }
+
+    @Test
+    void testInsertMultipleInChunks() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(newPerson(100 + i, "Name" + i));
+        }
+
+        int rows = executor.insertMultiple(insertMultiple(records).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toNull()
+                .map(addressId).toProperty(PersonRecord::getAddressId), MultiRowInsertLimits.of(2, 100));
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(executor.count(countFrom(person).where(id, isGreaterThan(99)))).isEqualTo(5);
+    }
+
+    @Test
+    void testInsertBatchWithPropertyAccessors() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(newPerson(100 + i, "Name" + i));
+        }
+
+        int[] rows = executor.insertBatch(insertBatch(records).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty(PersonRecord::getLastName)
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toNull()
+                .map(addressId).toProperty(PersonRecord::getAddressId));
+
+        assertThat(rows).hasSize(10).containsOnly(1);
+        assertThat(executor.count(countFrom(person).where(firstName, isEqualTo("Name9")))).isEqualTo(1);
+    }
+
+    @Test
+    void testStreamingInsertBatchInChunks() {
+        Stream<PersonRecord> records = IntStream.range(100, 107).mapToObj(i -> newPerson(i, "Name" + i));
+
+        long rows = executor.insertBatch(insertBatch(records).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty(PersonRecord::getLastName)
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty(PersonRecord::getAddressId), 3);
+
+        assertThat(rows).isEqualTo(7);
+        assertThat(executor.count(countFrom(person).where(lastName, isEqualTo("Jones")).and(id, isGreaterThan(99))))
+                .isEqualTo(7);
+    }
+
+    @Test
+    void testConnectionIsNotCommitted() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            JdbcExecutor connectionExecutor = new JdbcExecutor(connection);
+
+            int rows = connectionExecutor.delete(deleteFrom(person));
+            long countInTransaction = connectionExecutor.count(countFrom(person));
+            connection.rollback();
+
+            assertThat(rows).isEqualTo(6);
+            assertThat(countInTransaction).isZero();
+            assertThat(connection.isClosed()).isFalse();
+        }
+
+        assertThat(executor.count(countFrom(person))).isEqualTo(6);
+    }
+
+    @Test
+    void testMissingProperty() {
+        assertThatExceptionOfType(JdbcExecutionException.class)
+                .isThrownBy(() -> executor.insert(insert(newPerson(100, "Joe")).into(person)
+                        .map(id).toProperty("id")
+                        .map(firstName).toProperty("givenName")))
+                .withMessage("There is no getter for property \"givenName\" in class " + PersonRecord.class.getName());
+    }
+
+    private static Date toDate(int year, int month, int day) {
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static PersonRecord newPerson(int id, String firstName) {
+        PersonRecord record = new PersonRecord();
+        record.setId(id);
+        record.setFirstName(firstName);
+        record.setLastName("Jones");
+        record.setBirthDate(toDate(1980, 3, 4));
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(2);
+        return record;
+    }
+
+    private static final RowMapper<PersonRecord> personRowMapper = (rs, rowNumber) -> {
+        PersonRecord record = new PersonRecord();
+        record.setId(rs.getInt(1));
+        record.setFirstName(rs.getString(2));
+        record.setLastName(rs.getString(3));
+        record.setBirthDate(rs.getDate(4));
+        record.setEmployed("Yes".equals(rs.getString(5)));
+        record.setOccupation(rs.getString(6));
+        record.setAddressId(rs.getInt(7));
+        return record;
+    };
+
+    public static class PersonSummary {
+        private final Integer id;
+        private final String name;
+        private final long addressId;
+
+        public PersonSummary(Integer id, String name, long addressId) {
+            this.id = id;
+            this.name = name;
+            this.addressId = addressId;
+        }
+    }
+}
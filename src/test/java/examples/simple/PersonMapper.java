@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -29,6 +30,8 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.ResultMap;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
@@ -39,6 +42,7 @@ import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateDSLCompleter;
 import org.mybatis.dynamic.sql.update.UpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonCountMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonDeleteMapper;
@@ -71,6 +75,14 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
     @ResultMap("PersonResult")
     Optional<PersonRecord> selectOne(SelectStatementProvider selectStatement);
 
+    @SelectProvider(type=SqlProviderAdapter.class, method="select")
+    @ResultMap("PersonResult")
+    Cursor<PersonRecord> selectManyCursor(SelectStatementProvider selectStatement);
+
+    @SelectProvider(type=SqlProviderAdapter.class, method="select")
+    @ResultMap("PersonResult")
+    void selectManyStreaming(SelectStatementProvider selectStatement, ResultHandler<PersonRecord> resultHandler);
+
     BasicColumn[] selectList =
             BasicColumn.columnList(id.as("A_ID"), firstName, lastName, birthDate, employed, occupation, addressId);
 
@@ -148,6 +160,19 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
         return MyBatis3Utils.selectList(this::selectMany, selectList, person, completer);
     }
 
+    default List<PersonRecord> select(QueryResultCache resultCache, SelectDSLCompleter completer) {
+        return MyBatis3Utils.selectList(resultCache, "PersonMapper.selectMany", this::selectMany, selectList,
+                person, completer);
+    }
+
+    default Cursor<PersonRecord> selectCursor(SelectDSLCompleter completer) {
+        return MyBatis3Utils.selectCursor(this::selectManyCursor, selectList, person, completer);
+    }
+
+    default void selectStreaming(SelectDSLCompleter completer, Consumer<PersonRecord> consumer) {
+        MyBatis3Utils.selectStreaming(this::selectManyStreaming, selectList, person, completer, consumer);
+    }
+
     default List<PersonRecord> selectDistinct(SelectDSLCompleter completer) {
         return MyBatis3Utils.selectDistinct(this::selectMany, selectList, person, completer);
     }
@@ -162,6 +187,10 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
         return MyBatis3Utils.update(this::update, person, completer);
     }
 
+    default int update(QueryResultCache resultCache, UpdateDSLCompleter completer) {
+        return MyBatis3Utils.update(resultCache, this::update, person, completer);
+    }
+
     static UpdateDSL<UpdateModel> updateAllColumns(PersonRecord record,
             UpdateDSL<UpdateModel> dsl) {
         return dsl.set(id).equalTo(record::getId)
@@ -15,10 +15,12 @@
  */
 package examples.simple;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -28,11 +30,21 @@ import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SortSpecification;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
+import org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdateTemplate;
+import org.mybatis.dynamic.sql.util.BatchLoader;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.SingleFlight;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -40,10 +52,17 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static examples.simple.AddressDynamicSqlSupport.address;
 import static examples.simple.PersonDynamicSqlSupport.addressId;
@@ -97,6 +116,92 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testSelectThroughResultCache() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            QueryResultCache cache = QueryResultCache.of(10);
+
+            List<PersonRecord> first = mapper.select(cache, c -> c.where(id, isLessThan(3)).orderBy(id));
+            List<PersonRecord> second = mapper.select(cache, c -> c.where(id, isLessThan(3)).orderBy(id));
+            assertThat(second).isSameAs(first).hasSize(2);
+            assertThat(cache.hitCount()).isEqualTo(1);
+
+            int rows = mapper.update(cache, c -> c.set(firstName).equalTo("Betty").where(id, isEqualTo(2)));
+            List<PersonRecord> third = mapper.select(cache, c -> c.where(id, isLessThan(3)).orderBy(id));
+
+            assertThat(rows).isEqualTo(1);
+            assertThat(third).extracting(PersonRecord::getFirstName).containsExactly("Fred", "Betty");
+            assertThat(cache.missCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testBatchLoader() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            BatchLoader<Integer, PersonRecord> loader = BatchLoader.<Integer, PersonRecord>withSelectStatement(ids ->
+                            select(PersonMapper.selectList).from(person).where(id, isIn(ids)))
+                    .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                    .withQuery(mapper::selectMany)
+                    .withKeyFunction(PersonRecord::getId)
+                    .build();
+
+            CompletableFuture<Optional<PersonRecord>> fred = loader.load(1);
+            CompletableFuture<Optional<PersonRecord>> barney = loader.load(4);
+            CompletableFuture<Optional<PersonRecord>> nobody = loader.load(22);
+            loader.dispatch();
+
+            assertThat(fred.join()).hasValueSatisfying(p -> assertThat(p.getFirstName()).isEqualTo("Fred"));
+            assertThat(barney.join()).hasValueSatisfying(p -> assertThat(p.getFirstName()).isEqualTo("Barney"));
+            assertThat(nobody.join()).isEmpty();
+            assertThat(loader.batchCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testSelectThroughSingleFlight() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            SingleFlight singleFlight = new SingleFlight();
+
+            List<PersonRecord> rows = MyBatis3Utils.selectList(singleFlight, "PersonMapper.selectMany",
+                    mapper::selectMany, PersonMapper.selectList, person, c -> c.where(id, isLessThan(3)).orderBy(id));
+            long count = MyBatis3Utils.countFrom(singleFlight, "PersonMapper.count", mapper::count, person, c -> c);
+
+            assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Fred", "Wilma");
+            assertThat(count).isEqualTo(6);
+            assertThat(singleFlight.executionCount()).isEqualTo(2);
+            assertThat(singleFlight.collapsedCount()).isZero();
+        }
+    }
+
+    @Test
+    void testSelectCursor() throws Exception {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            List<Integer> ids = new ArrayList<>();
+
+            try (Cursor<PersonRecord> cursor = mapper.selectCursor(c -> c.where(id, isLessThan(4)).orderBy(id))) {
+                cursor.forEach(row -> ids.add(row.getId()));
+            }
+
+            assertThat(ids).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    void testSelectStreaming() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            List<String> names = new ArrayList<>();
+
+            mapper.selectStreaming(c -> c.where(employed, isTrue()).orderBy(id), row -> names.add(row.getFirstName()));
+
+            assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty");
+        }
+    }
+
     @Test
     void testSelectEmployed() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -336,6 +441,161 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertWithPropertyAccessors() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            PersonRecord record = new PersonRecord();
+            record.setId(100);
+            record.setFirstName("Joe");
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            record.setAddressId(1);
+
+            InsertStatementProvider<PersonRecord> insertStatement = insert(record)
+                    .into(person)
+                    .map(id).toProperty(PersonRecord::getId)
+                    .map(firstName).toProperty(PersonRecord::getFirstName)
+                    .map(lastName).toProperty(PersonRecord::getLastName)
+                    .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                    .map(employed).toProperty(PersonRecord::getEmployed)
+                    .map(occupation).toProperty(PersonRecord::getOccupation)
+                    .map(addressId).toProperty("addressId")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            int rows = mapper.insert(insertStatement);
+            assertThat(rows).isEqualTo(1);
+
+            Optional<PersonRecord> newRecord = mapper.selectByPrimaryKey(100);
+            assertThat(newRecord).hasValueSatisfying(r -> {
+                assertThat(r.getLastName().getName()).isEqualTo("Jones");
+                assertThat(r.getEmployed()).isTrue();
+                assertThat(r.getAddressId()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Test
+    void testInsertMultipleInChunks() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = IntStream.range(100, 110).mapToObj(i -> {
+                PersonRecord record = new PersonRecord();
+                record.setId(i);
+                record.setFirstName("Name" + i);
+                record.setLastName(LastName.of("Jones"));
+                record.setBirthDate(new Date());
+                record.setEmployed(true);
+                record.setAddressId(1);
+                return record;
+            }).collect(Collectors.toList());
+
+            int rows = MyBatis3Utils.insertMultiple(mapper::insertMultiple, records, person, c ->
+                    c.map(id).toProperty(PersonRecord::getId)
+                    .map(firstName).toProperty(PersonRecord::getFirstName)
+                    .map(lastName).toProperty(PersonRecord::getLastName)
+                    .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                    .map(employed).toProperty(PersonRecord::getEmployed)
+                    .map(occupation).toNull()
+                    .map(addressId).toProperty(PersonRecord::getAddressId),
+                    MultiRowInsertLimits.ofMaximumRows(4));
+
+            assertThat(rows).isEqualTo(10);
+            assertThat(mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)))).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void testInsertMultipleWithPropertyAccessors() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            PersonRecord record1 = new PersonRecord();
+            record1.setId(100);
+            record1.setFirstName("Joe");
+            record1.setLastName(LastName.of("Jones"));
+            record1.setBirthDate(new Date());
+            record1.setEmployed(true);
+            record1.setOccupation("Developer");
+            record1.setAddressId(1);
+
+            PersonRecord record2 = new PersonRecord();
+            record2.setId(101);
+            record2.setFirstName("Sarah");
+            record2.setLastName(LastName.of("Smith"));
+            record2.setBirthDate(new Date());
+            record2.setEmployed(false);
+            record2.setAddressId(2);
+
+            MultiRowInsertStatementProvider<PersonRecord> insertStatement = insertMultiple(record1, record2)
+                    .into(person)
+                    .map(id).toProperty(PersonRecord::getId)
+                    .map(firstName).toProperty(PersonRecord::getFirstName)
+                    .map(lastName).toProperty(PersonRecord::getLastName)
+                    .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                    .map(employed).toProperty(PersonRecord::getEmployed)
+                    .map(occupation).toProperty(PersonRecord::getOccupation)
+                    .map(addressId).toProperty(PersonRecord::getAddressId)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            int rows = mapper.insertMultiple(insertStatement);
+            assertThat(rows).isEqualTo(2);
+
+            Optional<PersonRecord> newRecord = mapper.selectByPrimaryKey(101);
+            assertThat(newRecord).hasValueSatisfying(r -> {
+                assertThat(r.getLastName().getName()).isEqualTo("Smith");
+                assertThat(r.getEmployed()).isFalse();
+                assertThat(r.getOccupation()).isNull();
+            });
+        }
+    }
+
+    @Test
+    void testStreamingBatchInsert() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            Stream<PersonRecord> records = IntStream.range(100, 125).mapToObj(i -> {
+                PersonRecord record = new PersonRecord();
+                record.setId(i);
+                record.setFirstName("Name" + i);
+                record.setLastName(LastName.of("Jones"));
+                record.setBirthDate(new Date());
+                record.setEmployed(true);
+                record.setAddressId(1);
+                return record;
+            });
+
+            BatchInsert<PersonRecord> batchInsert = insertBatch(records)
+                    .into(person)
+                    .map(id).toProperty(PersonRecord::getId)
+                    .map(firstName).toProperty(PersonRecord::getFirstName)
+                    .map(lastName).toProperty(PersonRecord::getLastName)
+                    .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                    .map(employed).toProperty(PersonRecord::getEmployed)
+                    .map(occupation).toNull()
+                    .map(addressId).toProperty(PersonRecord::getAddressId)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            long rows = MyBatis3Utils.insertBatch(mapper::insert, mapper::flush, batchInsert, 10);
+            session.commit();
+
+            assertThat(rows).isEqualTo(25);
+        }
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            long rows = mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)));
+            assertThat(rows).isEqualTo(25);
+        }
+    }
+
     @Test
     void testGeneralInsert() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -768,4 +1028,85 @@ class PersonMapperTest {
             assertThat(type).hasValueSatisfying(i -> assertThat(i).isZero());
         }
     }
+
+    @Test
+    void testCommonSelectMapperCursor() throws Exception {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            AddressMapper mapper = session.getMapper(AddressMapper.class);
+
+            SelectStatementProvider selectStatement = select(address.id, address.city)
+                    .from(address)
+                    .orderBy(address.id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Object> ids = new ArrayList<>();
+            try (Cursor<Map<String, Object>> cursor = mapper.selectManyMappedRowsCursor(selectStatement)) {
+                cursor.forEach(row -> ids.add(row.get("ADDRESS_ID")));
+            }
+
+            assertThat(ids).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void testCommonSelectMapperStreaming() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            AddressMapper mapper = session.getMapper(AddressMapper.class);
+
+            SelectStatementProvider selectStatement = select(address.id, address.city)
+                    .from(address)
+                    .orderBy(address.id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<String> cities = new ArrayList<>();
+            mapper.selectManyStreaming(selectStatement, row -> (String) row.get("CITY"), cities::add);
+
+            assertThat(cities).containsExactly("Bedrock", "Bedrock");
+        }
+    }
+
+    @Test
+    void testPreparedSelectTemplate() {
+        PreparedSelectTemplate template = select(id, firstName, lastName)
+                .from(person)
+                .where(id, isEqualToParameter("id"))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            Optional<PersonRecord> fred = mapper.selectOne(template.bind(Collections.singletonMap("id", 1)));
+            Optional<PersonRecord> barney = mapper.selectOne(template.bind(Collections.singletonMap("id", 4)));
+
+            assertAll(
+                    () -> assertThat(fred).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Fred")),
+                    () -> assertThat(barney).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Barney"))
+            );
+        }
+    }
+
+    @Test
+    void testPreparedUpdateTemplate() {
+        PreparedUpdateTemplate template = update(person)
+                .set(occupation).equalToParameter("occupation")
+                .where(id, isEqualToParameter("id"))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("id", 1);
+            values.put("occupation", "Programmer");
+            int rows = mapper.update(template.bind(values));
+            assertThat(rows).isEqualTo(1);
+
+            Optional<PersonRecord> record = mapper.selectByPrimaryKey(1);
+            assertThat(record).hasValueSatisfying(r -> assertThat(r.getOccupation()).isEqualTo("Programmer"));
+        }
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.AddressDynamicSqlSupport.address;
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static examples.spring.PersonTemplateTest.personRowMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringJUnitConfig(classes = SpringConfiguration.class)
+@Transactional
+class PersonJdbcTemplateTest {
+
+    @Autowired
+    private JdbcTemplateExtensions template;
+
+    @Test
+    void testSelect() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .or(occupation, isNull());
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).hasSize(3);
+    }
+
+    @Test
+    void testRenderedStatement() {
+        SelectStatementProvider selectStatement = select(id, firstName)
+                .from(person)
+                .where(id, isGreaterThan(2))
+                .and(lastName, isIn(LastName.of("Flintstone"), LastName.of("Rubble")))
+                .or(firstName, isLike("B%"), and(employed, isEqualTo(true)))
+                .orderBy(id)
+                .limit(3)
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, first_name from Person"
+                + " where id > ? and last_name in (?,?) or (first_name like ? and employed = ?)"
+                + " order by id limit ?");
+        assertThat(selectStatement.getOrderedParameters())
+                .containsExactly(2, "Flintstone", "Rubble", "B%", "Yes", 3L);
+    }
+
+    @Test
+    void testSelectWithUnionAndPaging() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .union()
+                .select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isBetween(4).and(6))
+                .orderBy(id)
+                .limit(2)
+                .offset(1);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(4, 5);
+    }
+
+    @Test
+    void testSelectWithChunkedInList() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isIn(1, 3, 5, 6).chunked(3).paddedToPowerOfTwo())
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 3, 5, 6);
+    }
+
+    @Test
+    void testSelectWithSubQuery() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(addressId, isIn(select(address.id).from(address).where(address.id, isEqualTo(2))))
+                .and(employed, isEqualTo(true))
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(4, 5);
+    }
+
+    @Test
+    void testSelectOne() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(2));
+
+        Optional<PersonRecord> row = template.selectOne(selectStatement, personRowMapper);
+
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Wilma"));
+    }
+
+    @Test
+    void testSelectOneWithMissingRecord() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(300));
+
+        Optional<PersonRecord> row = template.selectOne(selectStatement, personRowMapper);
+
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        Buildable<SelectModel> countStatement = countFrom(person)
+                .where(lastName, isEqualTo(LastName.of("Rubble")));
+
+        long rows = template.count(countStatement);
+
+        assertThat(rows).isEqualTo(3);
+    }
+
+    @Test
+    void testDelete() {
+        Buildable<DeleteModel> deleteStatement = deleteFrom(person)
+                .where(occupation, isNull());
+
+        int rows = template.delete(deleteStatement);
+
+        assertThat(rows).isEqualTo(2);
+    }
+
+    @Test
+    void testGeneralInsert() {
+        Buildable<GeneralInsertModel> insertStatement = insertInto(person)
+                .set(id).toValue(100)
+                .set(firstName).toValue("Joe")
+                .set(lastName).toValue(LastName.of("Jones"))
+                .set(birthDate).toValue(new Date())
+                .set(employed).toValue(true)
+                .set(occupation).toValue("Developer")
+                .set(addressId).toValue(1);
+
+        int rows = template.generalInsert(insertStatement);
+        long count = template.count(countFrom(person).where(lastName, isEqualTo(LastName.of("Jones"))));
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void testInsertSelect() {
+        int rows = template.insertSelect(insertInto(person)
+                .withColumnList(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .withSelectStatement(select(add(id, constant("100")), firstName, lastName, birthDate, employed,
+                        occupation, addressId).from(person).where(employed, isEqualTo(true))));
+
+        assertThat(rows).isEqualTo(4);
+    }
+
+    @Test
+    void testUpdate() {
+        Buildable<UpdateModel> updateStatement = update(person)
+                .set(occupation).equalTo("Programmer")
+                .set(employed).equalTo(true)
+                .where(id, isEqualTo(3));
+
+        int rows = template.update(updateStatement);
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(3)),
+                personRowMapper);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(row).hasValueSatisfying(r -> {
+            assertThat(r.getOccupation()).isEqualTo("Programmer");
+            assertThat(r.getEmployed()).isTrue();
+        });
+    }
+}
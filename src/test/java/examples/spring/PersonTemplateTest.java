@@ -18,27 +18,42 @@ package examples.spring;
 import static examples.spring.AddressDynamicSqlSupport.address;
 import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.SingleFlight;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringJUnitConfig(classes = SpringConfiguration.class)
@@ -48,6 +63,9 @@ class PersonTemplateTest {
     @Autowired
     private NamedParameterJdbcTemplateExtensions template;
 
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     @Test
     void testSelect() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -73,6 +91,205 @@ class PersonTemplateTest {
 
     }
 
+    @Test
+    void testSelectStream() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(employed, isTrue())
+                .orderBy(id);
+
+        List<Integer> ids;
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, personRowMapper)) {
+            ids = rows.map(PersonRecord::getId).collect(Collectors.toList());
+        }
+
+        assertThat(ids).containsExactly(1, 2, 4, 5);
+    }
+
+    @Test
+    void testSelectStreamWithFetchSize() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isIn(2, 3, 4))
+                .orderBy(id);
+
+        List<String> names;
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, personRowMapper, 2)) {
+            names = rows.map(PersonRecord::getFirstName).collect(Collectors.toList());
+        }
+
+        assertThat(names).containsExactly("Wilma", "Pebbles", "Barney");
+    }
+
+    @Test
+    void testSelectEach() {
+        Buildable<SelectModel> selectStatement = select(id, firstName)
+                .from(person)
+                .where(id, isLessThan(4))
+                .orderBy(id);
+
+        List<String> names = new ArrayList<>();
+        template.selectEach(selectStatement, rs -> names.add(rs.getString(2)));
+
+        List<Integer> ids = new ArrayList<>();
+        template.selectEach(selectStatement, rs -> ids.add(rs.getInt(1)), 1);
+
+        assertThat(names).containsExactly("Fred", "Wilma", "Pebbles");
+        assertThat(ids).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testSelectWithRowFunction() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, addressId)
+                .from(person)
+                .where(id, isLessThan(4))
+                .orderBy(id);
+
+        List<String> rows = template.selectList(selectStatement,
+                row -> row.get(id) + ":" + row.get(firstName) + ":" + row.get(addressId));
+
+        Optional<String> name = template.selectOne(select(firstName).from(person).where(id, isEqualTo(4)),
+                row -> row.get(firstName));
+
+        assertThat(rows).containsExactly("1:Fred:1", "2:Wilma:1", "3:Pebbles:1");
+        assertThat(name).hasValue("Barney");
+    }
+
+    @Test
+    void testSelectThroughResultCache() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        NamedParameterJdbcTemplateExtensions cachingTemplate = new NamedParameterJdbcTemplateExtensions(jdbcTemplate,
+                cache);
+        Buildable<SelectModel> selectStatement = select(firstName).from(person).where(id, isLessThan(3)).orderBy(id);
+        RowMapper<String> firstNameMapper = (rs, i) -> rs.getString(1);
+
+        List<String> first = cachingTemplate.selectList(selectStatement, firstNameMapper);
+        long count = cachingTemplate.count(countFrom(person));
+        List<String> second = cachingTemplate.selectList(selectStatement, firstNameMapper);
+        long cachedCount = cachingTemplate.count(countFrom(person));
+
+        assertThat(second).isSameAs(first).containsExactly("Fred", "Wilma");
+        assertThat(cachedCount).isEqualTo(count).isEqualTo(6);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+
+        int rows = cachingTemplate.update(update(person).set(firstName).equalTo("Betty").where(id, isEqualTo(2)));
+        List<String> third = cachingTemplate.selectList(selectStatement, firstNameMapper);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(third).containsExactly("Fred", "Betty");
+        assertThat(cache.invalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testResultCacheDistinguishesRowMappersOfTheSameClass() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        NamedParameterJdbcTemplateExtensions cachingTemplate = new NamedParameterJdbcTemplateExtensions(jdbcTemplate,
+                cache);
+        Buildable<SelectModel> selectStatement = select(firstName).from(person).where(id, isEqualTo(1));
+        RowMapper<String> plainMapper = prefixingMapper("");
+        RowMapper<String> prefixedMapper = prefixingMapper("Mr. ");
+        assertThat(prefixedMapper.getClass()).isEqualTo(plainMapper.getClass());
+
+        List<String> plain = cachingTemplate.selectList(selectStatement, plainMapper);
+        List<String> prefixed = cachingTemplate.selectList(selectStatement, prefixedMapper);
+
+        assertThat(plain).containsExactly("Fred");
+        assertThat(prefixed).containsExactly("Mr. Fred");
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static RowMapper<String> prefixingMapper(String prefix) {
+        return (rs, i) -> prefix + rs.getString(1);
+    }
+
+    @Test
+    void testSingleFlightIsBypassedInTransaction() {
+        SingleFlight singleFlight = new SingleFlight();
+        NamedParameterJdbcTemplateExtensions singleFlightTemplate = template.withSingleFlight(singleFlight);
+
+        long count = singleFlightTemplate.count(countFrom(person));
+
+        assertThat(count).isEqualTo(6);
+        assertThat(singleFlight.executionCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testSelectThroughSingleFlight() {
+        SingleFlight singleFlight = new SingleFlight();
+        NamedParameterJdbcTemplateExtensions singleFlightTemplate = template.withSingleFlight(singleFlight);
+
+        List<String> rows = singleFlightTemplate.selectList(
+                select(firstName).from(person).where(id, isLessThan(3)).orderBy(id), (rs, i) -> rs.getString(1));
+        long count = singleFlightTemplate.count(countFrom(person));
+
+        assertThat(rows).containsExactly("Fred", "Wilma");
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> rows.add("Barney"));
+        assertThat(count).isEqualTo(6);
+        assertThat(singleFlight.executionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testSingleFlightDistinguishesRowMappersOfTheSameClass() throws Exception {
+        SingleFlight singleFlight = new SingleFlight();
+        NamedParameterJdbcTemplateExtensions singleFlightTemplate = template.withSingleFlight(singleFlight);
+        SelectStatementProvider selectStatement = select(firstName).from(person).where(id, isEqualTo(1))
+                .build().render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RowMapper<String> blockedMapper = blockingMapper("", started, release);
+        RowMapper<String> prefixedMapper = blockingMapper("Mr. ", new CountDownLatch(1), new CountDownLatch(0));
+        assertThat(prefixedMapper.getClass()).isEqualTo(blockedMapper.getClass());
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<List<String>> blocked = executorService.submit(
+                    () -> singleFlightTemplate.selectList(selectStatement, blockedMapper));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<String>> prefixed = executorService.submit(
+                    () -> singleFlightTemplate.selectList(selectStatement, prefixedMapper));
+
+            assertThat(prefixed.get(5, TimeUnit.SECONDS)).containsExactly("Mr. Fred");
+            release.countDown();
+            assertThat(blocked.get(5, TimeUnit.SECONDS)).containsExactly("Fred");
+            assertThat(singleFlight.executionCount()).isEqualTo(2);
+            assertThat(singleFlight.collapsedCount()).isZero();
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static RowMapper<String> blockingMapper(String prefix, CountDownLatch started, CountDownLatch release) {
+        return (rs, i) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return prefix + rs.getString(1);
+        };
+    }
+
+    @Test
+    void testResultCacheIsNotInvalidatedByWritesToOtherTables() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        NamedParameterJdbcTemplateExtensions cachingTemplate = new NamedParameterJdbcTemplateExtensions(jdbcTemplate,
+                cache);
+
+        cachingTemplate.count(countFrom(person));
+        cachingTemplate.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(1)));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cachingTemplate.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(1))
+                .build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        assertThat(cache.size()).isZero();
+    }
+
     @Test
     void testSelectAllOrdered() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -181,6 +398,20 @@ class PersonTemplateTest {
         assertThat(rows.get(1).getId()).isEqualTo(2);
     }
 
+    @Test
+    void testSelectListWithArrayParameter() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isInArray(LastName.of("Flintstone"), LastName.of("Rubble")).withUnnest())
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).hasSize(6);
+        assertThat(rows.get(0).getId()).isEqualTo(1);
+        assertThat(rows.get(1).getId()).isEqualTo(2);
+    }
+
     @Test
     void testSelectByPrimaryKeyWithMissingRecord() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -259,6 +490,158 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(1);
     }
 
+    @Test
+    void testInsertWithPropertyAccessors() {
+        PersonRecord record = new PersonRecord();
+        record.setId(100);
+        record.setFirstName("Joe");
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(1);
+
+        Buildable<InsertModel<PersonRecord>> insertStatement = insert(record).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty(PersonRecord::getLastName)
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty(PersonRecord::getAddressId);
+
+        int rows = template.insert(insertStatement);
+        assertThat(rows).isEqualTo(1);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(100));
+        Optional<PersonRecord> newRecord = template.selectOne(selectStatement, personRowMapper);
+        assertThat(newRecord).hasValueSatisfying(r -> {
+            assertThat(r.getLastName().getName()).isEqualTo("Jones");
+            assertThat(r.getEmployed()).isTrue();
+            assertThat(r.getOccupation()).isEqualTo("Developer");
+        });
+    }
+
+    @Test
+    void testInsertMultipleInChunks() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 100; i < 107; i++) {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Name" + i);
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            record.setAddressId(1);
+            records.add(record);
+        }
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(records).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty(PersonRecord::getOccupation)
+                .map(addressId).toProperty(PersonRecord::getAddressId);
+
+        // 7 parameters per row - 3 rows per statement
+        int rows = template.insertMultiple(insertStatement, MultiRowInsertLimits.ofMaximumParameters(21));
+        assertThat(rows).isEqualTo(7);
+
+        Buildable<SelectModel> countStatement = countFrom(person).where(id, isGreaterThanOrEqualTo(100));
+        assertThat(template.count(countStatement)).isEqualTo(7);
+    }
+
+    @Test
+    void testInsertMultipleWithPropertyAccessors() {
+        PersonRecord record1 = new PersonRecord();
+        record1.setId(100);
+        record1.setFirstName("Joe");
+        record1.setLastName(LastName.of("Jones"));
+        record1.setBirthDate(new Date());
+        record1.setEmployed(true);
+        record1.setOccupation("Developer");
+        record1.setAddressId(1);
+
+        PersonRecord record2 = new PersonRecord();
+        record2.setId(101);
+        record2.setFirstName("Sarah");
+        record2.setLastName(LastName.of("Smith"));
+        record2.setBirthDate(new Date());
+        record2.setEmployed(false);
+        record2.setAddressId(2);
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(record1, record2).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty(PersonRecord::getLastName)
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toProperty(PersonRecord::getOccupation)
+                .map(addressId).toProperty("addressId");
+
+        int rows = template.insertMultiple(insertStatement);
+        assertThat(rows).isEqualTo(2);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(101));
+        Optional<PersonRecord> newRecord = template.selectOne(selectStatement, personRowMapper);
+        assertThat(newRecord).hasValueSatisfying(r -> {
+            assertThat(r.getLastName().getName()).isEqualTo("Smith");
+            assertThat(r.getEmployed()).isFalse();
+            assertThat(r.getOccupation()).isNull();
+            assertThat(r.getAddressId()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void testInsertBatchWithPropertyAccessors() {
+        PersonRecord record1 = new PersonRecord();
+        record1.setId(100);
+        record1.setFirstName("Joe");
+        record1.setLastName(LastName.of("Jones"));
+        record1.setBirthDate(new Date());
+        record1.setEmployed(true);
+        record1.setOccupation("Developer");
+        record1.setAddressId(1);
+
+        PersonRecord record2 = new PersonRecord();
+        record2.setId(101);
+        record2.setFirstName("Sarah");
+        record2.setLastName(LastName.of("Smith"));
+        record2.setBirthDate(new Date());
+        record2.setEmployed(false);
+        record2.setOccupation("Architect");
+        record2.setAddressId(2);
+
+        Buildable<BatchInsertModel<PersonRecord>> insertStatement = insertBatch(record1, record2).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty(PersonRecord::getLastName)
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty(PersonRecord::getEmployed)
+                .map(occupation).toProperty(PersonRecord::getOccupation)
+                .map(addressId).toProperty(PersonRecord::getAddressId);
+
+        int[] rows = template.insertBatch(insertStatement);
+        assertThat(rows).containsExactly(1, 1);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(101));
+        Optional<PersonRecord> newRecord = template.selectOne(selectStatement, personRowMapper);
+        assertThat(newRecord).hasValueSatisfying(r -> {
+            assertThat(r.getLastName().getName()).isEqualTo("Smith");
+            assertThat(r.getEmployed()).isFalse();
+            assertThat(r.getOccupation()).isEqualTo("Architect");
+        });
+    }
+
     @Test
     void testGeneralInsert() {
         Buildable<GeneralInsertModel> insertStatement = insertInto(person)
@@ -314,6 +697,37 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(2);
     }
 
+    @Test
+    void testStreamingInsertBatchInChunks() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 100; i < 105; i++) {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Name" + i);
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            record.setAddressId(1);
+            records.add(record);
+        }
+
+        Buildable<BatchInsertModel<PersonRecord>> insertStatement = insertBatch(records.iterator()).into(person)
+                .map(id).toProperty(PersonRecord::getId)
+                .map(firstName).toProperty(PersonRecord::getFirstName)
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty(PersonRecord::getBirthDate)
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty(PersonRecord::getOccupation)
+                .map(addressId).toProperty(PersonRecord::getAddressId);
+
+        long rows = template.insertBatch(insertStatement, 2);
+        assertThat(rows).isEqualTo(5);
+
+        Buildable<SelectModel> countStatement = countFrom(person).where(id, isGreaterThanOrEqualTo(100));
+        assertThat(template.count(countStatement)).isEqualTo(5);
+    }
+
     @Test
     void testInsertBatch() {
 
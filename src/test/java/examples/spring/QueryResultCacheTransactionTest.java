@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class QueryResultCacheTransactionTest {
+    private static final RowMapper<String> FIRST_NAME_MAPPER = (rs, i) -> rs.getString(1);
+
+    private QueryResultCache cache;
+    private NamedParameterJdbcTemplateExtensions extensions;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        DataSource dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.HSQL)
+                .generateUniqueName(true)
+                .addScript("classpath:/examples/simple/CreateSimpleDB.sql")
+                .build();
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(dataSource);
+        // readers see the committed rows while a transaction writes them, rather than waiting for its locks
+        template.getJdbcOperations().execute("set database transaction control mvcc");
+
+        cache = QueryResultCache.of(10);
+        extensions = new NamedParameterJdbcTemplateExtensions(template, cache);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void testResultReadByAnotherThreadDuringTransactionIsDiscardedOnCommit() {
+        Optional<String> readDuringTransaction = transactionTemplate.execute(status -> {
+            extensions.update(update(person).set(firstName).equalTo("Betty").where(id, isEqualTo(2)));
+            return CompletableFuture.supplyAsync(this::firstName).join();
+        });
+
+        assertThat(readDuringTransaction).hasValue("Wilma");
+        assertThat(firstName()).hasValue("Betty");
+    }
+
+    @Test
+    void testResultReadInsideTransactionIsDiscardedOnRollback() {
+        Optional<String> readDuringTransaction = transactionTemplate.execute(status -> {
+            extensions.update(update(person).set(firstName).equalTo("Betty").where(id, isEqualTo(2)));
+            status.setRollbackOnly();
+            return firstName();
+        });
+
+        assertThat(readDuringTransaction).hasValue("Betty");
+        assertThat(firstName()).hasValue("Wilma");
+    }
+
+    private Optional<String> firstName() {
+        return extensions.selectOne(select(firstName).from(person).where(id, isEqualTo(2)), FIRST_NAME_MAPPER);
+    }
+}
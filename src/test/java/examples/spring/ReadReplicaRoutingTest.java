@@ -0,0 +1,227 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.AddressDynamicSqlSupport.address;
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.mybatis.dynamic.sql.util.spring.ReadReplicaRouter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadReplicaRoutingTest {
+    private DataSource primaryDataSource;
+    private NamedParameterJdbcTemplate primary;
+    private NamedParameterJdbcTemplate replica1;
+    private NamedParameterJdbcTemplate replica2;
+
+    @BeforeEach
+    void setup() {
+        primaryDataSource = dataSource();
+        primary = new NamedParameterJdbcTemplate(primaryDataSource);
+        replica1 = new NamedParameterJdbcTemplate(dataSource());
+        replica2 = new NamedParameterJdbcTemplate(dataSource());
+
+        // make the databases distinguishable
+        primary.getJdbcOperations().update("update Person set first_name = 'Primary' where id = 1");
+        primary.getJdbcOperations().update("update Address set city = 'Primary' where address_id = 1");
+        replica1.getJdbcOperations().update("update Person set first_name = 'Replica1' where id = 1");
+        replica2.getJdbcOperations().update("update Person set first_name = 'Replica2' where id = 1");
+    }
+
+    @Test
+    void testRoundRobin() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .withReplica(replica2)
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+
+        assertThat(firstName(extensions)).hasValue("Replica1");
+        assertThat(firstName(extensions)).hasValue("Replica2");
+        assertThat(firstName(extensions)).hasValue("Replica1");
+    }
+
+    @Test
+    void testLeastInFlight() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplicas(Arrays.asList(replica1, replica2))
+                .withBalancing(ReadReplicaRouter.Balancing.LEAST_IN_FLIGHT)
+                .build();
+
+        // round-robin would choose replica1 for the inner read, but replica1 is busy with the outer read
+        NamedParameterJdbcTemplate inner = router.read(Collections.emptySet(), outer -> {
+            assertThat(outer).isSameAs(replica1);
+            router.read(Collections.emptySet(), t -> t);
+            return router.read(Collections.emptySet(), t -> t);
+        });
+
+        assertThat(inner).isSameAs(replica2);
+    }
+
+    @Test
+    void testNoReplicas() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary).build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+
+        assertThat(firstName(extensions)).hasValue("Primary");
+    }
+
+    @Test
+    void testWritesGoToPrimary() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+
+        int rows = extensions.update(update(person).set(firstName).equalTo("Fred").where(id, isEqualTo(1)));
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(primary.getJdbcOperations().queryForObject("select first_name from Person where id = 1",
+                String.class)).isEqualTo("Fred");
+        // no pin duration, so reads go to the replica right away
+        assertThat(firstName(extensions)).hasValue("Replica1");
+    }
+
+    @Test
+    void testPinAfterWriteToSameTable() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .withPinAfterWrite(Duration.ofMinutes(5))
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+
+        extensions.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(2)));
+
+        assertThat(firstName(extensions)).hasValue("Replica1");
+        assertThat(extensions.selectOne(select(address.city).from(address).where(address.id, isEqualTo(1)),
+                (rs, i) -> rs.getString(1))).hasValue("Primary");
+        // unknown tables are pinned by any write
+        assertThat(extensions.selectOne(select(firstName).from(person).where(id, isEqualTo(1)).build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER), (rs, i) -> rs.getString(1))).hasValue("Primary");
+    }
+
+    @Test
+    void testPinAfterWriteWithUnknownTables() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .withPinAfterWrite(Duration.ofMinutes(5))
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+
+        assertThat(firstName(extensions)).hasValue("Replica1");
+
+        extensions.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(2))
+                .build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+
+        assertThat(firstName(extensions)).hasValue("Primary");
+    }
+
+    @Test
+    void testPinInWriteTransaction() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(primaryDataSource));
+
+        Optional<String> inTransaction = transactionTemplate.execute(status -> firstName(extensions));
+
+        transactionTemplate.setReadOnly(true);
+        Optional<String> inReadOnlyTransaction = transactionTemplate.execute(status -> firstName(extensions));
+
+        assertThat(inTransaction).hasValue("Primary");
+        assertThat(inReadOnlyTransaction).hasValue("Replica1");
+    }
+
+    @Test
+    void testPinStartsWhenWriteTransactionCommits() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .withPinAfterWrite(Duration.ofMillis(500))
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(primaryDataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            extensions.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(2)));
+            // the transaction runs for longer than the pin duration
+            sleep(Duration.ofMillis(700));
+        });
+
+        assertThat(router.isPinnedToPrimary(Collections.singleton(address.tableNameAtRuntime()))).isTrue();
+        assertThat(router.isPinnedToPrimary(Collections.singleton(person.tableNameAtRuntime()))).isFalse();
+    }
+
+    @Test
+    void testNoPinWhenWriteTransactionRollsBack() {
+        ReadReplicaRouter router = ReadReplicaRouter.withPrimary(primary)
+                .withReplica(replica1)
+                .withPinAfterWrite(Duration.ofMinutes(5))
+                .build();
+        NamedParameterJdbcTemplateExtensions extensions = new NamedParameterJdbcTemplateExtensions(router);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(primaryDataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            extensions.update(update(address).set(address.city).equalTo("Bedrock").where(address.id, isEqualTo(2)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(router.isPinnedToPrimary(Collections.singleton(address.tableNameAtRuntime()))).isFalse();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<String> firstName(NamedParameterJdbcTemplateExtensions extensions) {
+        Buildable<SelectModel> selectStatement = select(firstName).from(person).where(id, isEqualTo(1));
+        return extensions.selectOne(selectStatement, (rs, i) -> rs.getString(1));
+    }
+
+    private static DataSource dataSource() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.HSQL)
+                .generateUniqueName(true)
+                .addScript("classpath:/examples/simple/CreateSimpleDB.sql")
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static examples.spring.PersonTemplateTest.personRowMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.sharding.ShardedExecutor;
+import org.mybatis.dynamic.sql.util.sharding.SortKeys;
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class ShardedPersonTest {
+    private ExecutorService executorService;
+    private ShardedExecutor<NamedParameterJdbcTemplateExtensions> shardedExecutor;
+
+    @BeforeEach
+    void setup() {
+        // three shards, each holding the persons with id % 3 equal to the shard index
+        List<NamedParameterJdbcTemplateExtensions> shards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.HSQL)
+                    .generateUniqueName(true)
+                    .addScript("classpath:/examples/simple/CreateSimpleDB.sql")
+                    .build());
+            template.getJdbcOperations().update("delete from Person where mod(id, 3) <> ?", i);
+            shards.add(new NamedParameterJdbcTemplateExtensions(template));
+        }
+
+        executorService = Executors.newFixedThreadPool(2);
+        shardedExecutor = ShardedExecutor.withShards(shards)
+                .withShardKey(id, key -> key % 3)
+                .withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .withExecutor(executorService)
+                .build();
+    }
+
+    @AfterEach
+    void teardown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    void testSelectRoutedToOneShard() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isEqualTo(5))
+                .and(lastName, isEqualTo(LastName.of("Rubble")));
+
+        assertThat(shardedExecutor.shardsFor(selectStatement.build())).containsExactly(2);
+
+        List<PersonRecord> rows = shardedExecutor.selectList(selectStatement,
+                (shard, statement) -> shard.selectList(statement, personRowMapper));
+
+        assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Betty");
+    }
+
+    @Test
+    void testSelectRoutedToSomeShards() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isIn(1, 2, 4))
+                .orderBy(id);
+
+        assertThat(shardedExecutor.shardsFor(selectStatement.build())).containsExactly(1, 2);
+
+        List<PersonRecord> rows = shardedExecutor.selectList(selectStatement,
+                (shard, statement) -> shard.selectList(statement, personRowMapper),
+                SortKeys.of(id, PersonRecord::getId));
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    void testUnorderedSelectIsConcatenatedInShardOrder() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isIn(1, 2, 4));
+
+        List<PersonRecord> rows = shardedExecutor.selectList(selectStatement,
+                (shard, statement) -> shard.selectList(statement, personRowMapper));
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 4, 2);
+    }
+
+    @Test
+    void testFanOutWithMergedOrderLimitAndOffset() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .orderBy(firstName)
+                .limit(3)
+                .offset(1);
+
+        assertThat(shardedExecutor.shardsFor(selectStatement.build())).containsExactly(0, 1, 2);
+
+        List<PersonRecord> rows = shardedExecutor.selectList(selectStatement,
+                (shard, statement) -> shard.selectList(statement, personRowMapper),
+                SortKeys.of(firstName, PersonRecord::getFirstName));
+
+        assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Barney", "Betty", "Fred");
+    }
+
+    @Test
+    void testFanOutWithDescendingOrderAndFetchFirst() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(lastName, isEqualTo(LastName.of("Flintstone")))
+                .or(employed, isEqualTo(false))
+                .orderBy(birthDate.descending(), id)
+                .fetchFirst(2).rowsOnly();
+
+        List<PersonRecord> rows = shardedExecutor.selectList(selectStatement,
+                (shard, statement) -> shard.selectList(statement, personRowMapper),
+                SortKeys.of(birthDate, PersonRecord::getBirthDate).and(id, PersonRecord::getId));
+
+        assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Bamm Bamm", "Pebbles");
+    }
+
+    @Test
+    void testOrderedFanOutRequiresSortKeys() {
+        Buildable<SelectModel> selectStatement = select(id, firstName)
+                .from(person)
+                .orderBy(firstName);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                shardedExecutor.selectList(selectStatement, (shard, statement) ->
+                        shard.selectList(statement, (rs, i) -> rs.getString(2))));
+    }
+
+    @Test
+    void testCountAndWrites() {
+        long count = shardedExecutor.count(countFrom(person).where(lastName, isEqualTo(LastName.of("Rubble"))),
+                NamedParameterJdbcTemplateExtensions::count);
+        assertThat(count).isEqualTo(3);
+
+        int rows = shardedExecutor.update(update(person)
+                        .set(occupation).equalTo("Miner")
+                        .where(lastName, isEqualTo(LastName.of("Flintstone"))),
+                NamedParameterJdbcTemplateExtensions::update);
+        assertThat(rows).isEqualTo(3);
+
+        rows = shardedExecutor.delete(deleteFrom(person).where(id, isIn(3, 6)),
+                NamedParameterJdbcTemplateExtensions::delete);
+        assertThat(rows).isEqualTo(2);
+
+        count = shardedExecutor.count(countFrom(person).where(occupation, isEqualTo("Miner")),
+                NamedParameterJdbcTemplateExtensions::count);
+        assertThat(count).isEqualTo(2);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.springbatch.keyset;
+
+import static examples.springbatch.mapper.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectDSL;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingItemReader;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetReaderSelectModel;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import examples.springbatch.common.PersonRecord;
+import examples.springbatch.mapper.PersonMapper;
+
+@SpringBatchTest
+@SpringJUnitConfig(classes=KeysetReaderBatchConfiguration.class)
+class SpringBatchKeysetTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void testThatRowsAreTransformedToUpperCase() throws Exception {
+        // starting condition
+        assertThat(upperCaseRowCount()).isZero();
+
+        JobExecution execution = jobLauncherTestUtils.launchJob();
+        assertThat(execution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(numberOfChunks(execution)).isEqualTo(14);
+        assertThat(numberOfRowsProcessed(execution)).isEqualTo(93);
+
+        // ending condition
+        assertThat(upperCaseRowCount()).isEqualTo(93);
+    }
+
+    @Test
+    void testRenderedStatements() {
+        SpringBatchKeysetReaderSelectModel selectModel = SpringBatchUtility.selectForKeysetPaging(id, lastName)
+                .from(person)
+                .where(forPagingTest, isEqualTo(true))
+                .orderBy(lastName, id)
+                .build();
+
+        SelectStatementProvider firstPage = selectModel.render();
+        SelectStatementProvider nextPage = selectModel.render(Arrays.asList("Smith", 22));
+
+        assertThat(firstPage.getSelectStatement()).isEqualTo("select id, last_name from person"
+                + " where for_paging_test = #{mybatis3_dsql_query.parameters.p1,jdbcType=BOOLEAN}"
+                + " order by last_name, id LIMIT #{_pagesize}");
+        assertThat(nextPage.getSelectStatement()).isEqualTo("select id, last_name from person"
+                + " where for_paging_test = #{mybatis3_dsql_query.parameters.p1,jdbcType=BOOLEAN}"
+                + " and (last_name >= #{mybatis3_dsql_query.parameters.p2,jdbcType=VARCHAR}"
+                + " and (last_name > #{mybatis3_dsql_query.parameters.p3,jdbcType=VARCHAR}"
+                + " or (last_name = #{mybatis3_dsql_query.parameters.p4,jdbcType=VARCHAR}"
+                + " and id > #{mybatis3_dsql_query.parameters.p5,jdbcType=INTEGER})))"
+                + " order by last_name, id LIMIT #{_pagesize}");
+        assertThat(nextPage.getParameters()).containsEntry("p1", true).containsEntry("p2", "Smith")
+                .containsEntry("p5", 22);
+    }
+
+    @Test
+    void testRestartContinuesAfterLastKey() throws Exception {
+        ExecutionContext executionContext = new ExecutionContext();
+        List<Integer> ids = new ArrayList<>();
+
+        SpringBatchKeysetPagingItemReader<PersonRecord> reader = createReader();
+        reader.open(executionContext);
+        for (int i = 0; i < 10; i++) {
+            ids.add(reader.read().getId());
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        SpringBatchKeysetPagingItemReader<PersonRecord> restartedReader = createReader();
+        restartedReader.open(executionContext);
+        PersonRecord row;
+        while ((row = restartedReader.read()) != null) {
+            ids.add(row.getId());
+        }
+        restartedReader.close();
+
+        assertThat(ids).hasSize(93).doesNotHaveDuplicates().isSorted();
+    }
+
+    private SpringBatchKeysetPagingItemReader<PersonRecord> createReader() {
+        SpringBatchKeysetPagingItemReader<PersonRecord> reader = new SpringBatchKeysetPagingItemReader<>();
+        reader.setQueryId(PersonMapper.class.getName() + ".selectMany");
+        reader.setSqlSessionFactory(sqlSessionFactory);
+        reader.setSelectModel(SpringBatchUtility.selectForKeysetPaging(person.allColumns())
+                .from(person)
+                .where(forPagingTest, isEqualTo(true))
+                .orderBy(id)
+                .build());
+        reader.setKeyExtractor(r -> Collections.singletonList(r.getId()));
+        reader.setPageSize(7);
+        return reader;
+    }
+
+    private int numberOfRowsProcessed(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getRowCount)
+                .sum();
+    }
+
+    private int getRowCount(ExecutionContext executionContext) {
+        return executionContext.getInt("row_count", 0);
+    }
+
+    private int numberOfChunks(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getChunkCount)
+                .sum();
+    }
+
+    private int getChunkCount(ExecutionContext executionContext) {
+        return executionContext.getInt("chunk_count", 0);
+    }
+
+    private long upperCaseRowCount() throws Exception {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            PersonMapper personMapper = sqlSession.getMapper(PersonMapper.class);
+
+            SelectStatementProvider selectStatement = SelectDSL.select(count())
+                    .from(person)
+                    .where(lastName, isEqualTo("SMITH"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            return personMapper.count(selectStatement);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.PreparedDeleteTemplate;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdateTemplate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.where.condition.IsBetween;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+class LateBoundParameterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = foo.column("active", JDBCType.VARCHAR)
+            .withParameterTypeConverter((Boolean b) -> b == null ? null : b ? "Y" : "N");
+
+    @Test
+    void testPreparedSelect() {
+        PreparedSelectTemplate template = select(id, description)
+                .from(foo)
+                .where(id, isBetweenParameters("low", "high"))
+                .and(description, isLikeParameter("description"))
+                .and(id, isNotEqualTo(22))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("low", 1);
+        values.put("high", 10);
+        values.put("description", "a%");
+        SelectStatementProvider first = template.bind(values);
+
+        values.put("low", 5);
+        SelectStatementProvider second = template.bind(values);
+
+        assertAll(
+                () -> assertThat(template.parameterNames()).containsExactly("description", "high", "low"),
+                () -> assertThat(first.getSelectStatement()).isEqualTo(
+                        "select id, description from foo where id between :p1 and :p2 and description like :p3"
+                        + " and id <> :p4"),
+                () -> assertThat(second.getSelectStatement()).isSameAs(first.getSelectStatement()),
+                () -> assertThat(first.getParameters()).containsEntry("p1", 1).containsEntry("p2", 10)
+                        .containsEntry("p3", "a%").containsEntry("p4", 22),
+                () -> assertThat(second.getParameters()).containsEntry("p1", 5).containsEntry("p4", 22)
+        );
+    }
+
+    @Test
+    void testPreparedSelectWithResolverFunction() {
+        PreparedSelectTemplate template = select(id)
+                .from(foo)
+                .where(id, isGreaterThanParameter("id"))
+                .or(id, isLessThanOrEqualToParameter("id"))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = template.bind(name -> 7);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id from foo where id > #{parameters.p1,jdbcType=INTEGER}"
+                        + " or id <= #{parameters.p2,jdbcType=INTEGER}"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 7).containsEntry("p2", 7)
+        );
+    }
+
+    @Test
+    void testParameterTypeConverterIsAppliedWhenBound() {
+        PreparedSelectTemplate template = select(id)
+                .from(foo)
+                .where(active, isEqualToParameter("active"))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        SelectStatementProvider selectStatement = template.bind(name -> true);
+
+        assertThat(selectStatement.getParameters()).containsEntry("p1", "Y");
+    }
+
+    @Test
+    void testPreparedUpdate() {
+        PreparedUpdateTemplate template = update(foo)
+                .set(description).equalToParameter("description")
+                .set(active).equalToParameter("active")
+                .where(id, isEqualToParameter("id"))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 3);
+        values.put("description", "Fred");
+        values.put("active", false);
+        UpdateStatementProvider updateStatement = template.bind(values);
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                        "update foo set description = :p1, active = :p2 where id = :p3"),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p1", "Fred")
+                        .containsEntry("p2", "N").containsEntry("p3", 3)
+        );
+    }
+
+    @Test
+    void testPreparedDelete() {
+        PreparedDeleteTemplate template = deleteFrom(foo)
+                .where(id, isGreaterThanOrEqualToParameter("id"))
+                .and(description, isNotLikeParameter("description"))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 3);
+        values.put("description", null);
+        DeleteStatementProvider deleteStatement = template.bind(values);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo(
+                        "delete from foo where id >= :p1 and description not like :p2"),
+                () -> assertThat(deleteStatement.getParameters()).containsEntry("p1", 3).containsEntry("p2", null)
+        );
+    }
+
+    @Test
+    void testMissingParameterValue() {
+        PreparedSelectTemplate template = select(id)
+                .from(foo)
+                .where(id, isEqualToParameter("id"))
+                .and(id, isLessThanParameter("max"))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 3);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> template.bind(values))
+                .withMessage("No value supplied for parameter \"max\"");
+    }
+
+    @Test
+    void testConditionsHoldParametersSeparatelyFromValues() {
+        IsEqualTo<String> condition = isEqualToParameter("description");
+        IsBetween<Integer> between = isBetweenParameters("low", "high");
+
+        assertAll(
+                () -> assertThat(condition.parameter()).hasValueSatisfying(p -> assertThat(p.name())
+                        .isEqualTo("description")),
+                () -> assertThat(isEqualTo("a").parameter()).isEmpty(),
+                () -> assertThat(between.parameter2()).hasValueSatisfying(p -> assertThat(p.name())
+                        .isEqualTo("high")),
+                () -> assertThatExceptionOfType(IllegalStateException.class).isThrownBy(condition::value),
+                () -> assertThatExceptionOfType(IllegalStateException.class).isThrownBy(between::value1)
+        );
+    }
+
+    @Test
+    void testParameterConditionsCannotBeMappedOrFiltered() {
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> SqlBuilder.<String>isEqualToParameter("description").map(String::trim)),
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> SqlBuilder.<String>isLikeParameter("description")
+                                .filter(s -> !s.isEmpty())),
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> SqlBuilder.<Integer>isBetweenParameters("low", "high")
+                                .map(i -> i + 1))
+        );
+    }
+
+    @Test
+    void testParameterObjectValueIsNotTreatedAsLateBound() {
+        LateBoundParameter parameter = LateBoundParameter.of("description");
+        IsEqualTo<Object> condition = IsEqualTo.of(parameter);
+        NullValueCondition nullValueCondition = new NullValueCondition();
+
+        assertAll(
+                () -> assertThat(condition.parameter()).isEmpty(),
+                () -> assertThat(condition.value()).isSameAs(parameter),
+                () -> assertThat(nullValueCondition.parameter()).isEmpty(),
+                () -> assertThat(nullValueCondition.value()).isNull()
+        );
+    }
+
+    private static class NullValueCondition extends AbstractSingleValueCondition<Object> {
+        NullValueCondition() {
+            super(null);
+        }
+
+        @Override
+        public NullValueCondition filter(Predicate<? super Object> predicate) {
+            return this;
+        }
+
+        @Override
+        public String renderCondition(String columnName, String placeholder) {
+            return columnName + " = " + placeholder;
+        }
+    }
+}
@@ -16,14 +16,28 @@
 package org.mybatis.dynamic.sql.insert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
 
 import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.RowParameters;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 
 class InsertStatementTest {
@@ -115,6 +129,317 @@ class InsertStatementTest {
         assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
     }
 
+    @Test
+    void testInsertStatementWithPropertyAccessors() {
+        TestRecord record = new TestRecord();
+        record.setId(3);
+        record.setLastName("jones");
+
+        InsertStatementProvider<TestRecord> insertStatement = insert(record)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty(TestRecord::getFirstName)
+                .map(lastName).toProperty(TestRecord::getLastName)
+                .map(occupation).toProperty("occupation")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name, last_name, occupation) "
+                + "values (#{parameters.p1,jdbcType=INTEGER}, #{parameters.p2,jdbcType=VARCHAR}, "
+                + "#{parameters.p3,jdbcType=VARCHAR}, #{record.occupation,jdbcType=VARCHAR})";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+        assertThat(insertStatement.getParameters()).hasSize(3)
+                .containsEntry("p1", 3)
+                .containsEntry("p2", null)
+                .containsEntry("p3", "jones");
+    }
+
+    @Test
+    void testInsertStatementWithoutPropertyAccessorsHasNoParameters() {
+        TestRecord record = new TestRecord();
+
+        InsertStatementProvider<TestRecord> insertStatement = insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(insertStatement.getParameters()).isEmpty();
+    }
+
+    @Test
+    void testMultiRowInsertStatementWithPropertyAccessors() {
+        TestRecord record1 = new TestRecord();
+        record1.setId(1);
+        record1.setFirstName("fred");
+        TestRecord record2 = new TestRecord();
+        record2.setId(2);
+        record2.setFirstName("wilma");
+
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(record1, record2)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty(TestRecord::getFirstName)
+                .map(lastName).toProperty("lastName")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name, last_name) "
+                + "values (:r0_p1, :r0_p2, :records[0].lastName), (:r1_p1, :r1_p2, :records[1].lastName)";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+        assertThat(insertStatement.getParameters()).hasSize(4)
+                .containsEntry("r0_p1", 1)
+                .containsEntry("r0_p2", "fred")
+                .containsEntry("r1_p1", 2)
+                .containsEntry("r1_p2", "wilma");
+    }
+
+    @Test
+    void testMultiRowParametersAreReadByNameAndPosition() {
+        TestRecord record1 = new TestRecord();
+        record1.setId(1);
+        TestRecord record2 = new TestRecord();
+        record2.setId(2);
+
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(record1, record2)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        Map<String, Object> parameters = insertStatement.getParameters();
+        assertThat(parameters).isInstanceOf(RowParameters.class);
+        assertThat(((RowParameters) parameters).value(1, 0)).isEqualTo(2);
+        assertThat(parameters.get("r1_p1")).isEqualTo(2);
+        assertThat(parameters).containsKey("r0_p1")
+                .doesNotContainKey("r2_p1")
+                .doesNotContainKey("r0_p2")
+                .doesNotContainKey("r01_p1")
+                .doesNotContainKey("p1")
+                .doesNotContainKey("r0_")
+                .doesNotContainKey("rx_p1");
+        assertThat(parameters.keySet()).containsExactly("r0_p1", "r1_p1");
+    }
+
+    @Test
+    void testBatchInsertStatementWithPropertyAccessors() {
+        TestRecord record1 = new TestRecord();
+        record1.setId(1);
+        TestRecord record2 = new TestRecord();
+        record2.setId(2);
+
+        BatchInsert<TestRecord> batchInsert = insertBatch(record1, record2)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) "
+                + "values (#{parameters.p1,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR})";
+        assertThat(batchInsert.getInsertStatementSQL()).isEqualTo(expected);
+
+        List<InsertStatementProvider<TestRecord>> insertStatements = batchInsert.insertStatements();
+        assertThat(insertStatements).hasSize(2);
+        assertThat(insertStatements.get(0).getParameters()).containsExactlyEntriesOf(Collections.singletonMap("p1", 1));
+        assertThat(insertStatements.get(1).getParameters()).containsExactlyEntriesOf(Collections.singletonMap("p1", 2));
+    }
+
+    @Test
+    void testStreamingBatchInsertStatementsInChunks() {
+        Stream<TestRecord> records = IntStream.range(0, 5).mapToObj(i -> {
+            TestRecord record = new TestRecord();
+            record.setId(i);
+            return record;
+        });
+
+        BatchInsert<TestRecord> batchInsert = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) "
+                + "values (#{parameters.p1,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR})";
+        assertThat(batchInsert.getInsertStatementSQL()).isEqualTo(expected);
+
+        List<List<InsertStatementProvider<TestRecord>>> chunks = batchInsert.insertStatements(2)
+                .collect(Collectors.toList());
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(chunks.get(2).get(0).getRow().getId()).isEqualTo(4);
+        assertThat(chunks.get(2).get(0).getParameters()).containsEntry("p1", 4);
+    }
+
+    @Test
+    void testBatchInsertStatementsInChunks() {
+        TestRecord record1 = new TestRecord();
+        TestRecord record2 = new TestRecord();
+        TestRecord record3 = new TestRecord();
+
+        BatchInsert<TestRecord> batchInsert = insertBatch(record1, record2, record3)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(batchInsert.insertStatements(5)).hasSize(1).allSatisfy(c -> assertThat(c).hasSize(3));
+        assertThat(batchInsert.insertStatements(1)).hasSize(3);
+    }
+
+    @Test
+    void testStreamingBatchInsertRecordsAreNotAvailable() {
+        BatchInsert<TestRecord> batchInsert = insertBatch(Collections.singletonList(new TestRecord()).iterator())
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(batchInsert::getRecords);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(batchInsert::insertStatements);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> batchInsert.insertStatements(0));
+    }
+
+    @Test
+    void testMultiRowInsertInChunksLimitedByParameters() {
+        List<TestRecord> records = IntStream.range(0, 5).mapToObj(i -> {
+            TestRecord record = new TestRecord();
+            record.setId(i);
+            return record;
+        }).collect(Collectors.toList());
+
+        List<MultiRowInsertStatementProvider<TestRecord>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toStringConstant("worker")
+                .build()
+                .renderInChunks(RenderingStrategies.MYBATIS3, MultiRowInsertLimits.of(10, 5));
+
+        assertThat(insertStatements).extracting(s -> s.getRecords().size()).containsExactly(2, 2, 1);
+        assertThat(insertStatements.get(0).getInsertStatement())
+                .isSameAs(insertStatements.get(1).getInsertStatement());
+
+        String expected = "insert into foo (id, first_name, occupation) values "
+                + "(#{parameters.r0_p1,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR}, 'worker')";
+        MultiRowInsertStatementProvider<TestRecord> lastStatement = insertStatements.get(2);
+        assertThat(lastStatement.getInsertStatement()).isEqualTo(expected);
+        assertThat(lastStatement.getRecords().get(0).getId()).isEqualTo(4);
+        assertThat(lastStatement.getParameters()).containsExactlyEntriesOf(Collections.singletonMap("r0_p1", 4));
+    }
+
+    @Test
+    void testMultiRowInsertInChunksLimitedByRows() {
+        List<TestRecord> records = Arrays.asList(new TestRecord(), new TestRecord(), new TestRecord());
+
+        List<MultiRowInsertStatementProvider<TestRecord>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .renderInChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, MultiRowInsertLimits.SQL_SERVER);
+
+        assertThat(insertStatements).hasSize(1);
+        assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(
+                "insert into foo (id) values (:records[0].id), (:records[1].id), (:records[2].id)");
+
+        insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .renderInChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, MultiRowInsertLimits.ofMaximumRows(1));
+
+        assertThat(insertStatements).hasSize(3).allSatisfy(s -> assertThat(s.getInsertStatement())
+                .isEqualTo("insert into foo (id) values (:records[0].id)"));
+    }
+
+    @Test
+    void testMultiRowInsertWithPercentInConstant() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(new TestRecord(), new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(occupation).toStringConstant("50%")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                "insert into foo (id, occupation) values (:records[0].id, '50%'), (:records[1].id, '50%')");
+    }
+
+    @Test
+    void testMultiRowInsertWithFormatSpecifierInConstant() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(new TestRecord(), new TestRecord())
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toConstant("'%d'")
+                .map(occupation).toStringConstant("%s")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo("insert into foo (id, first_name, occupation) "
+                + "values (#{parameters.r0_p1,jdbcType=INTEGER}, '%d', '%s'), "
+                + "(#{parameters.r1_p1,jdbcType=INTEGER}, '%d', '%s')");
+    }
+
+    @Test
+    void testMultiRowInsertThroughStatementCache() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        TestRecord record1 = new TestRecord();
+        record1.setId(1);
+        TestRecord record2 = new TestRecord();
+        record2.setId(2);
+
+        MultiRowInsertStatementProvider<TestRecord> first = cache.render(multiRowModel(record1, record2),
+                RenderingStrategies.MYBATIS3);
+        MultiRowInsertStatementProvider<TestRecord> second = cache.render(multiRowModel(record2, record1),
+                RenderingStrategies.MYBATIS3);
+        cache.render(multiRowModel(record1), RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) values "
+                + "(#{parameters.r0_p1,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR}), "
+                + "(#{parameters.r1_p1,jdbcType=INTEGER}, #{records[1].firstName,jdbcType=VARCHAR})";
+        assertThat(second.getInsertStatement()).isEqualTo(expected).isSameAs(first.getInsertStatement());
+        assertThat(second.getParameters()).containsEntry("r0_p1", 2).containsEntry("r1_p1", 1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testMultiRowInsertChunksThroughStatementCache() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+        List<TestRecord> records = Arrays.asList(new TestRecord(), new TestRecord(), new TestRecord());
+        MultiRowInsertModel<TestRecord> model = multiRowModel(records.toArray(new TestRecord[0]));
+
+        List<MultiRowInsertStatementProvider<TestRecord>> uncached =
+                model.renderInChunks(RenderingStrategies.MYBATIS3, MultiRowInsertLimits.ofMaximumRows(2));
+        cache.renderInChunks(model, RenderingStrategies.MYBATIS3, MultiRowInsertLimits.ofMaximumRows(2));
+        List<MultiRowInsertStatementProvider<TestRecord>> cached =
+                cache.renderInChunks(model, RenderingStrategies.MYBATIS3, MultiRowInsertLimits.ofMaximumRows(2));
+
+        assertThat(cached).extracting(MultiRowInsertStatementProvider::getInsertStatement)
+                .containsExactlyElementsOf(uncached.stream()
+                        .map(MultiRowInsertStatementProvider::getInsertStatement)
+                        .collect(Collectors.toList()));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testMultiRowInsertLimitsTooSmallForOneRow() {
+        MultiRowInsertModel<TestRecord> model = insertMultiple(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build();
+        MultiRowInsertLimits limits = MultiRowInsertLimits.ofMaximumParameters(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> model.renderInChunks(RenderingStrategies.MYBATIS3, limits))
+                .withMessage("A single row requires 2 parameters, but the maximum is 1");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MultiRowInsertLimits.of(0, 10));
+    }
+
     static class TestRecord {
         private Integer id;
         private String firstName;
@@ -153,4 +478,12 @@ class InsertStatementTest {
             this.occupation = occupation;
         }
     }
+
+    private MultiRowInsertModel<TestRecord> multiRowModel(TestRecord...records) {
+        return insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty(TestRecord::getId)
+                .map(firstName).toProperty("firstName")
+                .build();
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ParameterSequenceTest {
+
+    @Test
+    void testSimpleSequence() {
+        ParameterSequence sequence = ParameterSequence.create();
+
+        int first = sequence.next();
+        int second = sequence.next();
+        int snapshot = sequence.snapshot();
+        int third = sequence.next();
+        sequence.restore(snapshot);
+        int restored = sequence.next();
+        sequence.reset();
+        int afterReset = sequence.next();
+
+        assertAll(
+                () -> assertThat(first).isEqualTo(1),
+                () -> assertThat(second).isEqualTo(2),
+                () -> assertThat(third).isEqualTo(3),
+                () -> assertThat(restored).isEqualTo(3),
+                () -> assertThat(afterReset).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testAtomicIntegerSequence() {
+        AtomicInteger atomicInteger = new AtomicInteger(5);
+        ParameterSequence sequence = ParameterSequence.of(atomicInteger);
+
+        int first = sequence.next();
+        int snapshot = sequence.snapshot();
+        int second = sequence.next();
+        sequence.restore(snapshot);
+        int restored = sequence.next();
+        int afterNext = atomicInteger.get();
+        sequence.reset();
+
+        assertAll(
+                () -> assertThat(first).isEqualTo(5),
+                () -> assertThat(second).isEqualTo(6),
+                () -> assertThat(restored).isEqualTo(6),
+                () -> assertThat(afterNext).isEqualTo(7),
+                () -> assertThat(atomicInteger.get()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    void testParameterMapKeys() {
+        ParameterSequence sequence = ParameterSequence.create();
+
+        assertAll(
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1"),
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p2")
+        );
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PositionalParametersTest {
+
+    @Test
+    void testValuesAreOrderedByKey() {
+        Map<String, Object> parameters = new HashMap<>();
+        for (int i = 1; i <= 12; i++) {
+            parameters.put("p" + i, "value" + i);
+        }
+
+        assertThat(PositionalParameters.toArray(parameters)).containsExactly("value1", "value2", "value3",
+                "value4", "value5", "value6", "value7", "value8", "value9", "value10", "value11", "value12");
+    }
+
+    @Test
+    void testSequenceNotStartingAtOne() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p7", 7);
+        parameters.put("p5", 5);
+        parameters.put("p6", null);
+
+        assertThat(PositionalParameters.toArray(parameters)).containsExactly(5, null, 7);
+    }
+
+    @Test
+    void testEmptyMap() {
+        assertThat(PositionalParameters.toArray(new HashMap<>())).isEmpty();
+    }
+
+    @Test
+    void testNonContiguousKeys() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 1);
+        parameters.put("p3", 3);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> PositionalParameters.toArray(parameters))
+                .withMessage("Parameter keys are not a contiguous sequence, positional binding is not possible");
+    }
+
+    @Test
+    void testInvalidKey() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 1);
+        parameters.put("p02", 2);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> PositionalParameters.toArray(parameters))
+                .withMessage("Parameter key \"p02\" was not created by a parameter sequence,"
+                        + " positional binding is not possible");
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class RenderedStatementCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testSelectHit() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider first = cache.render(selectModel(1, "a%"), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider second = cache.render(selectModel(2, "b%"), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider expected = selectModel(2, "b%").render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(first.getParameters()).containsEntry("p1", 1).containsEntry("p2", "a%"),
+                () -> assertThat(second.getSelectStatement()).isEqualTo(expected.getSelectStatement()),
+                () -> assertThat(second.getParameters()).isEqualTo(expected.getParameters()),
+                () -> assertThat(cache.missCount()).isEqualTo(1),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testRenderingStrategyIsPartOfTheKey() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider mybatis = cache.render(selectModel(1, "a%"), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider spring = cache.render(selectModel(1, "a%"),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(mybatis.getSelectStatement()).isEqualTo(
+                        "select a.id, a.description from foo a where a.id = #{parameters.p1,jdbcType=INTEGER}"
+                        + " or a.description like #{parameters.p2,jdbcType=VARCHAR}"),
+                () -> assertThat(spring.getSelectStatement()).isEqualTo(
+                        "select a.id, a.description from foo a where a.id = :p1 or a.description like :p2"),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isZero()
+        );
+    }
+
+    @Test
+    void testOptionalConditionsChangeTheKey() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider withBoth = cache.render(selectModel(1, "a%"), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider withoutId = cache.render(selectModel(null, "a%"), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider withoutIdAgain = cache.render(selectModel(null, "b%"), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(withBoth.getSelectStatement()).contains("a.id ="),
+                () -> assertThat(withoutId.getSelectStatement()).isEqualTo(
+                        "select a.id, a.description from foo a where a.description like #{parameters.p1,jdbcType=VARCHAR}"),
+                () -> assertThat(withoutIdAgain.getSelectStatement()).isEqualTo(withoutId.getSelectStatement()),
+                () -> assertThat(withoutIdAgain.getParameters()).hasSize(1).containsEntry("p1", "b%"),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testListSizeChangesTheKey() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider three = cache.render(inListModel(1, 2, 3), RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider two = cache.render(inListModel(4, 5), RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider threeAgain = cache.render(inListModel(6, 7, 8),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(three.getSelectStatement()).isEqualTo(
+                        "select id from foo where id in (:p1,:p2,:p3)"),
+                () -> assertThat(two.getSelectStatement()).isEqualTo("select id from foo where id in (:p1,:p2)"),
+                () -> assertThat(threeAgain.getSelectStatement()).isEqualTo(three.getSelectStatement()),
+                () -> assertThat(threeAgain.getParameters()).containsEntry("p1", 6).containsEntry("p2", 7)
+                        .containsEntry("p3", 8),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testChunkingIsPartOfTheKey() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider plain = cache.render(inListModel(1, 2, 3), RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider chunked = cache.render(select(id).from(foo)
+                .where(id, isIn(4, 5, 6).chunked(2).paddedToPowerOfTwo()).build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider chunkedAgain = cache.render(select(id).from(foo)
+                .where(id, isIn(7, 8, 9).chunked(2).paddedToPowerOfTwo()).build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(plain.getSelectStatement()).isEqualTo("select id from foo where id in (:p1,:p2,:p3)"),
+                () -> assertThat(chunked.getSelectStatement()).isEqualTo(
+                        "select id from foo where (id in (:p1,:p2) or id in (:p3))"),
+                () -> assertThat(chunkedAgain.getSelectStatement()).isEqualTo(chunked.getSelectStatement()),
+                () -> assertThat(chunkedAgain.getParameters()).containsEntry("p1", 7).containsEntry("p3", 9),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testArraySizeDoesNotChangeTheKey() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        SelectStatementProvider first = cache.render(select(id).from(foo).where(id, isInArray(1, 2, 3)).build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider second = cache.render(select(id).from(foo).where(id, isInArray(4, 5)).build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(first.getSelectStatement()).isEqualTo("select id from foo where id = any(:p1)"),
+                () -> assertThat(second.getSelectStatement()).isSameAs(first.getSelectStatement()),
+                () -> assertThat(second.getParameters().get("p1")).isEqualTo(new Integer[] {4, 5}),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testComplexSelectMatchesUncachedRendering() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        for (int i = 0; i < 3; i++) {
+            SelectStatementProvider cached = cache.render(complexSelectModel(i), RenderingStrategies.MYBATIS3);
+            SelectStatementProvider expected = complexSelectModel(i).render(RenderingStrategies.MYBATIS3);
+
+            assertThat(cached.getSelectStatement()).isEqualTo(expected.getSelectStatement());
+            assertThat(cached.getParameters()).isEqualTo(expected.getParameters());
+        }
+
+        assertAll(
+                () -> assertThat(cache.missCount()).isEqualTo(1),
+                () -> assertThat(cache.hitCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testSkippedConditionCallbackOnHit() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+        AtomicInteger callbackCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            SelectModel selectModel = select(id)
+                    .from(foo)
+                    .where(id, isIn(Collections.<Integer>emptyList())
+                            .withListEmptyCallback(callbackCount::incrementAndGet))
+                    .build();
+            cache.render(selectModel, RenderingStrategies.MYBATIS3);
+        }
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(callbackCount).hasValue(2)
+        );
+    }
+
+    @Test
+    void testUpdate() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        UpdateStatementProvider first = cache.render(updateModel("first", 1), RenderingStrategies.MYBATIS3);
+        UpdateStatementProvider second = cache.render(updateModel("second", 2), RenderingStrategies.MYBATIS3);
+        UpdateStatementProvider withoutDescription = cache.render(updateModel(null, 3),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(first.getUpdateStatement()).isEqualTo(
+                        "update foo set description = #{parameters.p1,jdbcType=VARCHAR}, id = id"
+                        + " where id = #{parameters.p2,jdbcType=INTEGER}"),
+                () -> assertThat(second.getUpdateStatement()).isEqualTo(first.getUpdateStatement()),
+                () -> assertThat(second.getParameters()).containsEntry("p1", "second").containsEntry("p2", 2),
+                () -> assertThat(withoutDescription.getUpdateStatement()).isEqualTo(
+                        "update foo set id = id where id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testDelete() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+
+        DeleteStatementProvider first = cache.render(deleteModel(1), RenderingStrategies.SPRING_NAMED_PARAMETER);
+        DeleteStatementProvider second = cache.render(deleteModel(2), RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(first.getDeleteStatement()).isEqualTo(
+                        "delete from foo where id = :p1 and not exists (select foo_id from bar where foo_id = :p2)"),
+                () -> assertThat(second.getDeleteStatement()).isEqualTo(first.getDeleteStatement()),
+                () -> assertThat(second.getParameters()).containsEntry("p1", 2).containsEntry("p2", 2),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        RenderedStatementCache cache = RenderedStatementCache.of(2);
+
+        cache.render(inListModel(1), RenderingStrategies.MYBATIS3);
+        cache.render(inListModel(1, 2), RenderingStrategies.MYBATIS3);
+        cache.render(inListModel(1), RenderingStrategies.MYBATIS3); // hit - one value is most recently used
+        cache.render(inListModel(1, 2, 3), RenderingStrategies.MYBATIS3); // evicts two values
+        cache.render(inListModel(1), RenderingStrategies.MYBATIS3); // hit
+        cache.render(inListModel(1, 2), RenderingStrategies.MYBATIS3); // miss
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(2),
+                () -> assertThat(cache.missCount()).isEqualTo(4),
+                () -> assertThat(cache.evictionCount()).isEqualTo(2)
+        );
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testChangingSupplierIsNotCached() {
+        RenderedStatementCache cache = RenderedStatementCache.of(10);
+        AtomicInteger counter = new AtomicInteger();
+
+        UpdateModel updateModel = update(foo)
+                .set(id).equalTo(counter::incrementAndGet)
+                .build();
+
+        UpdateStatementProvider updateStatement = cache.render(updateModel, RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p1", 2),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> RenderedStatementCache.of(0));
+    }
+
+    private SelectModel selectModel(Integer idValue, String descriptionValue) {
+        return select(id, description)
+                .from(foo, "a")
+                .where(id, isEqualToWhenPresent(idValue))
+                .or(description, isLike(descriptionValue))
+                .build();
+    }
+
+    private SelectModel inListModel(Integer...values) {
+        return select(id)
+                .from(foo)
+                .where(id, isIn(Arrays.asList(values)))
+                .build();
+    }
+
+    private SelectModel complexSelectModel(int i) {
+        return select(id, description)
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .where(id, isBetween(i).and(i + 10), or(description, isNull()))
+                .and(not(description, isLikeCaseInsensitive("x" + i)))
+                .and(exists(select(fooId).from(bar, "b2").where(fooId, isEqualTo(id))))
+                .or(group(id, isIn(select(fooId).from(bar).where(fooId, isGreaterThan(i))),
+                        and(description, isInCaseInsensitive("a", "b"))))
+                .union()
+                .select(id, description)
+                .from(foo)
+                .where(id, isLessThan(i))
+                .orderBy(id.descending())
+                .limit(10)
+                .offset(i)
+                .build();
+    }
+
+    private UpdateModel updateModel(String descriptionValue, Integer idValue) {
+        return update(foo)
+                .set(description).equalToWhenPresent(descriptionValue)
+                .set(id).equalTo(id)
+                .where(id, isEqualTo(idValue))
+                .build();
+    }
+
+    private DeleteModel deleteModel(Integer idValue) {
+        return deleteFrom(foo)
+                .where(id, isEqualTo(idValue))
+                .and(not(exists(select(fooId).from(bar).where(fooId, isEqualTo(idValue)))))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.JDBCType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchReaderRenderingStrategy;
+
+class RenderingStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR,
+            "foo.StringTypeHandler");
+
+    @Test
+    void testParameterMapKeysAreShared() {
+        AtomicInteger sequence = new AtomicInteger(1);
+
+        assertAll(
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1"),
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p2"),
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(17))
+                        .isSameAs(RenderingStrategy.formatParameterMapKey(17)),
+                () -> assertThat(RenderingStrategy.formatParameterMapKey(5000)).isEqualTo("p5000")
+        );
+    }
+
+    @Test
+    void testPlaceholderSuffixIsCachedPerStrategy() {
+        String first = RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(description, "parameters", "p1");
+        String second = RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(description.as("d"),
+                "parameters", "p2");
+        String third = RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(
+                description.withJavaType(String.class), "parameters", "p3");
+        String fourth = new SpringBatchReaderRenderingStrategy().getFormattedJdbcPlaceholder(description,
+                "parameters", "p4");
+        String fifth = RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(description.qualifiedWith("f"),
+                "parameters", "p5");
+
+        assertAll(
+                () -> assertThat(first).isEqualTo(
+                        "#{parameters.p1,jdbcType=VARCHAR,typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(second).isEqualTo(
+                        "#{parameters.p2,jdbcType=VARCHAR,typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(third).isEqualTo(
+                        "#{parameters.p3,jdbcType=VARCHAR,javaType=java.lang.String,"
+                                + "typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(fourth).isEqualTo(
+                        "#{mybatis3_dsql_query.parameters.p4,jdbcType=VARCHAR,typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(fifth).isEqualTo(
+                        "#{parameters.p5,jdbcType=VARCHAR,typeHandler=foo.StringTypeHandler}")
+        );
+    }
+
+    @Test
+    void testPlaceholderSuffixIsCorrectBeyondColumnCacheLimit() {
+        MyBatis3RenderingStrategy renderingStrategy = new MyBatis3RenderingStrategy();
+
+        for (int i = 0; i < 1100; i++) {
+            SqlColumn<Integer> column = foo.column("c" + i, i % 2 == 0 ? JDBCType.INTEGER : JDBCType.BIGINT);
+            String expected = i % 2 == 0 ? "#{parameters.p1,jdbcType=INTEGER}" : "#{parameters.p1,jdbcType=BIGINT}";
+            assertThat(renderingStrategy.getFormattedJdbcPlaceholder(column, "parameters", "p1"))
+                    .isEqualTo(expected);
+        }
+
+        assertThat(renderingStrategy.getFormattedJdbcPlaceholder(description, "parameters", "p1"))
+                .isEqualTo("#{parameters.p1,jdbcType=VARCHAR,typeHandler=foo.StringTypeHandler}");
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class SeekPaginationTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testSingleColumn() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .orderBy(id)
+                .seekAfter(20)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id, last_name from foo where id > :p1 order by id limit :p2"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 20).containsEntry("p2", 10L)
+        );
+    }
+
+    @Test
+    void testMixedSortDirections() {
+        SelectStatementProvider selectStatement = select(id, lastName, firstName)
+                .from(foo)
+                .orderBy(lastName, firstName.descending(), id)
+                .seekAfter("Flintstone", "Fred", 3)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select id, last_name, first_name from foo"
+                + " where (last_name >= :p1 and (last_name > :p2 or (last_name = :p3 and first_name < :p4)"
+                + " or (last_name = :p5 and first_name = :p6 and id > :p7)))"
+                + " order by last_name, first_name DESC, id");
+    }
+
+    @Test
+    void testExistingWhereClauseIsGrouped() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo, "f")
+                .where(lastName, isEqualTo("Flintstone"))
+                .or(lastName, isEqualTo("Rubble"))
+                .orderBy(sortColumn("f", id).descending())
+                .seekAfter(Arrays.asList(5))
+                .fetchFirst(3).rowsOnly()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select f.id from foo f where (f.last_name = :p1 or f.last_name = :p2) and f.id < :p3"
+                + " order by f.id DESC fetch first :p4 rows only");
+    }
+
+    @Test
+    void testSimpleWhereClauseIsNotGrouped() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(lastName, isEqualTo("Flintstone"))
+                .orderBy(id)
+                .seekAfter(5)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where last_name = :p1 and id > :p2 order by id");
+    }
+
+    @Test
+    void testWrongNumberOfValues() {
+        SelectDSL<SelectModel> selectDSL = select(id)
+                .from(foo)
+                .orderBy(lastName, id)
+                .seekAfter(5);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(selectDSL::build)
+                .withMessage("The number of seek values (1) does not match the number of order by columns (2)");
+    }
+
+    @Test
+    void testCalculatedSortColumn() {
+        SelectDSL<SelectModel> selectDSL = select(id)
+                .from(foo)
+                .orderBy(sortColumn("total"))
+                .seekAfter(5);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(selectDSL::build)
+                .withMessage("Seek pagination requires order by columns, but \"total\" is not a column");
+    }
+
+    @Test
+    void testUnion() {
+        SelectDSL<SelectModel> selectDSL = select(id)
+                .from(foo)
+                .union()
+                .select(id)
+                .from(foo)
+                .orderBy(id)
+                .seekAfter(5);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(selectDSL::build)
+                .withMessage("Seek pagination is not supported for unions");
+    }
+}
@@ -22,19 +22,30 @@ import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.sql.JDBCType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.ConditionVisitor;
 import org.mybatis.dynamic.sql.SortSpecification;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchReaderRenderingStrategy;
 
 class SelectStatementTest {
 
@@ -43,6 +54,24 @@ class SelectStatementTest {
     static final SqlColumn<Integer> column2 = table.column("column2", JDBCType.INTEGER);
     static final SqlColumn<String> column3 = table.column("column3", JDBCType.VARCHAR);
 
+    @Test
+    void testSelectList() {
+        SelectModel selectModel = select(column1.as("A_COLUMN1"), column2, constant("3"))
+                .from(table)
+                .union()
+                .select(column3, column2, column1)
+                .from(table)
+                .build();
+
+        List<BasicColumn> selectList = selectModel.selectList();
+
+        assertThat(selectList).hasSize(3);
+        assertThat(selectList.get(0).alias()).hasValue("A_COLUMN1");
+        assertThat(selectList.get(1)).isSameAs(column2);
+        assertThat(column2.javaType()).isEmpty();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> selectList.add(column3));
+    }
+
     @Test
     void testSimpleCriteria() {
         Date d = new Date();
@@ -436,4 +465,178 @@ class SelectStatementTest {
 
         assertThat(selectStatement.getSelectStatement()).isEqualTo("select column1, column3 from foo");
     }
+
+    @Test
+    void testChunkedInCondition() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2, 3, 4, 5).chunked(2))
+                .and(column3, isEqualTo("Fred"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select column1, column2 from foo where (column2 in (:p1,:p2) or column2 in (:p3,:p4)"
+                        + " or column2 in (:p5)) and column3 = :p6"),
+                () -> assertThat(selectStatement.getParameters()).hasSize(6).containsEntry("p5", 5)
+                        .containsEntry("p6", "Fred")
+        );
+    }
+
+    @Test
+    void testChunkedInConditionWithSingleChunk() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2).chunked(2))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select column1, column2 from foo where column2 in (:p1,:p2)");
+    }
+
+    @Test
+    void testChunkedAndPaddedNotInCondition() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isNotIn(1, 2, 3, 4, 5, 6, 7).chunked(6).paddedToPowerOfTwo())
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select column1, column2 from foo where (column2 not in (:p1,:p2,:p3,:p4,:p5,:p6)"
+                        + " and column2 not in (:p7))"),
+                () -> assertThat(selectStatement.getParameters()).hasSize(7).containsEntry("p7", 7)
+        );
+    }
+
+    @Test
+    void testPaddedInCondition() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).paddedToPowerOfTwo().chunked(12))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select column1, column2 from foo where column2 in"
+                        + " (:p1,:p2,:p3,:p4,:p5,:p6,:p7,:p8,:p9,:p10,:p11,:p12)"),
+                () -> assertThat(selectStatement.getParameters()).hasSize(12).containsEntry("p10", 10)
+                        .containsEntry("p11", 10).containsEntry("p12", 10)
+        );
+    }
+
+    @Test
+    void testChunkingIsRetainedByFilterAndMap() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isIn("1", "2", "3", null).paddedToPowerOfTwo()
+                        .filter(Objects::nonNull).map(Integer::parseInt))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select column1, column2 from foo where column2 in (:p1,:p2,:p3,:p4)"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p3", 3).containsEntry("p4", 3)
+        );
+    }
+
+    @Test
+    void testInArrayCondition() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isInArray(1, 2, 3))
+                .and(column3, isNotInArray(Arrays.asList("Fred", null)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select column1, column2 from foo where column2 = any(:p1) and column3 <> all(:p2)"),
+                () -> assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3}),
+                () -> assertThat(selectStatement.getParameters().get("p2")).isEqualTo(new String[] {"Fred", null})
+        );
+    }
+
+    @Test
+    void testInArrayConditionForSpringBatchReader() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isInArray(1, 2, 3))
+                .build()
+                .render(new SpringBatchReaderRenderingStrategy());
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select column1, column2 from foo "
+                        + "where column2 = any(#{mybatis3_dsql_query.parameters.p1,jdbcType=ARRAY})"),
+                () -> assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3})
+        );
+    }
+
+    @Test
+    void testVisitorWithoutArraySupport() {
+        ConditionVisitor<Integer, String> visitor = new LegacyConditionVisitor();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> isInArray(1, 2).accept(visitor))
+                .withMessage(LegacyConditionVisitor.class.getName() + " does not support array conditions - override"
+                        + " visit(AbstractArrayValueCondition) to render isInArray and isNotInArray");
+    }
+
+    /**
+     * A visitor written before array conditions were added.
+     */
+    private static class LegacyConditionVisitor implements ConditionVisitor<Integer, String> {
+        @Override
+        public String visit(AbstractListValueCondition<Integer> condition) {
+            return "list";
+        }
+
+        @Override
+        public String visit(AbstractNoValueCondition<Integer> condition) {
+            return "none";
+        }
+
+        @Override
+        public String visit(AbstractSingleValueCondition<Integer> condition) {
+            return "single";
+        }
+
+        @Override
+        public String visit(AbstractTwoValueCondition<Integer> condition) {
+            return "two";
+        }
+
+        @Override
+        public String visit(AbstractSubselectCondition<Integer> condition) {
+            return "subselect";
+        }
+
+        @Override
+        public String visit(AbstractColumnComparisonCondition<Integer> condition) {
+            return "column";
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithEmptyList() {
+        SelectStatementProvider selectStatement = select(column1, column2)
+                .from(table)
+                .where(column2, isInArray(Collections.emptyList()))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select column1, column2 from foo");
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> isIn(1, 2).chunked(0))
+                .withMessage("Maximum chunk size must be greater than zero");
+    }
 }
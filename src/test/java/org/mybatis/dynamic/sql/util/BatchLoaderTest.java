@@ -0,0 +1,177 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class BatchLoaderTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private final List<SelectStatementProvider> statements = new ArrayList<>();
+
+    /**
+     * Simulates a table where every key has two rows, except key 0 which has none.
+     */
+    private List<Row> query(SelectStatementProvider selectStatement) {
+        statements.add(selectStatement);
+        return selectStatement.getParameters().values().stream()
+                .map(Integer.class::cast)
+                .filter(key -> key != 0)
+                .flatMap(key -> Stream.of(new Row(key, "a"), new Row(key, "b")))
+                .collect(Collectors.toList());
+    }
+
+    private BatchLoader.Builder<Integer, Row> loader() {
+        return BatchLoader.<Integer, Row>withSelectStatement(ids ->
+                        select(id, description).from(foo).where(id, isIn(ids)))
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withQuery(this::query)
+                .withKeyFunction(Row::getId);
+    }
+
+    @Test
+    void testDispatchCoalescesKeys() {
+        BatchLoader<Integer, Row> loader = loader().build();
+
+        CompletableFuture<List<Row>> rows1 = loader.loadMany(1);
+        CompletableFuture<List<Row>> rows2 = loader.loadMany(2);
+        CompletableFuture<List<Row>> rows1Again = loader.loadMany(1);
+        CompletableFuture<List<Row>> rows0 = loader.loadMany(0);
+        assertThat(rows1).isNotDone();
+
+        loader.dispatch();
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).getSelectStatement()).isEqualTo(
+                "select id, description from foo where id in (#{parameters.p1,jdbcType=INTEGER},"
+                        + "#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER})");
+        assertThat(rows1.join()).extracting(Row::getDescription).containsExactly("a", "b");
+        assertThat(rows1Again.join()).isSameAs(rows1.join());
+        assertThat(rows2.join()).extracting(Row::getId).containsExactly(2, 2);
+        assertThat(rows0.join()).isEmpty();
+        assertThat(loader.loadCount()).isEqualTo(4);
+        assertThat(loader.batchCount()).isEqualTo(1);
+
+        loader.dispatch();
+        assertThat(loader.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFullBatchIsExecuted() {
+        BatchLoader<Integer, Row> loader = loader().withMaxBatchSize(2).build();
+
+        CompletableFuture<List<Row>> rows1 = loader.loadMany(1);
+        loader.loadMany(1);
+        assertThat(rows1).isNotDone();
+
+        loader.loadMany(2);
+        assertThat(rows1).isDone();
+
+        CompletableFuture<List<Row>> rows3 = loader.loadMany(3);
+        assertThat(rows3).isNotDone();
+        assertThat(loader.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testBatchWindow() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            BatchLoader<Integer, Row> loader = loader().withBatchWindow(Duration.ofMillis(20), scheduler).build();
+
+            CompletableFuture<List<Row>> rows1 = loader.loadMany(1);
+            CompletableFuture<List<Row>> rows2 = loader.loadMany(2);
+
+            assertThat(rows1.get(5, TimeUnit.SECONDS)).hasSize(2);
+            assertThat(rows2.join()).hasSize(2);
+            assertThat(loader.batchCount()).isEqualTo(1);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testLoadOne() {
+        BatchLoader<Integer, Row> loader = loader().build();
+
+        CompletableFuture<Optional<Row>> row0 = loader.load(0);
+        CompletableFuture<Optional<Row>> row1 = loader.load(1);
+        loader.dispatch();
+
+        assertThat(row0.join()).isEmpty();
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(row1::join)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFailureCompletesEveryFuture() {
+        BatchLoader<Integer, Row> loader = BatchLoader.<Integer, Row>withSelectStatement(ids ->
+                        select(id, description).from(foo).where(id, isIn(ids)))
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withQuery(s -> {
+                    throw new IllegalStateException("Database is down");
+                })
+                .withKeyFunction(Row::getId)
+                .build();
+
+        CompletableFuture<List<Row>> rows1 = loader.loadMany(1);
+        CompletableFuture<List<Row>> rows2 = loader.loadMany(2);
+        loader.dispatch();
+
+        assertThat(rows1).isCompletedExceptionally();
+        assertThat(rows2).isCompletedExceptionally();
+    }
+
+    static class Row {
+        private final Integer id;
+        private final String description;
+
+        Row(Integer id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+
+        Integer getId() {
+            return id;
+        }
+
+        String getDescription() {
+            return description;
+        }
+    }
+}
@@ -168,6 +168,24 @@ class ColumnMappingVisitorTest {
         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tv.visit(mapping));
     }
 
+    @Test
+    void testThatGeneralInsertVisitorErrorsForPropertyAccessorMapping() {
+        TestTable table = new TestTable();
+        GeneralInsertVisitor tv = new GeneralInsertVisitor();
+        PropertyAccessorMapping<Integer> mapping = PropertyAccessorMapping.of(table.id, (Integer i) -> i);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tv.visit(mapping));
+    }
+
+    @Test
+    void testThatUpdateVisitorErrorsForPropertyAccessorMapping() {
+        TestTable table = new TestTable();
+        UpdateVisitor tv = new UpdateVisitor();
+        PropertyAccessorMapping<Integer> mapping = PropertyAccessorMapping.of(table.id, (Integer i) -> i);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tv.visit(mapping));
+    }
+
     private static class TestTable extends SqlTable {
         public SqlColumn<Integer> id;
         public SqlColumn<String> description;
@@ -237,6 +255,11 @@ class ColumnMappingVisitorTest {
         public String visit(PropertyWhenPresentMapping mapping) {
             return "Property When Present Mapping";
         }
+
+        @Override
+        public <R> String visit(PropertyAccessorMapping<R> mapping) {
+            return "Property Accessor Mapping";
+        }
     }
 
     private static class UpdateVisitor extends UpdateMappingVisitor<String> {
@@ -303,5 +326,9 @@ class ColumnMappingVisitorTest {
             return "Property Mapping";
         }
 
+        @Override
+        public <R> String visit(PropertyAccessorMapping<R> mapping) {
+            return "Property Accessor Mapping";
+        }
     }
 }
@@ -0,0 +1,164 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+class QueryResultCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testHitAndMiss() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+        String second = cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+        String otherParameter = cache.select(selectModel(2), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+        String otherMapping = cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "other key",
+                ss -> "result " + executions.incrementAndGet());
+
+        assertThat(first).isEqualTo("result 1");
+        assertThat(second).isEqualTo("result 1");
+        assertThat(otherParameter).isEqualTo("result 2");
+        assertThat(otherMapping).isEqualTo("result 3");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testArrayParametersAreComparedByContents() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = cache.select(arraySelectModel(1, 2, 3), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+        String second = cache.select(arraySelectModel(1, 2, 3), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+        String otherValues = cache.select(arraySelectModel(1, 2, 4), RenderingStrategies.MYBATIS3, "key",
+                ss -> "result " + executions.incrementAndGet());
+
+        assertThat(first).isEqualTo("result 1");
+        assertThat(second).isEqualTo("result 1");
+        assertThat(otherValues).isEqualTo("result 2");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testWriteInvalidatesDependentResults() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        SelectModel fooOnly = select(id).from(foo).where(id, isEqualTo(1)).build();
+        SelectModel fooAndBar = select(id).from(foo).where(id, isIn(select(fooId).from(bar))).build();
+
+        cache.select(fooOnly, RenderingStrategies.MYBATIS3, "key", ss -> 1);
+        cache.select(fooAndBar, RenderingStrategies.MYBATIS3, "key", ss -> 2);
+
+        int rows = cache.write(TableDependencies.of(deleteFrom(bar).build()), () -> 3);
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.invalidationCount()).isEqualTo(1);
+
+        cache.invalidate(foo);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testFailedWriteInvalidates() {
+        QueryResultCache cache = QueryResultCache.of(10);
+        cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key", ss -> 1);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                cache.write(() -> {
+                    throw new IllegalStateException();
+                }));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testResultIsNotCachedWhenInvalidatedDuringSelect() {
+        QueryResultCache cache = QueryResultCache.of(10);
+
+        cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key", ss -> {
+            cache.invalidate(foo);
+            return 1;
+        });
+        cache.select(selectModel(2), RenderingStrategies.MYBATIS3, "key", ss -> {
+            cache.invalidate(bar);
+            return 2;
+        });
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testEviction() {
+        QueryResultCache cache = QueryResultCache.of(2);
+
+        cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key", ss -> 1);
+        cache.select(selectModel(2), RenderingStrategies.MYBATIS3, "key", ss -> 2);
+        cache.select(selectModel(3), RenderingStrategies.MYBATIS3, "key", ss -> 3);
+        cache.invalidate(foo);
+
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.invalidationCount()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testNullResultIsCached() {
+        QueryResultCache cache = QueryResultCache.of(10);
+
+        Object first = cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key", ss -> null);
+        Object second = cache.select(selectModel(1), RenderingStrategies.MYBATIS3, "key", ss -> "not null");
+
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> QueryResultCache.of(0));
+    }
+
+    private SelectModel selectModel(int value) {
+        return select(id).from(foo).where(id, isEqualTo(value)).build();
+    }
+
+    private SelectModel arraySelectModel(Integer... values) {
+        return select(id).from(foo).where(id, isInArray(values)).build();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class SingleFlightTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @AfterEach
+    void teardown() {
+        executorService.shutdownNow();
+    }
+
+    private static SelectStatementProvider statement(int key) {
+        return select(id).from(foo).where(id, isEqualTo(key)).build().render(RenderingStrategies.MYBATIS3);
+    }
+
+    private void awaitCollapsed(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.collapsedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void testIdenticalStatementsAreCollapsed() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<SelectStatementProvider, List<Integer>> slowQuery = ss -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Arrays.asList(1, 2);
+        };
+
+        CompletableFuture<List<Integer>> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.select(statement(3), "ids", slowQuery), executorService);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        CompletableFuture<List<Integer>> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.select(statement(3), "ids", slowQuery), executorService);
+        awaitCollapsed(1);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(singleFlight.executionCount()).isEqualTo(1);
+        assertThat(singleFlight.collapsedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void testDifferentStatementsAreNotCollapsed() {
+        List<Integer> first = singleFlight.select(statement(3), "ids", ss -> Arrays.asList(3));
+        List<Integer> second = singleFlight.select(statement(3), "ids", ss -> Arrays.asList(3));
+        List<Integer> third = singleFlight.select(statement(4), "ids", ss -> Arrays.asList(4));
+        Long count = singleFlight.select(statement(4), "count", ss -> 1L);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(third).containsExactly(4);
+        assertThat(count).isEqualTo(1L);
+        assertThat(singleFlight.executionCount()).isEqualTo(4);
+        assertThat(singleFlight.collapsedCount()).isZero();
+    }
+
+    @Test
+    void testExceptionIsShared() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<SelectStatementProvider, List<Integer>> failingQuery = ss -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Database is down");
+        };
+
+        CompletableFuture<List<Integer>> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.select(statement(3), "ids", failingQuery), executorService);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<Integer>> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.select(statement(3), "ids", failingQuery), executorService);
+        awaitCollapsed(1);
+        release.countDown();
+
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+
+        List<Integer> rows = singleFlight.select(statement(3), "ids", ss -> Arrays.asList(3));
+        assertThat(rows).containsExactly(3);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+class TableDependenciesTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    private static final SqlTable baz = SqlTable.of("baz");
+    private static final SqlColumn<Integer> barId = baz.column("bar_id", JDBCType.INTEGER);
+
+    private static final SqlTable qux = SqlTable.of("qux");
+    private static final SqlColumn<Integer> quxId = qux.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testSimpleSelect() {
+        SelectModel selectModel = select(id, description)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build();
+
+        TableDependencies tableDependencies = TableDependencies.of(selectModel);
+
+        assertThat(tableDependencies.writtenTable()).isEmpty();
+        assertThat(tableDependencies.readTables()).containsExactly(foo);
+        assertThat(tableDependencies.tableNames()).containsExactly("foo");
+    }
+
+    @Test
+    void testSelectWithJoinsAndSubQueries() {
+        SelectModel selectModel = select(id, description)
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .leftJoin(select(barId).from(baz), "z").on(fooId, equalTo(barId.qualifiedWith("z")))
+                .where(exists(select(quxId).from(qux).where(quxId, isEqualTo(id))))
+                .build();
+
+        TableDependencies tableDependencies = TableDependencies.of(selectModel);
+
+        assertThat(tableDependencies.readTables()).containsExactly(foo, bar, baz, qux);
+    }
+
+    @Test
+    void testSelectWithSubselectConditionsAndUnion() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(select(fooId).from(bar)))
+                .and(group(not(exists(select(quxId).from(qux)))))
+                .union()
+                .select(barId)
+                .from(baz)
+                .build();
+
+        TableDependencies tableDependencies = TableDependencies.of(selectModel);
+
+        assertThat(tableDependencies.readTables()).containsExactly(foo, bar, qux, baz);
+    }
+
+    @Test
+    void testUpdate() {
+        UpdateModel updateModel = update(foo)
+                .set(description).equalTo(select(max(quxId)).from(qux))
+                .where(id, isIn(select(fooId).from(bar)))
+                .build();
+
+        TableDependencies tableDependencies = TableDependencies.of(updateModel);
+
+        assertThat(tableDependencies.writtenTable()).hasValue(foo);
+        assertThat(tableDependencies.readTables()).containsExactly(qux, bar);
+        assertThat(tableDependencies.tables()).containsExactly(foo, qux, bar);
+    }
+
+    @Test
+    void testDelete() {
+        DeleteModel deleteModel = deleteFrom(foo)
+                .where(exists(select(fooId).from(bar).where(fooId, isEqualTo(id))))
+                .build();
+
+        TableDependencies tableDependencies = TableDependencies.of(deleteModel);
+
+        assertThat(tableDependencies.writtenTable()).hasValue(foo);
+        assertThat(tableDependencies.readTables()).containsExactly(bar);
+    }
+
+    @Test
+    void testInserts() {
+        GeneralInsertModel generalInsertModel = insertInto(foo)
+                .set(id).toValue(1)
+                .build();
+
+        InsertSelectModel insertSelectModel = insertInto(foo)
+                .withColumnList(id)
+                .withSelectStatement(select(fooId).from(bar))
+                .build();
+
+        assertThat(TableDependencies.of(generalInsertModel).tables()).containsExactly(foo);
+        assertThat(TableDependencies.of(insertSelectModel).writtenTable()).hasValue(foo);
+        assertThat(TableDependencies.of(insertSelectModel).readTables()).containsExactly(bar);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class ShardKeyExtractorTest {
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Integer> customerId = orders.column("customer_id", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = orders.column("status", JDBCType.VARCHAR);
+
+    private static final SqlTable customer = SqlTable.of("customer");
+    private static final SqlColumn<Integer> id = customer.column("id", JDBCType.INTEGER);
+
+    private final ShardKeyExtractor extractor = ShardKeyExtractor.of(customerId);
+
+    @Test
+    void testEqualTo() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualTo(3))
+                .and(status, isEqualTo("A"))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3));
+    }
+
+    @Test
+    void testInIntersectedWithEqualTo() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isIn(3, 4))
+                .and(customerId, isEqualTo(4))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(4));
+    }
+
+    @Test
+    void testContradictionHasNoKeys() {
+        assertThat(extractor.shardKeys(deleteFrom(orders)
+                .where(customerId, isEqualTo(3))
+                .and(customerId, isEqualTo(4))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).isEmpty());
+    }
+
+    @Test
+    void testAndBindsTighterThanOr() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(status, isEqualTo("A"))
+                .and(customerId, isEqualTo(3))
+                .or(customerId, isIn(5, 6))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3, 5, 6));
+
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualTo(3))
+                .or(status, isEqualTo("A"))
+                .build()))
+                .isEmpty();
+    }
+
+    @Test
+    void testGroups() {
+        assertThat(extractor.shardKeys(update(orders).set(status).equalTo("B")
+                .where(group(customerId, isEqualTo(3), or(customerId, isEqualTo(5))))
+                .and(status, isEqualTo("A"))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3, 5));
+
+        assertThat(extractor.shardKeys(update(orders).set(status).equalTo("B")
+                .where(customerId, isEqualTo(3), or(status, isEqualTo("A")))
+                .build()))
+                .isEmpty();
+    }
+
+    @Test
+    void testNotIsUnrestricted() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(not(customerId, isEqualTo(3)))
+                .build()))
+                .isEmpty();
+
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isNotEqualTo(3))
+                .build()))
+                .isEmpty();
+    }
+
+    @Test
+    void testConditionsThatDoNotRenderAreIgnored() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(status, isEqualToWhenPresent((String) null))
+                .or(customerId, isEqualTo(3))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3));
+
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualToWhenPresent((Integer) null))
+                .build()))
+                .isEmpty();
+    }
+
+    @Test
+    void testLateBoundParametersAreUnknownValues() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualToParameter("customerId"))
+                .build()))
+                .isEmpty();
+
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualToParameter("customerId"))
+                .and(customerId, isIn(3, 4))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3, 4));
+    }
+
+    @Test
+    void testOtherTablesDoNotRestrict() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(exists(select(id).from(customer).where(id, isEqualTo(3))))
+                .build()))
+                .isEmpty();
+
+        assertThat(ShardKeyExtractor.of(id).shardKeys(select(status).from(orders)
+                .join(customer).on(customerId, equalTo(id))
+                .where(id, isEqualTo(3))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3));
+    }
+
+    @Test
+    void testUnion() {
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualTo(3))
+                .union()
+                .select(status).from(orders)
+                .where(customerId, isIn(4, 3))
+                .build()))
+                .hasValueSatisfying(keys -> assertThat(keys).containsExactly(3, 4));
+
+        assertThat(extractor.shardKeys(select(status).from(orders)
+                .where(customerId, isEqualTo(3))
+                .union()
+                .select(status).from(orders)
+                .build()))
+                .isEmpty();
+    }
+}
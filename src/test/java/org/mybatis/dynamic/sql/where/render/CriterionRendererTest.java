@@ -17,8 +17,14 @@ package org.mybatis.dynamic.sql.where.render;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.and;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualToWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.not;
+import static org.mybatis.dynamic.sql.SqlBuilder.or;
 
 import java.sql.JDBCType;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,6 +34,7 @@ import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -84,4 +91,56 @@ class CriterionRendererTest {
             assertThat(fp.parameters()).containsExactly(entry("p1", 3));
         });
     }
+
+    @Test
+    void testRenderIntoSharedContext() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        ColumnAndConditionCriterion<Integer> criterion = ColumnAndConditionCriterion.withColumn(column)
+                .withCondition(isEqualTo(3))
+                .build();
+
+        RenderingContext renderingContext = new RenderingContext();
+        renderingContext.append("select * from foo ");
+
+        CriterionRenderer renderer = new CriterionRenderer.Builder()
+                .withRenderingContext(renderingContext)
+                .withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .build();
+
+        boolean rendered = renderer.render(criterion, Arrays.asList(
+                or(column, isEqualToWhenPresent((Integer) null)),
+                and(not(column, isEqualTo(4), or(column, isEqualToWhenPresent((Integer) null)))),
+                or(column, isEqualTo(5), and(column, isEqualTo(6)))), "where ");
+
+        assertThat(rendered).isTrue();
+        assertThat(renderingContext.fragment())
+                .isEqualTo("select * from foo where id = :p1 and not id = :p2 or (id = :p3 and id = :p4)");
+        assertThat(renderingContext.parameters())
+                .containsOnly(entry("p1", 3), entry("p2", 4), entry("p3", 5), entry("p4", 6));
+    }
+
+    @Test
+    void testNothingRendersIntoSharedContext() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+
+        RenderingContext renderingContext = new RenderingContext();
+        renderingContext.append("select * from foo");
+
+        CriterionRenderer renderer = new CriterionRenderer.Builder()
+                .withRenderingContext(renderingContext)
+                .withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .build();
+
+        boolean rendered = renderer.render(Arrays.asList(
+                or(column, isEqualToWhenPresent((Integer) null)),
+                and(not(column, isEqualToWhenPresent((Integer) null)))), " where ");
+
+        assertThat(rendered).isFalse();
+        assertThat(renderingContext.fragment()).isEqualTo("select * from foo");
+        assertThat(renderingContext.parameters()).isEmpty();
+    }
 }
@@ -20,6 +20,8 @@ import org.apache.ibatis.annotations.Result
 import org.apache.ibatis.annotations.ResultMap
 import org.apache.ibatis.annotations.Results
 import org.apache.ibatis.annotations.SelectProvider
+import org.apache.ibatis.cursor.Cursor
+import org.apache.ibatis.session.ResultHandler
 import org.apache.ibatis.type.JdbcType
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter
@@ -65,4 +67,12 @@ interface PersonMapper : CommonCountMapper, CommonDeleteMapper, CommonInsertMapp
     @SelectProvider(type = SqlProviderAdapter::class, method = "select")
     @ResultMap("PersonResult")
     fun selectOne(selectStatement: SelectStatementProvider): PersonRecord?
+
+    @SelectProvider(type = SqlProviderAdapter::class, method = "select")
+    @ResultMap("PersonResult")
+    fun selectManyCursor(selectStatement: SelectStatementProvider): Cursor<PersonRecord>
+
+    @SelectProvider(type = SqlProviderAdapter::class, method = "select")
+    @ResultMap("PersonResult")
+    fun selectManyStreaming(selectStatement: SelectStatementProvider, resultHandler: ResultHandler<PersonRecord>)
 }
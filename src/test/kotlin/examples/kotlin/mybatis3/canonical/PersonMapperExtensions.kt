@@ -41,9 +41,11 @@ import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertBatch
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertInto
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertMultiple
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertSelect
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectCursor
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectDistinct
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectList
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectStreaming
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.update
 
 fun PersonMapper.count(column: BasicColumn, completer: CountCompleter) =
@@ -127,6 +129,12 @@ fun PersonMapper.selectOne(completer: SelectCompleter) =
 fun PersonMapper.select(completer: SelectCompleter) =
     selectList(this::selectMany, columnList, person, completer)
 
+fun PersonMapper.selectCursor(completer: SelectCompleter) =
+    selectCursor(this::selectManyCursor, columnList, person, completer)
+
+fun PersonMapper.selectStreaming(completer: SelectCompleter, consumer: (PersonRecord) -> Unit) =
+    selectStreaming(this::selectManyStreaming, columnList, person, completer, consumer)
+
 fun PersonMapper.selectDistinct(completer: SelectCompleter) =
     selectDistinct(this::selectMany, columnList, person, completer)
 
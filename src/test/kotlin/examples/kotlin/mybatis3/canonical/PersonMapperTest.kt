@@ -77,6 +77,35 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    fun testSelectCursor() {
+        newSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val ids = mapper.selectCursor {
+                where { id isLessThan 4 }
+                orderBy(id)
+            }.use { cursor -> cursor.map { it.id } }
+
+            assertThat(ids).containsExactly(1, 2, 3)
+        }
+    }
+
+    @Test
+    fun testSelectStreaming() {
+        newSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+            val names = mutableListOf<String?>()
+
+            mapper.selectStreaming({
+                where { employed.isTrue() }
+                orderBy(id)
+            }) { names.add(it.firstName) }
+
+            assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty")
+        }
+    }
+
     @Test
     fun testSelectAll() {
         newSession().use { session ->
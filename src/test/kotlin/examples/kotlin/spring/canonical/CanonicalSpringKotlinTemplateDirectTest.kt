@@ -41,7 +41,9 @@ import org.mybatis.dynamic.sql.util.kotlin.spring.insertMultiple
 import org.mybatis.dynamic.sql.util.kotlin.spring.insertSelect
 import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectDistinct
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectEach
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectSequence
 import org.mybatis.dynamic.sql.util.kotlin.spring.update
 import org.mybatis.dynamic.sql.util.kotlin.spring.withKeyHolder
 import org.springframework.beans.factory.annotation.Autowired
@@ -466,6 +468,38 @@ open class CanonicalSpringKotlinTemplateDirectTest {
         assertThat(rows).hasSize(6)
     }
 
+    @Test
+    fun testSelectSequence() {
+        val selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            orderBy(id)
+        }
+
+        val names = template.selectSequence(selectStatement, personRowMapper) { rows ->
+            rows.filter { it.employed == true }.map { it.firstName }.toList()
+        }
+
+        val count = template.selectSequence(selectStatement, personRowMapper, fetchSize = 2) { it.count() }
+
+        assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty")
+        assertThat(count).isEqualTo(6)
+    }
+
+    @Test
+    fun testSelectEach() {
+        val selectStatement = select(id) {
+            from(person)
+            where { id isLessThan 4 }
+            orderBy(id)
+        }
+
+        val ids = mutableListOf<Int>()
+        template.selectEach(selectStatement) { ids.add(it.getInt(1)) }
+        template.selectEach(selectStatement, fetchSize = 1) { ids.add(it.getInt(1)) }
+
+        assertThat(ids).containsExactly(1, 2, 3, 1, 2, 3)
+    }
+
     @Test
     fun testSelectAllWithSelectStar() {
         val rows = template.select(person.allColumns()) {